@@ -0,0 +1,67 @@
+package com.backend.common.admin.menu.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.backend.common.admin.menu.model.Menu;
+import com.backend.common.admin.menu.model.MenuTreeNode;
+
+/**
+ * 대량 메뉴(기본 10,000개) 트리 조립 시간
+ * 메뉴는 부모당 fanout개의 하위 메뉴를 갖는 트리를 무작위 순서로 섞어 입력합니다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=MenuTreeBuilder
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class MenuTreeBuilderBenchmark {
+
+	@Param({"10000"})
+	private int menus;
+
+	// 부모당 하위 메뉴 수 (작을수록 깊은 트리)
+	@Param({"2", "10", "100"})
+	private int fanout;
+
+	private List<Menu> input;
+	private Predicate<Menu> readable;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Random random = new Random(42);
+		List<Menu> list = new ArrayList<>(menus);
+		for (int i = 0; i < menus; i++) {
+			String parentId = i < fanout ? null : "MENU_" + (i / fanout - 1);
+			list.add(new Menu("MENU_" + i, "SITE_A", "메뉴 " + i, "/menu/" + i, null, random.nextInt(100), parentId, true));
+		}
+		Collections.shuffle(list, random);
+		input = List.copyOf(list);
+		// 권한 기반 조립: 절반 정도의 메뉴만 읽기 가능
+		readable = menu -> menu.getId().hashCode() % 2 == 0;
+	}
+
+	@Benchmark
+	public List<MenuTreeNode> buildAll() {
+		return MenuTreeBuilder.build(input);
+	}
+
+	@Benchmark
+	public List<MenuTreeNode> buildReadable() {
+		return MenuTreeBuilder.build(input, readable);
+	}
+}
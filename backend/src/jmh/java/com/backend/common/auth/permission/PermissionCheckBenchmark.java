@@ -0,0 +1,128 @@
+package com.backend.common.auth.permission;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 메뉴 권한 확인: 메모리 권한 행렬(PermissionMatrix) vs 이전 방식의 요청마다 DB 존재 확인
+ * (UserRoleMenuRepository.existsByUserRoleIdAndMenuId에 해당하는 쿼리)
+ *
+ * DB 쪽은 같은 프로세스의 메모리 H2로 측정하므로 네트워크 왕복이 없는 하한값입니다.
+ * 실행: ./gradlew jmh -PjmhIncludes=PermissionCheck
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class PermissionCheckBenchmark {
+	private static final int PROBES = 4096;
+
+	@Param({"20"})
+	private int roles;
+
+	@Param({"500"})
+	private int menus;
+
+	private PermissionMatrix matrix;
+	private Connection connection;
+	private PreparedStatement existsQuery;
+	private String[] probeRoles;
+	private String[] probeMenus;
+	private int index;
+
+	@Setup(Level.Trial)
+	public void setUp() throws SQLException {
+		Random random = new Random(42);
+		Map<String, Map<String, Integer>> permissions = new HashMap<>();
+		connection = DriverManager.getConnection("jdbc:h2:mem:permission-benchmark;DB_CLOSE_DELAY=-1");
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("CREATE TABLE \"USER_ROLE_MENU\" (\"USER_ROLE_MENU_ID\" VARCHAR(100) PRIMARY KEY, "
+				+ "\"USER_ROLE_ID\" VARCHAR(50) NOT NULL, \"MENU_ID\" VARCHAR(50) NOT NULL, "
+				+ "\"PERM_READ\" CHAR(1) NOT NULL, \"USE_YN\" CHAR(1) NOT NULL)");
+			statement.execute("CREATE INDEX \"IDX_USER_ROLE_MENU_ROLE_MENU\" ON \"USER_ROLE_MENU\" (\"USER_ROLE_ID\", \"MENU_ID\")");
+		}
+		try (PreparedStatement insert = connection.prepareStatement(
+				"INSERT INTO \"USER_ROLE_MENU\" VALUES (?, ?, ?, 'Y', 'Y')")) {
+			for (int r = 0; r < roles; r++) {
+				Map<String, Integer> granted = new HashMap<>();
+				for (int m = 0; m < menus; m++) {
+					if (random.nextBoolean()) {
+						granted.put(menuId(m), MenuPermissionType.READ.bit());
+						insert.setString(1, roleId(r) + ":" + menuId(m));
+						insert.setString(2, roleId(r));
+						insert.setString(3, menuId(m));
+						insert.addBatch();
+					}
+				}
+				permissions.put(roleId(r), granted);
+			}
+			insert.executeBatch();
+		}
+		matrix = PermissionMatrix.build(permissions);
+		existsQuery = connection.prepareStatement("SELECT 1 FROM \"USER_ROLE_MENU\" "
+			+ "WHERE \"USER_ROLE_ID\" = ? AND \"MENU_ID\" = ? AND \"USE_YN\" = 'Y' FETCH FIRST 1 ROWS ONLY");
+
+		probeRoles = new String[PROBES];
+		probeMenus = new String[PROBES];
+		for (int i = 0; i < PROBES; i++) {
+			probeRoles[i] = roleId(random.nextInt(roles));
+			probeMenus[i] = menuId(random.nextInt(menus));
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws SQLException {
+		existsQuery.close();
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("DROP ALL OBJECTS");
+		}
+		connection.close();
+	}
+
+	@Benchmark
+	public boolean matrixCheck() {
+		int i = next();
+		return matrix.can(probeRoles[i], probeMenus[i], MenuPermissionType.READ);
+	}
+
+	@Benchmark
+	public boolean databaseExistsCheck() throws SQLException {
+		int i = next();
+		existsQuery.setString(1, probeRoles[i]);
+		existsQuery.setString(2, probeMenus[i]);
+		try (ResultSet resultSet = existsQuery.executeQuery()) {
+			return resultSet.next();
+		}
+	}
+
+	private int next() {
+		index = (index + 1) & (PROBES - 1);
+		return index;
+	}
+
+	private static String roleId(int i) {
+		return "ROLE_" + i;
+	}
+
+	private static String menuId(int i) {
+		return "MENU_" + i;
+	}
+}
@@ -0,0 +1,98 @@
+package com.backend.common.auth.security;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 블랙리스트 조회: 정확한 맵만 조회 vs 세대별 Bloom 필터를 먼저 확인
+ * 인증 필터의 조회는 대부분 "블랙리스트 아님"이므로 miss 조회가 주요 비교 대상입니다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=BlacklistLookup
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class BlacklistLookupBenchmark {
+	private static final long NOW_SECOND = 1_800_000_000L;
+	private static final long VALIDITY_SECONDS = 3600;
+	private static final int PROBES = 4096;
+
+	@Param({"1000000"})
+	private int entries;
+
+	private final Map<TokenDigest, Long> blacklist = new ConcurrentHashMap<>();
+	private RotatingBloomFilter bloomFilter;
+	private TokenDigest[] hitDigests;
+	private long[] hitExpiries;
+	private TokenDigest[] missDigests;
+	private long[] missExpiries;
+	private int index;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		// TokenBlacklistService 기본값과 같은 세대 구간(15분)과 세대당 비트 수
+		bloomFilter = new RotatingBloomFilter(15 * 60, VALIDITY_SECONDS, 4_194_304);
+		Random random = new Random(42);
+		hitDigests = new TokenDigest[PROBES];
+		hitExpiries = new long[PROBES];
+		for (int i = 0; i < entries; i++) {
+			TokenDigest digest = TokenDigest.of("revoked-" + i);
+			long expiresAt = NOW_SECOND + 1 + random.nextInt((int) VALIDITY_SECONDS - 1);
+			bloomFilter.add(digest, expiresAt, NOW_SECOND);
+			blacklist.put(digest, expiresAt);
+			if (i < PROBES) {
+				hitDigests[i] = digest;
+				hitExpiries[i] = expiresAt;
+			}
+		}
+		missDigests = new TokenDigest[PROBES];
+		missExpiries = new long[PROBES];
+		for (int i = 0; i < PROBES; i++) {
+			missDigests[i] = TokenDigest.of("active-" + i);
+			missExpiries[i] = NOW_SECOND + 1 + random.nextInt((int) VALIDITY_SECONDS - 1);
+		}
+	}
+
+	@Benchmark
+	public boolean setLookupMiss() {
+		int i = next();
+		return blacklist.containsKey(missDigests[i]);
+	}
+
+	@Benchmark
+	public boolean filterLookupMiss() {
+		int i = next();
+		return bloomFilter.mightContain(missDigests[i], missExpiries[i], NOW_SECOND)
+			&& blacklist.containsKey(missDigests[i]);
+	}
+
+	@Benchmark
+	public boolean setLookupHit() {
+		int i = next();
+		return blacklist.containsKey(hitDigests[i]);
+	}
+
+	@Benchmark
+	public boolean filterLookupHit() {
+		int i = next();
+		return bloomFilter.mightContain(hitDigests[i], hitExpiries[i], NOW_SECOND)
+			&& blacklist.containsKey(hitDigests[i]);
+	}
+
+	private int next() {
+		index = (index + 1) & (PROBES - 1);
+		return index;
+	}
+}
@@ -1,10 +1,15 @@
 package com.backend.common.admin.cmnCd.controller;
 
+import com.backend.core.cache.ConditionalResponses;
+import com.backend.core.cache.ResourceVersions;
 import com.backend.core.dto.ApiResponse;
 import com.backend.common.admin.cmnCd.dto.CmnCdCreateRequest;
 import com.backend.common.admin.cmnCd.dto.CmnCdUpdateRequest;
 import com.backend.common.admin.cmnCd.model.CmnCd;
 import com.backend.common.admin.cmnCd.service.CmnCdService;
+import com.backend.common.auth.permission.MenuPermissionType;
+import com.backend.common.auth.permission.RequireMenuPermission;
+import com.backend.core.constants.Constants;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -13,6 +18,7 @@ import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -21,9 +27,17 @@ import java.util.List;
 @Tag(name = "09_공통코드", description = "공통코드 CRUD 관리 API")
 public class CmnCdController {
 	private final CmnCdService cmnCdService;
+	private final ResourceVersions resourceVersions;
+	private final ConditionalResponses conditionalResponses;
 
-	public CmnCdController(CmnCdService cmnCdService) {
+	public CmnCdController(
+		CmnCdService cmnCdService,
+		ResourceVersions resourceVersions,
+		ConditionalResponses conditionalResponses
+	) {
 		this.cmnCdService = cmnCdService;
+		this.resourceVersions = resourceVersions;
+		this.conditionalResponses = conditionalResponses;
 	}
 
 	@Operation(summary = "공통코드 목록 조회 (트리 형태)", description = "트리 형태로 공통코드 목록을 조회합니다. 관리자(USER) 권한이 필요합니다.")
@@ -35,8 +49,9 @@ public class CmnCdController {
 	@SecurityRequirement(name = "bearerAuth")
 	@PreAuthorize("hasRole('USER')")
 	@GetMapping
-	public ResponseEntity<ApiResponse<List<CmnCd>>> list() {
-		return ResponseEntity.ok(ApiResponse.ok(cmnCdService.listCmnCds()));
+	public ResponseEntity<ApiResponse<List<CmnCd>>> list(WebRequest webRequest) {
+		return conditionalResponses.ok(webRequest, resourceVersions.etag(ResourceVersions.CMN_CD),
+			conditionalResponses.revalidate(), () -> cmnCdService.listCmnCds());
 	}
 
 	@Operation(summary = "공통코드 목록 조회 (평면 형태)", description = "평면 형태로 공통코드 목록을 조회합니다. 관리자(USER) 권한이 필요합니다.")
@@ -48,8 +63,9 @@ public class CmnCdController {
 	@SecurityRequirement(name = "bearerAuth")
 	@PreAuthorize("hasRole('USER')")
 	@GetMapping("/flat")
-	public ResponseEntity<ApiResponse<List<CmnCd>>> listFlat() {
-		return ResponseEntity.ok(ApiResponse.ok(cmnCdService.listCmnCdsFlat()));
+	public ResponseEntity<ApiResponse<List<CmnCd>>> listFlat(WebRequest webRequest) {
+		return conditionalResponses.ok(webRequest, resourceVersions.etag(ResourceVersions.CMN_CD),
+			conditionalResponses.revalidate(), () -> cmnCdService.listCmnCdsFlat());
 	}
 
 	@Operation(summary = "공통코드 조회", description = "ID로 공통코드 정보를 조회합니다. 관리자(USER) 권한이 필요합니다.")
@@ -92,7 +108,7 @@ public class CmnCdController {
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 부족")
 	})
 	@SecurityRequirement(name = "bearerAuth")
-	@PreAuthorize("hasRole('USER')")
+	@RequireMenuPermission(menu = Constants.MENU_ADMIN_CMN_CD, action = MenuPermissionType.CREATE)
 	@PostMapping
 	public ResponseEntity<ApiResponse<CmnCd>> create(@Valid @RequestBody CmnCdCreateRequest request) {
 		return ResponseEntity.ok(ApiResponse.ok(cmnCdService.createCmnCd(request)));
@@ -106,7 +122,7 @@ public class CmnCdController {
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 부족")
 	})
 	@SecurityRequirement(name = "bearerAuth")
-	@PreAuthorize("hasRole('USER')")
+	@RequireMenuPermission(menu = Constants.MENU_ADMIN_CMN_CD, action = MenuPermissionType.UPDATE)
 	@PutMapping("/{id}")
 	public ResponseEntity<ApiResponse<CmnCd>> update(@PathVariable("id") String id, 
 	                                                @Valid @RequestBody CmnCdUpdateRequest request) {
@@ -121,7 +137,7 @@ public class CmnCdController {
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 부족")
 	})
 	@SecurityRequirement(name = "bearerAuth")
-	@PreAuthorize("hasRole('USER')")
+	@RequireMenuPermission(menu = Constants.MENU_ADMIN_CMN_CD, action = MenuPermissionType.DELETE)
 	@DeleteMapping("/{id}")
 	public ResponseEntity<ApiResponse<Void>> delete(@PathVariable("id") String id) {
 		cmnCdService.deleteCmnCd(id);
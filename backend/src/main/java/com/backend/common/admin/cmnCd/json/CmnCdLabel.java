@@ -0,0 +1,28 @@
+package com.backend.common.admin.cmnCd.json;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 공통코드 값 필드에 코드명을 함께 직렬화
+ * 예: {@code @CmnCdLabel(parent = "P001") String siteType} -> {"siteType": "C001", "siteTypeNm": "관리자", ...}
+ *
+ * 코드명은 공통코드 사전(CmnCdDictionary)에서 조회하며, 사전에 없는 코드이면 코드명은 null로 출력합니다.
+ * 코드가 null이면 코드 필드만 null로 출력되고 코드명 필드는 출력되지 않습니다. ({"siteType": null, ...})
+ * 직렬화기는 CmnCdLabelModule(Jackson 모듈 빈)이 이 애너테이션을 보고 연결합니다.
+ */
+@Target({ElementType.FIELD, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CmnCdLabel {
+	/**
+	 * 상위코드 (예: P001 사이트구분코드)
+	 */
+	String parent();
+
+	/**
+	 * 코드명 필드 이름 (비어 있으면 필드 이름 + "Nm")
+	 */
+	String labelField() default "";
+}
@@ -0,0 +1,33 @@
+package com.backend.common.admin.cmnCd.json;
+
+import com.backend.common.admin.cmnCd.service.CmnCdDictionary;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.cfg.MapperConfig;
+import tools.jackson.databind.introspect.Annotated;
+import tools.jackson.databind.introspect.NopAnnotationIntrospector;
+import tools.jackson.databind.module.SimpleModule;
+
+/**
+ * @CmnCdLabel 필드에 CmnCdLabelSerializer를 연결하는 Jackson 모듈
+ * 스프링 부트가 JacksonModule 빈을 애플리케이션 JsonMapper에 등록하므로, 직렬화기는 공통코드 사전 빈을 주입받아 사용합니다.
+ */
+@Component
+public class CmnCdLabelModule extends SimpleModule {
+	private final CmnCdDictionary cmnCdDictionary;
+
+	public CmnCdLabelModule(CmnCdDictionary cmnCdDictionary) {
+		super("CmnCdLabelModule");
+		this.cmnCdDictionary = cmnCdDictionary;
+	}
+
+	@Override
+	public void setupModule(SetupContext context) {
+		super.setupModule(context);
+		context.insertAnnotationIntrospector(new NopAnnotationIntrospector() {
+			@Override
+			public Object findSerializer(MapperConfig<?> config, Annotated am) {
+				return am.hasAnnotation(CmnCdLabel.class) ? new CmnCdLabelSerializer(cmnCdDictionary) : null;
+			}
+		});
+	}
+}
@@ -0,0 +1,60 @@
+package com.backend.common.admin.cmnCd.json;
+
+import com.backend.common.admin.cmnCd.service.CmnCdDictionary;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.BeanProperty;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * @CmnCdLabel 필드 직렬화: 코드 값을 쓴 뒤 같은 객체에 코드명 필드를 이어서 씀
+ * 필드별 설정(상위코드, 코드명 필드 이름)은 직렬화기를 만들 때 한 번만 계산하므로,
+ * 값마다의 비용은 공통코드 사전의 해시 조회 두 번입니다. (DB 조회 없음)
+ * 인스턴스는 CmnCdLabelModule이 공통코드 사전 빈과 함께 만듭니다.
+ */
+public class CmnCdLabelSerializer extends StdSerializer<String> {
+	private final CmnCdDictionary dictionary;
+	private final String parentCd;
+	private final SerializableString labelField;
+
+	public CmnCdLabelSerializer(CmnCdDictionary dictionary) {
+		this(dictionary, null, null);
+	}
+
+	private CmnCdLabelSerializer(CmnCdDictionary dictionary, String parentCd, SerializableString labelField) {
+		super(String.class);
+		this.dictionary = dictionary;
+		this.parentCd = parentCd;
+		this.labelField = labelField;
+	}
+
+	@Override
+	public ValueSerializer<?> createContextual(SerializationContext ctxt, BeanProperty property) {
+		CmnCdLabel annotation = property != null ? property.getAnnotation(CmnCdLabel.class) : null;
+		if (annotation == null) {
+			return this;
+		}
+		String fieldName = annotation.labelField().isEmpty() ? property.getName() + "Nm" : annotation.labelField();
+		return new CmnCdLabelSerializer(dictionary, annotation.parent(), new SerializedString(fieldName));
+	}
+
+	@Override
+	public void serialize(String value, JsonGenerator gen, SerializationContext ctxt) throws JacksonException {
+		gen.writeString(value);
+		// 객체의 필드로 쓰일 때만 코드명 필드를 덧붙임 (배열 요소 등에서는 코드만)
+		if (labelField == null || !gen.streamWriteContext().inObject()) {
+			return;
+		}
+		String label = dictionary.label(parentCd, value);
+		gen.writeName(labelField);
+		if (label != null) {
+			gen.writeString(label);
+		} else {
+			gen.writeNull();
+		}
+	}
+}
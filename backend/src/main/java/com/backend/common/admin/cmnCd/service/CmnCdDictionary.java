@@ -0,0 +1,257 @@
+package com.backend.common.admin.cmnCd.service;
+
+import com.backend.common.admin.cmnCd.entity.CmnCdEntity;
+import com.backend.common.admin.cmnCd.model.CmnCd;
+import com.backend.common.admin.cmnCd.repository.CmnCdRepository;
+import com.backend.common.seed.service.SeedService;
+import com.backend.core.cache.ResourceVersions;
+import com.backend.core.startup.StartupTask;
+import com.backend.core.startup.StartupTaskProvider;
+import com.backend.core.transaction.AfterCommit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 공통코드 사전 (메모리 스냅샷)
+ * - 전체 공통코드를 한 번 읽어 (상위코드, 코드) 색인, ID 색인, 평면 목록, 트리를 불변 스냅샷으로 보관
+ * - 조회와 코드명 변환(label)은 DB 없이 해시 조회로 처리
+ * - 공통코드 생성/수정/삭제 시 커밋 이후 변경을 반영한 새 스냅샷으로 바꿔 끼움 (copy-on-write)
+ *
+ * 스냅샷의 CmnCd 객체는 여러 요청이 공유하므로 호출하는 쪽에서 수정하면 안 됩니다.
+ * JSON 직렬화기(CmnCdLabelSerializer)는 Jackson 모듈 빈(CmnCdLabelModule)을 통해 이 빈을 주입받습니다.
+ * 다른 노드에서 변경된 코드는 ResourceVersions가 공유 공통코드 버전의 증가를 발견하면 전체 재적재로 반영하며,
+ * 주기적인 전체 재적재(app.cmn-cd.dictionary.reload-interval-ms)는 누락에 대비한 안전장치입니다.
+ */
+@Component
+public class CmnCdDictionary implements StartupTaskProvider {
+	private static final Logger logger = LoggerFactory.getLogger(CmnCdDictionary.class);
+	// 상위코드 색인 키 (상위코드 자체는 상위코드가 없음)
+	private static final String ROOT = "";
+	private static final Comparator<CmnCd> CODE_ORDER = Comparator.comparing(CmnCd::getCd)
+		.thenComparing(code -> code.getParentCd() != null ? code.getParentCd() : ROOT);
+
+	private final CmnCdRepository cmnCdRepository;
+	private volatile Snapshot snapshot;
+
+	public CmnCdDictionary(CmnCdRepository cmnCdRepository, ResourceVersions resourceVersions) {
+		this.cmnCdRepository = cmnCdRepository;
+		resourceVersions.onRemoteChange(ResourceVersions.CMN_CD, this::reload);
+	}
+
+	/**
+	 * 공통코드 전체와 색인 (불변)
+	 */
+	private static final class Snapshot {
+		// 상위코드("" = 최상위) -> (코드 -> 공통코드)
+		private final Map<String, Map<String, CmnCd>> byParent;
+		private final Map<String, CmnCd> byId;
+		private final List<CmnCd> flat;
+		private final List<CmnCd> tree;
+
+		private Snapshot(List<CmnCd> codes) {
+			List<CmnCd> sorted = new ArrayList<>(codes);
+			sorted.sort(CODE_ORDER);
+
+			Map<String, Map<String, CmnCd>> parents = new HashMap<>();
+			Map<String, CmnCd> ids = new HashMap<>(sorted.size() * 2);
+			Map<String, List<CmnCd>> childrenByParent = new HashMap<>();
+			for (CmnCd code : sorted) {
+				String parentCd = parentKey(code.getParentCd());
+				parents.computeIfAbsent(parentCd, k -> new HashMap<>()).put(code.getCd(), code);
+				ids.put(code.getId(), code);
+				if (!ROOT.equals(parentCd)) {
+					childrenByParent.computeIfAbsent(parentCd, k -> new ArrayList<>()).add(code);
+				}
+			}
+
+			// 트리의 상위코드는 하위 목록을 가진 별도 객체 (평면 목록의 객체에는 children이 없음)
+			List<CmnCd> roots = new ArrayList<>();
+			for (CmnCd code : sorted) {
+				if (ROOT.equals(parentKey(code.getParentCd()))) {
+					CmnCd root = copy(code);
+					root.setChildren(List.copyOf(childrenByParent.getOrDefault(code.getCd(), List.of())));
+					roots.add(root);
+				}
+			}
+
+			Map<String, Map<String, CmnCd>> frozen = new HashMap<>(parents.size() * 2);
+			for (Map.Entry<String, Map<String, CmnCd>> entry : parents.entrySet()) {
+				frozen.put(entry.getKey(), Map.copyOf(entry.getValue()));
+			}
+			this.byParent = Map.copyOf(frozen);
+			this.byId = Map.copyOf(ids);
+			this.flat = List.copyOf(sorted);
+			this.tree = List.copyOf(roots);
+		}
+	}
+
+	/**
+	 * 전체 공통코드 적재 (기동 시 + 주기적으로)
+	 * 변경 반영과 동시에 실행되어 최신 변경을 덮어쓰지 않도록 같은 잠금에서 수행합니다.
+	 */
+	@Scheduled(fixedDelayString = "${app.cmn-cd.dictionary.reload-interval-ms:60000}",
+	           initialDelayString = "${app.cmn-cd.dictionary.reload-interval-ms:60000}")
+	public synchronized void reload() {
+		List<CmnCd> codes = new ArrayList<>();
+		for (CmnCdEntity entity : cmnCdRepository.findAll()) {
+			codes.add(toCmnCd(entity));
+		}
+		snapshot = new Snapshot(codes);
+		logger.debug("공통코드 사전 적재: codes={}", codes.size());
+	}
+
+	/**
+	 * 초기 데이터(공통코드) 적재가 끝난 뒤 전체 적재
+	 */
+	@Override
+	public List<StartupTask> startupTasks() {
+		return List.of(StartupTask.critical("cmn-cd-dictionary", this::reload, SeedService.TASK_NAME));
+	}
+
+	/**
+	 * 트리 형태 목록 (상위코드 + 하위코드, 코드 순)
+	 */
+	public List<CmnCd> tree() {
+		return snapshot().tree;
+	}
+
+	/**
+	 * 평면 형태 목록 (코드 순)
+	 */
+	public List<CmnCd> flat() {
+		return snapshot().flat;
+	}
+
+	public Optional<CmnCd> findById(String id) {
+		return id != null ? Optional.ofNullable(snapshot().byId.get(id)) : Optional.empty();
+	}
+
+	/**
+	 * (상위코드, 코드)로 조회 (상위코드 자체는 parentCd가 null 또는 빈 문자열)
+	 */
+	public Optional<CmnCd> find(String parentCd, String cd) {
+		return Optional.ofNullable(get(parentCd, cd));
+	}
+
+	/**
+	 * 코드로 조회 (같은 코드가 여러 상위코드에 있으면 상위코드 자체를, 없으면 코드 순으로 첫 번째)
+	 */
+	public Optional<CmnCd> findByCd(String cd) {
+		Snapshot current = snapshot();
+		CmnCd root = get(current, ROOT, cd);
+		if (root != null) {
+			return Optional.of(root);
+		}
+		for (CmnCd code : current.flat) {
+			if (code.getCd().equals(cd)) {
+				return Optional.of(code);
+			}
+		}
+		return Optional.empty();
+	}
+
+	public boolean contains(String parentCd, String cd) {
+		return get(parentCd, cd) != null;
+	}
+
+	/**
+	 * 하위코드 존재 여부
+	 */
+	public boolean hasChildren(String parentCd) {
+		if (parentCd == null || parentCd.isEmpty()) {
+			return false;
+		}
+		Map<String, CmnCd> children = snapshot().byParent.get(parentCd);
+		return children != null && !children.isEmpty();
+	}
+
+	/**
+	 * 코드명 조회 (없으면 null), 예: label("P001", "C001") -> "관리자"
+	 */
+	public String label(String parentCd, String cd) {
+		CmnCd code = get(parentCd, cd);
+		return code != null ? code.getName() : null;
+	}
+
+	/**
+	 * 공통코드 생성/수정 반영 (진행 중인 트랜잭션이 있으면 커밋 이후)
+	 */
+	public void saved(CmnCd code) {
+		AfterCommit.run(() -> apply(code, null));
+	}
+
+	/**
+	 * 공통코드 삭제 반영 (진행 중인 트랜잭션이 있으면 커밋 이후)
+	 */
+	public void removed(String id) {
+		AfterCommit.run(() -> apply(null, id));
+	}
+
+	private synchronized void apply(CmnCd saved, String removedId) {
+		Snapshot current = snapshot();
+		List<CmnCd> codes = new ArrayList<>(current.flat.size() + 1);
+		for (CmnCd code : current.flat) {
+			if (!code.getId().equals(removedId) && (saved == null || !code.getId().equals(saved.getId()))) {
+				codes.add(code);
+			}
+		}
+		if (saved != null) {
+			codes.add(copy(saved));
+		}
+		snapshot = new Snapshot(codes);
+	}
+
+	private CmnCd get(String parentCd, String cd) {
+		return get(snapshot(), parentKey(parentCd), cd);
+	}
+
+	private static CmnCd get(Snapshot current, String parentKey, String cd) {
+		Map<String, CmnCd> codes = current.byParent.get(parentKey);
+		return codes != null && cd != null ? codes.get(cd) : null;
+	}
+
+	/**
+	 * 기동 작업 이전에 조회되면 그 자리에서 적재
+	 */
+	private Snapshot snapshot() {
+		Snapshot current = snapshot;
+		if (current == null) {
+			synchronized (this) {
+				if (snapshot == null) {
+					reload();
+				}
+				current = snapshot;
+			}
+		}
+		return current;
+	}
+
+	private static String parentKey(String parentCd) {
+		return parentCd != null ? parentCd : ROOT;
+	}
+
+	private static CmnCd copy(CmnCd code) {
+		return new CmnCd(code.getId(), code.getCd(), code.getName(), code.getDescription(), code.getEnabled(),
+			code.getParentCd());
+	}
+
+	static CmnCd toCmnCd(CmnCdEntity entity) {
+		return new CmnCd(
+			entity.getId(),
+			entity.getCd(),
+			entity.getName(),
+			entity.getDescription(),
+			entity.getEnabled(),
+			entity.getParentCd()
+		);
+	}
+}
@@ -5,102 +5,56 @@ import com.backend.common.admin.cmnCd.dto.CmnCdUpdateRequest;
 import com.backend.common.admin.cmnCd.entity.CmnCdEntity;
 import com.backend.common.admin.cmnCd.model.CmnCd;
 import com.backend.common.admin.cmnCd.repository.CmnCdRepository;
-import org.springframework.boot.context.event.ApplicationReadyEvent;
-import org.springframework.context.event.EventListener;
+import com.backend.core.cache.ResourceVersions;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class CmnCdService {
 	private final CmnCdRepository cmnCdRepository;
-
-	public CmnCdService(CmnCdRepository cmnCdRepository) {
+	private final CmnCdDictionary cmnCdDictionary;
+	private final ResourceVersions resourceVersions;
+
+	public CmnCdService(
+		CmnCdRepository cmnCdRepository,
+		CmnCdDictionary cmnCdDictionary,
+		ResourceVersions resourceVersions
+	) {
 		this.cmnCdRepository = cmnCdRepository;
-	}
-
-	@EventListener(ApplicationReadyEvent.class)
-	public void init() {
-		// P001: 사이트구분코드
-		if (!cmnCdRepository.existsByParentCdIsNullAndCd("P001")) {
-			CmnCdEntity p001 = new CmnCdEntity("P001", "사이트구분코드", "사이트 구분을 나타내는 코드", null);
-			cmnCdRepository.save(p001);
-			
-			// P001의 하위코드
-			if (!cmnCdRepository.existsByParentCdAndCd("P001", "C001")) {
-				cmnCdRepository.save(new CmnCdEntity("C001", "관리자", "관리자 사이트", "P001"));
-			}
-			if (!cmnCdRepository.existsByParentCdAndCd("P001", "C002")) {
-				cmnCdRepository.save(new CmnCdEntity("C002", "사용자", "사용자 사이트", "P001"));
-			}
-		}
-
-		// P002: 권한역할코드
-		if (!cmnCdRepository.existsByParentCdIsNullAndCd("P002")) {
-			CmnCdEntity p002 = new CmnCdEntity("P002", "권한역할코드", "사용자 권한 역할을 나타내는 코드", null);
-			cmnCdRepository.save(p002);
-			
-			// P002의 하위코드
-			if (!cmnCdRepository.existsByParentCdAndCd("P002", "C001")) {
-				cmnCdRepository.save(new CmnCdEntity("C001", "ADMIN", "최고 관리자 권한", "P002"));
-			}
-			if (!cmnCdRepository.existsByParentCdAndCd("P002", "C002")) {
-				cmnCdRepository.save(new CmnCdEntity("C002", "MANAGER", "관리자 권한", "P002"));
-			}
-			if (!cmnCdRepository.existsByParentCdAndCd("P002", "C003")) {
-				cmnCdRepository.save(new CmnCdEntity("C003", "OPERATOR", "운영자 권한", "P002"));
-			}
-		}
+		this.cmnCdDictionary = cmnCdDictionary;
+		this.resourceVersions = resourceVersions;
 	}
 
 	/**
-	 * 트리 형태로 공통코드 목록 조회
+	 * 트리 형태로 공통코드 목록 조회 (공통코드 사전의 스냅샷)
 	 */
 	public List<CmnCd> listCmnCds() {
-		List<CmnCdEntity> allEntities = cmnCdRepository.findAllByOrderByCdAsc();
-		List<CmnCd> allCodes = allEntities.stream()
-				.map(this::toCmnCd)
-				.collect(Collectors.toList());
-
-		// 부모 코드들만 필터링 (P로 시작하는 코드)
-		List<CmnCd> parentCodes = allCodes.stream()
-				.filter(code -> code.getParentCd() == null || code.getParentCd().isEmpty())
-				.collect(Collectors.toList());
-
-		// 각 부모 코드에 자식 코드들 추가
-		for (CmnCd parent : parentCodes) {
-			List<CmnCd> children = allCodes.stream()
-					.filter(code -> parent.getCd().equals(code.getParentCd()))
-					.collect(Collectors.toList());
-			parent.setChildren(children);
-		}
-
-		return parentCodes;
+		return cmnCdDictionary.tree();
 	}
 
 	/**
 	 * 평면 형태로 공통코드 목록 조회
 	 */
 	public List<CmnCd> listCmnCdsFlat() {
-		return cmnCdRepository.findAllByOrderByCdAsc().stream()
-				.map(this::toCmnCd)
-				.collect(Collectors.toList());
+		return cmnCdDictionary.flat();
 	}
 
 	public Optional<CmnCd> findById(String id) {
-		return cmnCdRepository.findById(id)
-				.map(this::toCmnCd);
+		return cmnCdDictionary.findById(id);
 	}
 
 	public Optional<CmnCd> findByCd(String cd) {
-		return cmnCdRepository.findByCd(cd)
-				.map(this::toCmnCd);
+		return cmnCdDictionary.findByCd(cd);
 	}
 
+	/**
+	 * 공통코드 생성
+	 * 중복/부모 코드 확인은 사전 스냅샷이 아닌 DB로 합니다. (다른 노드의 변경은 스냅샷에 늦게 반영될 수 있음)
+	 */
 	public CmnCd createCmnCd(CmnCdCreateRequest request) {
 		// 코드 중복 확인: 상위코드와 하위코드 조합이 유니크해야 함
 		if (request.getParentCd() == null || request.getParentCd().isEmpty()) {
@@ -151,8 +105,10 @@ public class CmnCdService {
 			entity.setEnabled(request.getEnabled());
 		}
 
-		CmnCdEntity saved = cmnCdRepository.save(entity);
-		return toCmnCd(saved);
+		CmnCd saved = CmnCdDictionary.toCmnCd(cmnCdRepository.save(entity));
+		cmnCdDictionary.saved(saved);
+		resourceVersions.bump(ResourceVersions.CMN_CD);
+		return saved;
 	}
 
 	public CmnCd updateCmnCd(String id, CmnCdUpdateRequest request) {
@@ -165,32 +121,26 @@ public class CmnCdService {
 			entity.setEnabled(request.getEnabled());
 		}
 
-		CmnCdEntity saved = cmnCdRepository.save(entity);
-		return toCmnCd(saved);
+		CmnCd saved = CmnCdDictionary.toCmnCd(cmnCdRepository.save(entity));
+		cmnCdDictionary.saved(saved);
+		resourceVersions.bump(ResourceVersions.CMN_CD);
+		return saved;
 	}
 
+	/**
+	 * 공통코드 삭제 (하위 코드 확인은 DB로)
+	 */
 	public void deleteCmnCd(String id) {
 		CmnCdEntity entity = cmnCdRepository.findById(id)
 				.orElseThrow(() -> new IllegalArgumentException("공통코드를 찾을 수 없습니다: " + id));
 
 		// 하위 코드가 있는지 확인
-		List<CmnCdEntity> children = cmnCdRepository.findByParentCd(entity.getCd());
-		if (!children.isEmpty()) {
+		if (!cmnCdRepository.findByParentCd(entity.getCd()).isEmpty()) {
 			throw new IllegalArgumentException("하위 코드가 존재하여 삭제할 수 없습니다. 먼저 하위 코드를 삭제해주세요.");
 		}
 
 		cmnCdRepository.deleteById(id);
-	}
-
-	private CmnCd toCmnCd(CmnCdEntity entity) {
-		return new CmnCd(
-			entity.getId(),
-			entity.getCd(),
-			entity.getName(),
-			entity.getDescription(),
-			entity.getEnabled(),
-			entity.getParentCd()
-		);
+		cmnCdDictionary.removed(id);
+		resourceVersions.bump(ResourceVersions.CMN_CD);
 	}
 }
-
@@ -1,10 +1,15 @@
 package com.backend.common.admin.icon.controller;
 
+import com.backend.core.cache.ConditionalResponses;
+import com.backend.core.cache.ResourceVersions;
 import com.backend.core.dto.ApiResponse;
 import com.backend.common.admin.icon.dto.IconCreateRequest;
 import com.backend.common.admin.icon.dto.IconUpdateRequest;
 import com.backend.common.admin.icon.model.Icon;
 import com.backend.common.admin.icon.service.IconService;
+import com.backend.common.auth.permission.MenuPermissionType;
+import com.backend.common.auth.permission.RequireMenuPermission;
+import com.backend.core.constants.Constants;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -13,6 +18,7 @@ import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -21,9 +27,17 @@ import java.util.List;
 @Tag(name = "10_아이콘", description = "아이콘 CRUD 관리 API")
 public class IconController {
 	private final IconService iconService;
+	private final ResourceVersions resourceVersions;
+	private final ConditionalResponses conditionalResponses;
 
-	public IconController(IconService iconService) {
+	public IconController(
+		IconService iconService,
+		ResourceVersions resourceVersions,
+		ConditionalResponses conditionalResponses
+	) {
 		this.iconService = iconService;
+		this.resourceVersions = resourceVersions;
+		this.conditionalResponses = conditionalResponses;
 	}
 
 	@Operation(summary = "아이콘 목록 조회", description = "모든 아이콘 목록을 조회합니다. 관리자(USER) 권한이 필요합니다.")
@@ -35,8 +49,9 @@ public class IconController {
 	@SecurityRequirement(name = "bearerAuth")
 	@PreAuthorize("hasRole('USER')")
 	@GetMapping
-	public ResponseEntity<ApiResponse<List<Icon>>> list() {
-		return ResponseEntity.ok(ApiResponse.ok(iconService.listIcons()));
+	public ResponseEntity<ApiResponse<List<Icon>>> list(WebRequest webRequest) {
+		return conditionalResponses.ok(webRequest, resourceVersions.etag(ResourceVersions.ICON),
+			conditionalResponses.revalidate(), () -> iconService.listIcons());
 	}
 
 	@Operation(summary = "활성화된 아이콘 목록 조회", description = "활성화된 아이콘 목록만 조회합니다. 관리자(USER) 권한이 필요합니다.")
@@ -48,8 +63,9 @@ public class IconController {
 	@SecurityRequirement(name = "bearerAuth")
 	@PreAuthorize("hasRole('USER')")
 	@GetMapping("/enabled")
-	public ResponseEntity<ApiResponse<List<Icon>>> listEnabled() {
-		return ResponseEntity.ok(ApiResponse.ok(iconService.listEnabledIcons()));
+	public ResponseEntity<ApiResponse<List<Icon>>> listEnabled(WebRequest webRequest) {
+		return conditionalResponses.ok(webRequest, resourceVersions.etag(ResourceVersions.ICON),
+			conditionalResponses.revalidate(), () -> iconService.listEnabledIcons());
 	}
 
 	@Operation(summary = "아이콘 조회", description = "ID로 아이콘 정보를 조회합니다. 관리자(USER) 권한이 필요합니다.")
@@ -92,7 +108,7 @@ public class IconController {
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 부족")
 	})
 	@SecurityRequirement(name = "bearerAuth")
-	@PreAuthorize("hasRole('USER')")
+	@RequireMenuPermission(menu = Constants.MENU_ADMIN_ICONS, action = MenuPermissionType.CREATE)
 	@PostMapping
 	public ResponseEntity<ApiResponse<Icon>> create(@Valid @RequestBody IconCreateRequest request) {
 		return ResponseEntity.ok(ApiResponse.ok(iconService.createIcon(request)));
@@ -106,7 +122,7 @@ public class IconController {
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 부족")
 	})
 	@SecurityRequirement(name = "bearerAuth")
-	@PreAuthorize("hasRole('USER')")
+	@RequireMenuPermission(menu = Constants.MENU_ADMIN_ICONS, action = MenuPermissionType.UPDATE)
 	@PutMapping("/{id}")
 	public ResponseEntity<ApiResponse<Icon>> update(@PathVariable("id") String id, 
 	                                                @Valid @RequestBody IconUpdateRequest request) {
@@ -121,7 +137,7 @@ public class IconController {
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 부족")
 	})
 	@SecurityRequirement(name = "bearerAuth")
-	@PreAuthorize("hasRole('USER')")
+	@RequireMenuPermission(menu = Constants.MENU_ADMIN_ICONS, action = MenuPermissionType.DELETE)
 	@DeleteMapping("/{id}")
 	public ResponseEntity<ApiResponse<Void>> delete(@PathVariable("id") String id) {
 		iconService.deleteIcon(id);
@@ -5,6 +5,7 @@ import com.backend.common.admin.icon.dto.IconUpdateRequest;
 import com.backend.common.admin.icon.entity.IconEntity;
 import com.backend.common.admin.icon.model.Icon;
 import com.backend.common.admin.icon.repository.IconRepository;
+import com.backend.core.cache.ResourceVersions;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,9 +17,11 @@ import java.util.stream.Collectors;
 @Transactional
 public class IconService {
 	private final IconRepository iconRepository;
+	private final ResourceVersions resourceVersions;
 
-	public IconService(IconRepository iconRepository) {
+	public IconService(IconRepository iconRepository, ResourceVersions resourceVersions) {
 		this.iconRepository = iconRepository;
+		this.resourceVersions = resourceVersions;
 	}
 
 	public List<Icon> listIcons() {
@@ -56,6 +59,7 @@ public class IconService {
 		);
 
 		IconEntity saved = iconRepository.save(entity);
+		resourceVersions.bump(ResourceVersions.ICON);
 		return toIcon(saved);
 	}
 
@@ -70,6 +74,7 @@ public class IconService {
 		}
 
 		IconEntity saved = iconRepository.save(entity);
+		resourceVersions.bump(ResourceVersions.ICON);
 		return toIcon(saved);
 	}
 
@@ -78,6 +83,7 @@ public class IconService {
 			throw new IllegalArgumentException("아이콘을 찾을 수 없습니다: " + id);
 		}
 		iconRepository.deleteById(id);
+		resourceVersions.bump(ResourceVersions.ICON);
 	}
 
 	private Icon toIcon(IconEntity entity) {
@@ -1,20 +1,29 @@
 package com.backend.common.admin.menu.controller;
 
+import com.backend.core.cache.ConditionalResponses;
+import com.backend.core.cache.ResourceVersions;
 import com.backend.core.dto.ApiResponse;
 import com.backend.common.admin.menu.dto.MenuCreateRequest;
+import com.backend.common.admin.menu.dto.MenuMoveRequest;
+import com.backend.common.admin.menu.dto.MenuReorderRequest;
 import com.backend.common.admin.menu.dto.MenuUpdateRequest;
 import com.backend.common.admin.menu.model.Menu;
+import com.backend.common.admin.menu.model.MenuTreeNode;
 import com.backend.common.admin.menu.service.MenuService;
-import com.backend.common.auth.security.JwtUtil;
+import com.backend.common.auth.security.CurrentUser;
+import com.backend.common.auth.security.JwtPrincipal;
+import com.backend.common.auth.permission.MenuPermissionType;
+import com.backend.common.auth.permission.RequireMenuPermission;
+import com.backend.core.constants.Constants;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -23,11 +32,17 @@ import java.util.List;
 @Tag(name = "07_메뉴", description = "메뉴 CRUD 관리 API")
 public class MenuController {
 	private final MenuService menuService;
-	private final JwtUtil jwtUtil;
+	private final ResourceVersions resourceVersions;
+	private final ConditionalResponses conditionalResponses;
 
-	public MenuController(MenuService menuService, JwtUtil jwtUtil) {
+	public MenuController(
+		MenuService menuService,
+		ResourceVersions resourceVersions,
+		ConditionalResponses conditionalResponses
+	) {
 		this.menuService = menuService;
-		this.jwtUtil = jwtUtil;
+		this.resourceVersions = resourceVersions;
+		this.conditionalResponses = conditionalResponses;
 	}
 
 	@Operation(summary = "메뉴 목록 조회", description = "전체 메뉴 목록을 조회합니다. 관리자(USER) 권한이 필요합니다.")
@@ -52,8 +67,10 @@ public class MenuController {
 	@SecurityRequirement(name = "bearerAuth")
 	@PreAuthorize("hasRole('USER')")
 	@GetMapping("/site/{siteId}")
-	public ResponseEntity<ApiResponse<List<Menu>>> listBySiteId(@PathVariable("siteId") String siteId) {
-		return ResponseEntity.ok(ApiResponse.ok(menuService.listMenusBySiteId(siteId)));
+	public ResponseEntity<ApiResponse<List<Menu>>> listBySiteId(@PathVariable("siteId") String siteId,
+	                                                            WebRequest webRequest) {
+		return conditionalResponses.ok(webRequest, resourceVersions.etag(ResourceVersions.MENU),
+			conditionalResponses.revalidate(), () -> menuService.listMenusBySiteId(siteId));
 	}
 
 	@Operation(summary = "활성화된 메뉴 목록 조회", description = "특정 사이트의 활성화된 메뉴 목록을 조회합니다. 관리자(USER) 권한이 필요합니다.")
@@ -65,8 +82,10 @@ public class MenuController {
 	@SecurityRequirement(name = "bearerAuth")
 	@PreAuthorize("hasRole('USER')")
 	@GetMapping("/site/{siteId}/enabled")
-	public ResponseEntity<ApiResponse<List<Menu>>> listEnabledBySiteId(@PathVariable("siteId") String siteId) {
-		return ResponseEntity.ok(ApiResponse.ok(menuService.listEnabledMenusBySiteId(siteId)));
+	public ResponseEntity<ApiResponse<List<Menu>>> listEnabledBySiteId(@PathVariable("siteId") String siteId,
+	                                                                   WebRequest webRequest) {
+		return conditionalResponses.ok(webRequest, resourceVersions.etag(ResourceVersions.MENU),
+			conditionalResponses.revalidate(), () -> menuService.listEnabledMenusBySiteId(siteId));
 	}
 
 	@Operation(summary = "권한 기반 활성화된 메뉴 목록 조회", description = "현재 로그인한 사용자의 권한에 따라 특정 사이트의 활성화된 메뉴 목록을 조회합니다. 읽기 권한이 있는 메뉴만 반환됩니다. 관리자(USER)는 USER_ROLE_MENU 테이블을, 회원(MEMBER)은 MEMBER_ROLE_MENU 테이블을 사용합니다. 로그인하지 않은 경우 비회원(GUEST) 권한으로 조회합니다. 인증은 선택사항입니다.")
@@ -77,20 +96,43 @@ public class MenuController {
 	@GetMapping("/site/{siteId}/enabled/with-permissions")
 	public ResponseEntity<ApiResponse<List<Menu>>> listEnabledBySiteIdWithPermissions(
 			@PathVariable("siteId") String siteId,
-			@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
-		String username = null;
-		// 인증 토큰이 있으면 사용자명 추출
-		if (authorization != null && authorization.startsWith("Bearer ")) {
-			try {
-				String token = authorization.substring(7);
-				username = jwtUtil.getUsername(token);
-			} catch (Exception e) {
-				// 토큰이 유효하지 않으면 비회원으로 처리
-				username = null;
-			}
-		}
-		// username이 null이면 비회원(GUEST) 권한으로 처리
-		return ResponseEntity.ok(ApiResponse.ok(menuService.listEnabledMenusBySiteIdWithPermissions(siteId, username)));
+			@CurrentUser(required = false) JwtPrincipal principal,
+			WebRequest webRequest) {
+		// 인증되지 않았거나 토큰이 유효하지 않으면(principal == null) 비회원(GUEST) 권한으로 처리
+		String username = principal != null ? principal.getUsername() : null;
+		// 사용자별로 결과가 다르므로 ETag에 사용자를 포함
+		return conditionalResponses.ok(webRequest, resourceVersions.etagFor(username, ResourceVersions.MENU),
+			conditionalResponses.personal(), () -> menuService.listEnabledMenusBySiteIdWithPermissions(siteId, username));
+	}
+
+	@Operation(summary = "사이트별 메뉴 트리 조회", description = "특정 사이트의 전체 메뉴를 계층형 트리로 조회합니다. 하위 메뉴는 children에 표시 순서(displayOrder)대로 정렬되어 있습니다. 관리자(USER) 권한이 필요합니다.")
+	@ApiResponses(value = {
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 필요"),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 부족")
+	})
+	@SecurityRequirement(name = "bearerAuth")
+	@PreAuthorize("hasRole('USER')")
+	@GetMapping("/site/{siteId}/tree")
+	public ResponseEntity<ApiResponse<List<MenuTreeNode>>> treeBySiteId(@PathVariable("siteId") String siteId,
+	                                                                    WebRequest webRequest) {
+		return conditionalResponses.ok(webRequest, resourceVersions.etag(ResourceVersions.MENU),
+			conditionalResponses.revalidate(), () -> menuService.getMenuTree(siteId));
+	}
+
+	@Operation(summary = "권한 기반 메뉴 트리 조회", description = "현재 로그인한 사용자의 권한에 따라 특정 사이트의 활성화된 메뉴를 계층형 트리로 조회합니다. 읽기 권한이 있는 메뉴와, 읽기 권한이 있는 하위 메뉴를 가진 상위 메뉴만 포함됩니다. (readable=false인 노드는 직접 접근 불가) 로그인하지 않은 경우 비회원(GUEST) 권한으로 조회합니다. 인증은 선택사항입니다.")
+	@ApiResponses(value = {
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청")
+	})
+	@GetMapping("/site/{siteId}/tree/with-permissions")
+	public ResponseEntity<ApiResponse<List<MenuTreeNode>>> treeBySiteIdWithPermissions(
+			@PathVariable("siteId") String siteId,
+			@CurrentUser(required = false) JwtPrincipal principal,
+			WebRequest webRequest) {
+		String username = principal != null ? principal.getUsername() : null;
+		return conditionalResponses.ok(webRequest, resourceVersions.etagFor(username, ResourceVersions.MENU),
+			conditionalResponses.personal(), () -> menuService.getMenuTreeWithPermissions(siteId, username));
 	}
 
 	@Operation(summary = "메뉴 조회", description = "ID로 메뉴 정보를 조회합니다. 관리자(USER) 권한이 필요합니다.")
@@ -117,7 +159,7 @@ public class MenuController {
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 부족")
 	})
 	@SecurityRequirement(name = "bearerAuth")
-	@PreAuthorize("hasRole('USER')")
+	@RequireMenuPermission(menu = Constants.MENU_ADMIN_MENUS, action = MenuPermissionType.CREATE)
 	@PostMapping
 	public ResponseEntity<ApiResponse<Menu>> create(@Valid @RequestBody MenuCreateRequest request) {
 		return ResponseEntity.ok(ApiResponse.ok(menuService.createMenu(request)));
@@ -131,7 +173,7 @@ public class MenuController {
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 부족")
 	})
 	@SecurityRequirement(name = "bearerAuth")
-	@PreAuthorize("hasRole('USER')")
+	@RequireMenuPermission(menu = Constants.MENU_ADMIN_MENUS, action = MenuPermissionType.UPDATE)
 	@PutMapping("/{id}")
 	public ResponseEntity<ApiResponse<Menu>> update(@PathVariable("id") String id, 
 	                                                @Valid @RequestBody MenuUpdateRequest request) {
@@ -146,11 +188,82 @@ public class MenuController {
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 부족")
 	})
 	@SecurityRequirement(name = "bearerAuth")
-	@PreAuthorize("hasRole('USER')")
+	@RequireMenuPermission(menu = Constants.MENU_ADMIN_MENUS, action = MenuPermissionType.DELETE)
 	@DeleteMapping("/{id}")
 	public ResponseEntity<ApiResponse<Void>> delete(@PathVariable("id") String id) {
 		menuService.deleteMenu(id);
 		return ResponseEntity.ok(ApiResponse.ok());
 	}
-}
 
+	@Operation(summary = "하위 메뉴 트리 조회", description = "메뉴와 그 하위 메뉴 전체를 트리로 조회합니다. 관리자(USER) 권한이 필요합니다.")
+	@ApiResponses(value = {
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "메뉴를 찾을 수 없음"),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 필요"),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 부족")
+	})
+	@SecurityRequirement(name = "bearerAuth")
+	@PreAuthorize("hasRole('USER')")
+	@GetMapping("/{id}/subtree")
+	public ResponseEntity<ApiResponse<List<MenuTreeNode>>> subtree(@PathVariable("id") String id) {
+		return ResponseEntity.ok(ApiResponse.ok(menuService.getSubtree(id)));
+	}
+
+	@Operation(summary = "메뉴 경로(breadcrumb) 조회", description = "최상위 메뉴부터 해당 메뉴까지의 메뉴 목록을 조회합니다. 관리자(USER) 권한이 필요합니다.")
+	@ApiResponses(value = {
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "메뉴를 찾을 수 없음"),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 필요"),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 부족")
+	})
+	@SecurityRequirement(name = "bearerAuth")
+	@PreAuthorize("hasRole('USER')")
+	@GetMapping("/{id}/breadcrumb")
+	public ResponseEntity<ApiResponse<List<Menu>>> breadcrumb(@PathVariable("id") String id) {
+		return ResponseEntity.ok(ApiResponse.ok(menuService.getBreadcrumb(id)));
+	}
+
+	@Operation(summary = "메뉴 이동", description = "메뉴를 하위 메뉴와 함께 다른 부모 메뉴 아래로 이동합니다. parentId가 없으면 최상위로 이동합니다. 관리자(USER) 권한이 필요합니다.")
+	@ApiResponses(value = {
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "이동 성공"),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "메뉴를 찾을 수 없음 또는 자기 자신/하위 메뉴/다른 사이트 메뉴로 이동"),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 필요"),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 부족")
+	})
+	@SecurityRequirement(name = "bearerAuth")
+	@RequireMenuPermission(menu = Constants.MENU_ADMIN_MENUS, action = MenuPermissionType.UPDATE)
+	@PutMapping("/{id}/move")
+	public ResponseEntity<ApiResponse<Menu>> move(@PathVariable("id") String id,
+	                                              @RequestBody MenuMoveRequest request) {
+		return ResponseEntity.ok(ApiResponse.ok(menuService.moveMenu(id, request.getParentId())));
+	}
+
+	@Operation(summary = "메뉴 일괄 정렬/이동", description = "사이트 메뉴들의 부모와 표시 순서를 한 번에 변경하고 변경 후 메뉴 트리를 반환합니다. 관리자(USER) 권한이 필요합니다.")
+	@ApiResponses(value = {
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "변경 성공"),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청, 사이트에 없는 메뉴 또는 순환 참조"),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 필요"),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 부족")
+	})
+	@SecurityRequirement(name = "bearerAuth")
+	@RequireMenuPermission(menu = Constants.MENU_ADMIN_MENUS, action = MenuPermissionType.UPDATE)
+	@PutMapping("/site/{siteId}/reorder")
+	public ResponseEntity<ApiResponse<List<MenuTreeNode>>> reorder(@PathVariable("siteId") String siteId,
+	                                                               @Valid @RequestBody MenuReorderRequest request) {
+		return ResponseEntity.ok(ApiResponse.ok(menuService.reorderMenus(siteId, request.getItems())));
+	}
+
+	@Operation(summary = "하위 메뉴 포함 삭제", description = "메뉴와 그 하위 메뉴 전체를 삭제합니다. 관리자(USER) 권한이 필요합니다.")
+	@ApiResponses(value = {
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "삭제 성공 (삭제된 메뉴 수)"),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "메뉴를 찾을 수 없음"),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 필요"),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 부족")
+	})
+	@SecurityRequirement(name = "bearerAuth")
+	@RequireMenuPermission(menu = Constants.MENU_ADMIN_MENUS, action = MenuPermissionType.DELETE)
+	@DeleteMapping("/{id}/subtree")
+	public ResponseEntity<ApiResponse<Integer>> deleteSubtree(@PathVariable("id") String id) {
+		return ResponseEntity.ok(ApiResponse.ok(menuService.deleteSubtree(id)));
+	}
+}
@@ -0,0 +1,9 @@
+package com.backend.common.admin.menu.dto;
+
+public class MenuMoveRequest {
+	// 새 부모 메뉴 ID (비어 있으면 최상위로 이동)
+	private String parentId;
+	
+	public String getParentId() { return parentId; }
+	public void setParentId(String parentId) { this.parentId = parentId; }
+}
@@ -0,0 +1,34 @@
+package com.backend.common.admin.menu.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+
+public class MenuReorderRequest {
+	@NotEmpty
+	@Valid
+	private List<Item> items;
+
+	public List<Item> getItems() { return items; }
+	public void setItems(List<Item> items) { this.items = items; }
+
+	public static class Item {
+		@NotBlank
+		private String menuId;
+		
+		// 부모 메뉴 ID (비어 있으면 최상위)
+		private String parentId;
+		
+		@NotNull
+		private Integer displayOrder;
+
+		public String getMenuId() { return menuId; }
+		public void setMenuId(String menuId) { this.menuId = menuId; }
+		public String getParentId() { return parentId; }
+		public void setParentId(String parentId) { this.parentId = parentId; }
+		public Integer getDisplayOrder() { return displayOrder; }
+		public void setDisplayOrder(Integer displayOrder) { this.displayOrder = displayOrder; }
+	}
+}
@@ -4,7 +4,10 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 
 @Entity
-@Table(name = "MENUS")
+@Table(name = "MENUS", indexes = {
+	@Index(name = "IDX_MENUS_MENU_PATH", columnList = "MENU_PATH"),
+	@Index(name = "IDX_MENUS_PARENT_ID", columnList = "PARENT_ID")
+})
 @org.hibernate.annotations.Comment("메뉴 정보를 저장하는 테이블 (사이트에 속하며 계층 구조 지원)")
 public class MenuEntity {
 	@Id
@@ -38,6 +41,10 @@ public class MenuEntity {
 	@org.hibernate.annotations.Comment("부모 메뉴 ID (계층 구조용, 최상위 메뉴는 NULL)")
 	private String parentId;
 	
+	@Column(name = "MENU_PATH", length = 2000)
+	@org.hibernate.annotations.Comment("메뉴 경로 (최상위부터 자신까지의 메뉴 ID, 예: /상위ID/자신ID/) - 하위 메뉴/상위 경로 조회용")
+	private String path;
+	
 	@Column(name = "USE_YN", nullable = false)
 	@org.hibernate.annotations.Comment("활성화 여부 (기본값: true)")
 	private Boolean enabled = true;
@@ -68,6 +75,8 @@ public class MenuEntity {
 	public void setDisplayOrder(Integer displayOrder) { this.displayOrder = displayOrder; }
 	public String getParentId() { return parentId; }
 	public void setParentId(String parentId) { this.parentId = parentId; }
+	public String getPath() { return path; }
+	public void setPath(String path) { this.path = path; }
 	public Boolean getEnabled() { return enabled; }
 	public void setEnabled(Boolean enabled) { this.enabled = enabled; }
 }
@@ -0,0 +1,45 @@
+package com.backend.common.admin.menu.model;
+
+import java.util.List;
+
+/**
+ * 계층형 메뉴 트리 노드 (불변)
+ * children은 displayOrder 순으로 정렬되어 있습니다.
+ * readable이 false인 노드는 하위 메뉴를 보여주기 위해 남겨진 상위 메뉴입니다. (직접 접근 불가)
+ */
+public class MenuTreeNode {
+	private final String id;
+	private final String siteId;
+	private final String name;
+	private final String url;
+	private final String icon;
+	private final Integer displayOrder;
+	private final String parentId;
+	private final Boolean enabled;
+	private final boolean readable;
+	private final List<MenuTreeNode> children;
+
+	public MenuTreeNode(Menu menu, boolean readable, List<MenuTreeNode> children) {
+		this.id = menu.getId();
+		this.siteId = menu.getSiteId();
+		this.name = menu.getName();
+		this.url = menu.getUrl();
+		this.icon = menu.getIcon();
+		this.displayOrder = menu.getDisplayOrder();
+		this.parentId = menu.getParentId();
+		this.enabled = menu.getEnabled();
+		this.readable = readable;
+		this.children = List.copyOf(children);
+	}
+
+	public String getId() { return id; }
+	public String getSiteId() { return siteId; }
+	public String getName() { return name; }
+	public String getUrl() { return url; }
+	public String getIcon() { return icon; }
+	public Integer getDisplayOrder() { return displayOrder; }
+	public String getParentId() { return parentId; }
+	public Boolean getEnabled() { return enabled; }
+	public boolean isReadable() { return readable; }
+	public List<MenuTreeNode> getChildren() { return children; }
+}
@@ -2,8 +2,12 @@ package com.backend.common.admin.menu.repository;
 
 import com.backend.common.admin.menu.entity.MenuEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -12,6 +16,47 @@ public interface MenuRepository extends JpaRepository<MenuEntity, String> {
 	List<MenuEntity> findBySiteIdAndEnabledTrue(String siteId);
 	List<MenuEntity> findBySiteIdAndParentIdIsNull(String siteId);
 	List<MenuEntity> findByParentId(String parentId);
+	boolean existsByParentId(String parentId);
 	boolean existsBySiteId(String siteId);
+
+	/**
+	 * 메뉴가 하나 이상 있는 사이트 ID
+	 */
+	@Query("select distinct m.siteId from MenuEntity m")
+	List<String> findDistinctSiteIds();
+
+	/**
+	 * 메뉴 경로(MENU_PATH)가 비어 있는 메뉴 (경로 컬럼 추가 이전 데이터, 초기 데이터)
+	 */
+	List<MenuEntity> findByPathIsNull();
+
+	/**
+	 * 경로 접두어로 하위 메뉴 전체 조회 (자신 포함, 깊이와 무관하게 한 번에)
+	 */
+	List<MenuEntity> findByPathStartingWith(String pathPrefix);
+
+	@Query("select m.id from MenuEntity m where m.path like concat(:pathPrefix, '%')")
+	List<String> findIdsByPathPrefix(@Param("pathPrefix") String pathPrefix);
+
+	/**
+	 * 하위 메뉴 전체의 경로 접두어 교체 (메뉴 이동)
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("update MenuEntity m set m.path = concat(:newPrefix, substring(m.path, length(:oldPrefix) + 1)) " +
+		"where m.path like concat(:oldPrefix, '%')")
+	int replacePathPrefix(@Param("oldPrefix") String oldPrefix, @Param("newPrefix") String newPrefix);
+
+	/**
+	 * 경로 접두어에 해당하는 메뉴 전체 삭제 (자신 포함)
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("delete from MenuEntity m where m.path like concat(:pathPrefix, '%')")
+	int deleteByPathPrefix(@Param("pathPrefix") String pathPrefix);
+
+	/**
+	 * 주어진 ID 중 존재하는 메뉴 ID만 조회 (IN 조회 한 번으로 존재 확인)
+	 */
+	@Query("select m.id from MenuEntity m where m.id in :ids")
+	List<String> findExistingIds(@Param("ids") Collection<String> ids);
 }
 
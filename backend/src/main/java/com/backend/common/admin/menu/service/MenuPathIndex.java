@@ -0,0 +1,51 @@
+package com.backend.common.admin.menu.service;
+
+import com.backend.core.startup.StartupTask;
+import com.backend.core.startup.StartupTaskProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 메뉴 경로(MENU_PATH) 접두어 LIKE 조회용 인덱스 (PostgreSQL)
+ * - PostgreSQL은 DB 정렬 규칙(collation)이 C가 아니면 일반 btree 인덱스(IDX_MENUS_MENU_PATH)를 LIKE 'prefix%'에 쓰지 못함
+ * - JPA @Index로는 연산자 클래스를 지정할 수 없으므로 기동 시 varchar_pattern_ops 인덱스를 직접 생성
+ *
+ * 다른 DB(H2 등)는 일반 인덱스로 접두어 조회가 가능하므로 아무것도 하지 않습니다.
+ */
+@Component
+public class MenuPathIndex implements StartupTaskProvider {
+	private static final Logger logger = LoggerFactory.getLogger(MenuPathIndex.class);
+	public static final String TASK_NAME = "menu-path-index";
+
+	private static final String CREATE_SQL =
+		"CREATE INDEX IF NOT EXISTS \"IDX_MENUS_MENU_PATH_PATTERN\" ON \"MENUS\" (\"MENU_PATH\" varchar_pattern_ops)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public MenuPathIndex(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * 인덱스가 없어도 조회 결과는 같으므로 준비 상태와 무관하게 뒤에서 생성
+	 */
+	@Override
+	public List<StartupTask> startupTasks() {
+		return List.of(StartupTask.background(TASK_NAME, this::ensureIndex));
+	}
+
+	void ensureIndex() {
+		String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+			connection.getMetaData().getDatabaseProductName());
+		if (product == null || !product.toLowerCase().contains("postgresql")) {
+			return;
+		}
+		jdbcTemplate.execute(CREATE_SQL);
+		logger.debug("메뉴 경로 인덱스 확인: IDX_MENUS_MENU_PATH_PATTERN");
+	}
+}
@@ -1,29 +1,36 @@
 package com.backend.common.admin.menu.service;
 
 import com.backend.common.admin.menu.dto.MenuCreateRequest;
+import com.backend.common.admin.menu.dto.MenuReorderRequest;
 import com.backend.common.admin.menu.dto.MenuUpdateRequest;
 import com.backend.common.admin.menu.entity.MenuEntity;
 import com.backend.common.admin.menu.model.Menu;
+import com.backend.common.admin.menu.model.MenuTreeNode;
 import com.backend.common.admin.menu.repository.MenuRepository;
-import com.backend.common.admin.site.entity.SiteEntity;
 import com.backend.common.admin.site.repository.SiteRepository;
 import com.backend.common.admin.userRoleMenu.entity.UserRoleMenuEntity;
 import com.backend.common.admin.userRoleMenu.repository.UserRoleMenuRepository;
+import com.backend.common.auth.permission.MenuPermissionMatrix;
+import com.backend.common.auth.permission.RoleKind;
 import com.backend.common.member.memberRoleMenu.entity.MemberRoleMenuEntity;
 import com.backend.common.member.memberRoleMenu.repository.MemberRoleMenuRepository;
 import com.backend.common.member.memberRole.repository.MemberRoleRepository;
 import com.backend.common.user.model.User;
 import com.backend.common.user.model.Role;
 import com.backend.common.user.service.UserService;
-import org.springframework.boot.context.event.ApplicationReadyEvent;
-import org.springframework.context.event.EventListener;
-import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -35,6 +42,8 @@ public class MenuService {
 	private final UserRoleMenuRepository userRoleMenuRepository;
 	private final MemberRoleMenuRepository memberRoleMenuRepository;
 	private final MemberRoleRepository memberRoleRepository;
+	private final MenuSnapshotCache menuSnapshotCache;
+	private final MenuPermissionMatrix menuPermissionMatrix;
 
 	public MenuService(
 		MenuRepository menuRepository, 
@@ -42,7 +51,9 @@ public class MenuService {
 		UserService userService,
 		UserRoleMenuRepository userRoleMenuRepository,
 		MemberRoleMenuRepository memberRoleMenuRepository,
-		MemberRoleRepository memberRoleRepository
+		MemberRoleRepository memberRoleRepository,
+		MenuSnapshotCache menuSnapshotCache,
+		MenuPermissionMatrix menuPermissionMatrix
 	) {
 		this.menuRepository = menuRepository;
 		this.siteRepository = siteRepository;
@@ -50,175 +61,55 @@ public class MenuService {
 		this.userRoleMenuRepository = userRoleMenuRepository;
 		this.memberRoleMenuRepository = memberRoleMenuRepository;
 		this.memberRoleRepository = memberRoleRepository;
+		this.menuSnapshotCache = menuSnapshotCache;
+		this.menuPermissionMatrix = menuPermissionMatrix;
 	}
 
-	@EventListener(ApplicationReadyEvent.class)
-	@Order(100) // SiteService(기본값 0)보다 나중에 실행되도록 설정
-	public void init() {
-		// 관리자 사이트 메뉴 초기화
-		initAdminSiteMenus();
-		
-		// 통합홈페이지 메뉴 초기화
-		initIntegratedHomepageMenus();
-	}
-	
 	/**
-	 * 관리자 사이트 메뉴 초기화
+	 * 메뉴 경로(MENU_PATH)가 비어 있는 메뉴의 경로를 PARENT_ID를 따라 계산하여 채움
+	 * (경로 컬럼 추가 이전 데이터, 초기 데이터 적재 시 SeedService에서 호출)
 	 */
-	private void initAdminSiteMenus() {
-		// 관리자 사이트 찾기 (contextPath가 'admin'인 사이트)
-		Optional<SiteEntity> adminSiteOpt = siteRepository.findByContextPath("admin");
-		
-		// 사이트가 없으면 생성 (SiteService가 실행되지 않았을 수 있음)
-		SiteEntity adminSite;
-		if (adminSiteOpt.isEmpty()) {
-			// 통합관리시스템 사이트 생성
-			adminSite = siteRepository.save(new SiteEntity("C001", "통합관리시스템", "통합 관리 시스템", "admin", "1.0.0"));
-		} else {
-			adminSite = adminSiteOpt.get();
-		}
-		
-		String adminSiteId = adminSite.getId();
-		
-		// 이미 메뉴가 있으면 초기화하지 않음
-		if (menuRepository.existsBySiteId(adminSiteId)) {
+	public void backfillMenuPaths() {
+		List<MenuEntity> missing = menuRepository.findByPathIsNull();
+		if (missing.isEmpty()) {
 			return;
 		}
-		
-		// 관리자 사이트 메뉴 초기 데이터 생성
-		menuRepository.save(new MenuEntity(adminSiteId, "대시보드", "/admin", null, 1, null));
-		menuRepository.save(new MenuEntity(adminSiteId, "사이트 관리", "/admin/sites", null, 2, null));
-		menuRepository.save(new MenuEntity(adminSiteId, "메뉴 관리", "/admin/menus", null, 3, null));
-		menuRepository.save(new MenuEntity(adminSiteId, "관리자 관리", "/admin/admins", null, 4, null));
-		menuRepository.save(new MenuEntity(adminSiteId, "사용자 관리", "/admin/users", null, 5, null));
-		menuRepository.save(new MenuEntity(adminSiteId, "공통코드 관리", "/admin/cmn-cd", null, 6, null));
-		menuRepository.save(new MenuEntity(adminSiteId, "관리자 권한 관리", "/admin/user-roles", null, 7, null));
-		menuRepository.save(new MenuEntity(adminSiteId, "사용자 권한 관리", "/admin/member-roles", null, 8, null));
-		menuRepository.save(new MenuEntity(adminSiteId, "아이콘 관리", "/admin/icons", null, 9, null));
-		menuRepository.save(new MenuEntity(adminSiteId, "파일 관리", "/admin/files", null, 10, null));
-		menuRepository.save(new MenuEntity(adminSiteId, "로그 관리", "/admin/logs", null, 11, null));
+		Map<String, MenuEntity> menusById = new HashMap<>();
+		for (MenuEntity menu : menuRepository.findAll()) {
+			menusById.put(menu.getId(), menu);
+		}
+		for (MenuEntity menu : missing) {
+			menu.setPath(resolvePath(menu, menusById));
+		}
 	}
-	
+
 	/**
-	 * 통합홈페이지 메뉴 초기화
+	 * 상위 메뉴를 따라 올라가며 경로 계산 (상위 메뉴가 없거나 순환이면 그 지점을 최상위로 취급)
 	 */
-	private void initIntegratedHomepageMenus() {
-		// 통합홈페이지 사이트 찾기 (contextPath가 ''인 사이트)
-		Optional<SiteEntity> integratedHomepageOpt = siteRepository.findByContextPath("");
-		
-		// 사이트가 없으면 생성 (SiteService가 실행되지 않았을 수 있음)
-		SiteEntity integratedHomepage;
-		if (integratedHomepageOpt.isEmpty()) {
-			// 통합홈페이지 사이트 생성
-			integratedHomepage = siteRepository.save(new SiteEntity("C002", "통합홈페이지", "통합 홈페이지", "", "1.0.0"));
-		} else {
-			integratedHomepage = integratedHomepageOpt.get();
+	private static String resolvePath(MenuEntity menu, Map<String, MenuEntity> menusById) {
+		Deque<String> ids = new ArrayDeque<>();
+		Set<String> visited = new HashSet<>();
+		MenuEntity current = menu;
+		while (current != null && visited.add(current.getId())) {
+			ids.addFirst(current.getId());
+			String parentId = current.getParentId();
+			current = parentId != null && !parentId.isEmpty() ? menusById.get(parentId) : null;
 		}
-		
-		String integratedHomepageId = integratedHomepage.getId();
-		
-		// 통합홈페이지에 메뉴가 없으면 포털사이트 메뉴를 복사하거나 기본 메뉴 생성
-		if (!menuRepository.existsBySiteId(integratedHomepageId)) {
-			// 포털사이트 찾기 (siteType이 C002이고 contextPath가 ''인 사이트)
-			Optional<SiteEntity> portalSiteOpt = siteRepository.findByContextPath("");
-			SiteEntity sourcePortalSite = null;
-			
-			// contextPath가 'portal'인 사이트가 없으면, siteType이 C002이고 contextPath가 ''이 아닌 첫 번째 사이트를 찾음
-			if (portalSiteOpt.isEmpty()) {
-				List<SiteEntity> portalSites = siteRepository.findAll().stream()
-					.filter(site -> "C002".equals(site.getSiteType()) && !"".equals(site.getContextPath()))
-					.collect(Collectors.toList());
-				
-				if (!portalSites.isEmpty()) {
-					sourcePortalSite = portalSites.get(0);
-				}
-			} else {
-				sourcePortalSite = portalSiteOpt.get();
-			}
-			
-			// 포털사이트가 있고 메뉴가 있으면 해당 사이트의 메뉴를 통합홈페이지로 복사
-			if (sourcePortalSite != null) {
-				String sourcePortalSiteId = sourcePortalSite.getId();
-				List<MenuEntity> sourceMenus = menuRepository.findBySiteId(sourcePortalSiteId);
-				
-				if (!sourceMenus.isEmpty()) {
-					// 메뉴를 복사 (부모-자식 관계 유지)
-					Map<String, String> oldToNewMenuIdMap = new java.util.HashMap<>();
-					
-					// 먼저 부모 메뉴들을 복사
-					List<MenuEntity> parentMenus = sourceMenus.stream()
-						.filter(menu -> menu.getParentId() == null)
-						.sorted((a, b) -> (a.getDisplayOrder() != null ? a.getDisplayOrder() : 0) 
-							- (b.getDisplayOrder() != null ? b.getDisplayOrder() : 0))
-						.collect(Collectors.toList());
-					
-					for (MenuEntity sourceMenu : parentMenus) {
-						MenuEntity newMenu = new MenuEntity(
-							integratedHomepageId,
-							sourceMenu.getName(),
-							sourceMenu.getUrl(),
-							sourceMenu.getIcon(),
-							sourceMenu.getDisplayOrder(),
-							null
-						);
-						newMenu.setEnabled(sourceMenu.getEnabled());
-						MenuEntity saved = menuRepository.save(newMenu);
-						oldToNewMenuIdMap.put(sourceMenu.getId(), saved.getId());
-					}
-					
-					// 자식 메뉴들을 복사 (부모 ID 매핑)
-					List<MenuEntity> childMenus = sourceMenus.stream()
-						.filter(menu -> menu.getParentId() != null)
-						.sorted((a, b) -> (a.getDisplayOrder() != null ? a.getDisplayOrder() : 0) 
-							- (b.getDisplayOrder() != null ? b.getDisplayOrder() : 0))
-						.collect(Collectors.toList());
-					
-					for (MenuEntity sourceMenu : childMenus) {
-						String newParentId = oldToNewMenuIdMap.get(sourceMenu.getParentId());
-						if (newParentId != null) {
-							MenuEntity newMenu = new MenuEntity(
-								integratedHomepageId,
-								sourceMenu.getName(),
-								sourceMenu.getUrl(),
-								sourceMenu.getIcon(),
-								sourceMenu.getDisplayOrder(),
-								newParentId
-							);
-							newMenu.setEnabled(sourceMenu.getEnabled());
-							menuRepository.save(newMenu);
-						}
-					}
-				} else {
-					// 포털사이트는 있지만 메뉴가 없으면 기본 메뉴 생성
-					createDefaultHomepageMenus(integratedHomepageId);
-				}
-			} else {
-				// 포털사이트가 없으면 기본 메뉴 생성
-				createDefaultHomepageMenus(integratedHomepageId);
-			}
+		StringBuilder path = new StringBuilder("/");
+		for (String id : ids) {
+			path.append(id).append('/');
 		}
+		return path.toString();
 	}
-	
+
 	/**
-	 * 통합홈페이지 기본 메뉴 생성
+	 * 상위 메뉴 경로 아래의 메뉴 경로 (상위 메뉴가 없으면 최상위)
 	 */
-	private void createDefaultHomepageMenus(String siteId) {
-		// 기본 메뉴 생성
-		menuRepository.save(new MenuEntity(siteId, "홈", "/", null, 1, null));
-		MenuEntity aboutMenu = menuRepository.save(new MenuEntity(siteId, "소개", "/about", null, 2, null));
-		MenuEntity serviceMenu = menuRepository.save(new MenuEntity(siteId, "서비스", "/service", null, 3, null));
-		menuRepository.save(new MenuEntity(siteId, "공지사항", "/notice", null, 4, null));
-		menuRepository.save(new MenuEntity(siteId, "문의하기", "/contact", null, 5, null));
-		
-		// 서비스 하위 메뉴
-		menuRepository.save(new MenuEntity(siteId, "서비스 소개", "/service/intro", null, 1, serviceMenu.getId()));
-		menuRepository.save(new MenuEntity(siteId, "서비스 이용안내", "/service/guide", null, 2, serviceMenu.getId()));
-		
-		// 소개 하위 메뉴
-		menuRepository.save(new MenuEntity(siteId, "회사소개", "/about/company", null, 1, aboutMenu.getId()));
-		menuRepository.save(new MenuEntity(siteId, "오시는 길", "/about/location", null, 2, aboutMenu.getId()));
+	public static String childPath(MenuEntity parent, String id) {
+		String parentPath = parent != null && parent.getPath() != null ? parent.getPath() : "/";
+		return parentPath + id + "/";
 	}
-
+	
 	public List<Menu> listMenus() {
 		return menuRepository.findAll().stream()
 				.map(this::toMenu)
@@ -237,26 +128,49 @@ public class MenuService {
 				.collect(Collectors.toList());
 	}
 
+	/**
+	 * 사이트의 전체 메뉴 트리 조회 (비활성 메뉴 포함, 관리 화면용)
+	 */
+	@Transactional(readOnly = true)
+	public List<MenuTreeNode> getMenuTree(String siteId) {
+		return MenuTreeBuilder.build(listMenusBySiteId(siteId));
+	}
+
 	/**
 	 * 현재 로그인한 사용자의 권한에 따라 활성화된 메뉴 목록 조회
 	 * 읽기 권한이 있는 메뉴만 반환합니다.
 	 * 관리자(USER)는 USER_ROLE_MENU 테이블을, 회원(MEMBER)은 MEMBER_ROLE_MENU 테이블을 사용합니다.
 	 * username이 null이면 비회원(GUEST) 권한으로 조회합니다.
+	 *
+	 * 결과는 (사이트, 역할) 단위로 MenuSnapshotCache에 보관되므로 비회원 조회는 DB를 거치지 않고,
+	 * 로그인 사용자는 현재 역할 확인을 위한 사용자 조회 한 번만 수행합니다.
 	 */
+	@Transactional(readOnly = true)
 	public List<Menu> listEnabledMenusBySiteIdWithPermissions(String siteId, String username) {
-		// 활성화된 메뉴 목록 조회
-		List<MenuEntity> allMenus = menuRepository.findBySiteIdAndEnabledTrue(siteId);
-		
+		return resolveSnapshot(siteId, username).getMenus();
+	}
+
+	/**
+	 * 현재 로그인한 사용자의 권한에 따른 메뉴 트리 조회
+	 * 읽기 권한이 있는 메뉴와, 읽기 권한이 있는 하위 메뉴를 가진 상위 메뉴만 포함합니다.
+	 * 평면 목록과 같은 스냅샷에 함께 캐시됩니다.
+	 */
+	@Transactional(readOnly = true)
+	public List<MenuTreeNode> getMenuTreeWithPermissions(String siteId, String username) {
+		return resolveSnapshot(siteId, username).getTree();
+	}
+
+	private MenuSnapshotCache.Snapshot resolveSnapshot(String siteId, String username) {
 		// username이 null이면 비회원(GUEST) 권한으로 처리
 		if (username == null || username.isEmpty()) {
-			return listMenusByMemberRole(siteId, "GUEST");
+			return guestSnapshot(siteId);
 		}
 		
 		// 현재 사용자 정보 조회
 		Optional<User> userOpt = userService.findByUsername(username);
 		if (userOpt.isEmpty()) {
 			// 사용자를 찾을 수 없으면 비회원(GUEST) 권한으로 처리
-			return listMenusByMemberRole(siteId, "GUEST");
+			return guestSnapshot(siteId);
 		}
 		
 		User user = userOpt.get();
@@ -264,87 +178,71 @@ public class MenuService {
 		
 		// roleId가 없으면 비회원(GUEST) 권한으로 처리
 		if (roleId == null || roleId.isEmpty()) {
-			return listMenusByMemberRole(siteId, "GUEST");
+			return guestSnapshot(siteId);
 		}
 		
 		// 역할에 따라 다른 권한 테이블 사용
 		if (user.getRole() == Role.MEMBER) {
 			// 회원(MEMBER)의 경우 MEMBER_ROLE_MENU 테이블 사용
-			return listMenusByMemberRoleId(siteId, roleId, allMenus);
+			return menuSnapshotCache.get(siteId, RoleKind.MEMBER, roleId,
+				() -> loadMemberRoleSnapshot(siteId, roleId));
 		} else {
 			// 관리자(USER)의 경우 USER_ROLE_MENU 테이블 사용
-			return listMenusByUserRoleId(siteId, roleId, allMenus);
+			return menuSnapshotCache.get(siteId, RoleKind.USER, roleId,
+				() -> loadUserRoleSnapshot(siteId, roleId));
 		}
 	}
 	
 	/**
-	 * 회원 역할 코드로 메뉴 목록 조회 (비회원 포함)
+	 * 비회원(GUEST) 역할의 스냅샷 조회
 	 */
-	private List<Menu> listMenusByMemberRole(String siteId, String roleCd) {
-		// 역할 코드로 역할 ID 찾기
-		Optional<String> roleIdOpt = memberRoleRepository.findByRoleCd(roleCd)
-			.map(role -> role.getId());
+	private MenuSnapshotCache.Snapshot guestSnapshot(String siteId) {
+		// 역할 코드로 역할 ID 찾기 (캐시됨)
+		Optional<String> roleIdOpt = menuSnapshotCache.getGuestRoleId(
+			() -> memberRoleRepository.findByRoleCd("GUEST").map(role -> role.getId()));
 		
 		if (roleIdOpt.isEmpty()) {
 			// 역할을 찾을 수 없으면 빈 목록 반환
-			return List.of();
+			return MenuSnapshotCache.Snapshot.EMPTY;
 		}
 		
 		String roleId = roleIdOpt.get();
-		List<MenuEntity> allMenus = menuRepository.findBySiteIdAndEnabledTrue(siteId);
-		return listMenusByMemberRoleId(siteId, roleId, allMenus);
+		return menuSnapshotCache.get(siteId, RoleKind.MEMBER, roleId,
+			() -> loadMemberRoleSnapshot(siteId, roleId));
 	}
 	
 	/**
-	 * 회원 역할 ID로 메뉴 목록 조회
+	 * 회원 역할 ID로 스냅샷 생성
 	 */
-	private List<Menu> listMenusByMemberRoleId(String siteId, String memberRoleId, List<MenuEntity> allMenus) {
-		// 해당 역할의 메뉴 권한 조회 (활성화된 권한만)
-		List<MemberRoleMenuEntity> permissions = memberRoleMenuRepository.findByMemberRoleIdAndEnabled(memberRoleId, "Y");
-		
-		// 권한 맵 생성 (menuId -> MemberRoleMenuEntity)
-		Map<String, MemberRoleMenuEntity> permissionMap = permissions.stream()
-				.collect(Collectors.toMap(MemberRoleMenuEntity::getMenuId, perm -> perm));
-		
-		// 읽기 권한이 있는 메뉴만 필터링
-		return allMenus.stream()
-				.filter(menu -> {
-					MemberRoleMenuEntity permission = permissionMap.get(menu.getId());
-					// 권한 레코드가 없으면 접근 불가
-					if (permission == null) {
-						return false;
-					}
-					// 읽기 권한 또는 전체 권한이 "Y"인 경우만 허용
-					return "Y".equals(permission.getPermRead()) || "Y".equals(permission.getPermAll());
-				})
-				.map(this::toMenu)
-				.collect(Collectors.toList());
+	private MenuSnapshotCache.Snapshot loadMemberRoleSnapshot(String siteId, String memberRoleId) {
+		// 해당 역할의 메뉴 권한 중 읽기 권한 또는 전체 권한이 "Y"인 메뉴 ID (활성화된 권한만)
+		Set<String> readableMenuIds = memberRoleMenuRepository.findByMemberRoleIdAndEnabled(memberRoleId, "Y").stream()
+				.filter(permission -> "Y".equals(permission.getPermRead()) || "Y".equals(permission.getPermAll()))
+				.map(MemberRoleMenuEntity::getMenuId)
+				.collect(Collectors.toSet());
+		return buildSnapshot(siteId, readableMenuIds);
 	}
 	
 	/**
-	 * 관리자 역할 ID로 메뉴 목록 조회
+	 * 관리자 역할 ID로 스냅샷 생성
 	 */
-	private List<Menu> listMenusByUserRoleId(String siteId, String userRoleId, List<MenuEntity> allMenus) {
-		// 해당 역할의 메뉴 권한 조회 (활성화된 권한만)
-		List<UserRoleMenuEntity> permissions = userRoleMenuRepository.findByUserRoleIdAndEnabled(userRoleId, "Y");
-		
-		// 권한 맵 생성 (menuId -> UserRoleMenuEntity)
-		Map<String, UserRoleMenuEntity> permissionMap = permissions.stream()
-				.collect(Collectors.toMap(UserRoleMenuEntity::getMenuId, perm -> perm));
-		
-		// 읽기 권한이 있는 메뉴만 필터링
-		return allMenus.stream()
-				.filter(menu -> {
-					UserRoleMenuEntity permission = permissionMap.get(menu.getId());
-					// 권한 레코드가 없으면 접근 불가
-					if (permission == null) {
-						return false;
-					}
-					// 읽기 권한 또는 전체 권한이 "Y"인 경우만 허용
-					return "Y".equals(permission.getPermRead()) || "Y".equals(permission.getPermAll());
-				})
-				.map(this::toMenu)
+	private MenuSnapshotCache.Snapshot loadUserRoleSnapshot(String siteId, String userRoleId) {
+		// 해당 역할의 메뉴 권한 중 읽기 권한 또는 전체 권한이 "Y"인 메뉴 ID (활성화된 권한만)
+		Set<String> readableMenuIds = userRoleMenuRepository.findByUserRoleIdAndEnabled(userRoleId, "Y").stream()
+				.filter(permission -> "Y".equals(permission.getPermRead()) || "Y".equals(permission.getPermAll()))
+				.map(UserRoleMenuEntity::getMenuId)
+				.collect(Collectors.toSet());
+		return buildSnapshot(siteId, readableMenuIds);
+	}
+	
+	private MenuSnapshotCache.Snapshot buildSnapshot(String siteId, Set<String> readableMenuIds) {
+		List<Menu> allMenus = listEnabledMenusBySiteId(siteId);
+		// 권한 레코드가 없는 메뉴는 접근 불가
+		List<Menu> readableMenus = allMenus.stream()
+				.filter(menu -> readableMenuIds.contains(menu.getId()))
 				.collect(Collectors.toList());
+		List<MenuTreeNode> tree = MenuTreeBuilder.build(allMenus, menu -> readableMenuIds.contains(menu.getId()));
+		return new MenuSnapshotCache.Snapshot(readableMenus, tree);
 	}
 
 	public Optional<Menu> findById(String id) {
@@ -359,9 +257,12 @@ public class MenuService {
 		}
 		
 		// 부모 메뉴 존재 확인 (parentId가 있는 경우)
+		MenuEntity parent = null;
 		if (request.getParentId() != null && !request.getParentId().isEmpty()) {
-			if (!menuRepository.existsById(request.getParentId())) {
-				throw new IllegalArgumentException("부모 메뉴를 찾을 수 없습니다: " + request.getParentId());
+			parent = menuRepository.findById(request.getParentId())
+					.orElseThrow(() -> new IllegalArgumentException("부모 메뉴를 찾을 수 없습니다: " + request.getParentId()));
+			if (!parent.getSiteId().equals(request.getSiteId())) {
+				throw new IllegalArgumentException("다른 사이트의 메뉴를 부모로 지정할 수 없습니다: " + request.getParentId());
 			}
 		}
 		
@@ -374,12 +275,19 @@ public class MenuService {
 			request.getParentId()
 		);
 		MenuEntity saved = menuRepository.save(entity);
+		// ID는 저장(persist) 시 생성되므로 경로는 저장 직후 설정
+		// INSERT에는 persist 시점 값(경로 없음)이 들어가고, 경로는 flush 시 변경 감지로 UPDATE 한 번 더 실행됨
+		saved.setPath(childPath(parent, saved.getId()));
+		menuSnapshotCache.invalidateSite(saved.getSiteId());
+		menuPermissionMatrix.menuSaved(saved.getId(), saved.getUrl());
 		return toMenu(saved);
 	}
 
 	public Menu updateMenu(String id, MenuUpdateRequest request) {
 		MenuEntity entity = menuRepository.findById(id)
 				.orElseThrow(() -> new IllegalArgumentException("메뉴를 찾을 수 없습니다: " + id));
+		boolean parentChanged = !Objects.equals(emptyToNull(entity.getParentId()), emptyToNull(request.getParentId()));
+		MenuEntity newParent = parentChanged ? validateNewParent(entity, request.getParentId()) : null;
 		
 		entity.setName(request.getName());
 		entity.setUrl(request.getUrl());
@@ -393,20 +301,203 @@ public class MenuService {
 		}
 		
 		MenuEntity saved = menuRepository.save(entity);
+		if (parentChanged) {
+			movePath(saved, newParent);
+		}
+		menuSnapshotCache.invalidateSite(saved.getSiteId());
+		menuPermissionMatrix.menuSaved(saved.getId(), saved.getUrl());
 		return toMenu(saved);
 	}
 
+	/**
+	 * 메뉴를 다른 상위 메뉴 아래로 이동 (parentId가 없으면 최상위로)
+	 * 하위 메뉴 전체의 경로는 UPDATE 한 문장으로 함께 바뀝니다.
+	 */
+	public Menu moveMenu(String id, String parentId) {
+		MenuEntity entity = menuRepository.findById(id)
+				.orElseThrow(() -> new IllegalArgumentException("메뉴를 찾을 수 없습니다: " + id));
+		MenuEntity newParent = validateNewParent(entity, parentId);
+		
+		entity.setParentId(emptyToNull(parentId));
+		MenuEntity saved = menuRepository.save(entity);
+		movePath(saved, newParent);
+		menuSnapshotCache.invalidateSite(saved.getSiteId());
+		return toMenu(saved);
+	}
+
+	/**
+	 * 사이트 메뉴의 부모/표시 순서 일괄 변경 (관리 화면 드래그 정렬)
+	 * 사이트 메뉴를 한 번 조회하여 메모리에서 검증(사이트 소속, 중복, 순환 참조)을 모두 마친 뒤에 엔티티를 수정하므로
+	 * 검증에 실패하면 어떤 행도 바뀌지 않습니다.
+	 * 값이 바뀐 메뉴만 flush 시 JDBC 배치로 UPDATE되고 캐시 무효화는 한 번만 수행합니다.
+	 * @return 변경 후 사이트 메뉴 트리
+	 */
+	public List<MenuTreeNode> reorderMenus(String siteId, List<MenuReorderRequest.Item> items) {
+		Map<String, MenuEntity> menusById = new HashMap<>();
+		// 변경 후의 부모 (menuId -> parentId, 최상위는 null)
+		Map<String, String> parentIds = new HashMap<>();
+		for (MenuEntity menu : menuRepository.findBySiteId(siteId)) {
+			menusById.put(menu.getId(), menu);
+			parentIds.put(menu.getId(), emptyToNull(menu.getParentId()));
+		}
+
+		// 사이트 소속 확인 (엔티티는 아직 수정하지 않음)
+		Set<String> changedIds = new HashSet<>();
+		for (MenuReorderRequest.Item item : items) {
+			if (!menusById.containsKey(item.getMenuId())) {
+				throw new IllegalArgumentException("사이트에 속한 메뉴를 찾을 수 없습니다: " + item.getMenuId());
+			}
+			if (!changedIds.add(item.getMenuId())) {
+				throw new IllegalArgumentException("같은 메뉴가 여러 번 지정되었습니다: " + item.getMenuId());
+			}
+			String parentId = emptyToNull(item.getParentId());
+			if (parentId != null && !menusById.containsKey(parentId)) {
+				throw new IllegalArgumentException("사이트에 속한 부모 메뉴를 찾을 수 없습니다: " + parentId);
+			}
+			parentIds.put(item.getMenuId(), parentId);
+		}
+
+		// 순환 참조 확인 (새 순환에는 반드시 변경된 메뉴가 포함됨)
+		for (String menuId : changedIds) {
+			Set<String> visited = new HashSet<>();
+			String currentId = menuId;
+			while (currentId != null) {
+				if (!visited.add(currentId)) {
+					throw new IllegalArgumentException("메뉴 계층에 순환 참조가 생깁니다: " + menuId);
+				}
+				currentId = parentIds.get(currentId);
+			}
+		}
+
+		// 검증을 통과한 뒤에만 변경 적용 (값이 같으면 변경 감지에서 제외됨)
+		for (MenuReorderRequest.Item item : items) {
+			MenuEntity menu = menusById.get(item.getMenuId());
+			menu.setParentId(parentIds.get(item.getMenuId()));
+			menu.setDisplayOrder(item.getDisplayOrder());
+		}
+
+		// 부모가 바뀐 메뉴의 하위 메뉴까지 경로 재계산 (값이 바뀐 메뉴만 UPDATE 대상)
+		for (MenuEntity menu : menusById.values()) {
+			String path = resolvePath(menu, menusById);
+			if (!path.equals(menu.getPath())) {
+				menu.setPath(path);
+			}
+		}
+
+		menuSnapshotCache.invalidateSite(siteId);
+		List<Menu> menus = menusById.values().stream()
+				.map(this::toMenu)
+				.collect(Collectors.toList());
+		return MenuTreeBuilder.build(menus);
+	}
+
+	/**
+	 * 메뉴와 하위 메뉴 전체 조회 (메뉴를 루트로 하는 트리)
+	 */
+	@Transactional(readOnly = true)
+	public List<MenuTreeNode> getSubtree(String id) {
+		MenuEntity entity = menuRepository.findById(id)
+				.orElseThrow(() -> new IllegalArgumentException("메뉴를 찾을 수 없습니다: " + id));
+		List<Menu> menus = menuRepository.findByPathStartingWith(entity.getPath()).stream()
+				.map(this::toMenu)
+				.collect(Collectors.toList());
+		return MenuTreeBuilder.build(menus);
+	}
+
+	/**
+	 * 최상위 메뉴부터 해당 메뉴까지의 경로 (breadcrumb)
+	 * 경로에 담긴 메뉴 ID로 한 번에 조회합니다.
+	 */
+	@Transactional(readOnly = true)
+	public List<Menu> getBreadcrumb(String id) {
+		MenuEntity entity = menuRepository.findById(id)
+				.orElseThrow(() -> new IllegalArgumentException("메뉴를 찾을 수 없습니다: " + id));
+		List<String> ancestorIds = new ArrayList<>();
+		for (String ancestorId : entity.getPath().split("/")) {
+			if (!ancestorId.isEmpty()) {
+				ancestorIds.add(ancestorId);
+			}
+		}
+		Map<String, MenuEntity> menusById = new HashMap<>();
+		for (MenuEntity menu : menuRepository.findAllById(ancestorIds)) {
+			menusById.put(menu.getId(), menu);
+		}
+		List<Menu> breadcrumb = new ArrayList<>(ancestorIds.size());
+		for (String ancestorId : ancestorIds) {
+			MenuEntity menu = menusById.get(ancestorId);
+			if (menu != null) {
+				breadcrumb.add(toMenu(menu));
+			}
+		}
+		return breadcrumb;
+	}
+
+	/**
+	 * 메뉴와 하위 메뉴 전체 삭제
+	 * 같은 트랜잭션에서 하위 메뉴 전체의 역할 권한 행(USER_ROLE_MENU, MEMBER_ROLE_MENU)을 경로 접두어로 먼저 지운 뒤
+	 * 메뉴를 DELETE 한 문장으로 삭제합니다. 커밋 이후 권한 행렬의 모든 역할에서 해당 메뉴 권한을 지우고,
+	 * 사이트의 메뉴 캐시(모든 역할)를 무효화합니다.
+	 * @return 삭제된 메뉴 수
+	 */
+	public int deleteSubtree(String id) {
+		MenuEntity entity = menuRepository.findById(id)
+				.orElseThrow(() -> new IllegalArgumentException("메뉴를 찾을 수 없습니다: " + id));
+		String siteId = entity.getSiteId();
+		String path = entity.getPath();
+		List<String> deletedIds = menuRepository.findIdsByPathPrefix(path);
+		userRoleMenuRepository.deleteByMenuPathPrefix(path);
+		memberRoleMenuRepository.deleteByMenuPathPrefix(path);
+		menuRepository.deleteByPathPrefix(path);
+		menuSnapshotCache.invalidateSite(siteId);
+		menuPermissionMatrix.menusRemoved(deletedIds);
+		return deletedIds.size();
+	}
+
+	/**
+	 * 이동할 상위 메뉴 확인 (같은 사이트, 자기 자신/하위 메뉴가 아님)
+	 * @return 상위 메뉴 (최상위로 이동하면 null)
+	 */
+	private MenuEntity validateNewParent(MenuEntity menu, String parentId) {
+		if (parentId == null || parentId.isEmpty()) {
+			return null;
+		}
+		MenuEntity parent = menuRepository.findById(parentId)
+				.orElseThrow(() -> new IllegalArgumentException("부모 메뉴를 찾을 수 없습니다: " + parentId));
+		if (!parent.getSiteId().equals(menu.getSiteId())) {
+			throw new IllegalArgumentException("다른 사이트의 메뉴를 부모로 지정할 수 없습니다: " + parentId);
+		}
+		if (parent.getPath() != null && parent.getPath().startsWith(menu.getPath())) {
+			throw new IllegalArgumentException("자기 자신 또는 하위 메뉴를 부모로 지정할 수 없습니다: " + parentId);
+		}
+		return parent;
+	}
+
+	/**
+	 * 메뉴와 하위 메뉴 전체의 경로를 새 상위 메뉴 기준으로 변경
+	 */
+	private void movePath(MenuEntity menu, MenuEntity newParent) {
+		String oldPath = menu.getPath();
+		String newPath = childPath(newParent, menu.getId());
+		if (!newPath.equals(oldPath)) {
+			menuRepository.replacePathPrefix(oldPath, newPath);
+		}
+	}
+
+	private static String emptyToNull(String value) {
+		return value != null && !value.isEmpty() ? value : null;
+	}
+
 	public void deleteMenu(String id) {
 		// 하위 메뉴가 있는지 확인
-		List<MenuEntity> children = menuRepository.findByParentId(id);
-		if (!children.isEmpty()) {
+		if (menuRepository.existsByParentId(id)) {
 			throw new IllegalArgumentException("하위 메뉴가 존재하여 삭제할 수 없습니다. 먼저 하위 메뉴를 삭제해주세요.");
 		}
 		
-		if (!menuRepository.existsById(id)) {
-			throw new IllegalArgumentException("메뉴를 찾을 수 없습니다: " + id);
-		}
-		menuRepository.deleteById(id);
+		MenuEntity entity = menuRepository.findById(id)
+				.orElseThrow(() -> new IllegalArgumentException("메뉴를 찾을 수 없습니다: " + id));
+		menuRepository.delete(entity);
+		menuSnapshotCache.invalidateSite(entity.getSiteId());
+		menuPermissionMatrix.menuRemoved(entity.getId());
 	}
 
 	private Menu toMenu(MenuEntity entity) {
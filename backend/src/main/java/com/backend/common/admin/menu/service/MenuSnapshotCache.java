@@ -0,0 +1,176 @@
+package com.backend.common.admin.menu.service;
+
+import com.backend.common.admin.menu.model.Menu;
+import com.backend.common.admin.menu.model.MenuTreeNode;
+import com.backend.common.auth.permission.RoleKind;
+import com.backend.core.cache.ResourceVersions;
+import com.backend.core.transaction.AfterCommit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 권한 필터링된 메뉴 목록 스냅샷 캐시 (사이트 × 역할)
+ * - 사이트/역할별로 읽기 권한이 있는 활성 메뉴 목록과 권한 기반 메뉴 트리를 함께 보관
+ * - 메뉴 변경은 해당 사이트만, 역할 권한 변경은 해당 역할만 무효화
+ * - 무효화는 트랜잭션 커밋 이후에 반영되며, 무효화와 겹친 조회 결과는 저장하지 않음
+ *
+ * 비회원(GUEST) 역할 ID도 함께 보관하므로 비회원 메뉴 조회는 DB를 거치지 않습니다.
+ * 캐시된 Menu 객체는 여러 요청이 공유하므로 호출하는 쪽에서 수정하면 안 됩니다.
+ * 무효화할 때 메뉴 응답 ETag 버전(ResourceVersions.MENU)도 함께 올리며,
+ * 스냅샷이 먼저 비워진 뒤 ETag가 바뀌도록 버전 증가는 무효화 이후에 등록합니다.
+ *
+ * 다른 노드의 변경은 ResourceVersions가 공유 메뉴 버전의 증가를 발견하면 전체를 비워 반영합니다.
+ * 그 외에 누락된 무효화에 대비해 모든 항목은 app.menu.snapshot-ttl-ms가 지나면 다시 조회하므로,
+ * 다른 노드가 적재한 초기 데이터 이전의 빈 스냅샷이 계속 남는 일이 없습니다.
+ */
+@Component
+public class MenuSnapshotCache {
+
+	/**
+	 * 사이트 × 역할별 조회 결과 (평면 목록 + 트리, 불변)
+	 */
+	public static final class Snapshot {
+		public static final Snapshot EMPTY = new Snapshot(List.of(), List.of());
+
+		private final List<Menu> menus;
+		private final List<MenuTreeNode> tree;
+
+		public Snapshot(List<Menu> menus, List<MenuTreeNode> tree) {
+			this.menus = List.copyOf(menus);
+			this.tree = List.copyOf(tree);
+		}
+
+		public List<Menu> getMenus() { return menus; }
+		public List<MenuTreeNode> getTree() { return tree; }
+	}
+
+	/**
+	 * 만료 시각이 있는 캐시 항목
+	 */
+	private record Entry<T>(T value, long expiresAtMillis) {
+		boolean isExpired(long nowMillis) {
+			return nowMillis >= expiresAtMillis;
+		}
+	}
+
+	// siteId -> (역할 키 -> 스냅샷)
+	private final Map<String, Map<String, Entry<Snapshot>>> snapshots = new ConcurrentHashMap<>();
+	// 무효화될 때마다 증가: 조회 도중 무효화가 일어났으면 결과를 저장하지 않음
+	private final AtomicLong epoch = new AtomicLong();
+	// 비회원 역할 ID (null이면 아직 조회하지 않음, Optional.empty()이면 역할 없음)
+	private volatile Entry<Optional<String>> guestRoleId;
+	private final ResourceVersions resourceVersions;
+	private final long ttlMillis;
+
+	public MenuSnapshotCache(ResourceVersions resourceVersions,
+	                         @Value("${app.menu.snapshot-ttl-ms:60000}") long ttlMillis) {
+		this.resourceVersions = resourceVersions;
+		this.ttlMillis = ttlMillis;
+		// 다른 노드의 변경은 이미 버전이 올라가 있으므로 다시 올리지 않고 비우기만 함
+		resourceVersions.onRemoteChange(ResourceVersions.MENU, this::clear);
+	}
+
+	/**
+	 * 캐시된 스냅샷을 반환하고, 없으면 loader로 조회하여 저장합니다.
+	 */
+	public Snapshot get(String siteId, RoleKind kind, String roleId, Supplier<Snapshot> loader) {
+		String key = kind.name() + ":" + roleId;
+		long nowMillis = System.currentTimeMillis();
+		Map<String, Entry<Snapshot>> bySite = snapshots.get(siteId);
+		if (bySite != null) {
+			Entry<Snapshot> cached = bySite.get(key);
+			if (cached != null && !cached.isExpired(nowMillis)) {
+				return cached.value();
+			}
+		}
+
+		long observed = epoch.get();
+		Snapshot loaded = loader.get();
+		if (epoch.get() == observed) {
+			Entry<Snapshot> entry = new Entry<>(loaded, nowMillis + ttlMillis);
+			snapshots.computeIfAbsent(siteId, k -> new ConcurrentHashMap<>()).put(key, entry);
+			// 저장 직후 무효화가 끼어들었으면 방금 넣은 항목을 되돌림
+			if (epoch.get() != observed) {
+				Map<String, Entry<Snapshot>> current = snapshots.get(siteId);
+				if (current != null) {
+					current.remove(key, entry);
+				}
+			}
+		}
+		return loaded;
+	}
+
+	/**
+	 * 비회원 역할 ID 조회 (보관 시간 안에는 loader를 다시 호출하지 않음)
+	 */
+	public Optional<String> getGuestRoleId(Supplier<Optional<String>> loader) {
+		long nowMillis = System.currentTimeMillis();
+		Entry<Optional<String>> cached = guestRoleId;
+		if (cached != null && !cached.isExpired(nowMillis)) {
+			return cached.value();
+		}
+		long observed = epoch.get();
+		Optional<String> loaded = loader.get();
+		if (epoch.get() == observed) {
+			guestRoleId = new Entry<>(loaded, nowMillis + ttlMillis);
+		}
+		return loaded;
+	}
+
+	/**
+	 * 사이트의 메뉴 구성이 바뀐 경우 (메뉴 생성/수정/삭제, 사이트 삭제)
+	 */
+	public void invalidateSite(String siteId) {
+		AfterCommit.run(() -> {
+			epoch.incrementAndGet();
+			snapshots.remove(siteId);
+		});
+		resourceVersions.bump(ResourceVersions.MENU);
+	}
+
+	/**
+	 * 역할의 메뉴 권한이 바뀐 경우 (모든 사이트에서 해당 역할 항목 제거)
+	 */
+	public void invalidateRole(RoleKind kind, String roleId) {
+		String key = kind.name() + ":" + roleId;
+		AfterCommit.run(() -> {
+			epoch.incrementAndGet();
+			for (Map<String, Entry<Snapshot>> bySite : snapshots.values()) {
+				bySite.remove(key);
+			}
+		});
+		resourceVersions.bump(ResourceVersions.MENU);
+	}
+
+	/**
+	 * 회원 역할이 생성/삭제되어 비회원 역할 ID가 달라질 수 있는 경우
+	 */
+	public void invalidateGuestRole() {
+		AfterCommit.run(() -> {
+			epoch.incrementAndGet();
+			guestRoleId = null;
+		});
+		resourceVersions.bump(ResourceVersions.MENU);
+	}
+
+	/**
+	 * 초기 데이터 생성 등 범위를 특정하기 어려운 변경
+	 */
+	public void invalidateAll() {
+		AfterCommit.run(this::clear);
+		resourceVersions.bump(ResourceVersions.MENU);
+	}
+
+	private void clear() {
+		epoch.incrementAndGet();
+		snapshots.clear();
+		guestRoleId = null;
+	}
+}
@@ -0,0 +1,90 @@
+package com.backend.common.admin.menu.service;
+
+import com.backend.common.admin.menu.model.Menu;
+import com.backend.common.admin.menu.model.MenuTreeNode;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 평면 메뉴 목록을 계층형 트리로 조립
+ * - parentId 기준 해시 인덱스를 한 번 만든 뒤 루트부터 내려가며 조립 (메뉴 수에 비례)
+ * - 형제 메뉴는 displayOrder 순으로 정렬 (null은 0으로 취급)
+ * - 부모가 목록에 없는 메뉴는 루트로 취급하고, 순환 참조에 속한 메뉴는 트리에 포함하지 않음
+ */
+public final class MenuTreeBuilder {
+
+	/**
+	 * 메뉴 표시 순서 비교자 (displayOrder 오름차순, null은 0)
+	 */
+	public static final Comparator<Menu> DISPLAY_ORDER = byDisplayOrder(Menu::getDisplayOrder);
+
+	private MenuTreeBuilder() {
+	}
+
+	/**
+	 * displayOrder 추출 함수로 표시 순서 비교자 생성 (엔티티 등 다른 타입 정렬용)
+	 */
+	public static <T> Comparator<T> byDisplayOrder(Function<T, Integer> displayOrder) {
+		return Comparator.comparingInt(item -> {
+			Integer order = displayOrder.apply(item);
+			return order != null ? order : 0;
+		});
+	}
+
+	/**
+	 * 전체 메뉴를 트리로 조립 (모든 노드를 읽기 가능으로 표시)
+	 */
+	public static List<MenuTreeNode> build(List<Menu> menus) {
+		return build(menus, menu -> true);
+	}
+
+	/**
+	 * 권한 기반 트리 조립
+	 * 읽기 가능한 메뉴와, 읽기 가능한 하위 메뉴를 가진 상위 메뉴만 남깁니다.
+	 */
+	public static List<MenuTreeNode> build(List<Menu> menus, Predicate<Menu> readable) {
+		Set<String> ids = new HashSet<>(menus.size() * 2);
+		for (Menu menu : menus) {
+			ids.add(menu.getId());
+		}
+
+		Map<String, List<Menu>> childrenByParent = new HashMap<>(menus.size() * 2);
+		List<Menu> roots = new ArrayList<>();
+		for (Menu menu : menus) {
+			String parentId = menu.getParentId();
+			if (parentId == null || parentId.isEmpty() || !ids.contains(parentId)) {
+				roots.add(menu);
+			} else {
+				childrenByParent.computeIfAbsent(parentId, k -> new ArrayList<>()).add(menu);
+			}
+		}
+
+		return assemble(roots, childrenByParent, readable);
+	}
+
+	private static List<MenuTreeNode> assemble(List<Menu> siblings, Map<String, List<Menu>> childrenByParent,
+	                                           Predicate<Menu> readable) {
+		siblings.sort(DISPLAY_ORDER);
+		List<MenuTreeNode> nodes = new ArrayList<>(siblings.size());
+		for (Menu menu : siblings) {
+			List<Menu> children = childrenByParent.get(menu.getId());
+			List<MenuTreeNode> childNodes = children != null
+				? assemble(children, childrenByParent, readable)
+				: List.of();
+			boolean canRead = readable.test(menu);
+			// 읽을 수 없는 메뉴는 읽을 수 있는 하위 메뉴가 있을 때만 남김
+			if (canRead || !childNodes.isEmpty()) {
+				nodes.add(new MenuTreeNode(menu, canRead, childNodes));
+			}
+		}
+		return nodes;
+	}
+}
@@ -2,7 +2,8 @@ package com.backend.common.admin.profile.controller;
 
 import com.backend.common.auth.dto.PasswordChangeRequest;
 import com.backend.common.auth.dto.ProfileUpdateRequest;
-import com.backend.common.auth.security.JwtUtil;
+import com.backend.common.auth.security.CurrentUser;
+import com.backend.common.auth.security.JwtPrincipal;
 import com.backend.core.dto.ApiResponse;
 import com.backend.common.user.model.Role;
 import com.backend.common.user.model.User;
@@ -17,7 +18,6 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
-import jakarta.servlet.http.HttpServletRequest;
 
 import java.io.IOException;
 import java.nio.file.Files;
@@ -33,11 +33,9 @@ import java.util.UUID;
 @Tag(name = "08_프로필", description = "관리자 프로필 관리 API")
 public class ProfileController {
 	private final UserService userService;
-	private final JwtUtil jwtUtil;
 
-	public ProfileController(UserService userService, JwtUtil jwtUtil) {
+	public ProfileController(UserService userService) {
 		this.userService = userService;
-		this.jwtUtil = jwtUtil;
 	}
 
 	@Operation(summary = "프로필 조회", description = "현재 로그인한 관리자의 프로필 정보를 조회합니다.")
@@ -47,35 +45,16 @@ public class ProfileController {
 	})
 	@SecurityRequirement(name = "bearerAuth")
 	@GetMapping
-	public ResponseEntity<ApiResponse<User>> getProfile(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization) {
-		if (authorization == null || !authorization.startsWith("Bearer ")) {
-			throw new IllegalArgumentException("인증 토큰이 필요합니다.");
-		}
-		String token = authorization.substring(7);
+	public ResponseEntity<ApiResponse<User>> getProfile(@CurrentUser JwtPrincipal principal) {
+		requireAdmin(principal);
 		
-		try {
-			// 토큰에서 역할 확인
-			String role = jwtUtil.getRole(token);
-			if (!Role.USER.name().equals(role)) {
-				throw new IllegalArgumentException("관리자(USER) 권한이 필요합니다.");
-			}
-			
-			// 토큰에서 사용자명 추출
-			String username = jwtUtil.getUsername(token);
-			User user = userService.findByUsername(username)
-					.orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-			
-			// 비밀번호는 응답에서 제외
-			user.setPassword("");
-			
-			return ResponseEntity.ok(ApiResponse.ok(user));
-		} catch (Exception e) {
-			// JWT 토큰 검증 실패 또는 만료
-			if (e instanceof IllegalArgumentException) {
-				throw e;
-			}
-			throw new IllegalArgumentException("유효하지 않은 토큰입니다. 다시 로그인해주세요.");
-		}
+		User user = userService.findByUsername(principal.getUsername())
+				.orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+		
+		// 비밀번호는 응답에서 제외
+		user.setPassword("");
+		
+		return ResponseEntity.ok(ApiResponse.ok(user));
 	}
 
 	@Operation(summary = "프로필 수정", description = "현재 로그인한 관리자의 프로필 정보(이름, 이메일)를 수정합니다.")
@@ -87,22 +66,11 @@ public class ProfileController {
 	@SecurityRequirement(name = "bearerAuth")
 	@PutMapping
 	public ResponseEntity<ApiResponse<User>> updateProfile(
-			@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization,
+			@CurrentUser JwtPrincipal principal,
 			@Valid @RequestBody ProfileUpdateRequest request) {
-		if (authorization == null || !authorization.startsWith("Bearer ")) {
-			throw new IllegalArgumentException("인증 토큰이 필요합니다.");
-		}
-		String token = authorization.substring(7);
-		
-		// 토큰에서 역할 확인
-		String role = jwtUtil.getRole(token);
-		if (!Role.USER.name().equals(role)) {
-			throw new IllegalArgumentException("관리자(USER) 권한이 필요합니다.");
-		}
+		requireAdmin(principal);
 		
-		// 토큰에서 사용자명 추출
-		String username = jwtUtil.getUsername(token);
-		User user = userService.updateProfile(username, request.getName(), request.getEmail(), request.getAvatarUrl());
+		User user = userService.updateProfile(principal.getUsername(), request.getName(), request.getEmail(), request.getAvatarUrl());
 		
 		// 비밀번호는 응답에서 제외
 		user.setPassword("");
@@ -119,22 +87,11 @@ public class ProfileController {
 	@SecurityRequirement(name = "bearerAuth")
 	@PutMapping("/password")
 	public ResponseEntity<ApiResponse<Void>> changePassword(
-			@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization,
+			@CurrentUser JwtPrincipal principal,
 			@Valid @RequestBody PasswordChangeRequest request) {
-		if (authorization == null || !authorization.startsWith("Bearer ")) {
-			throw new IllegalArgumentException("인증 토큰이 필요합니다.");
-		}
-		String token = authorization.substring(7);
-		
-		// 토큰에서 역할 확인
-		String role = jwtUtil.getRole(token);
-		if (!Role.USER.name().equals(role)) {
-			throw new IllegalArgumentException("관리자(USER) 권한이 필요합니다.");
-		}
+		requireAdmin(principal);
 		
-		// 토큰에서 사용자명 추출
-		String username = jwtUtil.getUsername(token);
-		userService.changePassword(username, request.getCurrentPassword(), request.getNewPassword());
+		userService.changePassword(principal.getUsername(), request.getCurrentPassword(), request.getNewPassword());
 		
 		return ResponseEntity.ok(ApiResponse.ok());
 	}
@@ -148,22 +105,12 @@ public class ProfileController {
 	@SecurityRequirement(name = "bearerAuth")
 	@PostMapping(value = "/avatar", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
 	public ResponseEntity<ApiResponse<Map<String, Object>>> uploadProfileImage(
-			@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization,
+			@CurrentUser JwtPrincipal principal,
 			@RequestPart("file") MultipartFile file) throws IOException {
-		if (authorization == null || !authorization.startsWith("Bearer ")) {
-			throw new IllegalArgumentException("인증 토큰이 필요합니다.");
-		}
-		String token = authorization.substring(7);
+		requireAdmin(principal);
+		String username = principal.getUsername();
 		
 		try {
-			// 토큰에서 역할 확인
-			String role = jwtUtil.getRole(token);
-			if (!Role.USER.name().equals(role)) {
-				throw new IllegalArgumentException("관리자(USER) 권한이 필요합니다.");
-			}
-			
-			// 토큰에서 사용자명 추출
-			String username = jwtUtil.getUsername(token);
 			User user = userService.findByUsername(username)
 					.orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 			
@@ -206,11 +153,10 @@ public class ProfileController {
 				"size", file.getSize()
 			)));
 		} catch (Exception e) {
-			// JWT 토큰 검증 실패 또는 만료
 			if (e instanceof IllegalArgumentException) {
 				throw e;
 			}
-			throw new IllegalArgumentException("유효하지 않은 토큰입니다. 다시 로그인해주세요.");
+			throw new IllegalArgumentException("프로필 이미지를 저장할 수 없습니다.");
 		}
 	}
 
@@ -223,32 +169,17 @@ public class ProfileController {
 	public ResponseEntity<org.springframework.core.io.Resource> getProfileImage(
 			@PathVariable("userId") String userId,
 			@PathVariable("filename") String filename,
-			HttpServletRequest request) {
+			@CurrentUser(required = false) JwtPrincipal principal) {
 		
-		// Authorization 헤더가 있으면 토큰 검증 수행
-		String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
-		if (authorization != null && authorization.startsWith("Bearer ")) {
-			String token = authorization.substring(7);
-			try {
-				// 토큰에서 역할 확인
-				String role = jwtUtil.getRole(token);
-				if (!Role.USER.name().equals(role)) {
-					throw new IllegalArgumentException("관리자(USER) 권한이 필요합니다.");
-				}
-				
-				// 토큰에서 사용자명 추출하여 userId와 일치하는지 확인 (선택적 검증)
-				String username = jwtUtil.getUsername(token);
-				User user = userService.findByUsername(username)
-						.orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-				// userId가 토큰의 사용자 ID와 일치하는지 확인 (보안 강화)
-				if (!user.getId().equals(userId)) {
-					throw new IllegalArgumentException("다른 사용자의 프로필 이미지는 조회할 수 없습니다.");
-				}
-			} catch (IllegalArgumentException e) {
-				throw e;
-			} catch (Exception e) {
-				// 토큰 검증 실패 시에도 이미지 조회는 허용 (브라우저에서 직접 접근 가능하도록)
-				// 하지만 파일 경로에 userId가 포함되어 있으므로 보안상 문제는 없음
+		// 인증된 요청이면 토큰의 사용자와 userId가 일치하는지 확인
+		if (principal != null) {
+			requireAdmin(principal);
+			
+			User user = userService.findByUsername(principal.getUsername())
+					.orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+			// userId가 토큰의 사용자 ID와 일치하는지 확인 (보안 강화)
+			if (!user.getId().equals(userId)) {
+				throw new IllegalArgumentException("다른 사용자의 프로필 이미지는 조회할 수 없습니다.");
 			}
 		}
 		
@@ -309,5 +240,10 @@ public class ProfileController {
 			throw new IllegalArgumentException("이미지를 불러오는 중 오류가 발생했습니다: " + e.getMessage());
 		}
 	}
-}
 
+	private void requireAdmin(JwtPrincipal principal) {
+		if (!Role.USER.name().equals(principal.getRole())) {
+			throw new IllegalArgumentException("관리자(USER) 권한이 필요합니다.");
+		}
+	}
+}
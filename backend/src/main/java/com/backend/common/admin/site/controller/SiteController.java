@@ -1,10 +1,15 @@
 package com.backend.common.admin.site.controller;
 
+import com.backend.core.cache.ConditionalResponses;
+import com.backend.core.cache.ResourceVersions;
 import com.backend.core.dto.ApiResponse;
 import com.backend.common.admin.site.dto.SiteCreateRequest;
 import com.backend.common.admin.site.dto.SiteUpdateRequest;
 import com.backend.common.admin.site.model.Site;
 import com.backend.common.admin.site.service.SiteService;
+import com.backend.common.auth.permission.MenuPermissionType;
+import com.backend.common.auth.permission.RequireMenuPermission;
+import com.backend.core.constants.Constants;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
@@ -16,6 +21,7 @@ import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -24,9 +30,17 @@ import java.util.List;
 @Tag(name = "06_사이트", description = "사이트 CRUD 관리 API")
 public class SiteController {
 	private final SiteService siteService;
+	private final ResourceVersions resourceVersions;
+	private final ConditionalResponses conditionalResponses;
 
-	public SiteController(SiteService siteService) {
+	public SiteController(
+		SiteService siteService,
+		ResourceVersions resourceVersions,
+		ConditionalResponses conditionalResponses
+	) {
 		this.siteService = siteService;
+		this.resourceVersions = resourceVersions;
+		this.conditionalResponses = conditionalResponses;
 	}
 
 	@Operation(
@@ -54,6 +68,7 @@ public class SiteController {
 						    {
 						      "id": "site-id-1",
 						      "siteType": "C001",
+						      "siteTypeNm": "관리자",
 						      "siteName": "통합관리시스템",
 						      "description": "통합 관리 시스템",
 						      "contextPath": "admin",
@@ -68,8 +83,9 @@ public class SiteController {
 		)
 	})
 	@GetMapping
-	public ResponseEntity<ApiResponse<List<Site>>> list() {
-		return ResponseEntity.ok(ApiResponse.ok(siteService.listSites()));
+	public ResponseEntity<ApiResponse<List<Site>>> list(WebRequest webRequest) {
+		return conditionalResponses.ok(webRequest, resourceVersions.etag(ResourceVersions.SITE, ResourceVersions.CMN_CD),
+			conditionalResponses.shared(), () -> siteService.listSites());
 	}
 
 	@Operation(
@@ -130,12 +146,13 @@ public class SiteController {
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "사이트를 찾을 수 없음")
 	})
 	@GetMapping("/context-path/{contextPath}")
-	public ResponseEntity<ApiResponse<Site>> getByContextPath(@PathVariable("contextPath") String contextPath) {
+	public ResponseEntity<ApiResponse<Site>> getByContextPath(@PathVariable("contextPath") String contextPath,
+	                                                          WebRequest webRequest) {
 		// 빈 문자열인 경우 URL 인코딩된 값으로 처리
 		String decodedContextPath = contextPath.equals("root") ? "" : contextPath;
-		return siteService.findByContextPath(decodedContextPath)
-				.map(site -> ResponseEntity.ok(ApiResponse.ok(site)))
-				.orElseThrow(() -> new IllegalArgumentException("사이트를 찾을 수 없습니다: " + contextPath));
+		return conditionalResponses.ok(webRequest, resourceVersions.etag(ResourceVersions.SITE, ResourceVersions.CMN_CD),
+			conditionalResponses.shared(), () -> siteService.findByContextPath(decodedContextPath)
+				.orElseThrow(() -> new IllegalArgumentException("사이트를 찾을 수 없습니다: " + contextPath)));
 	}
 
 	@Operation(
@@ -188,7 +205,7 @@ public class SiteController {
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 부족")
 	})
 	@SecurityRequirement(name = "bearerAuth")
-	@PreAuthorize("hasRole('USER')")
+	@RequireMenuPermission(menu = Constants.MENU_ADMIN_SITES, action = MenuPermissionType.CREATE)
 	@PostMapping
 	public ResponseEntity<ApiResponse<Site>> create(@Valid @org.springframework.web.bind.annotation.RequestBody SiteCreateRequest request) {
 		return ResponseEntity.ok(ApiResponse.ok(siteService.createSite(request)));
@@ -202,7 +219,7 @@ public class SiteController {
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 부족")
 	})
 	@SecurityRequirement(name = "bearerAuth")
-	@PreAuthorize("hasRole('USER')")
+	@RequireMenuPermission(menu = Constants.MENU_ADMIN_SITES, action = MenuPermissionType.UPDATE)
 	@PutMapping("/{id}")
 	public ResponseEntity<ApiResponse<Site>> update(@PathVariable("id") String id, 
 	                                                @Valid @RequestBody SiteUpdateRequest request) {
@@ -217,7 +234,7 @@ public class SiteController {
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 부족")
 	})
 	@SecurityRequirement(name = "bearerAuth")
-	@PreAuthorize("hasRole('USER')")
+	@RequireMenuPermission(menu = Constants.MENU_ADMIN_SITES, action = MenuPermissionType.DELETE)
 	@DeleteMapping("/{id}")
 	public ResponseEntity<ApiResponse<Void>> delete(@PathVariable("id") String id) {
 		siteService.deleteSite(id);
@@ -1,5 +1,6 @@
 package com.backend.common.admin.site.model;
 
+import com.backend.common.admin.cmnCd.json.CmnCdLabel;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 
@@ -8,8 +9,9 @@ public class Site {
 	@Schema(description = "사이트 ID", example = "site-id-123")
 	private String id;
 	
-	@Schema(description = "사이트 타입 코드", example = "C001")
+	@Schema(description = "사이트 타입 코드 (응답에는 코드명 siteTypeNm이 함께 포함됨)", example = "C001")
 	@NotBlank
+	@CmnCdLabel(parent = "P001")
 	private String siteType;
 	
 	@Schema(description = "사이트명", example = "통합관리시스템")
@@ -1,17 +1,16 @@
 package com.backend.common.admin.site.service;
 
+import com.backend.common.admin.menu.service.MenuSnapshotCache;
 import com.backend.common.admin.site.dto.SiteCreateRequest;
 import com.backend.common.admin.site.dto.SiteUpdateRequest;
 import com.backend.common.admin.site.entity.SiteEntity;
 import com.backend.common.admin.site.model.Site;
 import com.backend.common.admin.site.repository.SiteRepository;
-import com.backend.core.constants.Constants;
+import com.backend.core.cache.ResourceVersions;
 import com.backend.core.exception.DuplicateResourceException;
 import com.backend.core.exception.ResourceNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.boot.context.event.ApplicationReadyEvent;
-import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,39 +22,17 @@ import java.util.stream.Collectors;
 public class SiteService {
 	private static final Logger logger = LoggerFactory.getLogger(SiteService.class);
 	private final SiteRepository siteRepository;
+	private final MenuSnapshotCache menuSnapshotCache;
+	private final ResourceVersions resourceVersions;
 
-	public SiteService(SiteRepository siteRepository) {
+	public SiteService(
+		SiteRepository siteRepository,
+		MenuSnapshotCache menuSnapshotCache,
+		ResourceVersions resourceVersions
+	) {
 		this.siteRepository = siteRepository;
-	}
-
-	@EventListener(ApplicationReadyEvent.class)
-	@Transactional
-	public void init() {
-		logger.info("초기 사이트 데이터 생성 시작");
-		// 통합관리시스템 (admin)
-		if (!siteRepository.existsByContextPath(Constants.CONTEXT_PATH_ADMIN)) {
-			siteRepository.save(new SiteEntity(
-				Constants.SITE_TYPE_ADMIN, 
-				"통합관리시스템", 
-				"통합 관리 시스템", 
-				Constants.CONTEXT_PATH_ADMIN, 
-				Constants.DEFAULT_VERSION
-			));
-			logger.info("통합관리시스템 사이트 생성 완료");
-		}
-
-		// 통합홈페이지 (root)
-		if (!siteRepository.existsByContextPath(Constants.CONTEXT_PATH_ROOT)) {
-			siteRepository.save(new SiteEntity(
-				Constants.SITE_TYPE_PORTAL, 
-				"통합홈페이지", 
-				"통합 홈페이지", 
-				Constants.CONTEXT_PATH_ROOT, 
-				Constants.DEFAULT_VERSION
-			));
-			logger.info("통합홈페이지 사이트 생성 완료");
-		}
-		logger.info("초기 사이트 데이터 생성 완료");
+		this.menuSnapshotCache = menuSnapshotCache;
+		this.resourceVersions = resourceVersions;
 	}
 
 	@Transactional(readOnly = true)
@@ -101,6 +78,7 @@ public class SiteService {
 		);
 		SiteEntity saved = siteRepository.save(entity);
 		logger.info("사이트 생성 완료: id={}, siteName={}", saved.getId(), request.getSiteName());
+		resourceVersions.bump(ResourceVersions.SITE);
 		return toSite(saved);
 	}
 
@@ -128,6 +106,7 @@ public class SiteService {
 		
 		SiteEntity saved = siteRepository.save(entity);
 		logger.info("사이트 정보 수정 완료: id={}", id);
+		resourceVersions.bump(ResourceVersions.SITE);
 		return toSite(saved);
 	}
 
@@ -138,6 +117,8 @@ public class SiteService {
 			throw new ResourceNotFoundException("사이트", id);
 		}
 		siteRepository.deleteById(id);
+		resourceVersions.bump(ResourceVersions.SITE);
+		menuSnapshotCache.invalidateSite(id);
 		logger.info("사이트 삭제 완료: id={}", id);
 	}
 
@@ -1,10 +1,17 @@
 package com.backend.common.admin.userRole.controller;
 
+import com.backend.core.cache.ConditionalResponses;
+import com.backend.core.cache.ResourceVersions;
 import com.backend.core.dto.ApiResponse;
 import com.backend.common.admin.userRole.dto.UserRoleCreateRequest;
+import com.backend.common.admin.userRole.dto.UserRolePermissionCloneRequest;
 import com.backend.common.admin.userRole.dto.UserRoleUpdateRequest;
 import com.backend.common.admin.userRole.model.UserRole;
 import com.backend.common.admin.userRole.service.UserRoleService;
+import com.backend.common.admin.userRoleMenu.service.UserRoleMenuService;
+import com.backend.common.auth.permission.MenuPermissionType;
+import com.backend.common.auth.permission.RequireMenuPermission;
+import com.backend.core.constants.Constants;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -13,6 +20,7 @@ import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -21,9 +29,20 @@ import java.util.List;
 @Tag(name = "11_사용자역할", description = "사용자 역할(USER_ROLE) 관리 API")
 public class UserRoleController {
 	private final UserRoleService userRoleService;
+	private final UserRoleMenuService userRoleMenuService;
+	private final ResourceVersions resourceVersions;
+	private final ConditionalResponses conditionalResponses;
 
-	public UserRoleController(UserRoleService userRoleService) {
+	public UserRoleController(
+		UserRoleService userRoleService,
+		UserRoleMenuService userRoleMenuService,
+		ResourceVersions resourceVersions,
+		ConditionalResponses conditionalResponses
+	) {
 		this.userRoleService = userRoleService;
+		this.userRoleMenuService = userRoleMenuService;
+		this.resourceVersions = resourceVersions;
+		this.conditionalResponses = conditionalResponses;
 	}
 
 	@Operation(summary = "역할 목록 조회", description = "전체 역할 목록을 조회합니다. 관리자(USER) 권한이 필요합니다.")
@@ -35,8 +54,9 @@ public class UserRoleController {
 	@SecurityRequirement(name = "bearerAuth")
 	@PreAuthorize("hasRole('USER')")
 	@GetMapping
-	public ResponseEntity<ApiResponse<List<UserRole>>> list() {
-		return ResponseEntity.ok(ApiResponse.ok(userRoleService.listUserRoles()));
+	public ResponseEntity<ApiResponse<List<UserRole>>> list(WebRequest webRequest) {
+		return conditionalResponses.ok(webRequest, resourceVersions.etag(ResourceVersions.USER_ROLE),
+			conditionalResponses.revalidate(), () -> userRoleService.listUserRoles());
 	}
 
 	@Operation(summary = "활성화된 역할 목록 조회", description = "활성화된 역할 목록만 조회합니다. 인증이 필요합니다.")
@@ -46,8 +66,9 @@ public class UserRoleController {
 	})
 	@SecurityRequirement(name = "bearerAuth")
 	@GetMapping("/enabled")
-	public ResponseEntity<ApiResponse<List<UserRole>>> listEnabled() {
-		return ResponseEntity.ok(ApiResponse.ok(userRoleService.listEnabledUserRoles()));
+	public ResponseEntity<ApiResponse<List<UserRole>>> listEnabled(WebRequest webRequest) {
+		return conditionalResponses.ok(webRequest, resourceVersions.etag(ResourceVersions.USER_ROLE),
+			conditionalResponses.revalidate(), () -> userRoleService.listEnabledUserRoles());
 	}
 
 	@Operation(summary = "역할 조회", description = "ID로 역할 정보를 조회합니다. 관리자(USER) 권한이 필요합니다.")
@@ -90,7 +111,7 @@ public class UserRoleController {
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 부족")
 	})
 	@SecurityRequirement(name = "bearerAuth")
-	@PreAuthorize("hasRole('USER')")
+	@RequireMenuPermission(menu = Constants.MENU_ADMIN_USER_ROLES, action = MenuPermissionType.CREATE)
 	@PostMapping
 	public ResponseEntity<ApiResponse<UserRole>> create(@Valid @RequestBody UserRoleCreateRequest request) {
 		return ResponseEntity.ok(ApiResponse.ok(userRoleService.createUserRole(request)));
@@ -104,7 +125,7 @@ public class UserRoleController {
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 부족")
 	})
 	@SecurityRequirement(name = "bearerAuth")
-	@PreAuthorize("hasRole('USER')")
+	@RequireMenuPermission(menu = Constants.MENU_ADMIN_USER_ROLES, action = MenuPermissionType.UPDATE)
 	@PutMapping("/{id}")
 	public ResponseEntity<ApiResponse<UserRole>> update(@PathVariable("id") String id,
 	                                                   @Valid @RequestBody UserRoleUpdateRequest request) {
@@ -119,11 +140,25 @@ public class UserRoleController {
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 부족")
 	})
 	@SecurityRequirement(name = "bearerAuth")
-	@PreAuthorize("hasRole('USER')")
+	@RequireMenuPermission(menu = Constants.MENU_ADMIN_USER_ROLES, action = MenuPermissionType.DELETE)
 	@DeleteMapping("/{id}")
 	public ResponseEntity<ApiResponse<Void>> delete(@PathVariable("id") String id) {
 		userRoleService.deleteUserRole(id);
 		return ResponseEntity.ok(ApiResponse.ok());
 	}
-}
 
+	@Operation(summary = "역할 메뉴 권한 복사", description = "원본 역할의 메뉴 권한을 이 역할로 복사합니다. 이 역할의 기존 권한은 대체되며, siteId를 지정하면 해당 사이트 메뉴만 복사합니다. 관리자(USER) 권한이 필요합니다.")
+	@ApiResponses(value = {
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "복사 성공 (복사된 권한 수)"),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청 또는 역할을 찾을 수 없음"),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 필요"),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 부족")
+	})
+	@SecurityRequirement(name = "bearerAuth")
+	@RequireMenuPermission(menu = Constants.MENU_ADMIN_USER_ROLES, action = MenuPermissionType.UPDATE)
+	@PostMapping("/{id}/permissions/clone")
+	public ResponseEntity<ApiResponse<Integer>> clonePermissions(@PathVariable("id") String id,
+	                                                            @Valid @RequestBody UserRolePermissionCloneRequest request) {
+		return ResponseEntity.ok(ApiResponse.ok(userRoleMenuService.clonePermissions(id, request.getSourceRoleId(), request.getSiteId())));
+	}
+}
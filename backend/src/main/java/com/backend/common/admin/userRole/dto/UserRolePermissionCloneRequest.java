@@ -0,0 +1,16 @@
+package com.backend.common.admin.userRole.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public class UserRolePermissionCloneRequest {
+	@NotBlank(message = "원본 역할 ID는 필수입니다.")
+	private String sourceRoleId;
+	
+	// 지정하면 해당 사이트의 메뉴 권한만 복사
+	private String siteId;
+	
+	public String getSourceRoleId() { return sourceRoleId; }
+	public void setSourceRoleId(String sourceRoleId) { this.sourceRoleId = sourceRoleId; }
+	public String getSiteId() { return siteId; }
+	public void setSiteId(String siteId) { this.siteId = siteId; }
+}
@@ -1,12 +1,13 @@
 package com.backend.common.admin.userRole.service;
 
+import com.backend.common.admin.menu.service.MenuSnapshotCache;
 import com.backend.common.admin.userRole.dto.UserRoleCreateRequest;
 import com.backend.common.admin.userRole.dto.UserRoleUpdateRequest;
 import com.backend.common.admin.userRole.entity.UserRoleEntity;
 import com.backend.common.admin.userRole.model.UserRole;
 import com.backend.common.admin.userRole.repository.UserRoleRepository;
-import org.springframework.boot.context.event.ApplicationReadyEvent;
-import org.springframework.context.event.EventListener;
+import com.backend.common.auth.permission.RoleKind;
+import com.backend.core.cache.ResourceVersions;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,26 +19,17 @@ import java.util.stream.Collectors;
 @Transactional
 public class UserRoleService {
 	private final UserRoleRepository userRoleRepository;
-
-	public UserRoleService(UserRoleRepository userRoleRepository) {
+	private final MenuSnapshotCache menuSnapshotCache;
+	private final ResourceVersions resourceVersions;
+
+	public UserRoleService(
+		UserRoleRepository userRoleRepository,
+		MenuSnapshotCache menuSnapshotCache,
+		ResourceVersions resourceVersions
+	) {
 		this.userRoleRepository = userRoleRepository;
-	}
-
-	@EventListener(ApplicationReadyEvent.class)
-	public void init() {
-		// 초기 역할 데이터 생성 (이미 존재하면 생성하지 않음)
-		if (!userRoleRepository.existsByRoleCd("ADMIN")) {
-			userRoleRepository.save(new UserRoleEntity("ADMIN", "최고 관리자", "모든 권한을 가진 최고 관리자"));
-		}
-		if (!userRoleRepository.existsByRoleCd("MANAGER")) {
-			userRoleRepository.save(new UserRoleEntity("MANAGER", "관리자", "사이트, 메뉴, 사용자 관리 권한"));
-		}
-		if (!userRoleRepository.existsByRoleCd("OPERATOR")) {
-			userRoleRepository.save(new UserRoleEntity("OPERATOR", "운영자", "파일, 로그 관리 권한"));
-		}
-		if (!userRoleRepository.existsByRoleCd("MEMBER")) {
-			userRoleRepository.save(new UserRoleEntity("MEMBER", "일반 사용자", "일반 사용자 권한"));
-		}
+		this.menuSnapshotCache = menuSnapshotCache;
+		this.resourceVersions = resourceVersions;
 	}
 
 	public List<UserRole> listUserRoles() {
@@ -77,6 +69,7 @@ public class UserRoleService {
 		}
 
 		UserRoleEntity saved = userRoleRepository.save(entity);
+		resourceVersions.bump(ResourceVersions.USER_ROLE);
 		return toUserRole(saved);
 	}
 
@@ -91,6 +84,7 @@ public class UserRoleService {
 		}
 
 		UserRoleEntity saved = userRoleRepository.save(entity);
+		resourceVersions.bump(ResourceVersions.USER_ROLE);
 		return toUserRole(saved);
 	}
 
@@ -100,6 +94,8 @@ public class UserRoleService {
 
 		// TODO: 해당 역할을 사용하는 사용자가 있는지 확인 후 삭제 제한 필요
 		userRoleRepository.deleteById(id);
+		resourceVersions.bump(ResourceVersions.USER_ROLE);
+		menuSnapshotCache.invalidateRole(RoleKind.USER, id);
 	}
 
 	private UserRole toUserRole(UserRoleEntity entity) {
@@ -4,6 +4,9 @@ import com.backend.core.dto.ApiResponse;
 import com.backend.common.admin.userRoleMenu.dto.MenuPermissionResponse;
 import com.backend.common.admin.userRoleMenu.dto.UserRoleMenuRequest;
 import com.backend.common.admin.userRoleMenu.service.UserRoleMenuService;
+import com.backend.common.auth.permission.MenuPermissionType;
+import com.backend.common.auth.permission.RequireMenuPermission;
+import com.backend.core.constants.Constants;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -23,7 +26,7 @@ public class UserRoleMenuController {
 		this.userRoleMenuService = userRoleMenuService;
 	}
 
-	@Operation(summary = "역할별 메뉴 권한 조회", description = "특정 역할의 메뉴 권한 목록을 조회합니다. 관리자(USER) 권한이 필요합니다.")
+	@Operation(summary = "역할별 메뉴 권한 조회", description = "특정 역할의 메뉴 권한 목록을 조회합니다. siteId를 지정하면 해당 사이트 메뉴만 조회합니다. 관리자(USER) 권한이 필요합니다.")
 	@ApiResponses(value = {
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "역할을 찾을 수 없음"),
@@ -33,8 +36,9 @@ public class UserRoleMenuController {
 	@SecurityRequirement(name = "bearerAuth")
 	@PreAuthorize("hasRole('USER')")
 	@GetMapping("/role/{userRoleId}")
-	public ResponseEntity<ApiResponse<MenuPermissionResponse>> getMenuPermissions(@PathVariable("userRoleId") String userRoleId) {
-		return ResponseEntity.ok(ApiResponse.ok(userRoleMenuService.getMenuPermissions(userRoleId)));
+	public ResponseEntity<ApiResponse<MenuPermissionResponse>> getMenuPermissions(@PathVariable("userRoleId") String userRoleId,
+	                                                                         @RequestParam(value = "siteId", required = false) String siteId) {
+		return ResponseEntity.ok(ApiResponse.ok(userRoleMenuService.getMenuPermissions(userRoleId, siteId)));
 	}
 
 	@Operation(summary = "역할별 메뉴 권한 저장", description = "특정 역할의 메뉴 권한을 저장합니다. 관리자(USER) 권한이 필요합니다.")
@@ -45,7 +49,7 @@ public class UserRoleMenuController {
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 부족")
 	})
 	@SecurityRequirement(name = "bearerAuth")
-	@PreAuthorize("hasRole('USER')")
+	@RequireMenuPermission(menu = Constants.MENU_ADMIN_USER_ROLES, action = MenuPermissionType.UPDATE)
 	@PostMapping
 	public ResponseEntity<ApiResponse<Void>> saveMenuPermissions(@Valid @RequestBody UserRoleMenuRequest request) {
 		userRoleMenuService.saveMenuPermissions(request);
@@ -9,7 +9,7 @@ public class UserRoleMenuEntity {
 	@Id
 	@GeneratedValue(strategy = GenerationType.UUID)
 	@Column(name = "USER_ROLE_MENU_ID")
-	@org.hibernate.annotations.Comment("관리자 역할 메뉴 고유 식별자 (UUID 형식)")
+	@org.hibernate.annotations.Comment("관리자 역할 메뉴 고유 식별자 (UUID 형식, 역할 권한 복사로 만든 행은 \"역할 ID:메뉴 ID\")")
 	private String id;
 
 	@Column(name = "USER_ROLE_ID", nullable = false)
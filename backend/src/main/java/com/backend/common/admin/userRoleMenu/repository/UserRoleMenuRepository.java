@@ -1,7 +1,11 @@
 package com.backend.common.admin.userRoleMenu.repository;
 
+import com.backend.common.admin.userRoleMenu.dto.MenuPermissionResponse;
 import com.backend.common.admin.userRoleMenu.entity.UserRoleMenuEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -17,6 +21,62 @@ public interface UserRoleMenuRepository extends JpaRepository<UserRoleMenuEntity
 	List<UserRoleMenuEntity> findByMenuId(String menuId);
 	Optional<UserRoleMenuEntity> findByUserRoleIdAndMenuId(String userRoleId, String menuId);
 	boolean existsByUserRoleIdAndMenuId(String userRoleId, String menuId);
+	boolean existsByUserRoleId(String userRoleId);
 	void deleteByUserRoleId(String userRoleId);
+
+	/**
+	 * 활성 메뉴 목록과 역할의 활성 권한을 LEFT JOIN으로 한 번에 조회 (엔티티를 만들지 않고 응답 항목으로 바로 생성)
+	 * siteId가 null이면 전체 사이트, 정렬은 사이트 → 표시 순서
+	 */
+	@Query("select new com.backend.common.admin.userRoleMenu.dto.MenuPermissionResponse$MenuPermissionItem(" +
+		"m.id, coalesce(m.siteId, ''), m.name, m.url, m.parentId, m.displayOrder, " +
+		"case when p.permRead = 'Y' then true else false end, " +
+		"case when p.permCreate = 'Y' then true else false end, " +
+		"case when p.permUpdate = 'Y' then true else false end, " +
+		"case when p.permDelete = 'Y' then true else false end, " +
+		"case when p.permDownload = 'Y' then true else false end, " +
+		"case when p.permAll = 'Y' then true else false end) " +
+		"from MenuEntity m " +
+		"left join UserRoleMenuEntity p on p.menuId = m.id and p.userRoleId = :userRoleId and p.enabled = 'Y' " +
+		"where m.enabled = true and (:siteId is null or m.siteId = :siteId) " +
+		"order by m.siteId, m.displayOrder, m.id")
+	List<MenuPermissionResponse.MenuPermissionItem> findMenuPermissionItems(@Param("userRoleId") String userRoleId,
+	                                                                          @Param("siteId") String siteId);
+
+	/**
+	 * 역할의 메뉴 권한 삭제 (siteId가 null이면 전체, 아니면 해당 사이트 메뉴만)
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query(value = "DELETE FROM \"USER_ROLE_MENU\" WHERE \"USER_ROLE_ID\" = :roleId AND " +
+		"(CAST(:siteId AS VARCHAR) IS NULL OR \"MENU_ID\" IN (SELECT m.\"MENU_ID\" FROM \"MENUS\" m WHERE m.\"SITE_ID\" = CAST(:siteId AS VARCHAR)))", nativeQuery = true)
+	int deleteByUserRoleIdAndSiteId(@Param("roleId") String roleId, @Param("siteId") String siteId);
+
+	/**
+	 * 메뉴 경로 접두어에 해당하는 메뉴(자신 포함 하위 메뉴 전체)의 권한 행 삭제 (하위 메뉴 일괄 삭제 전에 호출)
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("delete from UserRoleMenuEntity p where p.menuId in " +
+		"(select m.id from MenuEntity m where m.path like concat(:pathPrefix, '%'))")
+	int deleteByMenuPathPrefix(@Param("pathPrefix") String pathPrefix);
+
+	/**
+	 * 원본 역할의 메뉴 권한 행을 대상 역할로 복사 (INSERT ... SELECT 한 문장)
+	 * siteId가 null이면 전체, 아니면 해당 사이트 메뉴만 복사합니다.
+	 * - 활성 행만 복사하며, 같은 메뉴의 중복 행은 권한을 합쳐(MAX: 'Y' > 'N') 한 행으로 만듭니다.
+	 * - ID는 DB별 UUID 함수(gen_random_uuid 등)에 의존하지 않도록 "대상 역할 ID:메뉴 ID"로 만듭니다.
+	 *   복사 전에 대상 역할의 같은 메뉴 행을 지우므로(deleteBy...AndSiteId) 충돌하지 않습니다.
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query(value = "INSERT INTO \"USER_ROLE_MENU\" (\"USER_ROLE_MENU_ID\", \"USER_ROLE_ID\", \"MENU_ID\", " +
+		"\"PERM_READ\", \"PERM_CREATE\", \"PERM_UPDATE\", \"PERM_DELETE\", " +
+		"\"PERM_DOWNLOAD\", \"PERM_ALL\", \"USE_YN\") " +
+		"SELECT CONCAT(CAST(:targetRoleId AS VARCHAR), ':', s.\"MENU_ID\"), :targetRoleId, s.\"MENU_ID\", " +
+		"MAX(s.\"PERM_READ\"), MAX(s.\"PERM_CREATE\"), MAX(s.\"PERM_UPDATE\"), MAX(s.\"PERM_DELETE\"), " +
+		"MAX(s.\"PERM_DOWNLOAD\"), MAX(s.\"PERM_ALL\"), 'Y' " +
+		"FROM \"USER_ROLE_MENU\" s WHERE s.\"USER_ROLE_ID\" = :sourceRoleId AND s.\"USE_YN\" = 'Y' AND " +
+		"(CAST(:siteId AS VARCHAR) IS NULL OR s.\"MENU_ID\" IN (SELECT m.\"MENU_ID\" FROM \"MENUS\" m WHERE m.\"SITE_ID\" = CAST(:siteId AS VARCHAR))) " +
+		"GROUP BY s.\"MENU_ID\"", nativeQuery = true)
+	int copyPermissions(@Param("sourceRoleId") String sourceRoleId, @Param("targetRoleId") String targetRoleId,
+	                    @Param("siteId") String siteId);
 }
 
@@ -3,9 +3,15 @@ package com.backend.common.auth.controller;
 import com.backend.common.auth.dto.LoginRequest;
 import com.backend.common.auth.dto.LoginResponse;
 import com.backend.common.auth.dto.RefreshTokenRequest;
+import com.backend.common.auth.security.CurrentUser;
+import com.backend.common.auth.security.JwtClaims;
+import com.backend.common.auth.security.JwtPrincipal;
 import com.backend.common.auth.security.JwtUtil;
+import com.backend.common.auth.security.LoginAttemptThrottler;
+import com.backend.common.auth.security.PasswordHashExecutor;
 import com.backend.common.auth.security.RefreshTokenService;
 import com.backend.common.auth.security.TokenBlacklistService;
+import com.backend.common.auth.security.TokenVersionService;
 import com.backend.core.dto.ApiResponse;
 import com.backend.common.user.model.Role;
 import com.backend.common.user.model.User;
@@ -17,17 +23,16 @@ import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.HashMap;
 import java.util.Map;
 
 @RestController
@@ -39,19 +44,24 @@ public class AuthController {
 	private final JwtUtil jwtUtil;
 	private final TokenBlacklistService tokenBlacklistService;
 	private final RefreshTokenService refreshTokenService;
-	private final PasswordEncoder passwordEncoder;
+	private final PasswordHashExecutor passwordHashExecutor;
+	private final LoginAttemptThrottler loginAttemptThrottler;
 	private final MemberService memberService;
+	private final TokenVersionService tokenVersionService;
 	private static final long REFRESH_TOKEN_VALIDITY_SECONDS = 86400 * 7; // 7일
 
 	public AuthController(UserService userService, JwtUtil jwtUtil, TokenBlacklistService tokenBlacklistService,
-	                      RefreshTokenService refreshTokenService, PasswordEncoder passwordEncoder,
-	                      MemberService memberService) {
+	                      RefreshTokenService refreshTokenService, PasswordHashExecutor passwordHashExecutor,
+	                      LoginAttemptThrottler loginAttemptThrottler,
+	                      MemberService memberService, TokenVersionService tokenVersionService) {
 		this.userService = userService;
 		this.jwtUtil = jwtUtil;
 		this.tokenBlacklistService = tokenBlacklistService;
 		this.refreshTokenService = refreshTokenService;
-		this.passwordEncoder = passwordEncoder;
+		this.passwordHashExecutor = passwordHashExecutor;
+		this.loginAttemptThrottler = loginAttemptThrottler;
 		this.memberService = memberService;
+		this.tokenVersionService = tokenVersionService;
 	}
 
 	@Operation(
@@ -104,28 +114,25 @@ public class AuthController {
 						"""
 				)
 			)
+		),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(
+			responseCode = "503", 
+			description = "로그인 요청 폭주로 일시적으로 처리 불가 (Retry-After 헤더 참고)"
+		),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(
+			responseCode = "429", 
+			description = "로그인 실패 횟수 초과 (사용자명/IP 기준, Retry-After 헤더 참고)"
 		)
 	})
 	@PostMapping("/login/user")
-	public ResponseEntity<ApiResponse<LoginResponse>> loginUser(@Valid @RequestBody LoginRequest req) {
-		User user = userService.findByUsername(req.getUsername())
-				.filter(u -> passwordEncoder.matches(req.getPassword(), u.getPassword()))
-				.filter(u -> u.getRole() == Role.MEMBER)
-				.orElseThrow(() -> new IllegalArgumentException("invalid credentials or insufficient privileges"));
+	public ResponseEntity<ApiResponse<LoginResponse>> loginUser(@Valid @RequestBody LoginRequest req,
+	                                                            HttpServletRequest request) {
+		User user = authenticate(req, Role.MEMBER, request.getRemoteAddr());
 
 		// MEMBERS 테이블 기준 마지막 로그인 일시 업데이트
 		memberService.updateLastLogin(user.getUsername());
 
-		// Access Token 생성
-		String accessToken = jwtUtil.generateToken(user.getUsername(), Map.of("role", user.getRole().name()));
-		
-		// Refresh Token 생성
-		String refreshToken = jwtUtil.generateRefreshToken(user.getUsername(), REFRESH_TOKEN_VALIDITY_SECONDS);
-		
-		// Refresh Token 저장
-		refreshTokenService.saveRefreshToken(user.getUsername(), refreshToken);
-		
-		return ResponseEntity.ok(ApiResponse.ok(new LoginResponse(accessToken, refreshToken)));
+		return ResponseEntity.ok(ApiResponse.ok(issueTokens(user, req.getDeviceId())));
 	}
 
 	@Operation(
@@ -166,25 +173,22 @@ public class AuthController {
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(
 			responseCode = "400", 
 			description = "잘못된 인증 정보 또는 권한 부족"
+		),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(
+			responseCode = "503", 
+			description = "로그인 요청 폭주로 일시적으로 처리 불가 (Retry-After 헤더 참고)"
+		),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(
+			responseCode = "429", 
+			description = "로그인 실패 횟수 초과 (사용자명/IP 기준, Retry-After 헤더 참고)"
 		)
 	})
 	@PostMapping("/login/admin")
-	public ResponseEntity<ApiResponse<LoginResponse>> loginAdmin(@Valid @RequestBody LoginRequest req) {
-		User user = userService.findByUsername(req.getUsername())
-				.filter(u -> passwordEncoder.matches(req.getPassword(), u.getPassword()))
-				.filter(u -> u.getRole() == Role.USER)
-				.orElseThrow(() -> new IllegalArgumentException("invalid credentials or insufficient privileges"));
-		
-		// Access Token 생성
-		String accessToken = jwtUtil.generateToken(user.getUsername(), Map.of("role", user.getRole().name()));
-		
-		// Refresh Token 생성
-		String refreshToken = jwtUtil.generateRefreshToken(user.getUsername(), REFRESH_TOKEN_VALIDITY_SECONDS);
-		
-		// Refresh Token 저장
-		refreshTokenService.saveRefreshToken(user.getUsername(), refreshToken);
-		
-		return ResponseEntity.ok(ApiResponse.ok(new LoginResponse(accessToken, refreshToken)));
+	public ResponseEntity<ApiResponse<LoginResponse>> loginAdmin(@Valid @RequestBody LoginRequest req,
+	                                                             HttpServletRequest request) {
+		User user = authenticate(req, Role.USER, request.getRemoteAddr());
+
+		return ResponseEntity.ok(ApiResponse.ok(issueTokens(user, req.getDeviceId())));
 	}
 
 	@Operation(summary = "사용자 로그아웃", description = "사용자(MEMBER) 계정의 JWT 토큰을 무효화합니다.")
@@ -195,23 +199,18 @@ public class AuthController {
 	})
 	@SecurityRequirement(name = "bearerAuth")
 	@PostMapping("/logout/user")
-	public ResponseEntity<ApiResponse<Void>> logoutUser(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization) {
-		if (authorization == null || !authorization.startsWith("Bearer ")) {
-			throw new IllegalArgumentException("인증 토큰이 필요합니다.");
-		}
-		String token = authorization.substring(7);
+	public ResponseEntity<ApiResponse<Void>> logoutUser(@CurrentUser JwtPrincipal principal) {
+		JwtClaims claims = principal.getClaims();
 		
 		// 토큰에서 역할 확인
-		String role = jwtUtil.getRole(token);
-		if (!Role.MEMBER.name().equals(role)) {
+		if (!Role.MEMBER.name().equals(principal.getRole())) {
 			throw new IllegalArgumentException("사용자(MEMBER) 권한이 필요합니다.");
 		}
 		
-		tokenBlacklistService.blacklistToken(token);
+		tokenBlacklistService.blacklist(claims);
 		
-		// Refresh Token도 삭제
-		String username = jwtUtil.getUsername(token);
-		refreshTokenService.removeRefreshToken(username);
+		// 현재 세션의 Refresh Token도 삭제
+		removeSession(claims);
 		
 		return ResponseEntity.ok(ApiResponse.ok());
 	}
@@ -224,27 +223,43 @@ public class AuthController {
 	})
 	@SecurityRequirement(name = "bearerAuth")
 	@PostMapping("/logout/admin")
-	public ResponseEntity<ApiResponse<Void>> logoutAdmin(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization) {
-		if (authorization == null || !authorization.startsWith("Bearer ")) {
-			throw new IllegalArgumentException("인증 토큰이 필요합니다.");
-		}
-		String token = authorization.substring(7);
+	public ResponseEntity<ApiResponse<Void>> logoutAdmin(@CurrentUser JwtPrincipal principal) {
+		JwtClaims claims = principal.getClaims();
 		
 		// 토큰에서 역할 확인
-		String role = jwtUtil.getRole(token);
-		if (!Role.USER.name().equals(role)) {
+		if (!Role.USER.name().equals(principal.getRole())) {
 			throw new IllegalArgumentException("관리자(USER) 권한이 필요합니다.");
 		}
 		
-		tokenBlacklistService.blacklistToken(token);
+		tokenBlacklistService.blacklist(claims);
 		
-		// Refresh Token도 삭제
-		String username = jwtUtil.getUsername(token);
-		refreshTokenService.removeRefreshToken(username);
+		// 현재 세션의 Refresh Token도 삭제
+		removeSession(claims);
 		
 		return ResponseEntity.ok(ApiResponse.ok());
 	}
 
+	@Operation(
+		summary = "전체 기기 로그아웃",
+		description = """
+			현재 사용자의 모든 기기(세션)에서 로그아웃합니다.
+			
+			- 사용자 토큰 버전을 올려 이전에 발급된 모든 Access Token / Refresh Token을 무효화합니다.
+			- 다른 서버 노드에도 폴링 주기 이내에 반영됩니다.
+			""",
+		tags = {"01_인증"}
+	)
+	@ApiResponses(value = {
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "로그아웃 성공"),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 필요")
+	})
+	@SecurityRequirement(name = "bearerAuth")
+	@PostMapping("/logout/all")
+	public ResponseEntity<ApiResponse<Void>> logoutAll(@CurrentUser JwtPrincipal principal) {
+		tokenVersionService.revokeAllTokens(principal.getUsername());
+		return ResponseEntity.ok(ApiResponse.ok());
+	}
+
 	@Operation(
 		summary = "토큰 갱신", 
 		description = """
@@ -307,32 +322,31 @@ public class AuthController {
 		}
 		
 		try {
-			// Refresh Token 검증
-			if (!jwtUtil.isRefreshToken(refreshToken)) {
+			// Refresh Token 서명 검증
+			JwtClaims claims = jwtUtil.parse(refreshToken);
+			if (!claims.isRefreshToken()) {
 				throw new IllegalArgumentException("유효하지 않은 Refresh Token입니다.");
 			}
 			
-			// 토큰에서 사용자명 추출
-			String username = jwtUtil.getUsername(refreshToken);
-			
-			// 저장된 Refresh Token과 일치하는지 확인
-			if (!refreshTokenService.validateRefreshToken(username, refreshToken)) {
+			// 저장된 Refresh Token과 일치하는지, 전체 로그아웃 이전에 발급된 토큰이 아닌지 확인
+			if (!tokenVersionService.isCurrent(claims) || !refreshTokenService.validateRefreshToken(claims)) {
 				throw new IllegalArgumentException("유효하지 않은 Refresh Token입니다.");
 			}
 			
 			// 사용자 정보 조회
-			User user = userService.findByUsername(username)
+			User user = userService.findByUsername(claims.getSubject())
 					.orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 			
-			// 새로운 Access Token 생성
-			String newAccessToken = jwtUtil.generateToken(user.getUsername(), Map.of("role", user.getRole().name()));
-			
-			// 새로운 Refresh Token 생성 (선택적 - Refresh Token Rotation)
-			String newRefreshToken = jwtUtil.generateRefreshToken(user.getUsername(), REFRESH_TOKEN_VALIDITY_SECONDS);
+			// 같은 세션으로 새로운 Access Token / Refresh Token 생성 (Refresh Token Rotation)
+			String sessionId = claims.getString("sid");
+			String newAccessToken = generateAccessToken(user, sessionId);
+			String newRefreshToken = jwtUtil.generateRefreshToken(user.getUsername(), sessionId,
+					tokenVersionService.currentVersion(user.getUsername()), REFRESH_TOKEN_VALIDITY_SECONDS);
 			
-			// 기존 Refresh Token 삭제하고 새로운 Refresh Token 저장
-			refreshTokenService.removeRefreshToken(username);
-			refreshTokenService.saveRefreshToken(username, newRefreshToken);
+			// 기존 Refresh Token이 아직 유효할 때만 교체 (동시 갱신/재사용 시 한 번만 성공)
+			if (!refreshTokenService.rotateRefreshToken(claims, jwtUtil.parse(newRefreshToken))) {
+				throw new IllegalArgumentException("유효하지 않은 Refresh Token입니다.");
+			}
 			
 			return ResponseEntity.ok(ApiResponse.ok(new LoginResponse(newAccessToken, newRefreshToken)));
 		} catch (Exception e) {
@@ -342,5 +356,59 @@ public class AuthController {
 			throw new IllegalArgumentException("유효하지 않은 Refresh Token입니다. 다시 로그인해주세요.");
 		}
 	}
-}
 
+	/**
+	 * 사용자명/비밀번호/역할 확인
+	 * 최근 실패 횟수가 제한을 넘었으면 사용자 조회와 비밀번호 검증 전에 거절합니다.
+	 * @param clientIp request.getRemoteAddr() (server.forward-headers-strategy 설정 시 신뢰 프록시가 전달한 클라이언트 IP)
+	 */
+	private User authenticate(LoginRequest req, Role role, String clientIp) {
+		loginAttemptThrottler.checkAllowed(req.getUsername(), clientIp);
+		User user = userService.findByUsername(req.getUsername())
+				.filter(u -> passwordHashExecutor.matches(req.getPassword(), u.getPassword()))
+				.filter(u -> u.getRole() == role)
+				.orElse(null);
+		if (user == null) {
+			loginAttemptThrottler.recordFailure(req.getUsername(), clientIp);
+			throw new IllegalArgumentException("invalid credentials or insufficient privileges");
+		}
+		loginAttemptThrottler.recordSuccess(req.getUsername());
+		return user;
+	}
+
+	/**
+	 * 새 세션으로 Access Token / Refresh Token 발급 후 Refresh Token 저장
+	 */
+	private LoginResponse issueTokens(User user, String deviceId) {
+		String sessionId = refreshTokenService.resolveSessionId(user.getUsername(), deviceId);
+		String accessToken = generateAccessToken(user, sessionId);
+		String refreshToken = jwtUtil.generateRefreshToken(user.getUsername(), sessionId,
+				tokenVersionService.currentVersion(user.getUsername()), REFRESH_TOKEN_VALIDITY_SECONDS);
+		refreshTokenService.saveRefreshToken(jwtUtil.parse(refreshToken), sessionId);
+		return new LoginResponse(accessToken, refreshToken);
+	}
+
+	private String generateAccessToken(User user, String sessionId) {
+		Map<String, Object> claims = new HashMap<>();
+		claims.put("role", user.getRole().name());
+		claims.put("sid", sessionId);
+		claims.put(TokenVersionService.CLAIM_NAME, tokenVersionService.currentVersion(user.getUsername()));
+		if (user.getUserRoleId() != null) {
+			claims.put(JwtPrincipal.CLAIM_USER_ROLE_ID, user.getUserRoleId());
+		}
+		return jwtUtil.generateToken(user.getUsername(), claims);
+	}
+
+	/**
+	 * Access Token의 세션에 해당하는 Refresh Token 삭제
+	 * 세션 식별자가 없는 이전 형식의 토큰이면 사용자의 모든 세션을 삭제합니다.
+	 */
+	private void removeSession(JwtClaims claims) {
+		String sessionId = claims.getString("sid");
+		if (sessionId != null) {
+			refreshTokenService.removeRefreshToken(claims.getSubject(), sessionId);
+		} else {
+			refreshTokenService.removeAllRefreshTokens(claims.getSubject());
+		}
+	}
+}
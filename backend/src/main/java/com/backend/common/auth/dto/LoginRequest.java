@@ -2,6 +2,7 @@ package com.backend.common.auth.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 
 @Schema(description = "로그인 요청")
 public class LoginRequest {
@@ -13,10 +14,16 @@ public class LoginRequest {
 	@NotBlank(message = "비밀번호는 필수입니다")
 	private String password;
 
+	@Schema(description = "기기(세션) 식별자 (선택, 미입력 시 서버에서 발급). 같은 값으로 다시 로그인하면 해당 기기의 이전 세션을 대체합니다.", example = "web-chrome-1")
+	@Size(max = 64, message = "기기 식별자는 64자 이하여야 합니다")
+	private String deviceId;
+
 	public String getUsername() { return username; }
 	public void setUsername(String username) { this.username = username; }
 	public String getPassword() { return password; }
 	public void setPassword(String password) { this.password = password; }
+	public String getDeviceId() { return deviceId; }
+	public void setDeviceId(String deviceId) { this.deviceId = deviceId; }
 }
 
 
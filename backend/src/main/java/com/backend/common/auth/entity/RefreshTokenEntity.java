@@ -0,0 +1,64 @@
+package com.backend.common.auth.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "REFRESH_TOKENS", uniqueConstraints = {
+	@UniqueConstraint(name = "UK_REFRESH_TOKENS_USER_SESN", columnNames = {"USER_NM", "SESN_ID"}),
+	@UniqueConstraint(name = "UK_REFRESH_TOKENS_TOKEN_HASH", columnNames = {"TOKEN_HASH"})
+}, indexes = {
+	@Index(name = "IDX_REFRESH_TOKENS_EXPIRES_AT", columnList = "EXPIRES_AT")
+})
+@org.hibernate.annotations.Comment("Refresh Token 정보를 저장하는 테이블 (사용자/세션별 1건, 토큰 원문 대신 해시 저장)")
+public class RefreshTokenEntity {
+	@Id
+	@GeneratedValue(strategy = GenerationType.UUID)
+	@Column(name = "REFRESH_TOKEN_ID")
+	@org.hibernate.annotations.Comment("Refresh Token 고유 식별자 (UUID 형식)")
+	private String id;
+
+	@Column(name = "USER_NM", nullable = false)
+	@org.hibernate.annotations.Comment("사용자명")
+	private String username;
+
+	@Column(name = "SESN_ID", nullable = false, length = 64)
+	@org.hibernate.annotations.Comment("세션(기기) 식별자")
+	private String sessionId;
+
+	@Column(name = "TOKEN_HASH", nullable = false, length = 64)
+	@org.hibernate.annotations.Comment("Refresh Token SHA-256 해시 (hex)")
+	private String tokenHash;
+
+	@Column(name = "EXPIRES_AT", nullable = false)
+	@org.hibernate.annotations.Comment("만료 일시")
+	private LocalDateTime expiresAt;
+
+	@Column(name = "CREATED_AT", nullable = false)
+	@org.hibernate.annotations.Comment("생성 일시")
+	private LocalDateTime createdAt;
+
+	public RefreshTokenEntity() {}
+
+	public RefreshTokenEntity(String username, String sessionId, String tokenHash, LocalDateTime expiresAt, LocalDateTime createdAt) {
+		this.username = username;
+		this.sessionId = sessionId;
+		this.tokenHash = tokenHash;
+		this.expiresAt = expiresAt;
+		this.createdAt = createdAt;
+	}
+
+	public String getId() { return id; }
+	public void setId(String id) { this.id = id; }
+	public String getUsername() { return username; }
+	public void setUsername(String username) { this.username = username; }
+	public String getSessionId() { return sessionId; }
+	public void setSessionId(String sessionId) { this.sessionId = sessionId; }
+	public String getTokenHash() { return tokenHash; }
+	public void setTokenHash(String tokenHash) { this.tokenHash = tokenHash; }
+	public LocalDateTime getExpiresAt() { return expiresAt; }
+	public void setExpiresAt(LocalDateTime expiresAt) { this.expiresAt = expiresAt; }
+	public LocalDateTime getCreatedAt() { return createdAt; }
+	public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
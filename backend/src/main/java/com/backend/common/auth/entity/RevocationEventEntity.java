@@ -0,0 +1,78 @@
+package com.backend.common.auth.entity;
+
+import com.backend.common.auth.security.RevocationEventType;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "REVOCATION_EVENTS", indexes = {
+	@Index(name = "IDX_REVOCATION_EVENTS_EXPIRES_AT", columnList = "EXPIRES_AT")
+})
+@org.hibernate.annotations.Comment("토큰 무효화 이벤트 로그 (노드 간 블랙리스트/세션 동기화용 변경 순번 테이블)")
+public class RevocationEventEntity {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "EVENT_ID")
+	@org.hibernate.annotations.Comment("이벤트 순번 (증가하는 변경 순번)")
+	private Long id;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "EVENT_TYPE", nullable = false, length = 20)
+	@org.hibernate.annotations.Comment("이벤트 종류 (TOKEN, SESSION, USER)")
+	private RevocationEventType eventType;
+
+	@Column(name = "USER_NM")
+	@org.hibernate.annotations.Comment("사용자명")
+	private String username;
+
+	@Column(name = "SESN_ID", length = 64)
+	@org.hibernate.annotations.Comment("세션(기기) 식별자")
+	private String sessionId;
+
+	@Column(name = "TOKEN_HASH", length = 64)
+	@org.hibernate.annotations.Comment("무효화된 토큰 SHA-256 해시 (hex)")
+	private String tokenHash;
+
+	@Column(name = "ORIGIN_NODE_ID", nullable = false, length = 36)
+	@org.hibernate.annotations.Comment("이벤트를 발생시킨 노드 식별자")
+	private String originNodeId;
+
+	@Column(name = "EXPIRES_AT", nullable = false)
+	@org.hibernate.annotations.Comment("이벤트 보관 만료 일시 (이후 정리 대상)")
+	private LocalDateTime expiresAt;
+
+	@Column(name = "CREATED_AT", nullable = false)
+	@org.hibernate.annotations.Comment("생성 일시")
+	private LocalDateTime createdAt;
+
+	public RevocationEventEntity() {}
+
+	public RevocationEventEntity(RevocationEventType eventType, String username, String sessionId, String tokenHash,
+	                             String originNodeId, LocalDateTime expiresAt, LocalDateTime createdAt) {
+		this.eventType = eventType;
+		this.username = username;
+		this.sessionId = sessionId;
+		this.tokenHash = tokenHash;
+		this.originNodeId = originNodeId;
+		this.expiresAt = expiresAt;
+		this.createdAt = createdAt;
+	}
+
+	public Long getId() { return id; }
+	public void setId(Long id) { this.id = id; }
+	public RevocationEventType getEventType() { return eventType; }
+	public void setEventType(RevocationEventType eventType) { this.eventType = eventType; }
+	public String getUsername() { return username; }
+	public void setUsername(String username) { this.username = username; }
+	public String getSessionId() { return sessionId; }
+	public void setSessionId(String sessionId) { this.sessionId = sessionId; }
+	public String getTokenHash() { return tokenHash; }
+	public void setTokenHash(String tokenHash) { this.tokenHash = tokenHash; }
+	public String getOriginNodeId() { return originNodeId; }
+	public void setOriginNodeId(String originNodeId) { this.originNodeId = originNodeId; }
+	public LocalDateTime getExpiresAt() { return expiresAt; }
+	public void setExpiresAt(LocalDateTime expiresAt) { this.expiresAt = expiresAt; }
+	public LocalDateTime getCreatedAt() { return createdAt; }
+	public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
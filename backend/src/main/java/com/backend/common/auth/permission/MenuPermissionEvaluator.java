@@ -0,0 +1,95 @@
+package com.backend.common.auth.permission;
+
+import com.backend.common.auth.security.JwtPrincipal;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.security.access.PermissionEvaluator;
+import org.springframework.security.core.Authentication;
+
+import java.io.Serializable;
+
+/**
+ * 메뉴 권한 기반 PermissionEvaluator (hasPermission 식 처리)
+ * - 역할 종류와 역할 ID는 Access Token 클레임(JwtPrincipal)에서 가져옴
+ * - 권한 판단은 MenuPermissionMatrix의 메모리 색인으로만 처리하며 DB를 조회하지 않음
+ * - 역할 정보가 없거나 메뉴/권한을 알 수 없으면 거부
+ *
+ * 지원하는 식:
+ *   hasPermission('/admin/sites', 'CREATE')      메뉴 URL 기준
+ *   hasPermission(#menuId, 'menu', 'UPDATE')     메뉴 ID 기준
+ *
+ * 역할 ID가 토큰에 들어 있으므로 역할 변경은 Access Token이 다시 발급된 뒤부터 적용됩니다.
+ */
+public class MenuPermissionEvaluator implements PermissionEvaluator {
+	public static final String TARGET_TYPE_MENU = "menu";
+
+	private final ObjectProvider<MenuPermissionMatrix> matrixProvider;
+	private volatile MenuPermissionMatrix matrix;
+
+	/**
+	 * 메서드 보안 설정은 다른 빈보다 먼저 만들어지므로 권한 행렬은 첫 검사 시점에 가져옵니다.
+	 */
+	public MenuPermissionEvaluator(ObjectProvider<MenuPermissionMatrix> matrixProvider) {
+		this.matrixProvider = matrixProvider;
+	}
+
+	@Override
+	public boolean hasPermission(Authentication authentication, Object targetDomainObject, Object permission) {
+		if (!(targetDomainObject instanceof String url)) {
+			return false;
+		}
+		JwtPrincipal principal = principalOf(authentication);
+		MenuPermissionType type = typeOf(permission);
+		if (principal == null || type == null) {
+			return false;
+		}
+		return matrix().canByUrl(kindOf(principal), principal.getUserRoleId(), url, type);
+	}
+
+	@Override
+	public boolean hasPermission(Authentication authentication, Serializable targetId, String targetType,
+	                             Object permission) {
+		if (!TARGET_TYPE_MENU.equals(targetType) || !(targetId instanceof String menuId)) {
+			return false;
+		}
+		JwtPrincipal principal = principalOf(authentication);
+		MenuPermissionType type = typeOf(permission);
+		if (principal == null || type == null) {
+			return false;
+		}
+		return matrix().can(kindOf(principal), principal.getUserRoleId(), menuId, type);
+	}
+
+	private MenuPermissionMatrix matrix() {
+		MenuPermissionMatrix resolved = matrix;
+		if (resolved == null) {
+			resolved = matrixProvider.getObject();
+			matrix = resolved;
+		}
+		return resolved;
+	}
+
+	private static JwtPrincipal principalOf(Authentication authentication) {
+		if (authentication != null && authentication.getPrincipal() instanceof JwtPrincipal principal) {
+			return principal;
+		}
+		return null;
+	}
+
+	private static RoleKind kindOf(JwtPrincipal principal) {
+		return "MEMBER".equals(principal.getRole()) ? RoleKind.MEMBER : RoleKind.USER;
+	}
+
+	private static MenuPermissionType typeOf(Object permission) {
+		if (permission instanceof MenuPermissionType type) {
+			return type;
+		}
+		if (permission instanceof String name) {
+			try {
+				return MenuPermissionType.valueOf(name);
+			} catch (IllegalArgumentException e) {
+				return null;
+			}
+		}
+		return null;
+	}
+}
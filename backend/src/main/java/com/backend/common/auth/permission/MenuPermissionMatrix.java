@@ -0,0 +1,234 @@
+package com.backend.common.auth.permission;
+
+import com.backend.common.admin.menu.entity.MenuEntity;
+import com.backend.common.admin.menu.repository.MenuRepository;
+import com.backend.common.admin.userRoleMenu.entity.UserRoleMenuEntity;
+import com.backend.common.admin.userRoleMenu.repository.UserRoleMenuRepository;
+import com.backend.common.member.memberRoleMenu.entity.MemberRoleMenuEntity;
+import com.backend.common.member.memberRoleMenu.repository.MemberRoleMenuRepository;
+import com.backend.common.seed.service.SeedService;
+import com.backend.core.startup.StartupTask;
+import com.backend.core.startup.StartupTaskProvider;
+import com.backend.core.transaction.AfterCommit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 역할 × 메뉴 권한 조회 엔진
+ * - USER_ROLE_MENU / MEMBER_ROLE_MENU의 활성 권한을 메모리 비트셋(PermissionMatrix)으로 보관
+ * - 권한 확인은 DB 조회 없이 배열 조회로 처리
+ * - 권한 저장 시 커밋 이후 해당 역할만 교체한 새 행렬로 바꿔 끼움 (copy-on-write)
+ *
+ * API 권한 검사(MenuPermissionEvaluator)는 메뉴 URL로 대상을 지정하므로 URL -> 메뉴 ID 색인도 함께 보관합니다.
+ * 메뉴 생성/수정/삭제 시 커밋 이후 색인만 메모리에서 갱신합니다.
+ *
+ * 다른 노드에서 저장된 권한은 주기적인 전체 재적재(app.auth.permission-matrix.reload-interval-ms)로 반영됩니다.
+ * 최초 적재는 초기 데이터 적재가 끝난 뒤 필수 기동 작업으로 한 번 수행합니다.
+ * 적재 전(기동 작업 완료 전, readiness probe가 UP이 되기 전)에는 행렬이 비어 있어 모든 권한 확인이 거부됩니다.
+ */
+@Component
+public class MenuPermissionMatrix implements StartupTaskProvider {
+	private static final Logger logger = LoggerFactory.getLogger(MenuPermissionMatrix.class);
+
+	private final UserRoleMenuRepository userRoleMenuRepository;
+	private final MemberRoleMenuRepository memberRoleMenuRepository;
+	private final MenuRepository menuRepository;
+	private volatile PermissionMatrix userMatrix = PermissionMatrix.EMPTY;
+	private volatile PermissionMatrix memberMatrix = PermissionMatrix.EMPTY;
+	// menuId -> URL (색인 재구성용 원본)
+	private volatile Map<String, String> urlByMenuId = Map.of();
+	// URL -> 메뉴 ID 목록 (사이트가 달라도 같은 URL을 쓰는 메뉴가 있을 수 있음)
+	private volatile Map<String, String[]> menuIdsByUrl = Map.of();
+
+	public MenuPermissionMatrix(
+		UserRoleMenuRepository userRoleMenuRepository,
+		MemberRoleMenuRepository memberRoleMenuRepository,
+		MenuRepository menuRepository
+	) {
+		this.userRoleMenuRepository = userRoleMenuRepository;
+		this.memberRoleMenuRepository = memberRoleMenuRepository;
+		this.menuRepository = menuRepository;
+	}
+
+	/**
+	 * 전체 권한 적재 (기동 시 + 주기적으로)
+	 * 역할 교체와 동시에 실행되어 최신 변경을 덮어쓰지 않도록 교체와 같은 잠금에서 수행합니다.
+	 */
+	@Scheduled(fixedDelayString = "${app.auth.permission-matrix.reload-interval-ms:60000}",
+	           initialDelayString = "${app.auth.permission-matrix.reload-interval-ms:60000}")
+	public synchronized void reload() {
+		Map<String, Map<String, Integer>> userPermissions = new HashMap<>();
+		for (UserRoleMenuEntity entity : userRoleMenuRepository.findAll()) {
+			if ("Y".equals(entity.getEnabled())) {
+				userPermissions.computeIfAbsent(entity.getUserRoleId(), k -> new HashMap<>())
+					.merge(entity.getMenuId(), maskOf(entity), (a, b) -> a | b);
+			}
+		}
+		Map<String, Map<String, Integer>> memberPermissions = new HashMap<>();
+		for (MemberRoleMenuEntity entity : memberRoleMenuRepository.findAll()) {
+			if ("Y".equals(entity.getEnabled())) {
+				memberPermissions.computeIfAbsent(entity.getMemberRoleId(), k -> new HashMap<>())
+					.merge(entity.getMenuId(), maskOf(entity), (a, b) -> a | b);
+			}
+		}
+		Map<String, String> urls = new HashMap<>();
+		for (MenuEntity menu : menuRepository.findAll()) {
+			if (menu.getUrl() != null && !menu.getUrl().isEmpty()) {
+				urls.put(menu.getId(), menu.getUrl());
+			}
+		}
+		userMatrix = PermissionMatrix.build(userPermissions);
+		memberMatrix = PermissionMatrix.build(memberPermissions);
+		applyUrls(urls);
+		logger.debug("메뉴 권한 행렬 적재: userRoles={}, memberRoles={}, menus={}, urls={}",
+			userMatrix.roleCount(), memberMatrix.roleCount(), Math.max(userMatrix.menuCount(), memberMatrix.menuCount()),
+			menuIdsByUrl.size());
+	}
+
+	/**
+	 * 초기 데이터(메뉴, 관리자 권한) 생성이 끝난 뒤 전체 적재 (트래픽 수신 준비 전에 완료)
+	 */
+	@Override
+	public List<StartupTask> startupTasks() {
+		return List.of(StartupTask.critical("menu-permission-matrix", this::reload, SeedService.TASK_NAME));
+	}
+
+	/**
+	 * 역할이 메뉴에 대해 해당 권한을 가지는지 확인 (ALL 권한은 모든 권한 포함)
+	 */
+	public boolean can(RoleKind kind, String roleId, String menuId, MenuPermissionType type) {
+		if (roleId == null || menuId == null) {
+			return false;
+		}
+		return matrix(kind).can(roleId, menuId, type);
+	}
+
+	/**
+	 * 역할이 메뉴에 대해 어떤 권한이든 하나라도 가지는지 확인
+	 */
+	public boolean canAny(RoleKind kind, String roleId, String menuId) {
+		if (roleId == null || menuId == null) {
+			return false;
+		}
+		return matrix(kind).canAny(roleId, menuId);
+	}
+
+	/**
+	 * 메뉴 URL 기준 권한 확인
+	 * 같은 URL의 메뉴가 여러 개면 그중 하나라도 권한이 있으면 허용하고, 등록되지 않은 URL은 거부합니다.
+	 */
+	public boolean canByUrl(RoleKind kind, String roleId, String url, MenuPermissionType type) {
+		if (roleId == null || url == null) {
+			return false;
+		}
+		String[] menuIds = menuIdsByUrl.get(url);
+		if (menuIds == null) {
+			return false;
+		}
+		PermissionMatrix matrix = matrix(kind);
+		for (String menuId : menuIds) {
+			if (matrix.can(roleId, menuId, type)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 메뉴 생성/수정 시 URL 색인 갱신 (진행 중인 트랜잭션이 있으면 커밋 이후)
+	 */
+	public void menuSaved(String menuId, String url) {
+		AfterCommit.run(() -> updateUrl(menuId, url));
+	}
+
+	/**
+	 * 메뉴 삭제 시 URL 색인과 모든 역할의 해당 메뉴 권한에서 제거 (진행 중인 트랜잭션이 있으면 커밋 이후)
+	 */
+	public void menuRemoved(String menuId) {
+		AfterCommit.run(() -> removeMenus(List.of(menuId)));
+	}
+
+	/**
+	 * 여러 메뉴를 한 번에 삭제한 경우 (하위 메뉴 일괄 삭제)
+	 */
+	public void menusRemoved(Collection<String> menuIds) {
+		List<String> copy = List.copyOf(menuIds);
+		AfterCommit.run(() -> removeMenus(copy));
+	}
+
+	/**
+	 * 역할의 메뉴 권한 교체 (진행 중인 트랜잭션이 있으면 커밋 이후)
+	 * @param menus menuId -> 권한 마스크 (MenuPermissionType#maskOf), 비어 있으면 역할 제거
+	 */
+	public void replaceRole(RoleKind kind, String roleId, Map<String, Integer> menus) {
+		Map<String, Integer> copy = Map.copyOf(menus);
+		AfterCommit.run(() -> apply(kind, roleId, copy));
+	}
+
+	public void removeRole(RoleKind kind, String roleId) {
+		replaceRole(kind, roleId, Map.of());
+	}
+
+	public static int maskOf(UserRoleMenuEntity entity) {
+		return MenuPermissionType.maskOf(entity.getPermRead(), entity.getPermCreate(), entity.getPermUpdate(),
+			entity.getPermDelete(), entity.getPermDownload(), entity.getPermAll());
+	}
+
+	public static int maskOf(MemberRoleMenuEntity entity) {
+		return MenuPermissionType.maskOf(entity.getPermRead(), entity.getPermCreate(), entity.getPermUpdate(),
+			entity.getPermDelete(), entity.getPermDownload(), entity.getPermAll());
+	}
+
+	private synchronized void apply(RoleKind kind, String roleId, Map<String, Integer> menus) {
+		if (kind == RoleKind.USER) {
+			userMatrix = userMatrix.withRole(roleId, menus);
+		} else {
+			memberMatrix = memberMatrix.withRole(roleId, menus);
+		}
+	}
+
+	private synchronized void updateUrl(String menuId, String url) {
+		Map<String, String> urls = new HashMap<>(urlByMenuId);
+		if (url == null || url.isEmpty()) {
+			urls.remove(menuId);
+		} else {
+			urls.put(menuId, url);
+		}
+		applyUrls(urls);
+	}
+
+	private synchronized void removeMenus(List<String> menuIds) {
+		Map<String, String> urls = new HashMap<>(urlByMenuId);
+		for (String menuId : menuIds) {
+			urls.remove(menuId);
+		}
+		applyUrls(urls);
+		userMatrix = userMatrix.withoutMenus(menuIds);
+		memberMatrix = memberMatrix.withoutMenus(menuIds);
+	}
+
+	private void applyUrls(Map<String, String> urls) {
+		Map<String, List<String>> grouped = new HashMap<>();
+		for (Map.Entry<String, String> entry : urls.entrySet()) {
+			grouped.computeIfAbsent(entry.getValue(), k -> new ArrayList<>()).add(entry.getKey());
+		}
+		Map<String, String[]> index = new HashMap<>(grouped.size() * 2);
+		for (Map.Entry<String, List<String>> entry : grouped.entrySet()) {
+			index.put(entry.getKey(), entry.getValue().toArray(new String[0]));
+		}
+		urlByMenuId = Map.copyOf(urls);
+		menuIdsByUrl = index;
+	}
+
+	private PermissionMatrix matrix(RoleKind kind) {
+		return kind == RoleKind.USER ? userMatrix : memberMatrix;
+	}
+}
@@ -0,0 +1,58 @@
+package com.backend.common.auth.permission;
+
+/**
+ * 메뉴 권한 종류 (USER_ROLE_MENU / MEMBER_ROLE_MENU의 PERM_* 컬럼)
+ * ALL 권한은 나머지 모든 권한을 포함합니다.
+ */
+public enum MenuPermissionType {
+	READ,
+	CREATE,
+	UPDATE,
+	DELETE,
+	DOWNLOAD,
+	ALL;
+
+	static final int COUNT = values().length;
+
+	/**
+	 * 권한 종류별 비트 (mask)
+	 */
+	public int bit() {
+		return 1 << ordinal();
+	}
+
+	/**
+	 * PERM_* 컬럼 값(Y/N)으로 권한 마스크 생성
+	 */
+	public static int maskOf(String read, String create, String update, String delete, String download, String all) {
+		int mask = 0;
+		if ("Y".equals(read)) mask |= READ.bit();
+		if ("Y".equals(create)) mask |= CREATE.bit();
+		if ("Y".equals(update)) mask |= UPDATE.bit();
+		if ("Y".equals(delete)) mask |= DELETE.bit();
+		if ("Y".equals(download)) mask |= DOWNLOAD.bit();
+		if ("Y".equals(all)) mask |= ALL.bit();
+		return mask;
+	}
+
+	/**
+	 * 요청 DTO의 권한 플래그(null은 false)로 권한 마스크 생성
+	 */
+	public static int maskOf(Boolean read, Boolean create, Boolean update, Boolean delete, Boolean download, Boolean all) {
+		int mask = 0;
+		if (Boolean.TRUE.equals(read)) mask |= READ.bit();
+		if (Boolean.TRUE.equals(create)) mask |= CREATE.bit();
+		if (Boolean.TRUE.equals(update)) mask |= UPDATE.bit();
+		if (Boolean.TRUE.equals(delete)) mask |= DELETE.bit();
+		if (Boolean.TRUE.equals(download)) mask |= DOWNLOAD.bit();
+		if (Boolean.TRUE.equals(all)) mask |= ALL.bit();
+		return mask;
+	}
+
+	/**
+	 * 마스크에 이 권한이 있으면 "Y", 없으면 "N" (PERM_* 컬럼 값)
+	 */
+	public String flagOf(int mask) {
+		return (mask & bit()) != 0 ? "Y" : "N";
+	}
+}
@@ -0,0 +1,164 @@
+package com.backend.common.auth.permission;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 역할 × 메뉴 권한 비트셋 (불변)
+ * - 메뉴 ID는 정수 인덱스로 변환(intern)하고, 역할마다 권한 종류별 비트셋을 하나의 long[]에 이어 붙여 보관
+ *   (권한 종류 t, 메뉴 인덱스 i → bits[t * words + i / 64]의 i % 64번째 비트)
+ * - 조회는 해시 조회 두 번과 배열 접근뿐이며 객체를 생성하지 않음
+ * - 변경은 기존 행렬을 복사해 새 행렬을 만드는 방식(copy-on-write)으로만 수행
+ */
+final class PermissionMatrix {
+	static final PermissionMatrix EMPTY = new PermissionMatrix(Map.of(), Map.of());
+
+	// menuId -> 메뉴 인덱스 (추가만 됨)
+	private final Map<String, Integer> menuIndex;
+	// roleId -> 권한 종류별 비트셋
+	private final Map<String, long[]> roleBits;
+
+	private PermissionMatrix(Map<String, Integer> menuIndex, Map<String, long[]> roleBits) {
+		this.menuIndex = menuIndex;
+		this.roleBits = roleBits;
+	}
+
+	/**
+	 * 전체 권한으로 행렬 생성
+	 * @param permissions roleId -> (menuId -> 권한 마스크)
+	 */
+	static PermissionMatrix build(Map<String, Map<String, Integer>> permissions) {
+		Map<String, Integer> menuIndex = new HashMap<>();
+		for (Map<String, Integer> menus : permissions.values()) {
+			for (String menuId : menus.keySet()) {
+				menuIndex.putIfAbsent(menuId, menuIndex.size());
+			}
+		}
+		Map<String, long[]> roleBits = new HashMap<>(permissions.size() * 2);
+		for (Map.Entry<String, Map<String, Integer>> role : permissions.entrySet()) {
+			roleBits.put(role.getKey(), encode(menuIndex, role.getValue()));
+		}
+		return new PermissionMatrix(menuIndex, roleBits);
+	}
+
+	boolean can(String roleId, String menuId, MenuPermissionType type) {
+		Integer index = menuIndex.get(menuId);
+		if (index == null) {
+			return false;
+		}
+		long[] bits = roleBits.get(roleId);
+		if (bits == null) {
+			return false;
+		}
+		int words = bits.length / MenuPermissionType.COUNT;
+		int word = index >>> 6;
+		if (word >= words) {
+			// 역할 비트셋을 만든 뒤 추가된 메뉴 (해당 역할에는 권한 없음)
+			return false;
+		}
+		long mask = 1L << index;
+		return (bits[type.ordinal() * words + word] & mask) != 0
+			|| (bits[MenuPermissionType.ALL.ordinal() * words + word] & mask) != 0;
+	}
+
+	boolean canAny(String roleId, String menuId) {
+		Integer index = menuIndex.get(menuId);
+		long[] bits = index != null ? roleBits.get(roleId) : null;
+		if (bits == null) {
+			return false;
+		}
+		int words = bits.length / MenuPermissionType.COUNT;
+		int word = index >>> 6;
+		if (word >= words) {
+			return false;
+		}
+		long mask = 1L << index;
+		for (int type = 0; type < MenuPermissionType.COUNT; type++) {
+			if ((bits[type * words + word] & mask) != 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 한 역할의 권한을 교체한 새 행렬 반환
+	 * @param menus menuId -> 권한 마스크 (비어 있으면 역할 제거)
+	 */
+	PermissionMatrix withRole(String roleId, Map<String, Integer> menus) {
+		Map<String, Integer> nextIndex = menuIndex;
+		for (String menuId : menus.keySet()) {
+			if (!nextIndex.containsKey(menuId)) {
+				if (nextIndex == menuIndex) {
+					nextIndex = new HashMap<>(menuIndex);
+				}
+				nextIndex.put(menuId, nextIndex.size());
+			}
+		}
+		Map<String, long[]> nextBits = new HashMap<>(roleBits);
+		if (menus.isEmpty()) {
+			nextBits.remove(roleId);
+		} else {
+			nextBits.put(roleId, encode(nextIndex, menus));
+		}
+		return new PermissionMatrix(nextIndex, nextBits);
+	}
+
+	/**
+	 * 메뉴 권한을 모든 역할에서 지운 새 행렬 반환 (메뉴 삭제)
+	 * 메뉴 인덱스는 추가만 되므로 그대로 두고 비트만 지웁니다.
+	 */
+	PermissionMatrix withoutMenus(Collection<String> menuIds) {
+		List<Integer> indexes = new ArrayList<>(menuIds.size());
+		for (String menuId : menuIds) {
+			Integer index = menuIndex.get(menuId);
+			if (index != null) {
+				indexes.add(index);
+			}
+		}
+		if (indexes.isEmpty()) {
+			return this;
+		}
+		Map<String, long[]> nextBits = new HashMap<>(roleBits.size() * 2);
+		for (Map.Entry<String, long[]> role : roleBits.entrySet()) {
+			long[] bits = role.getValue().clone();
+			int words = bits.length / MenuPermissionType.COUNT;
+			for (int index : indexes) {
+				int word = index >>> 6;
+				if (word < words) {
+					for (int type = 0; type < MenuPermissionType.COUNT; type++) {
+						bits[type * words + word] &= ~(1L << index);
+					}
+				}
+			}
+			nextBits.put(role.getKey(), bits);
+		}
+		return new PermissionMatrix(menuIndex, nextBits);
+	}
+
+	int roleCount() {
+		return roleBits.size();
+	}
+
+	int menuCount() {
+		return menuIndex.size();
+	}
+
+	private static long[] encode(Map<String, Integer> menuIndex, Map<String, Integer> menus) {
+		int words = Math.max(1, (menuIndex.size() + 63) >>> 6);
+		long[] bits = new long[MenuPermissionType.COUNT * words];
+		for (Map.Entry<String, Integer> menu : menus.entrySet()) {
+			int index = menuIndex.get(menu.getKey());
+			int mask = menu.getValue();
+			for (int type = 0; type < MenuPermissionType.COUNT; type++) {
+				if ((mask & (1 << type)) != 0) {
+					bits[type * words + (index >>> 6)] |= 1L << index;
+				}
+			}
+		}
+		return bits;
+	}
+}
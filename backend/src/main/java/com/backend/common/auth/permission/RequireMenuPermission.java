@@ -0,0 +1,32 @@
+package com.backend.common.auth.permission;
+
+import org.springframework.security.access.prepost.PreAuthorize;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 관리자 API를 메뉴 권한(USER_ROLE_MENU)으로 보호
+ * 관리자(USER)이면서 역할이 menu(메뉴 URL)에 대해 action 권한을 가져야 실행됩니다. (MenuPermissionEvaluator)
+ *
+ * 예) @RequireMenuPermission(menu = Constants.MENU_ADMIN_SITES, action = MenuPermissionType.CREATE)
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@PreAuthorize("hasRole('USER') and hasPermission('{menu}', '{action}')")
+public @interface RequireMenuPermission {
+
+	/**
+	 * 메뉴 URL (MENU.URL)
+	 */
+	String menu();
+
+	/**
+	 * 필요한 권한
+	 */
+	MenuPermissionType action();
+}
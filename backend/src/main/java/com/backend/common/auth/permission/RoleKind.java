@@ -0,0 +1,9 @@
+package com.backend.common.auth.permission;
+
+/**
+ * 메뉴 권한 테이블 구분 (관리자: USER_ROLE_MENU, 회원/비회원: MEMBER_ROLE_MENU)
+ */
+public enum RoleKind {
+	USER,
+	MEMBER
+}
@@ -0,0 +1,52 @@
+package com.backend.common.auth.repository;
+
+import com.backend.common.auth.entity.RefreshTokenEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshTokenEntity, String> {
+	Optional<RefreshTokenEntity> findByTokenHash(String tokenHash);
+	Optional<RefreshTokenEntity> findByUsernameAndSessionId(String username, String sessionId);
+
+	/**
+	 * 세션의 토큰을 조건 없이 교체 (세션이 없으면 0건)
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("update RefreshTokenEntity r set r.tokenHash = :tokenHash, r.expiresAt = :expiresAt " +
+	       "where r.username = :username and r.sessionId = :sessionId")
+	int replace(@Param("username") String username, @Param("sessionId") String sessionId,
+	            @Param("tokenHash") String tokenHash, @Param("expiresAt") LocalDateTime expiresAt);
+
+	/**
+	 * 저장된 해시가 currentHash일 때만 새 토큰으로 교체 (조건부 UPDATE)
+	 */
+	@Modifying
+	@Query("update RefreshTokenEntity r set r.tokenHash = :nextHash, r.expiresAt = :expiresAt " +
+	       "where r.username = :username and r.sessionId = :sessionId and r.tokenHash = :currentHash")
+	int rotate(@Param("username") String username, @Param("sessionId") String sessionId,
+	           @Param("currentHash") String currentHash, @Param("nextHash") String nextHash,
+	           @Param("expiresAt") LocalDateTime expiresAt);
+
+	@Modifying
+	@Query("delete from RefreshTokenEntity r where r.username = :username and r.sessionId = :sessionId")
+	int deleteSession(@Param("username") String username, @Param("sessionId") String sessionId);
+
+	@Modifying
+	@Query("delete from RefreshTokenEntity r where r.username = :username")
+	int deleteAllByUsername(@Param("username") String username);
+
+	/**
+	 * 만료된 토큰 ID를 만료 시각 순으로 조회 (EXPIRES_AT 인덱스 범위 조회)
+	 */
+	@Query("select r.id from RefreshTokenEntity r where r.expiresAt < :now order by r.expiresAt")
+	List<String> findExpiredIds(@Param("now") LocalDateTime now, Pageable pageable);
+}
@@ -0,0 +1,42 @@
+package com.backend.common.auth.repository;
+
+import com.backend.common.auth.entity.RevocationEventEntity;
+import com.backend.common.auth.security.RevocationEventType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface RevocationEventRepository extends JpaRepository<RevocationEventEntity, Long> {
+	/**
+	 * 변경 순번 이후의 이벤트 조회 (PK 범위 조회)
+	 */
+	List<RevocationEventEntity> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+	/**
+	 * 지정한 순번의 이벤트 조회 (늦게 커밋된 순번 재확인용)
+	 */
+	List<RevocationEventEntity> findByIdInOrderByIdAsc(Collection<Long> ids);
+
+	@Query("select max(e.id) from RevocationEventEntity e")
+	Long findMaxId();
+
+	/**
+	 * 아직 보관 기간이 남은 특정 종류의 이벤트를 순번 순으로 조회 (기동 시 warm-up용)
+	 */
+	@Query("select e from RevocationEventEntity e " +
+	       "where e.eventType = :eventType and e.expiresAt > :now and e.id > :afterId order by e.id")
+	List<RevocationEventEntity> findActive(@Param("eventType") RevocationEventType eventType,
+	                                       @Param("now") LocalDateTime now,
+	                                       @Param("afterId") Long afterId,
+	                                       Pageable pageable);
+
+	@Query("select e.id from RevocationEventEntity e where e.expiresAt < :now order by e.expiresAt")
+	List<Long> findExpiredIds(@Param("now") LocalDateTime now, Pageable pageable);
+}
@@ -0,0 +1,200 @@
+package com.backend.common.auth.security;
+
+import com.backend.common.auth.entity.RevocationEventEntity;
+import com.backend.common.auth.repository.RevocationEventRepository;
+import com.backend.common.cluster.service.ClusterLockService;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 노드 간 토큰 무효화 상태 동기화
+ * - 기동 시: 아직 만료되지 않은 TOKEN 이벤트를 읽어 로컬 블랙리스트를 채움 (warm-up)
+ * - 실행 중: REVOCATION_EVENTS를 변경 순번(EVENT_ID) 기준으로 주기적으로 폴링하여 다른 노드의 이벤트를 반영
+ * 인증 필터는 로컬 메모리만 조회하고, 다른 노드의 로그아웃은 폴링 주기 이내에 반영됩니다.
+ *
+ * IDENTITY 순번은 커밋 순서와 다를 수 있으므로(늦게 커밋된 작은 순번), 새 이벤트를 읽을 때 건너뛴 순번을
+ * 빈 순번(gap)으로 기록해 두고, 이후 폴링마다 해당 순번만 다시 조회합니다.
+ * 빈 순번은 처음 발견한 뒤 app.revocation.gap-timeout-ms가 지나도 나타나지 않으면 롤백된 것으로 보고 버립니다.
+ * 따라서 그 사이에 몇 건의 이벤트가 먼저 커밋되었는지와 관계없이 늦게 커밋된 이벤트를 놓치지 않습니다.
+ */
+@Component
+public class ClusterRevocationSync {
+	private static final Logger logger = LoggerFactory.getLogger(ClusterRevocationSync.class);
+	private static final int BATCH_SIZE = 1000;
+	// 한 번에 건너뛴 순번이 이보다 많으면 가장 최근 순번만 추적 (시퀀스 점프 대비 메모리 상한)
+	private static final int MAX_GAPS_PER_JUMP = 1000;
+	private static final int GAP_QUERY_SIZE = 500;
+
+	private final RevocationEventRepository revocationEventRepository;
+	private final RevocationEventLog revocationEventLog;
+	private final TokenBlacklistService tokenBlacklistService;
+	private final RefreshTokenService refreshTokenService;
+	private final TokenVersionService tokenVersionService;
+	private final ClusterLockService clusterLockService;
+	private final long gapTimeoutMillis;
+	// 마지막으로 확인한 변경 순번
+	private volatile long lastSeenId = 0;
+	// 아직 보이지 않은 순번 -> 처음 발견한 시각 (epoch ms)
+	private final NavigableMap<Long, Long> pendingGaps = new ConcurrentSkipListMap<>();
+
+	public ClusterRevocationSync(RevocationEventRepository revocationEventRepository,
+	                             RevocationEventLog revocationEventLog,
+	                             TokenBlacklistService tokenBlacklistService,
+	                             RefreshTokenService refreshTokenService,
+	                             TokenVersionService tokenVersionService,
+	                             ClusterLockService clusterLockService,
+	                             @Value("${app.revocation.gap-timeout-ms:60000}") long gapTimeoutMillis) {
+		this.revocationEventRepository = revocationEventRepository;
+		this.revocationEventLog = revocationEventLog;
+		this.tokenBlacklistService = tokenBlacklistService;
+		this.refreshTokenService = refreshTokenService;
+		this.tokenVersionService = tokenVersionService;
+		this.clusterLockService = clusterLockService;
+		this.gapTimeoutMillis = gapTimeoutMillis;
+	}
+
+	/**
+	 * 기동 시 유효한 블랙리스트 이벤트 로드
+	 * 요청을 받기 전에 로컬 블랙리스트를 채워 두기 위해 빈 초기화 단계에서 수행합니다.
+	 */
+	@PostConstruct
+	public void warmUp() {
+		Long maxId = revocationEventRepository.findMaxId();
+		LocalDateTime now = LocalDateTime.now();
+		long afterId = 0;
+		int loaded = 0;
+		while (true) {
+			List<RevocationEventEntity> events = revocationEventRepository.findActive(
+				RevocationEventType.TOKEN, now, afterId, PageRequest.of(0, BATCH_SIZE));
+			for (RevocationEventEntity event : events) {
+				applyToken(event);
+				afterId = event.getId();
+			}
+			loaded += events.size();
+			if (events.size() < BATCH_SIZE) {
+				break;
+			}
+		}
+		// 세션/사용자 이벤트는 near-cache가 비어 있는 기동 시점에는 반영할 필요가 없음
+		lastSeenId = maxId != null ? maxId : 0;
+		logger.info("토큰 무효화 이벤트 로드 완료: blacklisted={}, lastEventId={}", loaded, lastSeenId);
+	}
+
+	/**
+	 * 다른 노드의 무효화 이벤트 반영
+	 */
+	@Scheduled(fixedDelayString = "${app.revocation.poll-interval-ms:2000}",
+	           initialDelayString = "${app.revocation.poll-interval-ms:2000}")
+	public void poll() {
+		long nowMillis = System.currentTimeMillis();
+		recheckGaps(nowMillis);
+
+		long fromId = lastSeenId;
+		while (true) {
+			List<RevocationEventEntity> events = revocationEventRepository.findByIdGreaterThanOrderByIdAsc(
+				fromId, PageRequest.of(0, BATCH_SIZE));
+			for (RevocationEventEntity event : events) {
+				recordGaps(fromId, event.getId(), nowMillis);
+				fromId = event.getId();
+				applyIfRemote(event);
+			}
+			lastSeenId = fromId;
+			if (events.size() < BATCH_SIZE) {
+				break;
+			}
+		}
+	}
+
+	int pendingGapCount() {
+		return pendingGaps.size();
+	}
+
+	/**
+	 * 이전 폴링에서 건너뛴 순번 중 그 사이 커밋된 이벤트 반영
+	 */
+	private void recheckGaps(long nowMillis) {
+		pendingGaps.values().removeIf(firstSeenMillis -> nowMillis - firstSeenMillis > gapTimeoutMillis);
+		if (pendingGaps.isEmpty()) {
+			return;
+		}
+		List<Long> ids = new ArrayList<>(pendingGaps.keySet());
+		for (int from = 0; from < ids.size(); from += GAP_QUERY_SIZE) {
+			List<Long> chunk = ids.subList(from, Math.min(from + GAP_QUERY_SIZE, ids.size()));
+			for (RevocationEventEntity event : revocationEventRepository.findByIdInOrderByIdAsc(chunk)) {
+				if (pendingGaps.remove(event.getId()) != null) {
+					applyIfRemote(event);
+				}
+			}
+		}
+	}
+
+	private void recordGaps(long previousId, long nextId, long nowMillis) {
+		long firstMissing = Math.max(previousId + 1, nextId - MAX_GAPS_PER_JUMP);
+		for (long id = firstMissing; id < nextId; id++) {
+			pendingGaps.putIfAbsent(id, nowMillis);
+		}
+	}
+
+	private void applyIfRemote(RevocationEventEntity event) {
+		if (!revocationEventLog.getNodeId().equals(event.getOriginNodeId())) {
+			apply(event);
+		}
+	}
+
+	/**
+	 * 보관 기간이 지난 이벤트 정리 (일정 건수씩 삭제, 클러스터에서 한 노드만 수행)
+	 */
+	@Scheduled(fixedDelayString = "${app.revocation.purge-interval-ms:600000}",
+	           initialDelayString = "${app.revocation.purge-interval-ms:600000}")
+	public void purgeExpiredEvents() {
+		clusterLockService.runExclusively("revocation-event-purge", this::purgeExpiredEventsNow);
+	}
+
+	private void purgeExpiredEventsNow() {
+		LocalDateTime now = LocalDateTime.now();
+		int total = 0;
+		List<Long> ids;
+		do {
+			ids = revocationEventRepository.findExpiredIds(now, PageRequest.of(0, BATCH_SIZE));
+			if (!ids.isEmpty()) {
+				revocationEventRepository.deleteAllByIdInBatch(ids);
+				total += ids.size();
+			}
+		} while (ids.size() == BATCH_SIZE);
+
+		if (total > 0) {
+			logger.debug("만료된 토큰 무효화 이벤트 정리: removed={}", total);
+		}
+	}
+
+	private void apply(RevocationEventEntity event) {
+		switch (event.getEventType()) {
+			case TOKEN -> applyToken(event);
+			case SESSION -> refreshTokenService.evictSession(event.getUsername(), event.getSessionId());
+			case USER -> {
+				refreshTokenService.evictUser(event.getUsername());
+				tokenVersionService.reload(event.getUsername());
+			}
+		}
+	}
+
+	private void applyToken(RevocationEventEntity event) {
+		if (event.getTokenHash() == null) {
+			return;
+		}
+		long expiresAtSecond = event.getExpiresAt().atZone(ZoneId.systemDefault()).toEpochSecond();
+		tokenBlacklistService.applyRevokedToken(TokenDigest.fromHex(event.getTokenHash()), expiresAtSecond);
+	}
+}
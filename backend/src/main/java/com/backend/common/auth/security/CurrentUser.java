@@ -0,0 +1,20 @@
+package com.backend.common.auth.security;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 파라미터에 현재 인증된 JwtPrincipal을 주입합니다.
+ * 예: {@code public ResponseEntity<?> me(@CurrentUser JwtPrincipal principal)}
+ *
+ * required=false이면 인증되지 않은 요청에서 null이 주입됩니다. (permitAll 경로용)
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CurrentUser {
+	boolean required() default true;
+}
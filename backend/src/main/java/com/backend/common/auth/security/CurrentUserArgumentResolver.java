@@ -0,0 +1,36 @@
+package com.backend.common.auth.security;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * @CurrentUser JwtPrincipal 파라미터 리졸버
+ * JwtAuthFilter가 SecurityContext에 설정한 principal을 그대로 반환하므로 토큰 서명 검증이 다시 일어나지 않습니다.
+ */
+public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+	@Override
+	public boolean supportsParameter(MethodParameter parameter) {
+		return parameter.hasParameterAnnotation(CurrentUser.class)
+				&& JwtPrincipal.class.isAssignableFrom(parameter.getParameterType());
+	}
+
+	@Override
+	public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+	                              NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication != null && authentication.getPrincipal() instanceof JwtPrincipal principal) {
+			return principal;
+		}
+		CurrentUser annotation = parameter.getParameterAnnotation(CurrentUser.class);
+		if (annotation != null && !annotation.required()) {
+			return null;
+		}
+		throw new IllegalArgumentException("인증 토큰이 필요합니다.");
+	}
+}
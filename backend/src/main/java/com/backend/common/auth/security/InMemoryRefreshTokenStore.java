@@ -0,0 +1,108 @@
+package com.backend.common.auth.security;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 메모리 기반 Refresh Token 저장소 (단일 노드/개발용)
+ * 서버 재시작 시 모든 세션이 초기화됩니다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.jwt.refresh-token.store", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+	// tokenHash -> record
+	private final Map<String, RefreshTokenRecord> byHash = new ConcurrentHashMap<>();
+	// username + '\0' + sessionId -> tokenHash
+	private final Map<String, String> bySession = new ConcurrentHashMap<>();
+	// (만료 epoch second, tokenHash) 순 정렬 인덱스
+	private final NavigableMap<String, String> expiryIndex = new ConcurrentSkipListMap<>();
+
+	@Override
+	public void save(RefreshTokenRecord record) {
+		String previousHash = bySession.put(sessionKey(record.getUsername(), record.getSessionId()), record.getTokenHash());
+		if (previousHash != null) {
+			remove(previousHash);
+		}
+		byHash.put(record.getTokenHash(), record);
+		expiryIndex.put(expiryKey(record), record.getTokenHash());
+	}
+
+	@Override
+	public Optional<RefreshTokenRecord> findByTokenHash(String tokenHash) {
+		return Optional.ofNullable(byHash.get(tokenHash));
+	}
+
+	@Override
+	public boolean rotate(String currentTokenHash, RefreshTokenRecord next) {
+		String key = sessionKey(next.getUsername(), next.getSessionId());
+		if (!bySession.replace(key, currentTokenHash, next.getTokenHash())) {
+			return false;
+		}
+		remove(currentTokenHash);
+		byHash.put(next.getTokenHash(), next);
+		expiryIndex.put(expiryKey(next), next.getTokenHash());
+		return true;
+	}
+
+	@Override
+	public void deleteSession(String username, String sessionId) {
+		String tokenHash = bySession.remove(sessionKey(username, sessionId));
+		if (tokenHash != null) {
+			remove(tokenHash);
+		}
+	}
+
+	@Override
+	public void deleteAllByUsername(String username) {
+		String prefix = username + '\0';
+		Iterator<Map.Entry<String, String>> it = bySession.entrySet().iterator();
+		while (it.hasNext()) {
+			Map.Entry<String, String> entry = it.next();
+			if (entry.getKey().startsWith(prefix)) {
+				it.remove();
+				remove(entry.getValue());
+			}
+		}
+	}
+
+	@Override
+	public int purgeExpired(Instant now, int batchSize) {
+		int removed = 0;
+		// 만료 시각 순으로 정렬되어 있으므로 앞에서부터 만료되지 않은 항목을 만나면 중단
+		String upperBound = String.format("%020d", now.getEpochSecond() + 1);
+		Iterator<Map.Entry<String, String>> it = expiryIndex.headMap(upperBound).entrySet().iterator();
+		while (removed < batchSize && it.hasNext()) {
+			String tokenHash = it.next().getValue();
+			it.remove();
+			RefreshTokenRecord record = byHash.remove(tokenHash);
+			if (record != null) {
+				bySession.remove(sessionKey(record.getUsername(), record.getSessionId()), tokenHash);
+				removed++;
+			}
+		}
+		return removed;
+	}
+
+	private void remove(String tokenHash) {
+		RefreshTokenRecord record = byHash.remove(tokenHash);
+		if (record != null) {
+			expiryIndex.remove(expiryKey(record));
+		}
+	}
+
+	private static String sessionKey(String username, String sessionId) {
+		return username + '\0' + sessionId;
+	}
+
+	private static String expiryKey(RefreshTokenRecord record) {
+		return String.format("%020d", record.getExpiresAt().getEpochSecond()) + record.getTokenHash();
+	}
+}
@@ -0,0 +1,120 @@
+package com.backend.common.auth.security;
+
+import com.backend.common.auth.entity.RefreshTokenEntity;
+import com.backend.common.auth.repository.RefreshTokenRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * DB 기반 Refresh Token 저장소 (기본값)
+ * - REFRESH_TOKENS 테이블에 (USER_NM, SESN_ID)당 1건 보관
+ * - 조회는 TOKEN_HASH 유니크 인덱스, 정리는 EXPIRES_AT 인덱스를 사용하므로 전체 스캔이 없음
+ * 서버 재시작 및 다중 노드 환경에서도 동일한 세션 정보를 공유합니다.
+ *
+ * 같은 세션의 최초 저장이 여러 노드에서 동시에 일어나면 INSERT 하나가 유니크 제약에 걸리므로,
+ * 저장은 별도 트랜잭션에서 UPDATE → INSERT 순으로 시도하고 제약 위반 시 UPDATE로 다시 시도합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.jwt.refresh-token.store", havingValue = "jpa", matchIfMissing = true)
+@Transactional
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+	private static final int SAVE_ATTEMPTS = 2;
+
+	private final RefreshTokenRepository refreshTokenRepository;
+	private final TransactionTemplate transactionTemplate;
+
+	public JpaRefreshTokenStore(RefreshTokenRepository refreshTokenRepository,
+	                            PlatformTransactionManager transactionManager) {
+		this.refreshTokenRepository = refreshTokenRepository;
+		// 제약 위반으로 롤백된 트랜잭션은 재사용할 수 없으므로 시도마다 새 트랜잭션 사용
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+	}
+
+	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public void save(RefreshTokenRecord record) {
+		LocalDateTime expiresAt = toLocalDateTime(record.getExpiresAt());
+		for (int attempt = 1; ; attempt++) {
+			try {
+				transactionTemplate.executeWithoutResult(status -> upsert(record, expiresAt));
+				return;
+			} catch (DataIntegrityViolationException e) {
+				// 다른 요청이 같은 세션을 먼저 INSERT한 경우: 다음 시도에서 UPDATE로 처리됨
+				if (attempt >= SAVE_ATTEMPTS) {
+					throw e;
+				}
+			}
+		}
+	}
+
+	private void upsert(RefreshTokenRecord record, LocalDateTime expiresAt) {
+		int updated = refreshTokenRepository.replace(record.getUsername(), record.getSessionId(),
+				record.getTokenHash(), expiresAt);
+		if (updated == 0) {
+			refreshTokenRepository.saveAndFlush(new RefreshTokenEntity(record.getUsername(), record.getSessionId(),
+					record.getTokenHash(), expiresAt, LocalDateTime.now()));
+		}
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Optional<RefreshTokenRecord> findByTokenHash(String tokenHash) {
+		return refreshTokenRepository.findByTokenHash(tokenHash)
+				.map(entity -> new RefreshTokenRecord(
+					entity.getUsername(),
+					entity.getSessionId(),
+					entity.getTokenHash(),
+					entity.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant()
+				));
+	}
+
+	@Override
+	public boolean rotate(String currentTokenHash, RefreshTokenRecord next) {
+		int updated = refreshTokenRepository.rotate(
+			next.getUsername(),
+			next.getSessionId(),
+			currentTokenHash,
+			next.getTokenHash(),
+			toLocalDateTime(next.getExpiresAt())
+		);
+		return updated > 0;
+	}
+
+	@Override
+	public void deleteSession(String username, String sessionId) {
+		refreshTokenRepository.deleteSession(username, sessionId);
+	}
+
+	@Override
+	public void deleteAllByUsername(String username) {
+		refreshTokenRepository.deleteAllByUsername(username);
+	}
+
+	@Override
+	public int purgeExpired(Instant now, int batchSize) {
+		List<String> ids = refreshTokenRepository.findExpiredIds(toLocalDateTime(now), PageRequest.of(0, batchSize));
+		if (ids.isEmpty()) {
+			return 0;
+		}
+		refreshTokenRepository.deleteAllByIdInBatch(ids);
+		return ids.size();
+	}
+
+	private static LocalDateTime toLocalDateTime(Instant instant) {
+		return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+	}
+}
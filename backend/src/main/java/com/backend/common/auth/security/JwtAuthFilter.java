@@ -17,10 +17,13 @@ import java.util.List;
 public class JwtAuthFilter extends OncePerRequestFilter {
 	private final JwtUtil jwtUtil;
 	private final TokenBlacklistService tokenBlacklistService;
+	private final TokenVersionService tokenVersionService;
 
-	public JwtAuthFilter(JwtUtil jwtUtil, TokenBlacklistService tokenBlacklistService) {
+	public JwtAuthFilter(JwtUtil jwtUtil, TokenBlacklistService tokenBlacklistService,
+	                     TokenVersionService tokenVersionService) {
 		this.jwtUtil = jwtUtil;
 		this.tokenBlacklistService = tokenBlacklistService;
+		this.tokenVersionService = tokenVersionService;
 	}
 
 	@Override
@@ -30,18 +33,17 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 		if (header != null && header.startsWith("Bearer ")) {
 			String token = header.substring(7);
 			
-			// 블랙리스트 확인
-			if (tokenBlacklistService.isBlacklisted(token)) {
-				filterChain.doFilter(request, response);
-				return;
-			}
-			
 			try {
-				String username = jwtUtil.getSubject(token);
-				String role = jwtUtil.getRole(token);
-				List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role));
-				Authentication auth = new UsernamePasswordAuthenticationToken(username, null, authorities);
-				SecurityContextHolder.getContext().setAuthentication(auth);
+				// 서명 검증은 한 번만 수행 (검증 결과는 JwtUtil 내부 캐시에 보관)
+				JwtClaims claims = jwtUtil.parse(token);
+				
+				// 블랙리스트(개별 로그아웃) 및 사용자 토큰 버전(전체 로그아웃/비밀번호 변경) 확인 - 모두 메모리 조회
+				if (!tokenBlacklistService.isBlacklisted(claims) && tokenVersionService.isCurrent(claims)) {
+					List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_" + claims.getRole()));
+					// 검증된 클레임을 principal로 보관하여 컨트롤러에서 토큰을 다시 파싱하지 않도록 함 (@CurrentUser)
+					Authentication auth = new UsernamePasswordAuthenticationToken(new JwtPrincipal(claims), null, authorities);
+					SecurityContextHolder.getContext().setAuthentication(auth);
+				}
 			} catch (Exception e) {
 				// 토큰 검증 실패 시 예외를 무시하고 계속 진행
 				// permitAll() 경로는 컨트롤러에서 직접 토큰 검증을 수행하므로 여기서는 통과시킴
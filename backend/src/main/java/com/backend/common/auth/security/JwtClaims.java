@@ -0,0 +1,69 @@
+package com.backend.common.auth.security;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 서명 검증이 끝난 JWT 클레임 (불변 객체)
+ * JwtUtil.parse()로만 생성되며, 동일 토큰에 대해 캐시된 인스턴스가 재사용됩니다.
+ * 토큰 다이제스트는 블랙리스트/Refresh Token 조회에서 처음 필요할 때 한 번만 계산합니다.
+ */
+public final class JwtClaims {
+	private final String token;
+	private volatile TokenDigest digest;
+	private final String subject;
+	private final Instant issuedAt;
+	private final Instant expiresAt;
+	private final Map<String, Object> claims;
+
+	JwtClaims(String token, String subject, Instant issuedAt, Instant expiresAt, Map<String, Object> claims) {
+		this.token = token;
+		this.subject = subject;
+		this.issuedAt = issuedAt;
+		this.expiresAt = expiresAt;
+		this.claims = Collections.unmodifiableMap(new LinkedHashMap<>(claims));
+	}
+
+	public TokenDigest getDigest() {
+		// 경쟁 시 두 번 계산될 수 있으나 결과가 같으므로 동기화하지 않음
+		TokenDigest current = digest;
+		if (current == null) {
+			current = TokenDigest.of(token);
+			digest = current;
+		}
+		return current;
+	}
+
+	public String getSubject() { return subject; }
+	public Instant getIssuedAt() { return issuedAt; }
+	public Instant getExpiresAt() { return expiresAt; }
+	public Map<String, Object> getClaims() { return claims; }
+
+	/**
+	 * 역할 클레임 (없으면 USER)
+	 */
+	public String getRole() {
+		Object role = claims.get("role");
+		return role != null ? role.toString() : "USER";
+	}
+
+	public String getType() {
+		Object type = claims.get("type");
+		return type != null ? type.toString() : null;
+	}
+
+	public boolean isRefreshToken() {
+		return "refresh".equals(getType());
+	}
+
+	public String getString(String name) {
+		Object value = claims.get(name);
+		return value != null ? value.toString() : null;
+	}
+
+	public boolean isExpired(Instant now) {
+		return expiresAt != null && !expiresAt.isAfter(now);
+	}
+}
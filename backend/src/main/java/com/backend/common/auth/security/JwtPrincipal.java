@@ -0,0 +1,76 @@
+package com.backend.common.auth.security;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+import java.time.Instant;
+
+/**
+ * JwtAuthFilter가 검증한 Access Token의 인증 주체
+ * 요청당 한 번 생성되어 SecurityContext의 Authentication principal로 설정되며,
+ * 컨트롤러는 @CurrentUser로 주입받아 토큰을 다시 파싱하지 않고 사용합니다.
+ */
+public final class JwtPrincipal implements AuthenticatedPrincipal {
+	public static final String CLAIM_USER_ROLE_ID = "roleId";
+
+	private final JwtClaims claims;
+
+	public JwtPrincipal(JwtClaims claims) {
+		this.claims = claims;
+	}
+
+	/**
+	 * 사용자명 (토큰 subject)
+	 */
+	@Override
+	public String getName() {
+		return claims.getSubject();
+	}
+
+	public String getUsername() {
+		return claims.getSubject();
+	}
+
+	/**
+	 * 역할 (USER: 관리자, MEMBER: 사용자)
+	 */
+	public String getRole() {
+		return claims.getRole();
+	}
+
+	/**
+	 * 사용자 역할 ID (관리자는 USER_ROLE, 회원은 MEMBER_ROLE 기준, 없으면 null)
+	 */
+	public String getUserRoleId() {
+		return claims.getString(CLAIM_USER_ROLE_ID);
+	}
+
+	/**
+	 * 로그인 세션(기기) 식별자 (이전 형식 토큰이면 null)
+	 */
+	public String getSessionId() {
+		return claims.getString("sid");
+	}
+
+	/**
+	 * 토큰 식별자 (토큰 SHA-256 다이제스트 hex)
+	 */
+	public String getTokenId() {
+		return claims.getDigest().toHex();
+	}
+
+	public Instant getExpiresAt() {
+		return claims.getExpiresAt();
+	}
+
+	/**
+	 * 검증된 원본 클레임 (블랙리스트 등록 등에 사용)
+	 */
+	public JwtClaims getClaims() {
+		return claims;
+	}
+
+	@Override
+	public String toString() {
+		return claims.getSubject();
+	}
+}
@@ -1,5 +1,7 @@
 package com.backend.common.auth.security;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -8,14 +10,29 @@ import javax.crypto.SecretKey;
 import java.time.Instant;
 import java.util.Date;
 import java.util.Map;
+import java.util.UUID;
 
 public class JwtUtil {
+	private static final int DEFAULT_VERIFIED_CACHE_SIZE = 10_000;
+
 	private final SecretKey secretKey;
 	private final long validitySeconds;
+	private final JwtParser parser;
+	private final VerifiedTokenCache verifiedTokenCache;
 
 	public JwtUtil(String base64Secret, long validitySeconds) {
+		this(base64Secret, validitySeconds, DEFAULT_VERIFIED_CACHE_SIZE);
+	}
+
+	/**
+	 * @param verifiedCacheSize 서명 검증 결과 캐시 최대 항목 수 (0이면 캐시 사용 안 함)
+	 */
+	public JwtUtil(String base64Secret, long validitySeconds, int verifiedCacheSize) {
 		this.secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(base64Secret));
 		this.validitySeconds = validitySeconds;
+		// JwtParser는 불변/스레드 안전하므로 한 번만 생성하여 재사용
+		this.parser = Jwts.parser().verifyWith(secretKey).build();
+		this.verifiedTokenCache = new VerifiedTokenCache(verifiedCacheSize);
 	}
 
 	public String generateToken(String subject, Map<String, Object> claims) {
@@ -29,17 +46,46 @@ public class JwtUtil {
 				.compact();
 	}
 
+	/**
+	 * Access Token 유효 시간 (초)
+	 */
+	public long getValiditySeconds() {
+		return validitySeconds;
+	}
+
+	/**
+	 * 토큰 서명을 검증하고 클레임을 반환합니다.
+	 * 같은 토큰은 만료 전까지 캐시된 결과를 반환하므로 서명 검증은 토큰당 한 번만 수행됩니다.
+	 * 캐시 조회는 토큰 문자열로 하며, SHA-256 다이제스트는 필요한 시점에 JwtClaims에서 계산합니다.
+	 * @param token JWT 토큰
+	 * @return 검증된 클레임
+	 * @throws io.jsonwebtoken.JwtException 서명 불일치, 만료 등 검증 실패 시
+	 */
+	public JwtClaims parse(String token) {
+		Instant now = Instant.now();
+		JwtClaims cached = verifiedTokenCache.get(token, now);
+		if (cached != null) {
+			return cached;
+		}
+
+		Claims payload = parser.parseSignedClaims(token).getPayload();
+		JwtClaims claims = new JwtClaims(
+			token,
+			payload.getSubject(),
+			payload.getIssuedAt() != null ? payload.getIssuedAt().toInstant() : null,
+			payload.getExpiration() != null ? payload.getExpiration().toInstant() : null,
+			payload
+		);
+		verifiedTokenCache.put(token, claims, now);
+		return claims;
+	}
+
 	public String getSubject(String token) {
-		return Jwts.parser().verifyWith(secretKey).build()
-				.parseSignedClaims(token)
-				.getPayload().getSubject();
+		return parse(token).getSubject();
 	}
 
 	public String getRole(String token) {
-		Object role = Jwts.parser().verifyWith(secretKey).build()
-				.parseSignedClaims(token)
-				.getPayload().get("role");
-		return role != null ? role.toString() : "USER";
+		return parse(token).getRole();
 	}
 
 	public String getUsername(String token) {
@@ -47,16 +93,22 @@ public class JwtUtil {
 	}
 
 	/**
-	 * Refresh Token 생성 (더 긴 만료시간)
+	 * Refresh Token 생성 (더 긴 만료시간, 세션(기기) 식별자와 토큰 버전 포함)
 	 * @param subject 사용자명
+	 * @param sessionId 세션 식별자 (sid 클레임)
+	 * @param tokenVersion 사용자 토큰 버전 (ver 클레임)
 	 * @param refreshValiditySeconds Refresh Token 만료시간 (초)
 	 * @return Refresh Token
 	 */
-	public String generateRefreshToken(String subject, long refreshValiditySeconds) {
+	public String generateRefreshToken(String subject, String sessionId, int tokenVersion, long refreshValiditySeconds) {
 		Instant now = Instant.now();
 		return Jwts.builder()
 				.subject(subject)
-				.claim("type", "refresh") // Refresh Token임을 표시
+				.claim("type", "refresh")
+				.claim("sid", sessionId)
+				.claim("ver", tokenVersion)
+				// 같은 초에 같은 세션으로 재발급해도 토큰(해시)이 달라지도록 고유 ID 부여
+				.id(UUID.randomUUID().toString())
 				.issuedAt(Date.from(now))
 				.expiration(Date.from(now.plusSeconds(refreshValiditySeconds)))
 				.signWith(secretKey)
@@ -70,14 +122,9 @@ public class JwtUtil {
 	 */
 	public boolean isRefreshToken(String token) {
 		try {
-			Object type = Jwts.parser().verifyWith(secretKey).build()
-					.parseSignedClaims(token)
-					.getPayload().get("type");
-			return "refresh".equals(type);
+			return parse(token).isRefreshToken();
 		} catch (Exception e) {
 			return false;
 		}
 	}
 }
-
-
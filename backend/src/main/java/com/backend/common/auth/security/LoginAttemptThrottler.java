@@ -0,0 +1,175 @@
+package com.backend.common.auth.security;
+
+import com.backend.core.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로그인 실패 횟수 제한 (사용자명별, 클라이언트 IP별)
+ * - 키마다 슬라이딩 윈도우 상태를 AtomicLong 하나에 압축하여 CAS로 갱신 (락 없음)
+ *   [상위 32비트: 윈도우 번호][16비트: 이전 윈도우 실패 수][16비트: 현재 윈도우 실패 수]
+ * - 추정 실패 수 = 현재 윈도우 실패 수 + 이전 윈도우 실패 수 × (현재 윈도우의 남은 비율)
+ * - 최대 키 수를 넘으면 두 윈도우 이상 실패가 없던(idle) 키부터 제거하여 메모리 상한 유지
+ * 제한을 넘은 요청은 사용자 조회와 BCrypt 검증 전에 429로 거절합니다.
+ *
+ * IP 기준 제한은 app.auth.login-throttle.per-ip-enabled=true일 때만 적용합니다.
+ * 클라이언트 IP는 request.getRemoteAddr()이므로, 프록시 뒤에서는 server.forward-headers-strategy로
+ * 실제 클라이언트 IP가 반영되도록 설정한 경우에만 켜야 합니다. (그렇지 않으면 모든 요청이 프록시 IP 하나로 집계됨)
+ */
+@Component
+public class LoginAttemptThrottler {
+	private static final long COUNT_MASK = 0xFFFFL;
+
+	private final long windowMillis;
+	private final int maxFailuresPerUser;
+	private final int maxFailuresPerIp;
+	private final boolean perIpEnabled;
+	private final int maxKeys;
+	private final Map<String, AtomicLong> states = new ConcurrentHashMap<>();
+	private final AtomicBoolean evicting = new AtomicBoolean(false);
+	private final Counter throttledByUser;
+	private final Counter throttledByIp;
+
+	public LoginAttemptThrottler(MeterRegistry meterRegistry,
+	                             @Value("${app.auth.login-throttle.window-seconds:300}") long windowSeconds,
+	                             @Value("${app.auth.login-throttle.max-failures-per-user:10}") int maxFailuresPerUser,
+	                             @Value("${app.auth.login-throttle.max-failures-per-ip:50}") int maxFailuresPerIp,
+	                             @Value("${app.auth.login-throttle.per-ip-enabled:false}") boolean perIpEnabled,
+	                             @Value("${app.auth.login-throttle.max-keys:100000}") int maxKeys) {
+		this.windowMillis = windowSeconds * 1000;
+		this.maxFailuresPerUser = maxFailuresPerUser;
+		this.maxFailuresPerIp = maxFailuresPerIp;
+		this.perIpEnabled = perIpEnabled;
+		this.maxKeys = maxKeys;
+		this.throttledByUser = Counter.builder("auth.login.throttled")
+				.tag("key", "username")
+				.description("로그인 실패 횟수 초과로 거절된 요청 수")
+				.register(meterRegistry);
+		this.throttledByIp = Counter.builder("auth.login.throttled")
+				.tag("key", "ip")
+				.description("로그인 실패 횟수 초과로 거절된 요청 수")
+				.register(meterRegistry);
+		Gauge.builder("auth.login.throttle.keys", states, Map::size)
+				.description("로그인 실패 추적 중인 키 수")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * 로그인 시도 허용 여부 확인
+	 * @throws TooManyRequestsException 사용자명 또는 IP의 최근 실패 횟수가 제한을 넘은 경우
+	 */
+	public void checkAllowed(String username, String clientIp) {
+		long now = System.currentTimeMillis();
+		if (estimate(userKey(username), now) >= maxFailuresPerUser) {
+			throttledByUser.increment();
+			throw new TooManyRequestsException("로그인 시도 횟수를 초과했습니다. 잠시 후 다시 시도해주세요.", retryAfterSeconds(now));
+		}
+		if (perIpEnabled && clientIp != null && estimate(ipKey(clientIp), now) >= maxFailuresPerIp) {
+			throttledByIp.increment();
+			throw new TooManyRequestsException("로그인 시도 횟수를 초과했습니다. 잠시 후 다시 시도해주세요.", retryAfterSeconds(now));
+		}
+	}
+
+	/**
+	 * 로그인 실패 기록
+	 */
+	public void recordFailure(String username, String clientIp) {
+		long now = System.currentTimeMillis();
+		increment(userKey(username), now);
+		if (perIpEnabled && clientIp != null) {
+			increment(ipKey(clientIp), now);
+		}
+	}
+
+	/**
+	 * 로그인 성공 시 사용자명 기준 실패 기록 초기화 (IP 기준 기록은 유지)
+	 */
+	public void recordSuccess(String username) {
+		states.remove(userKey(username));
+	}
+
+	private double estimate(String key, long now) {
+		AtomicLong state = states.get(key);
+		if (state == null) {
+			return 0;
+		}
+		long current = roll(state.get(), now / windowMillis);
+		long previousCount = (current >>> 16) & COUNT_MASK;
+		long currentCount = current & COUNT_MASK;
+		double remaining = 1.0 - (double) (now % windowMillis) / windowMillis;
+		return currentCount + previousCount * remaining;
+	}
+
+	private void increment(String key, long now) {
+		AtomicLong state = states.get(key);
+		if (state == null) {
+			if (states.size() >= maxKeys) {
+				evictIdle(now);
+			}
+			state = states.computeIfAbsent(key, k -> new AtomicLong());
+		}
+		long window = now / windowMillis;
+		long prev;
+		long next;
+		do {
+			prev = state.get();
+			long rolled = roll(prev, window);
+			long count = Math.min(COUNT_MASK, (rolled & COUNT_MASK) + 1);
+			next = (rolled & ~COUNT_MASK) | count;
+		} while (!state.compareAndSet(prev, next));
+	}
+
+	/**
+	 * 상태를 지정한 윈도우 기준으로 이동
+	 * 한 윈도우 지났으면 현재 실패 수를 이전으로 옮기고, 두 윈도우 이상 지났으면 모두 0으로 초기화
+	 */
+	private static long roll(long state, long window) {
+		long stateWindow = state >>> 32;
+		if (stateWindow == window) {
+			return state;
+		}
+		long previousCount = stateWindow == window - 1 ? state & COUNT_MASK : 0;
+		return (window << 32) | (previousCount << 16);
+	}
+
+	private void evictIdle(long now) {
+		// 동시에 여러 스레드가 정리하지 않도록 한 스레드만 수행
+		if (!evicting.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			long idleBefore = now / windowMillis - 1;
+			states.values().removeIf(state -> (state.get() >>> 32) < idleBefore);
+			int target = maxKeys - Math.max(1, maxKeys / 10);
+			Iterator<String> it = states.keySet().iterator();
+			while (states.size() > target && it.hasNext()) {
+				it.next();
+				it.remove();
+			}
+		} finally {
+			evicting.set(false);
+		}
+	}
+
+	private long retryAfterSeconds(long now) {
+		return Math.max(1, (windowMillis - now % windowMillis) / 1000);
+	}
+
+	private static String userKey(String username) {
+		return "u:" + (username == null ? "" : username.toLowerCase(Locale.ROOT));
+	}
+
+	private static String ipKey(String clientIp) {
+		return "ip:" + clientIp;
+	}
+}
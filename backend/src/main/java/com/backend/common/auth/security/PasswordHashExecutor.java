@@ -0,0 +1,108 @@
+package com.backend.common.auth.security;
+
+import com.backend.core.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 로그인 비밀번호 검증(BCrypt) 전용 실행기
+ * - CPU 코어 수만큼의 스레드와 크기가 제한된 대기 큐를 사용
+ * - 큐가 가득 차면 즉시 ServiceBusyException(503)으로 거절하여, 로그인 폭주 시에도
+ *   BCrypt 연산이 요청 처리 스레드와 CPU를 모두 점유하지 않도록 함
+ * 요청 스레드는 결과를 기다리지만 CPU를 사용하지 않으므로 사이트/메뉴 조회 같은 가벼운 요청은 계속 처리됩니다.
+ */
+@Component
+public class PasswordHashExecutor {
+	private final PasswordEncoder passwordEncoder;
+	private final ThreadPoolExecutor executor;
+	private final long timeoutMillis;
+	private final Timer hashTimer;
+	private final Counter rejectedCounter;
+
+	public PasswordHashExecutor(PasswordEncoder passwordEncoder, MeterRegistry meterRegistry,
+	                            @Value("${app.auth.password-hash.threads:0}") int threads,
+	                            @Value("${app.auth.password-hash.queue-capacity:64}") int queueCapacity,
+	                            @Value("${app.auth.password-hash.timeout-ms:5000}") long timeoutMillis) {
+		this.passwordEncoder = passwordEncoder;
+		this.timeoutMillis = timeoutMillis;
+		int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+		AtomicInteger threadIndex = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(
+			poolSize, poolSize,
+			0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(queueCapacity),
+			runnable -> {
+				Thread thread = new Thread(runnable, "password-hash-" + threadIndex.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			},
+			new ThreadPoolExecutor.AbortPolicy()
+		);
+
+		this.hashTimer = Timer.builder("auth.password.hash.duration")
+				.description("비밀번호 해시 검증 소요 시간")
+				.publishPercentiles(0.5, 0.99)
+				.register(meterRegistry);
+		this.rejectedCounter = Counter.builder("auth.password.hash.rejected")
+				.description("큐 포화로 거절된 비밀번호 검증 요청 수")
+				.register(meterRegistry);
+		Gauge.builder("auth.password.hash.queue", executor, e -> e.getQueue().size())
+				.description("비밀번호 검증 대기 큐 길이")
+				.register(meterRegistry);
+		Gauge.builder("auth.password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+				.description("비밀번호 검증 중인 스레드 수")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * 전용 실행기에서 비밀번호를 검증합니다.
+	 * @throws ServiceBusyException 대기 큐가 가득 찼거나 제한 시간 내에 검증하지 못한 경우
+	 */
+	public boolean matches(String rawPassword, String encodedPassword) {
+		Future<Boolean> future;
+		try {
+			future = executor.submit(() -> hashTimer.recordCallable(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+		} catch (RejectedExecutionException e) {
+			rejectedCounter.increment();
+			throw new ServiceBusyException("로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+		}
+
+		try {
+			return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			future.cancel(true);
+			rejectedCounter.increment();
+			throw new ServiceBusyException("로그인 처리 시간이 초과되었습니다. 잠시 후 다시 시도해주세요.", e);
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new ServiceBusyException("로그인 처리가 중단되었습니다.", e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException("비밀번호 검증 중 오류가 발생했습니다.", cause);
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+}
@@ -0,0 +1,30 @@
+package com.backend.common.auth.security;
+
+import java.time.Instant;
+
+/**
+ * 저장된 Refresh Token 정보 (불변 객체)
+ * 토큰 원문은 보관하지 않고 SHA-256 해시(hex)만 보관합니다.
+ */
+public final class RefreshTokenRecord {
+	private final String username;
+	private final String sessionId;
+	private final String tokenHash;
+	private final Instant expiresAt;
+
+	public RefreshTokenRecord(String username, String sessionId, String tokenHash, Instant expiresAt) {
+		this.username = username;
+		this.sessionId = sessionId;
+		this.tokenHash = tokenHash;
+		this.expiresAt = expiresAt;
+	}
+
+	public String getUsername() { return username; }
+	public String getSessionId() { return sessionId; }
+	public String getTokenHash() { return tokenHash; }
+	public Instant getExpiresAt() { return expiresAt; }
+
+	public boolean isExpired(Instant now) {
+		return !expiresAt.isAfter(now);
+	}
+}
@@ -1,53 +1,238 @@
 package com.backend.common.auth.security;
 
+import com.backend.common.cluster.service.ClusterLockService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Refresh Token 저장 및 검증 서비스
- * 메모리 기반 저장 (프로덕션에서는 DB 사용 권장)
+ * - 사용자명 + 세션(기기) 식별자별로 토큰 해시를 RefreshTokenStore에 저장 (기기별 다중 로그인 지원)
+ * - 조회 결과는 짧은 TTL의 노드 로컬 캐시(near-cache)에 보관하여 저장소 조회를 줄임
+ * - 토큰 교체(rotation)는 저장소에서 기존 해시 기준으로 원자적으로 수행되므로 같은 토큰의 재사용을 막음
  */
 @Service
 public class RefreshTokenService {
-	// username -> refreshToken 저장
-	private final Map<String, String> refreshTokens = new ConcurrentHashMap<>();
+	private static final Logger logger = LoggerFactory.getLogger(RefreshTokenService.class);
+	private static final int MAX_DEVICE_ID_LENGTH = 64;
+	private static final String DEVICE_SESSION_PREFIX = "d-";
+	private static final int PURGE_BATCH_SIZE = 500;
+
+	private final RefreshTokenStore refreshTokenStore;
+	private final RevocationEventLog revocationEventLog;
+	private final ClusterLockService clusterLockService;
+	private final long nearCacheTtlMillis;
+	private final int nearCacheMaxEntries;
+	// tokenHash -> 캐시 항목
+	private final Map<String, CachedRecord> nearCache = new ConcurrentHashMap<>();
+
+	public RefreshTokenService(RefreshTokenStore refreshTokenStore, RevocationEventLog revocationEventLog,
+	                           ClusterLockService clusterLockService,
+	                           @Value("${app.jwt.refresh-token.near-cache-ttl-seconds:30}") long nearCacheTtlSeconds,
+	                           @Value("${app.jwt.refresh-token.near-cache-size:10000}") int nearCacheMaxEntries) {
+		this.refreshTokenStore = refreshTokenStore;
+		this.revocationEventLog = revocationEventLog;
+		this.clusterLockService = clusterLockService;
+		this.nearCacheTtlMillis = nearCacheTtlSeconds * 1000;
+		this.nearCacheMaxEntries = nearCacheMaxEntries;
+	}
+
+	/**
+	 * 로그인 세션 식별자 결정
+	 * 클라이언트가 보낸 기기 식별자는 그대로 쓰지 않고, 인증된 사용자명과 함께 해시하여 서버에서 만듭니다.
+	 * 같은 사용자가 같은 기기로 다시 로그인하면 같은 세션이 교체되고, 다른 사용자의 세션 식별자는 만들 수 없습니다.
+	 * 기기 식별자가 없거나 형식이 맞지 않으면 새 세션을 발급합니다.
+	 * @param username 인증된 사용자명
+	 * @param deviceId 클라이언트가 보낸 기기 식별자 (선택)
+	 * @return 세션 식별자
+	 */
+	public String resolveSessionId(String username, String deviceId) {
+		if (deviceId == null || deviceId.isBlank() || deviceId.length() > MAX_DEVICE_ID_LENGTH) {
+			return UUID.randomUUID().toString();
+		}
+		return DEVICE_SESSION_PREFIX + deviceSessionHash(username, deviceId.trim());
+	}
+
+	private static String deviceSessionHash(String username, String deviceId) {
+		try {
+			MessageDigest md = MessageDigest.getInstance("SHA-256");
+			md.update(username.getBytes(StandardCharsets.UTF_8));
+			md.update((byte) 0);
+			md.update(deviceId.getBytes(StandardCharsets.UTF_8));
+			// 세션 식별자 컬럼(64자)에 맞춰 앞 16바이트만 사용
+			return HexFormat.of().formatHex(md.digest(), 0, 16);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+		}
+	}
 
 	/**
-	 * Refresh Token 저장
-	 * @param username 사용자명
-	 * @param refreshToken Refresh Token
+	 * Refresh Token 저장 (같은 세션의 기존 토큰은 교체)
+	 * @param refreshToken 발급한 Refresh Token의 검증된 클레임
+	 * @param sessionId 세션 식별자
 	 */
-	public void saveRefreshToken(String username, String refreshToken) {
-		refreshTokens.put(username, refreshToken);
+	public void saveRefreshToken(JwtClaims refreshToken, String sessionId) {
+		RefreshTokenRecord record = toRecord(refreshToken, sessionId);
+		refreshTokenStore.save(record);
+		cache(record);
 	}
 
 	/**
 	 * Refresh Token 검증
-	 * @param username 사용자명
-	 * @param refreshToken Refresh Token
+	 * 저장소에 해당 토큰이 존재하고, 사용자명/세션 식별자가 토큰 클레임과 일치하며 만료되지 않았는지 확인합니다.
+	 * @param refreshToken 검증된 Refresh Token 클레임
 	 * @return 유효하면 true
 	 */
-	public boolean validateRefreshToken(String username, String refreshToken) {
-		String storedToken = refreshTokens.get(username);
-		return storedToken != null && storedToken.equals(refreshToken);
+	public boolean validateRefreshToken(JwtClaims refreshToken) {
+		String sessionId = refreshToken.getString("sid");
+		if (sessionId == null) {
+			return false;
+		}
+		return find(refreshToken.getDigest().toHex())
+				.filter(record -> !record.isExpired(Instant.now()))
+				.filter(record -> record.getUsername().equals(refreshToken.getSubject()))
+				.filter(record -> record.getSessionId().equals(sessionId))
+				.isPresent();
+	}
+
+	/**
+	 * Refresh Token 교체 (Rotation)
+	 * 기존 토큰이 아직 저장되어 있을 때만 새 토큰으로 교체합니다.
+	 * @return 교체했으면 true, 이미 교체/삭제된 토큰이면 false
+	 */
+	public boolean rotateRefreshToken(JwtClaims current, JwtClaims next) {
+		String currentHash = current.getDigest().toHex();
+		nearCache.remove(currentHash);
+		RefreshTokenRecord record = toRecord(next, current.getString("sid"));
+		if (!refreshTokenStore.rotate(currentHash, record)) {
+			return false;
+		}
+		cache(record);
+		return true;
+	}
+
+	/**
+	 * 특정 세션의 Refresh Token 삭제 (로그아웃 시)
+	 */
+	public void removeRefreshToken(String username, String sessionId) {
+		refreshTokenStore.deleteSession(username, sessionId);
+		evictSession(username, sessionId);
+		revocationEventLog.sessionRevoked(username, sessionId);
+	}
+
+	/**
+	 * 사용자의 모든 세션 Refresh Token 삭제
+	 */
+	public void removeAllRefreshTokens(String username) {
+		refreshTokenStore.deleteAllByUsername(username);
+		evictUser(username);
+		revocationEventLog.userRevoked(username);
+	}
+
+	/**
+	 * near-cache에서 세션 항목 제거 (다른 노드의 세션 삭제 이벤트 반영용)
+	 */
+	void evictSession(String username, String sessionId) {
+		nearCache.values().removeIf(cached -> cached.record.getUsername().equals(username)
+				&& cached.record.getSessionId().equals(sessionId));
 	}
 
 	/**
-	 * Refresh Token 삭제 (로그아웃 시)
-	 * @param username 사용자명
+	 * near-cache에서 사용자의 모든 항목 제거 (다른 노드의 사용자 전체 삭제 이벤트 반영용)
 	 */
-	public void removeRefreshToken(String username) {
-		refreshTokens.remove(username);
+	void evictUser(String username) {
+		nearCache.values().removeIf(cached -> cached.record.getUsername().equals(username));
 	}
 
 	/**
-	 * 만료된 Refresh Token 정리 (선택적)
+	 * 만료된 Refresh Token 정리
+	 * EXPIRES_AT 순으로 일정 건수씩 나누어 삭제하여 긴 트랜잭션/락을 피합니다.
+	 * near-cache는 노드마다 정리하고, 저장소 삭제는 클러스터에서 한 노드만 수행합니다.
 	 */
+	@Scheduled(fixedDelayString = "${app.jwt.refresh-token.purge-interval-ms:600000}",
+	           initialDelayString = "${app.jwt.refresh-token.purge-interval-ms:600000}")
 	public void cleanupExpiredTokens() {
-		// 메모리 기반이므로 서버 재시작 시 자동으로 초기화됨
-		// 실제로는 만료 시간을 추적하여 정기적으로 정리하는 것이 좋습니다
+		Instant now = Instant.now();
+		long nowMillis = now.toEpochMilli();
+		nearCache.values().removeIf(cached -> cached.isStale(nowMillis) || cached.record.isExpired(now));
+
+		clusterLockService.runExclusively("refresh-token-purge", () -> {
+			int total = 0;
+			int removed;
+			do {
+				removed = refreshTokenStore.purgeExpired(now, PURGE_BATCH_SIZE);
+				total += removed;
+			} while (removed == PURGE_BATCH_SIZE);
+
+			if (total > 0) {
+				logger.debug("만료된 Refresh Token 정리: removed={}", total);
+			}
+		});
 	}
-}
 
+	private Optional<RefreshTokenRecord> find(String tokenHash) {
+		CachedRecord cached = nearCache.get(tokenHash);
+		if (cached != null) {
+			if (!cached.isStale(System.currentTimeMillis())) {
+				return Optional.of(cached.record);
+			}
+			nearCache.remove(tokenHash, cached);
+		}
+		Optional<RefreshTokenRecord> record = refreshTokenStore.findByTokenHash(tokenHash);
+		record.ifPresent(this::cache);
+		return record;
+	}
+
+	private void cache(RefreshTokenRecord record) {
+		if (nearCacheMaxEntries <= 0 || nearCacheTtlMillis <= 0) {
+			return;
+		}
+		if (nearCache.size() >= nearCacheMaxEntries) {
+			long nowMillis = System.currentTimeMillis();
+			nearCache.values().removeIf(cached -> cached.isStale(nowMillis));
+			if (nearCache.size() >= nearCacheMaxEntries) {
+				// 캐시는 저장소 조회를 줄이는 용도이므로 넘치면 비워도 정확성에는 영향 없음
+				nearCache.clear();
+			}
+		}
+		nearCache.put(record.getTokenHash(), new CachedRecord(record, System.currentTimeMillis() + nearCacheTtlMillis));
+	}
+
+	private static RefreshTokenRecord toRecord(JwtClaims refreshToken, String sessionId) {
+		if (sessionId == null || refreshToken.getExpiresAt() == null) {
+			throw new IllegalArgumentException("유효하지 않은 Refresh Token입니다.");
+		}
+		return new RefreshTokenRecord(
+			refreshToken.getSubject(),
+			sessionId,
+			refreshToken.getDigest().toHex(),
+			refreshToken.getExpiresAt()
+		);
+	}
+
+	private static final class CachedRecord {
+		private final RefreshTokenRecord record;
+		private final long staleAtMillis;
+
+		private CachedRecord(RefreshTokenRecord record, long staleAtMillis) {
+			this.record = record;
+			this.staleAtMillis = staleAtMillis;
+		}
+
+		private boolean isStale(long nowMillis) {
+			return nowMillis >= staleAtMillis;
+		}
+	}
+}
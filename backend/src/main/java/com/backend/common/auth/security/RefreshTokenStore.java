@@ -0,0 +1,45 @@
+package com.backend.common.auth.security;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Refresh Token 저장소
+ * - 사용자명 + 세션(기기) 식별자당 1건을 보관하며, 같은 세션에 다시 저장하면 교체됩니다.
+ * - 구현체는 app.jwt.refresh-token.store 설정으로 선택합니다. (jpa: DB, memory: 메모리)
+ */
+public interface RefreshTokenStore {
+
+	/**
+	 * 세션의 Refresh Token 저장 (기존 토큰은 교체)
+	 */
+	void save(RefreshTokenRecord record);
+
+	/**
+	 * 토큰 해시로 조회
+	 */
+	Optional<RefreshTokenRecord> findByTokenHash(String tokenHash);
+
+	/**
+	 * 세션의 토큰을 새 토큰으로 교체 (compare-and-set)
+	 * 저장된 토큰 해시가 currentTokenHash와 같을 때만 교체하므로, 같은 토큰으로 동시에 갱신해도 한 번만 성공합니다.
+	 * @return 교체했으면 true
+	 */
+	boolean rotate(String currentTokenHash, RefreshTokenRecord next);
+
+	/**
+	 * 특정 세션의 Refresh Token 삭제
+	 */
+	void deleteSession(String username, String sessionId);
+
+	/**
+	 * 사용자의 모든 세션 Refresh Token 삭제
+	 */
+	void deleteAllByUsername(String username);
+
+	/**
+	 * 만료된 Refresh Token을 최대 batchSize 건 삭제
+	 * @return 삭제한 건수 (batchSize보다 작으면 더 이상 정리할 항목이 없음)
+	 */
+	int purgeExpired(Instant now, int batchSize);
+}
@@ -0,0 +1,78 @@
+package com.backend.common.auth.security;
+
+import com.backend.common.auth.entity.RevocationEventEntity;
+import com.backend.common.auth.repository.RevocationEventRepository;
+import com.backend.core.transaction.AfterCommit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+
+/**
+ * 토큰 무효화 이벤트 기록 (REVOCATION_EVENTS)
+ * 로컬 상태를 변경한 노드가 이벤트를 남기면, 다른 노드는 ClusterRevocationSync가 주기적으로 읽어 반영합니다.
+ * 호출한 쪽의 트랜잭션이 있으면 커밋된 뒤에 별도 트랜잭션으로 기록하므로,
+ * 다른 노드는 이벤트를 읽는 시점에 항상 커밋된 변경 내용을 보게 됩니다.
+ */
+@Component
+public class RevocationEventLog {
+	// 세션/사용자 이벤트는 다른 노드의 near-cache만 비우면 되므로 짧게 보관
+	private static final long SESSION_EVENT_RETENTION_SECONDS = 600;
+
+	private final RevocationEventRepository revocationEventRepository;
+	private final TransactionTemplate transactionTemplate;
+	// 이 JVM(노드)의 식별자 - 자신이 남긴 이벤트는 폴링 시 건너뜀
+	private final String nodeId = UUID.randomUUID().toString();
+
+	public RevocationEventLog(RevocationEventRepository revocationEventRepository,
+	                          PlatformTransactionManager transactionManager) {
+		this.revocationEventRepository = revocationEventRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+	}
+
+	public String getNodeId() {
+		return nodeId;
+	}
+
+	/**
+	 * Access Token 블랙리스트 등록 이벤트 (토큰 만료 시각까지 보관)
+	 */
+	public void tokenRevoked(TokenDigest digest, long expiresAtSecond) {
+		append(RevocationEventType.TOKEN, null, null, digest.toHex(), Instant.ofEpochSecond(expiresAtSecond));
+	}
+
+	/**
+	 * 세션(기기) Refresh Token 삭제 이벤트
+	 */
+	public void sessionRevoked(String username, String sessionId) {
+		append(RevocationEventType.SESSION, username, sessionId, null,
+			Instant.now().plusSeconds(SESSION_EVENT_RETENTION_SECONDS));
+	}
+
+	/**
+	 * 사용자 전체 세션 삭제 이벤트 (토큰 버전 변경 포함)
+	 */
+	public void userRevoked(String username) {
+		append(RevocationEventType.USER, username, null, null,
+			Instant.now().plusSeconds(SESSION_EVENT_RETENTION_SECONDS));
+	}
+
+	private void append(RevocationEventType type, String username, String sessionId, String tokenHash, Instant expiresAt) {
+		RevocationEventEntity event = new RevocationEventEntity(
+			type,
+			username,
+			sessionId,
+			tokenHash,
+			nodeId,
+			LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()),
+			LocalDateTime.now()
+		);
+		AfterCommit.run(() -> transactionTemplate.executeWithoutResult(status -> revocationEventRepository.save(event)));
+	}
+}
@@ -0,0 +1,13 @@
+package com.backend.common.auth.security;
+
+/**
+ * 노드 간 공유되는 토큰 무효화 이벤트 종류
+ */
+public enum RevocationEventType {
+	/** Access Token 1건 블랙리스트 등록 */
+	TOKEN,
+	/** 특정 세션(기기)의 Refresh Token 삭제 */
+	SESSION,
+	/** 사용자의 모든 세션 Refresh Token 삭제 및 토큰 버전 변경 */
+	USER
+}
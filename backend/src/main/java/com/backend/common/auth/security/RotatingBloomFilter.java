@@ -0,0 +1,141 @@
+package com.backend.common.auth.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongBinaryOperator;
+
+/**
+ * 토큰 만료 시각 기준으로 세대(generation)를 나눈 lock-free Bloom 필터
+ * - 토큰은 만료 시각이 속한 세대 필터에만 기록되고, 조회도 해당 세대 하나만 확인
+ * - 세대가 만료되면 필터 전체를 버리므로 오탐(false positive)이 누적되지 않음
+ * - 해시는 이미 계산된 SHA-256 다이제스트 워드를 그대로 사용 (double hashing)
+ */
+final class RotatingBloomFilter {
+	private static final int HASH_COUNT = 5;
+	private static final LongBinaryOperator BIT_OR = (a, b) -> a | b;
+
+	private final long generationSeconds;
+	private final long bitMask;
+	private final int wordCount;
+	private final AtomicReferenceArray<Generation> slots;
+
+	/**
+	 * @param generationSeconds 세대 하나가 담당하는 만료 시각 구간 (초)
+	 * @param maxLifetimeSeconds 기록될 수 있는 토큰의 최대 잔여 수명 (초)
+	 * @param bitsPerGeneration 세대당 비트 수 (2의 거듭제곱으로 올림)
+	 */
+	RotatingBloomFilter(long generationSeconds, long maxLifetimeSeconds, int bitsPerGeneration) {
+		this.generationSeconds = generationSeconds;
+		int bits = Integer.highestOneBit(Math.max(64, bitsPerGeneration - 1)) << 1;
+		this.bitMask = bits - 1L;
+		this.wordCount = bits >>> 6;
+		this.slots = new AtomicReferenceArray<>((int) (maxLifetimeSeconds / generationSeconds) + 2);
+	}
+
+	/**
+	 * @return 기록했으면 true, 만료 시각이 관리 범위를 벗어나 기록하지 못했으면 false
+	 */
+	boolean add(TokenDigest digest, long expiresAtSecond, long nowSecond) {
+		long epoch = expiresAtSecond / generationSeconds;
+		if (!inRange(epoch, nowSecond)) {
+			return false;
+		}
+		Generation generation = generationFor(epoch);
+		long h1 = digest.word(1);
+		long h2 = digest.word(2) | 1L;
+		for (int i = 0; i < HASH_COUNT; i++) {
+			long bit = (h1 + i * h2) & bitMask;
+			int index = (int) (bit >>> 6);
+			long mask = 1L << bit;
+			if ((generation.words.get(index) & mask) == 0) {
+				generation.words.getAndAccumulate(index, mask, BIT_OR);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return false이면 확실히 기록되지 않은 토큰, true이면 기록되었을 수 있음
+	 */
+	boolean mightContain(TokenDigest digest, long expiresAtSecond, long nowSecond) {
+		long epoch = expiresAtSecond / generationSeconds;
+		if (!inRange(epoch, nowSecond)) {
+			// 관리 범위 밖의 토큰은 판단하지 않고 정확한 조회로 넘김
+			return true;
+		}
+		Generation generation = slots.get(slotOf(epoch));
+		if (generation == null || generation.epoch != epoch) {
+			return false;
+		}
+		long h1 = digest.word(1);
+		long h2 = digest.word(2) | 1L;
+		for (int i = 0; i < HASH_COUNT; i++) {
+			long bit = (h1 + i * h2) & bitMask;
+			if ((generation.words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 만료된 세대 필터 해제
+	 */
+	void expire(long nowSecond) {
+		long nowEpoch = nowSecond / generationSeconds;
+		for (int i = 0; i < slots.length(); i++) {
+			Generation generation = slots.get(i);
+			if (generation != null && generation.epoch < nowEpoch) {
+				slots.compareAndSet(i, generation, null);
+			}
+		}
+	}
+
+	int activeGenerations() {
+		int count = 0;
+		for (int i = 0; i < slots.length(); i++) {
+			if (slots.get(i) != null) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	long bytesPerGeneration() {
+		return (long) wordCount * Long.BYTES;
+	}
+
+	private boolean inRange(long epoch, long nowSecond) {
+		long nowEpoch = nowSecond / generationSeconds;
+		return epoch >= nowEpoch && epoch - nowEpoch < slots.length() - 1;
+	}
+
+	private int slotOf(long epoch) {
+		return (int) Math.floorMod(epoch, (long) slots.length());
+	}
+
+	private Generation generationFor(long epoch) {
+		int slot = slotOf(epoch);
+		while (true) {
+			Generation current = slots.get(slot);
+			if (current != null && current.epoch == epoch) {
+				return current;
+			}
+			// 슬롯에 남아 있는 이전 세대는 이미 만료된 것이므로 교체
+			Generation created = new Generation(epoch, wordCount);
+			if (slots.compareAndSet(slot, current, created)) {
+				return created;
+			}
+		}
+	}
+
+	private static final class Generation {
+		private final long epoch;
+		private final AtomicLongArray words;
+
+		private Generation(long epoch, int wordCount) {
+			this.epoch = epoch;
+			this.words = new AtomicLongArray(wordCount);
+		}
+	}
+}
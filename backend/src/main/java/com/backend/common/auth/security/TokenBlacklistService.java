@@ -1,26 +1,199 @@
 package com.backend.common.auth.security;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
+/**
+ * 로그아웃된 Access Token 블랙리스트
+ * - 토큰 원문 대신 32바이트 SHA-256 다이제스트와 만료 시각만 보관
+ * - 만료 시각 기준 1분 단위 버킷으로 묶어 두고, 만료된 버킷을 통째로 제거
+ * 따라서 메모리 사용량은 아직 유효한(만료되지 않은) 블랙리스트 토큰 수에 비례합니다.
+ *
+ * 조회는 대부분 "블랙리스트 아님"이므로, 만료 시각 기준 세대별 Bloom 필터를 먼저 확인하고
+ * 필터가 "있을 수 있음"이라고 답한 경우에만 정확한 맵을 조회합니다.
+ *
+ * 다중 노드 환경에서는 REVOCATION_EVENTS 테이블을 통해 다른 노드의 로그아웃이 반영되므로
+ * 인증 필터의 조회는 항상 메모리에서만 수행됩니다. (ClusterRevocationSync 참고)
+ */
 @Service
 public class TokenBlacklistService {
-	private final Set<String> blacklistedTokens = ConcurrentHashMap.newKeySet();
+	private static final Logger logger = LoggerFactory.getLogger(TokenBlacklistService.class);
+	private static final long BUCKET_SECONDS = 60;
+	// 항목당 대략적인 메모리 사용량 (다이제스트 객체 + Long + 맵 노드 + 버킷 세트 노드)
+	private static final long ESTIMATED_BYTES_PER_ENTRY = 160;
+	// 버킷 정리에서 누락될 수 있는 항목을 위한 전체 검사 주기 (정리 횟수 기준)
+	private static final int FULL_SWEEP_INTERVAL = 60;
+	// Bloom 필터 세대 구간 (초)
+	private static final long BLOOM_GENERATION_SECONDS = 15 * 60;
 
+	private final JwtUtil jwtUtil;
+	private final RevocationEventLog revocationEventLog;
+	// digest -> 만료 시각 (epoch second)
+	private final Map<TokenDigest, Long> entries = new ConcurrentHashMap<>();
+	// 만료 버킷 (epoch second / 60) -> digest 목록
+	private final NavigableMap<Long, Set<TokenDigest>> expiryBuckets = new ConcurrentSkipListMap<>();
+	private final RotatingBloomFilter bloomFilter;
+	private int sweepCount = 0;
+	private Clock clock = Clock.systemUTC();
+
+	public TokenBlacklistService(JwtUtil jwtUtil, RevocationEventLog revocationEventLog, MeterRegistry meterRegistry,
+	                             @Value("${app.jwt.blacklist.bloom-bits-per-generation:4194304}") int bloomBitsPerGeneration) {
+		this.jwtUtil = jwtUtil;
+		this.revocationEventLog = revocationEventLog;
+		// 블랙리스트 대상은 Access Token이므로 세대 수는 Access Token 유효 시간 기준
+		// (그보다 늦게 만료되는 토큰은 필터 범위 밖으로 처리되어 정확한 맵 조회로 넘어감)
+		this.bloomFilter = new RotatingBloomFilter(
+			BLOOM_GENERATION_SECONDS,
+			jwtUtil.getValiditySeconds(),
+			bloomBitsPerGeneration
+		);
+		Gauge.builder("auth.token.blacklist.entries", entries, Map::size)
+				.description("블랙리스트에 보관 중인 토큰 수")
+				.register(meterRegistry);
+		Gauge.builder("auth.token.blacklist.bytes", this, TokenBlacklistService::estimatedBytes)
+				.description("블랙리스트 추정 메모리 사용량 (bytes)")
+				.baseUnit("bytes")
+				.register(meterRegistry);
+		Gauge.builder("auth.token.blacklist.bloom.generations", bloomFilter, RotatingBloomFilter::activeGenerations)
+				.description("활성 Bloom 필터 세대 수")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * 토큰을 블랙리스트에 추가합니다.
+	 * 이미 만료되었거나 유효하지 않은 토큰은 어차피 인증에 사용할 수 없으므로 저장하지 않습니다.
+	 */
 	public void blacklistToken(String token) {
-		blacklistedTokens.add(token);
+		JwtClaims claims;
+		try {
+			claims = jwtUtil.parse(token);
+		} catch (Exception e) {
+			return;
+		}
+		blacklist(claims);
+	}
+
+	/**
+	 * 토큰을 블랙리스트에 추가하고, 다른 노드에도 반영되도록 무효화 이벤트를 기록합니다.
+	 */
+	public void blacklist(JwtClaims claims) {
+		Instant expiresAt = claims.getExpiresAt();
+		if (expiresAt == null) {
+			return;
+		}
+		long expiresAtSecond = expiresAt.getEpochSecond();
+		if (addLocal(claims.getDigest(), expiresAtSecond)) {
+			revocationEventLog.tokenRevoked(claims.getDigest(), expiresAtSecond);
+		}
+	}
+
+	/**
+	 * 다른 노드에서 발생한 블랙리스트 이벤트 반영 (이벤트는 다시 기록하지 않음)
+	 */
+	void applyRevokedToken(TokenDigest digest, long expiresAtSecond) {
+		addLocal(digest, expiresAtSecond);
+	}
+
+	private boolean addLocal(TokenDigest digest, long expiresAtSecond) {
+		long nowSecond = clock.instant().getEpochSecond();
+		if (expiresAtSecond <= nowSecond) {
+			return false;
+		}
+		// 필터에 먼저 기록해야 조회 시 누락(false negative)이 생기지 않음
+		bloomFilter.add(digest, expiresAtSecond, nowSecond);
+		entries.put(digest, expiresAtSecond);
+		expiryBuckets.computeIfAbsent(expiresAtSecond / BUCKET_SECONDS, k -> ConcurrentHashMap.newKeySet())
+				.add(digest);
+		return true;
 	}
 
 	public boolean isBlacklisted(String token) {
-		return blacklistedTokens.contains(token);
+		return isBlacklisted(TokenDigest.of(token));
+	}
+
+	/**
+	 * 인증 필터용 조회: Bloom 필터에서 "없음"이 확인되면 맵을 조회하지 않음
+	 */
+	public boolean isBlacklisted(JwtClaims claims) {
+		Instant expiresAt = claims.getExpiresAt();
+		if (expiresAt != null) {
+			long nowSecond = clock.millis() / 1000;
+			if (!bloomFilter.mightContain(claims.getDigest(), expiresAt.getEpochSecond(), nowSecond)) {
+				return false;
+			}
+		}
+		return isBlacklisted(claims.getDigest());
+	}
+
+	public boolean isBlacklisted(TokenDigest digest) {
+		return entries.containsKey(digest);
 	}
 
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * 만료 버킷 수 (정리 검증용)
+	 */
+	int bucketCount() {
+		return expiryBuckets.size();
+	}
+
+	/**
+	 * 만료/정리 시각 기준 시계 교체 (테스트에서 시간을 진행시키기 위함)
+	 */
+	void setClock(Clock clock) {
+		this.clock = clock;
+	}
+
+	public long estimatedBytes() {
+		return entries.size() * ESTIMATED_BYTES_PER_ENTRY
+				+ bloomFilter.activeGenerations() * bloomFilter.bytesPerGeneration();
+	}
+
+	/**
+	 * 만료된 블랙리스트 항목 정리 (1분 주기)
+	 * 만료 버킷 단위로 제거하므로 전체 항목을 순회하지 않습니다.
+	 */
+	@Scheduled(fixedDelay = BUCKET_SECONDS * 1000, initialDelay = BUCKET_SECONDS * 1000)
 	public void removeExpiredTokens() {
-		// 간단한 구현: 토큰이 만료되면 자동으로 무효화되므로
-		// 실제로는 만료 시간을 추적하여 정기적으로 정리하는 것이 좋습니다
-		// 현재는 메모리 기반이므로 서버 재시작 시 자동으로 초기화됩니다
+		long nowSecond = clock.instant().getEpochSecond();
+		int removed = 0;
+
+		// 버킷의 끝 시각이 현재보다 이전인 버킷만 제거 대상
+		NavigableMap<Long, Set<TokenDigest>> expired = expiryBuckets.headMap(nowSecond / BUCKET_SECONDS, false);
+		for (Map.Entry<Long, Set<TokenDigest>> bucket : expired.entrySet()) {
+			for (TokenDigest digest : bucket.getValue()) {
+				Long expiresAtSecond = entries.get(digest);
+				if (expiresAtSecond != null && expiresAtSecond <= nowSecond && entries.remove(digest, expiresAtSecond)) {
+					removed++;
+				}
+			}
+			expiryBuckets.remove(bucket.getKey(), bucket.getValue());
+		}
+		bloomFilter.expire(nowSecond);
+
+		// 버킷 정리와 동시에 추가된 항목이 남지 않도록 주기적으로 전체 검사
+		if (++sweepCount % FULL_SWEEP_INTERVAL == 0) {
+			entries.values().removeIf(expiresAtSecond -> expiresAtSecond <= nowSecond);
+		}
+
+		if (removed > 0) {
+			logger.debug("만료된 블랙리스트 토큰 정리: removed={}, remaining={}", removed, entries.size());
+		}
 	}
 }
-
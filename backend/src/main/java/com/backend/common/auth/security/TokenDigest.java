@@ -0,0 +1,85 @@
+package com.backend.common.auth.security;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 토큰 문자열의 SHA-256 다이제스트 (32바이트 고정 크기)
+ * 토큰 원문 대신 캐시/블랙리스트의 키로 사용합니다.
+ */
+public final class TokenDigest {
+	private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+		}
+	});
+
+	private final long w0;
+	private final long w1;
+	private final long w2;
+	private final long w3;
+
+	private TokenDigest(long w0, long w1, long w2, long w3) {
+		this.w0 = w0;
+		this.w1 = w1;
+		this.w2 = w2;
+		this.w3 = w3;
+	}
+
+	public static TokenDigest of(String token) {
+		MessageDigest md = SHA_256.get();
+		byte[] hash = md.digest(token.getBytes(StandardCharsets.US_ASCII));
+		ByteBuffer buffer = ByteBuffer.wrap(hash);
+		return new TokenDigest(buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getLong());
+	}
+
+	public static TokenDigest fromHex(String hex) {
+		ByteBuffer buffer = ByteBuffer.wrap(HexFormat.of().parseHex(hex));
+		return new TokenDigest(buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getLong());
+	}
+
+	/**
+	 * i번째 64비트 워드 (0~3)
+	 */
+	public long word(int i) {
+		return switch (i) {
+			case 0 -> w0;
+			case 1 -> w1;
+			case 2 -> w2;
+			case 3 -> w3;
+			default -> throw new IndexOutOfBoundsException(i);
+		};
+	}
+
+	public String toHex() {
+		HexFormat hex = HexFormat.of();
+		return hex.toHexDigits(w0) + hex.toHexDigits(w1) + hex.toHexDigits(w2) + hex.toHexDigits(w3);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof TokenDigest other)) {
+			return false;
+		}
+		return w0 == other.w0 && w1 == other.w1 && w2 == other.w2 && w3 == other.w3;
+	}
+
+	@Override
+	public int hashCode() {
+		// SHA-256 출력이므로 상위 워드만으로도 충분히 고르게 분포됨
+		return (int) (w0 ^ (w0 >>> 32));
+	}
+
+	@Override
+	public String toString() {
+		return toHex();
+	}
+}
@@ -0,0 +1,96 @@
+package com.backend.common.auth.security;
+
+import com.backend.common.user.repository.UserRepository;
+import com.backend.core.exception.ResourceNotFoundException;
+import com.backend.core.transaction.AfterCommit;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 토큰 버전 관리
+ * - 토큰 발급 시 현재 버전을 ver 클레임으로 포함하고, 인증 시 현재 버전보다 낮은 토큰은 거부
+ * - 전체 로그아웃/비밀번호 변경 시 버전만 올리면 해당 사용자의 기존 토큰이 모두 무효화되므로
+ *   토큰별 블랙리스트가 늘어나지 않음
+ * - 메모리에는 버전이 한 번 이상 바뀐 사용자만 보관 (username -> version, 없으면 0)
+ *
+ * 버전 원본은 USERS.TOKEN_VER이며, 다른 노드는 USER 무효화 이벤트를 받으면 DB에서 다시 읽습니다.
+ */
+@Service
+public class TokenVersionService {
+	private static final Logger logger = LoggerFactory.getLogger(TokenVersionService.class);
+	public static final String CLAIM_NAME = "ver";
+
+	private final UserRepository userRepository;
+	private final RefreshTokenService refreshTokenService;
+	private final Map<String, Integer> versions = new ConcurrentHashMap<>();
+
+	public TokenVersionService(UserRepository userRepository, RefreshTokenService refreshTokenService) {
+		this.userRepository = userRepository;
+		this.refreshTokenService = refreshTokenService;
+	}
+
+	@PostConstruct
+	public void load() {
+		for (Object[] row : userRepository.findChangedTokenVersions()) {
+			versions.put((String) row[0], ((Number) row[1]).intValue());
+		}
+		logger.info("토큰 버전 로드 완료: users={}", versions.size());
+	}
+
+	/**
+	 * 토큰 발급 시 사용할 현재 버전
+	 */
+	public int currentVersion(String username) {
+		return versions.getOrDefault(username, 0);
+	}
+
+	/**
+	 * 토큰의 버전이 현재 버전 이상인지 확인 (ver 클레임이 없는 토큰은 0으로 간주)
+	 */
+	public boolean isCurrent(JwtClaims claims) {
+		Integer current = versions.get(claims.getSubject());
+		if (current == null) {
+			return true;
+		}
+		Object ver = claims.getClaims().get(CLAIM_NAME);
+		int tokenVersion = ver instanceof Number number ? number.intValue() : 0;
+		return tokenVersion >= current;
+	}
+
+	/**
+	 * 사용자의 모든 토큰 무효화 (전체 로그아웃, 비밀번호 변경)
+	 * 버전 증가와 Refresh Token 삭제는 호출한 트랜잭션에 포함되고, 메모리 반영은 커밋 이후에 수행됩니다.
+	 */
+	@Transactional
+	public void revokeAllTokens(String username) {
+		// 읽고-쓰기 대신 UPDATE 한 번으로 증가시키고, 행 잠금을 가진 상태에서 증가된 값을 다시 읽음
+		if (userRepository.incrementTokenVersion(username) == 0) {
+			throw new ResourceNotFoundException("사용자", username);
+		}
+		int version = userRepository.findTokenVersionByUsername(username)
+				.orElseThrow(() -> new ResourceNotFoundException("사용자", username));
+		refreshTokenService.removeAllRefreshTokens(username);
+		AfterCommit.run(() -> apply(username, version));
+		logger.info("사용자 토큰 전체 무효화: username={}, version={}", username, version);
+	}
+
+	/**
+	 * 다른 노드에서 변경된 버전을 DB에서 다시 읽어 반영
+	 */
+	void reload(String username) {
+		userRepository.findTokenVersionByUsername(username)
+				.ifPresent(version -> apply(username, version));
+	}
+
+	private void apply(String username, int version) {
+		if (version > 0) {
+			versions.merge(username, version, Math::max);
+		}
+	}
+}
@@ -0,0 +1,67 @@
+package com.backend.common.auth.security;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 서명 검증이 끝난 토큰의 클레임 캐시
+ * - 키: 토큰 원문 (조회마다 해시를 계산하지 않도록 다이제스트 대신 문자열 그대로 사용)
+ * - 만료(exp)가 지난 항목은 조회 시 제거
+ * - 최대 항목 수를 넘으면 만료 항목 정리 후 임의 항목을 제거하여 메모리 상한 유지
+ */
+final class VerifiedTokenCache {
+	private final int maxEntries;
+	private final Map<String, JwtClaims> entries = new ConcurrentHashMap<>();
+	private final AtomicBoolean sweeping = new AtomicBoolean(false);
+
+	VerifiedTokenCache(int maxEntries) {
+		this.maxEntries = maxEntries;
+	}
+
+	JwtClaims get(String token, Instant now) {
+		JwtClaims claims = entries.get(token);
+		if (claims == null) {
+			return null;
+		}
+		if (claims.isExpired(now)) {
+			entries.remove(token, claims);
+			return null;
+		}
+		return claims;
+	}
+
+	void put(String token, JwtClaims claims, Instant now) {
+		if (maxEntries <= 0 || claims.getExpiresAt() == null) {
+			return;
+		}
+		if (entries.size() >= maxEntries) {
+			evict(now);
+		}
+		entries.put(token, claims);
+	}
+
+	int size() {
+		return entries.size();
+	}
+
+	private void evict(Instant now) {
+		// 동시에 여러 스레드가 정리하지 않도록 한 스레드만 수행
+		if (!sweeping.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			entries.values().removeIf(claims -> claims.isExpired(now));
+			int target = maxEntries - Math.max(1, maxEntries / 10);
+			Iterator<String> it = entries.keySet().iterator();
+			while (entries.size() > target && it.hasNext()) {
+				it.next();
+				it.remove();
+			}
+		} finally {
+			sweeping.set(false);
+		}
+	}
+}
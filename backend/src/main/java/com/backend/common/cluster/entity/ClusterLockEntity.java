@@ -0,0 +1,38 @@
+package com.backend.common.cluster.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 클러스터 잠금 (PostgreSQL 이외의 DB에서 사용, PostgreSQL은 advisory lock 사용)
+ * 행은 ClusterLockService가 JDBC로 직접 생성/갱신하며, 엔티티는 테이블 정의용입니다.
+ */
+@Entity
+@Table(name = "CLUSTER_LOCK")
+@org.hibernate.annotations.Comment("클러스터 잠금 (여러 노드 중 한 노드만 실행할 작업의 점유 정보)")
+public class ClusterLockEntity {
+	@Id
+	@Column(name = "LOCK_NM", length = 100)
+	@org.hibernate.annotations.Comment("잠금 이름 (작업 이름)")
+	private String name;
+
+	@Column(name = "LOCKED_BY", length = 36)
+	@org.hibernate.annotations.Comment("점유한 노드 식별자")
+	private String lockedBy;
+
+	@Column(name = "LOCKED_AT")
+	@org.hibernate.annotations.Comment("점유 일시")
+	private LocalDateTime lockedAt;
+
+	@Column(name = "LOCKED_UNTIL", nullable = false)
+	@org.hibernate.annotations.Comment("점유 만료 일시 (노드가 비정상 종료된 경우 이후 다른 노드가 점유 가능)")
+	private LocalDateTime lockedUntil;
+
+	public ClusterLockEntity() {}
+
+	public String getName() { return name; }
+	public String getLockedBy() { return lockedBy; }
+	public LocalDateTime getLockedAt() { return lockedAt; }
+	public LocalDateTime getLockedUntil() { return lockedUntil; }
+}
@@ -0,0 +1,26 @@
+package com.backend.common.cluster.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * 기준 데이터 집합별 버전 (모든 노드가 공유하는 ETag 버전)
+ * 행은 ResourceVersions가 JDBC로 직접 생성/갱신하며, 엔티티는 테이블 정의용입니다.
+ */
+@Entity
+@Table(name = "RESOURCE_VERSION")
+@org.hibernate.annotations.Comment("기준 데이터 집합별 버전 (사이트, 메뉴, 공통코드 등 조회 응답 ETag의 기준)")
+public class ResourceVersionEntity {
+	@Id
+	@Column(name = "RSRC_NM", length = 50)
+	@org.hibernate.annotations.Comment("집합 이름 (site, menu, cmn-cd 등)")
+	private String name;
+
+	@Column(name = "VER", nullable = false)
+	@org.hibernate.annotations.Comment("버전 (데이터 변경 트랜잭션에서 1씩 증가)")
+	private long version;
+
+	public ResourceVersionEntity() {}
+
+	public String getName() { return name; }
+	public long getVersion() { return version; }
+}
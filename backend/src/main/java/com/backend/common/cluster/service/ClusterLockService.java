@@ -0,0 +1,263 @@
+package com.backend.common.cluster.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 클러스터 단일 실행 잠금
+ * 여러 노드가 같은 DB를 사용할 때 초기 데이터 적재, 만료 데이터 정리 같은 작업을 한 노드만 실행하도록 합니다.
+ * 잠금을 얻지 못한 노드는 기다리지 않고 바로 건너뜁니다.
+ *
+ * - PostgreSQL: 세션 단위 advisory lock (pg_try_advisory_lock). 잠금을 가진 동안 커넥션 하나를 점유하며,
+ *   노드가 비정상 종료되면 커넥션이 끊기면서 잠금도 자동으로 풀림
+ * - 그 외(H2 등): CLUSTER_LOCK 테이블의 행을 조건부 UPDATE로 점유. 비정상 종료에 대비해
+ *   점유 만료 시각(app.cluster.lock.lease-ms)이 지나면 다른 노드가 점유할 수 있음
+ *
+ * app.cluster.lock.mode: auto(기본, DB 종류로 결정), advisory, table, none(단일 노드, 항상 실행)
+ */
+@Service
+public class ClusterLockService {
+	private static final Logger logger = LoggerFactory.getLogger(ClusterLockService.class);
+	private static final String INSERT_SQL =
+		"INSERT INTO \"CLUSTER_LOCK\" (\"LOCK_NM\", \"LOCKED_UNTIL\") " +
+		"SELECT ?, ? WHERE NOT EXISTS (SELECT 1 FROM \"CLUSTER_LOCK\" WHERE \"LOCK_NM\" = ?)";
+	private static final String ACQUIRE_SQL =
+		"UPDATE \"CLUSTER_LOCK\" SET \"LOCKED_BY\" = ?, \"LOCKED_AT\" = ?, \"LOCKED_UNTIL\" = ? " +
+		"WHERE \"LOCK_NM\" = ? AND (\"LOCKED_UNTIL\" < ? OR \"LOCKED_BY\" IS NULL)";
+	private static final String RELEASE_SQL =
+		"UPDATE \"CLUSTER_LOCK\" SET \"LOCKED_BY\" = NULL, \"LOCKED_UNTIL\" = ? " +
+		"WHERE \"LOCK_NM\" = ? AND \"LOCKED_BY\" = ?";
+
+	private enum Mode { ADVISORY, TABLE, NONE }
+
+	private final DataSource dataSource;
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final String configuredMode;
+	private final Duration lease;
+	// 이 JVM(노드)의 식별자 (테이블 잠금의 점유자)
+	private final String nodeId = UUID.randomUUID().toString();
+	private volatile Mode mode;
+
+	public ClusterLockService(
+		DataSource dataSource,
+		JdbcTemplate jdbcTemplate,
+		PlatformTransactionManager transactionManager,
+		@Value("${app.cluster.lock.mode:auto}") String configuredMode,
+		@Value("${app.cluster.lock.lease-ms:600000}") long leaseMillis
+	) {
+		this.dataSource = dataSource;
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.configuredMode = configuredMode;
+		this.lease = Duration.ofMillis(leaseMillis);
+	}
+
+	/**
+	 * 점유한 잠금 (close 시 해제, 여러 번 호출해도 한 번만 해제)
+	 */
+	public static final class Lease implements AutoCloseable {
+		private final String name;
+		private final Runnable release;
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		private Lease(String name, Runnable release) {
+			this.name = name;
+			this.release = release;
+		}
+
+		public String getName() { return name; }
+
+		@Override
+		public void close() {
+			if (released.compareAndSet(false, true)) {
+				release.run();
+			}
+		}
+	}
+
+	/**
+	 * 잠금 점유 시도 (다른 노드가 점유 중이면 기다리지 않고 빈 값)
+	 */
+	public Optional<Lease> tryAcquire(String name) {
+		return switch (mode()) {
+			case ADVISORY -> tryAcquireAdvisory(name);
+			case TABLE -> tryAcquireRow(name);
+			case NONE -> Optional.of(new Lease(name, () -> { }));
+		};
+	}
+
+	/**
+	 * 잠금을 점유한 경우에만 작업 실행
+	 * @return 실행했으면 true, 다른 노드가 점유 중이라 건너뛰었으면 false
+	 */
+	public boolean runExclusively(String name, Runnable action) {
+		Optional<Lease> lease = tryAcquire(name);
+		if (lease.isEmpty()) {
+			logger.debug("다른 노드가 실행 중이므로 건너뜀: lock={}", name);
+			return false;
+		}
+		try (Lease ignored = lease.get()) {
+			action.run();
+		}
+		return true;
+	}
+
+	private Optional<Lease> tryAcquireAdvisory(String name) {
+		long key = advisoryKey(name);
+		Connection connection = null;
+		try {
+			// 트랜잭션과 무관한 커넥션을 직접 얻어, 해제할 때까지 같은 세션을 유지
+			connection = dataSource.getConnection();
+			boolean acquired;
+			try (PreparedStatement statement = connection.prepareStatement("SELECT pg_try_advisory_lock(?)")) {
+				statement.setLong(1, key);
+				try (ResultSet resultSet = statement.executeQuery()) {
+					acquired = resultSet.next() && resultSet.getBoolean(1);
+				}
+			}
+			if (!acquired) {
+				connection.close();
+				return Optional.empty();
+			}
+			Connection held = connection;
+			return Optional.of(new Lease(name, () -> releaseAdvisory(name, key, held)));
+		} catch (SQLException e) {
+			closeQuietly(connection);
+			throw new IllegalStateException("클러스터 잠금을 얻는 중 오류가 발생했습니다: " + name, e);
+		}
+	}
+
+	/**
+	 * advisory lock 해제 후 커넥션 반환
+	 * 해제에 실패하면 커넥션을 풀에 돌려보내지 않고 물리 커넥션을 폐기합니다.
+	 * (풀 커넥션은 close해도 세션이 유지되므로, 그대로 반환하면 잠금이 풀리지 않은 채 남음)
+	 */
+	private void releaseAdvisory(String name, long key, Connection connection) {
+		boolean unlocked = false;
+		try (PreparedStatement statement = connection.prepareStatement("SELECT pg_advisory_unlock(?)")) {
+			statement.setLong(1, key);
+			try (ResultSet resultSet = statement.executeQuery()) {
+				unlocked = resultSet.next() && resultSet.getBoolean(1);
+			}
+			if (!unlocked) {
+				logger.warn("클러스터 잠금 해제 실패 (세션이 잠금을 갖고 있지 않음): lock={}", name);
+			}
+		} catch (SQLException e) {
+			logger.warn("클러스터 잠금 해제 실패: lock={}", name, e);
+		}
+		if (unlocked) {
+			closeQuietly(connection);
+		} else {
+			discard(connection);
+		}
+	}
+
+	/**
+	 * 물리 커넥션 폐기 (세션이 끊기면서 세션 잠금도 해제됨)
+	 * HikariCP는 풀에서 제거(evictConnection)하고, 그 외 풀은 JDBC abort 후 반환합니다.
+	 */
+	private void discard(Connection connection) {
+		try {
+			if (dataSource.isWrapperFor(HikariDataSource.class)) {
+				dataSource.unwrap(HikariDataSource.class).evictConnection(connection);
+				return;
+			}
+			connection.abort(Runnable::run);
+		} catch (SQLException | RuntimeException e) {
+			logger.warn("클러스터 잠금 커넥션 폐기 실패", e);
+		}
+		closeQuietly(connection);
+	}
+
+	private Optional<Lease> tryAcquireRow(String name) {
+		LocalDateTime now = LocalDateTime.now();
+		try {
+			transactionTemplate.executeWithoutResult(status ->
+				jdbcTemplate.update(INSERT_SQL, name, Timestamp.valueOf(now), name));
+		} catch (DataIntegrityViolationException e) {
+			// 다른 노드가 같은 행을 먼저 생성한 경우
+		}
+		Integer updated = transactionTemplate.execute(status -> jdbcTemplate.update(ACQUIRE_SQL,
+			nodeId, Timestamp.valueOf(now), Timestamp.valueOf(now.plus(lease)), name, Timestamp.valueOf(now)));
+		if (updated == null || updated == 0) {
+			return Optional.empty();
+		}
+		return Optional.of(new Lease(name, () -> releaseRow(name)));
+	}
+
+	private void releaseRow(String name) {
+		try {
+			transactionTemplate.executeWithoutResult(status ->
+				jdbcTemplate.update(RELEASE_SQL, Timestamp.valueOf(LocalDateTime.now()), name, nodeId));
+		} catch (RuntimeException e) {
+			// 해제하지 못해도 점유 만료 시각이 지나면 다른 노드가 점유할 수 있음
+			logger.warn("클러스터 잠금 해제 실패: lock={}", name, e);
+		}
+	}
+
+	private Mode mode() {
+		Mode current = mode;
+		if (current == null) {
+			current = resolveMode();
+			mode = current;
+			logger.info("클러스터 잠금 방식: {}", current);
+		}
+		return current;
+	}
+
+	private Mode resolveMode() {
+		switch (configuredMode.toLowerCase()) {
+			case "advisory": return Mode.ADVISORY;
+			case "table": return Mode.TABLE;
+			case "none": return Mode.NONE;
+			case "auto": break;
+			default: throw new IllegalStateException("지원하지 않는 app.cluster.lock.mode: " + configuredMode);
+		}
+		try (Connection connection = dataSource.getConnection()) {
+			String product = connection.getMetaData().getDatabaseProductName();
+			return product != null && product.toLowerCase().contains("postgresql") ? Mode.ADVISORY : Mode.TABLE;
+		} catch (SQLException e) {
+			throw new IllegalStateException("DB 종류를 확인할 수 없습니다.", e);
+		}
+	}
+
+	/**
+	 * 잠금 이름으로 advisory lock 키(bigint) 생성
+	 */
+	private static long advisoryKey(String name) {
+		return UUID.nameUUIDFromBytes(("cluster-lock:" + name).getBytes(StandardCharsets.UTF_8)).getMostSignificantBits();
+	}
+
+	private static void closeQuietly(Connection connection) {
+		if (connection != null) {
+			try {
+				connection.close();
+			} catch (SQLException e) {
+				logger.debug("커넥션 닫기 실패", e);
+			}
+		}
+	}
+}
@@ -1,10 +1,17 @@
 package com.backend.common.member.memberRole.controller;
 
+import com.backend.core.cache.ConditionalResponses;
+import com.backend.core.cache.ResourceVersions;
 import com.backend.core.dto.ApiResponse;
 import com.backend.common.member.memberRole.dto.MemberRoleCreateRequest;
+import com.backend.common.member.memberRole.dto.MemberRolePermissionCloneRequest;
 import com.backend.common.member.memberRole.dto.MemberRoleUpdateRequest;
 import com.backend.common.member.memberRole.model.MemberRole;
 import com.backend.common.member.memberRole.service.MemberRoleService;
+import com.backend.common.member.memberRoleMenu.service.MemberRoleMenuService;
+import com.backend.common.auth.permission.MenuPermissionType;
+import com.backend.common.auth.permission.RequireMenuPermission;
+import com.backend.core.constants.Constants;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -13,6 +20,7 @@ import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -21,9 +29,20 @@ import java.util.List;
 @Tag(name = "13_사용자역할", description = "사용자 역할(MEMBER_ROLE) 관리 API")
 public class MemberRoleController {
 	private final MemberRoleService memberRoleService;
+	private final MemberRoleMenuService memberRoleMenuService;
+	private final ResourceVersions resourceVersions;
+	private final ConditionalResponses conditionalResponses;
 
-	public MemberRoleController(MemberRoleService memberRoleService) {
+	public MemberRoleController(
+		MemberRoleService memberRoleService,
+		MemberRoleMenuService memberRoleMenuService,
+		ResourceVersions resourceVersions,
+		ConditionalResponses conditionalResponses
+	) {
 		this.memberRoleService = memberRoleService;
+		this.memberRoleMenuService = memberRoleMenuService;
+		this.resourceVersions = resourceVersions;
+		this.conditionalResponses = conditionalResponses;
 	}
 
 	@Operation(summary = "역할 목록 조회", description = "전체 역할 목록을 조회합니다. 관리자(USER) 권한이 필요합니다.")
@@ -35,8 +54,9 @@ public class MemberRoleController {
 	@SecurityRequirement(name = "bearerAuth")
 	@PreAuthorize("hasRole('USER')")
 	@GetMapping
-	public ResponseEntity<ApiResponse<List<MemberRole>>> list() {
-		return ResponseEntity.ok(ApiResponse.ok(memberRoleService.listMemberRoles()));
+	public ResponseEntity<ApiResponse<List<MemberRole>>> list(WebRequest webRequest) {
+		return conditionalResponses.ok(webRequest, resourceVersions.etag(ResourceVersions.MEMBER_ROLE),
+			conditionalResponses.revalidate(), () -> memberRoleService.listMemberRoles());
 	}
 
 	@Operation(summary = "활성화된 역할 목록 조회", description = "활성화된 역할 목록만 조회합니다. 인증이 필요합니다.")
@@ -46,8 +66,9 @@ public class MemberRoleController {
 	})
 	@SecurityRequirement(name = "bearerAuth")
 	@GetMapping("/enabled")
-	public ResponseEntity<ApiResponse<List<MemberRole>>> listEnabled() {
-		return ResponseEntity.ok(ApiResponse.ok(memberRoleService.listEnabledMemberRoles()));
+	public ResponseEntity<ApiResponse<List<MemberRole>>> listEnabled(WebRequest webRequest) {
+		return conditionalResponses.ok(webRequest, resourceVersions.etag(ResourceVersions.MEMBER_ROLE),
+			conditionalResponses.revalidate(), () -> memberRoleService.listEnabledMemberRoles());
 	}
 
 	@Operation(summary = "역할 조회", description = "ID로 역할 정보를 조회합니다. 관리자(USER) 권한이 필요합니다.")
@@ -90,7 +111,7 @@ public class MemberRoleController {
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 부족")
 	})
 	@SecurityRequirement(name = "bearerAuth")
-	@PreAuthorize("hasRole('USER')")
+	@RequireMenuPermission(menu = Constants.MENU_ADMIN_MEMBER_ROLES, action = MenuPermissionType.CREATE)
 	@PostMapping
 	public ResponseEntity<ApiResponse<MemberRole>> create(@Valid @RequestBody MemberRoleCreateRequest request) {
 		return ResponseEntity.ok(ApiResponse.ok(memberRoleService.createMemberRole(request)));
@@ -104,7 +125,7 @@ public class MemberRoleController {
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 부족")
 	})
 	@SecurityRequirement(name = "bearerAuth")
-	@PreAuthorize("hasRole('USER')")
+	@RequireMenuPermission(menu = Constants.MENU_ADMIN_MEMBER_ROLES, action = MenuPermissionType.UPDATE)
 	@PutMapping("/{id}")
 	public ResponseEntity<ApiResponse<MemberRole>> update(@PathVariable("id") String id,
 	                                                   @Valid @RequestBody MemberRoleUpdateRequest request) {
@@ -119,11 +140,25 @@ public class MemberRoleController {
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 부족")
 	})
 	@SecurityRequirement(name = "bearerAuth")
-	@PreAuthorize("hasRole('USER')")
+	@RequireMenuPermission(menu = Constants.MENU_ADMIN_MEMBER_ROLES, action = MenuPermissionType.DELETE)
 	@DeleteMapping("/{id}")
 	public ResponseEntity<ApiResponse<Void>> delete(@PathVariable("id") String id) {
 		memberRoleService.deleteMemberRole(id);
 		return ResponseEntity.ok(ApiResponse.ok());
 	}
-}
 
+	@Operation(summary = "역할 메뉴 권한 복사", description = "원본 역할의 메뉴 권한을 이 역할로 복사합니다. 이 역할의 기존 권한은 대체되며, siteId를 지정하면 해당 사이트 메뉴만 복사합니다. 관리자(USER) 권한이 필요합니다.")
+	@ApiResponses(value = {
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "복사 성공 (복사된 권한 수)"),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청 또는 역할을 찾을 수 없음"),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 필요"),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 부족")
+	})
+	@SecurityRequirement(name = "bearerAuth")
+	@RequireMenuPermission(menu = Constants.MENU_ADMIN_MEMBER_ROLES, action = MenuPermissionType.UPDATE)
+	@PostMapping("/{id}/permissions/clone")
+	public ResponseEntity<ApiResponse<Integer>> clonePermissions(@PathVariable("id") String id,
+	                                                            @Valid @RequestBody MemberRolePermissionCloneRequest request) {
+		return ResponseEntity.ok(ApiResponse.ok(memberRoleMenuService.clonePermissions(id, request.getSourceRoleId(), request.getSiteId())));
+	}
+}
@@ -1,12 +1,13 @@
 package com.backend.common.member.memberRole.service;
 
+import com.backend.common.admin.menu.service.MenuSnapshotCache;
+import com.backend.common.auth.permission.RoleKind;
 import com.backend.common.member.memberRole.dto.MemberRoleCreateRequest;
 import com.backend.common.member.memberRole.dto.MemberRoleUpdateRequest;
 import com.backend.common.member.memberRole.entity.MemberRoleEntity;
 import com.backend.common.member.memberRole.model.MemberRole;
 import com.backend.common.member.memberRole.repository.MemberRoleRepository;
-import org.springframework.boot.context.event.ApplicationReadyEvent;
-import org.springframework.context.event.EventListener;
+import com.backend.core.cache.ResourceVersions;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,26 +19,17 @@ import java.util.stream.Collectors;
 @Transactional
 public class MemberRoleService {
 	private final MemberRoleRepository memberRoleRepository;
-
-	public MemberRoleService(MemberRoleRepository memberRoleRepository) {
+	private final MenuSnapshotCache menuSnapshotCache;
+	private final ResourceVersions resourceVersions;
+
+	public MemberRoleService(
+		MemberRoleRepository memberRoleRepository,
+		MenuSnapshotCache menuSnapshotCache,
+		ResourceVersions resourceVersions
+	) {
 		this.memberRoleRepository = memberRoleRepository;
-	}
-
-	@EventListener(ApplicationReadyEvent.class)
-	public void init() {
-		// 초기 역할 데이터 생성 (이미 존재하면 생성하지 않음)
-		if (!memberRoleRepository.existsByRoleCd("VIP")) {
-			memberRoleRepository.save(new MemberRoleEntity("VIP", "VIP 회원", "VIP 회원 권한"));
-		}
-		if (!memberRoleRepository.existsByRoleCd("PREMIUM")) {
-			memberRoleRepository.save(new MemberRoleEntity("PREMIUM", "프리미엄 회원", "프리미엄 회원 권한"));
-		}
-		if (!memberRoleRepository.existsByRoleCd("BASIC")) {
-			memberRoleRepository.save(new MemberRoleEntity("BASIC", "일반 회원", "일반 회원 권한"));
-		}
-		if (!memberRoleRepository.existsByRoleCd("GUEST")) {
-			memberRoleRepository.save(new MemberRoleEntity("GUEST", "비회원", "비회원 권한"));
-		}
+		this.menuSnapshotCache = menuSnapshotCache;
+		this.resourceVersions = resourceVersions;
 	}
 
 	public List<MemberRole> listMemberRoles() {
@@ -77,6 +69,9 @@ public class MemberRoleService {
 		}
 
 		MemberRoleEntity saved = memberRoleRepository.save(entity);
+		// GUEST 역할이 새로 생길 수 있으므로 비회원 역할 ID 캐시 초기화
+		menuSnapshotCache.invalidateGuestRole();
+		resourceVersions.bump(ResourceVersions.MEMBER_ROLE);
 		return toMemberRole(saved);
 	}
 
@@ -91,6 +86,7 @@ public class MemberRoleService {
 		}
 
 		MemberRoleEntity saved = memberRoleRepository.save(entity);
+		resourceVersions.bump(ResourceVersions.MEMBER_ROLE);
 		return toMemberRole(saved);
 	}
 
@@ -101,6 +97,9 @@ public class MemberRoleService {
 
 		// TODO: 해당 역할을 사용하는 사용자가 있는지 확인 후 삭제 제한 필요
 		memberRoleRepository.deleteById(id);
+		resourceVersions.bump(ResourceVersions.MEMBER_ROLE);
+		menuSnapshotCache.invalidateGuestRole();
+		menuSnapshotCache.invalidateRole(RoleKind.MEMBER, id);
 	}
 
 	private MemberRole toMemberRole(MemberRoleEntity entity) {
@@ -1,7 +1,10 @@
 package com.backend.common.member.memberRoleMenu.service;
 
-import com.backend.common.admin.menu.entity.MenuEntity;
 import com.backend.common.admin.menu.repository.MenuRepository;
+import com.backend.common.admin.menu.service.MenuSnapshotCache;
+import com.backend.common.auth.permission.MenuPermissionMatrix;
+import com.backend.common.auth.permission.MenuPermissionType;
+import com.backend.common.auth.permission.RoleKind;
 import com.backend.common.member.memberRole.entity.MemberRoleEntity;
 import com.backend.common.member.memberRole.repository.MemberRoleRepository;
 import com.backend.common.member.memberRoleMenu.dto.MenuPermissionResponse;
@@ -11,9 +14,13 @@ import com.backend.common.member.memberRoleMenu.repository.MemberRoleMenuReposit
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Service
 @Transactional
@@ -21,112 +28,164 @@ public class MemberRoleMenuService {
 	private final MemberRoleMenuRepository memberRoleMenuRepository;
 	private final MemberRoleRepository memberRoleRepository;
 	private final MenuRepository menuRepository;
+	private final MenuSnapshotCache menuSnapshotCache;
+	private final MenuPermissionMatrix menuPermissionMatrix;
 
 	public MemberRoleMenuService(
 		MemberRoleMenuRepository memberRoleMenuRepository,
 		MemberRoleRepository memberRoleRepository,
-		MenuRepository menuRepository
+		MenuRepository menuRepository,
+		MenuSnapshotCache menuSnapshotCache,
+		MenuPermissionMatrix menuPermissionMatrix
 	) {
 		this.memberRoleMenuRepository = memberRoleMenuRepository;
 		this.memberRoleRepository = memberRoleRepository;
 		this.menuRepository = menuRepository;
+		this.menuSnapshotCache = menuSnapshotCache;
+		this.menuPermissionMatrix = menuPermissionMatrix;
 	}
 
 	/**
 	 * 특정 역할의 메뉴 권한 목록 조회
+	 * 활성 메뉴와 역할 권한을 LEFT JOIN 조회 한 번으로 가져옵니다. (siteId가 없으면 전체 사이트)
 	 */
-	public MenuPermissionResponse getMenuPermissions(String memberRoleId) {
+	public MenuPermissionResponse getMenuPermissions(String memberRoleId, String siteId) {
 		MemberRoleEntity memberRole = memberRoleRepository.findById(memberRoleId)
 			.orElseThrow(() -> new IllegalArgumentException("사용자 역할을 찾을 수 없습니다: " + memberRoleId));
 
-		// 모든 활성화된 메뉴 조회
-		List<MenuEntity> allMenus = menuRepository.findAll().stream()
-			.filter(menu -> menu.getEnabled() != null && menu.getEnabled())
-			.sorted((a, b) -> (a.getDisplayOrder() != null ? a.getDisplayOrder() : 0) 
-				- (b.getDisplayOrder() != null ? b.getDisplayOrder() : 0))
-			.collect(Collectors.toList());
-
-		// 해당 역할에 부여된 메뉴 권한 맵 (menuId -> MemberRoleMenuEntity)
-		Map<String, MemberRoleMenuEntity> permissionMap = memberRoleMenuRepository.findByMemberRoleIdAndEnabledTrue(memberRoleId).stream()
-			.collect(Collectors.toMap(MemberRoleMenuEntity::getMenuId, entity -> entity));
-
-		// 메뉴 권한 응답 생성
-		List<MenuPermissionResponse.MenuPermissionItem> menuItems = allMenus.stream()
-			.map(menu -> {
-				MemberRoleMenuEntity permission = permissionMap.get(menu.getId());
-				String siteId = menu.getSiteId();
-				// siteId가 null이면 로그 출력 (디버깅용)
-				if (siteId == null) {
-					System.err.println("경고: 메뉴 ID " + menu.getId() + "의 siteId가 null입니다.");
-				}
-				return new MenuPermissionResponse.MenuPermissionItem(
-					menu.getId(),
-					siteId != null ? siteId : "",
-					menu.getName(),
-					menu.getUrl(),
-					menu.getParentId(),
-					menu.getDisplayOrder(),
-					permission != null ? "Y".equals(permission.getPermRead()) : false,
-					permission != null ? "Y".equals(permission.getPermCreate()) : false,
-					permission != null ? "Y".equals(permission.getPermUpdate()) : false,
-					permission != null ? "Y".equals(permission.getPermDelete()) : false,
-					permission != null ? "Y".equals(permission.getPermDownload()) : false,
-					permission != null ? "Y".equals(permission.getPermAll()) : false
-				);
-			})
-			.collect(Collectors.toList());
+		String siteFilter = siteId != null && !siteId.isEmpty() ? siteId : null;
+		List<MenuPermissionResponse.MenuPermissionItem> menuItems =
+			memberRoleMenuRepository.findMenuPermissionItems(memberRoleId, siteFilter);
 
 		return new MenuPermissionResponse(memberRoleId, memberRole.getRoleNm(), menuItems);
 	}
 
 	/**
 	 * 특정 역할의 메뉴 권한 저장
+	 * 기존 권한과 비교하여 바뀐 행만 등록/수정/삭제합니다.
+	 * 메뉴 존재 확인은 IN 조회 한 번으로 처리하고, 등록/수정은 flush 시 JDBC 배치로 전송됩니다.
 	 */
 	public void saveMenuPermissions(MemberRoleMenuRequest request) {
+		String memberRoleId = request.getMemberRoleId();
 		// 역할 존재 확인
-		if (!memberRoleRepository.existsById(request.getMemberRoleId())) {
-			throw new IllegalArgumentException("사용자 역할을 찾을 수 없습니다: " + request.getMemberRoleId());
+		if (!memberRoleRepository.existsById(memberRoleId)) {
+			throw new IllegalArgumentException("사용자 역할을 찾을 수 없습니다: " + memberRoleId);
 		}
 
-		// 기존 권한 삭제
-		memberRoleMenuRepository.deleteByMemberRoleId(request.getMemberRoleId());
-
-		// 새로운 권한 저장
-		if (request.getMenuPermissions() != null && !request.getMenuPermissions().isEmpty()) {
+		// 요청 권한 (menuId -> 권한 마스크)
+		Map<String, Integer> requested = new LinkedHashMap<>();
+		if (request.getMenuPermissions() != null) {
 			for (MemberRoleMenuRequest.MenuPermission menuPerm : request.getMenuPermissions()) {
-				// 메뉴 존재 확인
-				if (!menuRepository.existsById(menuPerm.getMenuId())) {
-					throw new IllegalArgumentException("메뉴를 찾을 수 없습니다: " + menuPerm.getMenuId());
-				}
+				requested.put(menuPerm.getMenuId(), MenuPermissionType.maskOf(menuPerm.getPermRead(),
+					menuPerm.getPermCreate(), menuPerm.getPermUpdate(), menuPerm.getPermDelete(),
+					menuPerm.getPermDownload(), menuPerm.getPermAll()));
+			}
+		}
 
-				// 권한이 하나라도 있으면 저장
-				boolean hasPermission = (menuPerm.getPermRead() != null && menuPerm.getPermRead()) 
-					|| (menuPerm.getPermCreate() != null && menuPerm.getPermCreate())
-					|| (menuPerm.getPermUpdate() != null && menuPerm.getPermUpdate())
-					|| (menuPerm.getPermDelete() != null && menuPerm.getPermDelete())
-					|| (menuPerm.getPermDownload() != null && menuPerm.getPermDownload())
-					|| (menuPerm.getPermAll() != null && menuPerm.getPermAll());
-				
-				if (hasPermission) {
-					MemberRoleMenuEntity entity = new MemberRoleMenuEntity(request.getMemberRoleId(), menuPerm.getMenuId());
-					entity.setPermRead(menuPerm.getPermRead() != null && menuPerm.getPermRead() ? "Y" : "N");
-					entity.setPermCreate(menuPerm.getPermCreate() != null && menuPerm.getPermCreate() ? "Y" : "N");
-					entity.setPermUpdate(menuPerm.getPermUpdate() != null && menuPerm.getPermUpdate() ? "Y" : "N");
-					entity.setPermDelete(menuPerm.getPermDelete() != null && menuPerm.getPermDelete() ? "Y" : "N");
-					entity.setPermDownload(menuPerm.getPermDownload() != null && menuPerm.getPermDownload() ? "Y" : "N");
-					entity.setPermAll(menuPerm.getPermAll() != null && menuPerm.getPermAll() ? "Y" : "N");
-					entity.setEnabled("Y"); // 명시적으로 활성화 상태 설정
-					memberRoleMenuRepository.save(entity);
+		// 메뉴 존재 확인
+		if (!requested.isEmpty()) {
+			Set<String> existingMenuIds = new HashSet<>(menuRepository.findExistingIds(requested.keySet()));
+			for (String menuId : requested.keySet()) {
+				if (!existingMenuIds.contains(menuId)) {
+					throw new IllegalArgumentException("메뉴를 찾을 수 없습니다: " + menuId);
 				}
 			}
 		}
+
+		// 기존 권한 중 요청에 없거나 권한이 모두 빠진 메뉴, 같은 메뉴의 중복 행은 삭제
+		Map<String, MemberRoleMenuEntity> current = new HashMap<>();
+		List<MemberRoleMenuEntity> toDelete = new ArrayList<>();
+		for (MemberRoleMenuEntity entity : memberRoleMenuRepository.findByMemberRoleId(memberRoleId)) {
+			Integer mask = requested.get(entity.getMenuId());
+			if (mask == null || mask == 0 || current.containsKey(entity.getMenuId())) {
+				toDelete.add(entity);
+			} else {
+				current.put(entity.getMenuId(), entity);
+			}
+		}
+
+		// 권한이 하나라도 있는 메뉴만 등록/수정 (변경이 없으면 그대로 둠)
+		List<MemberRoleMenuEntity> toInsert = new ArrayList<>();
+		Map<String, Integer> savedMasks = new HashMap<>();
+		for (Map.Entry<String, Integer> entry : requested.entrySet()) {
+			int mask = entry.getValue();
+			if (mask == 0) {
+				continue;
+			}
+			MemberRoleMenuEntity entity = current.get(entry.getKey());
+			if (entity == null) {
+				entity = new MemberRoleMenuEntity(memberRoleId, entry.getKey());
+				applyMask(entity, mask);
+				toInsert.add(entity);
+			} else if (MenuPermissionMatrix.maskOf(entity) != mask || !"Y".equals(entity.getEnabled())) {
+				// 조회한 엔티티이므로 변경 감지로 UPDATE
+				applyMask(entity, mask);
+			}
+			savedMasks.put(entry.getKey(), mask);
+		}
+
+		if (!toDelete.isEmpty()) {
+			memberRoleMenuRepository.deleteAllInBatch(toDelete);
+		}
+		if (!toInsert.isEmpty()) {
+			memberRoleMenuRepository.saveAll(toInsert);
+		}
+
+		menuPermissionMatrix.replaceRole(RoleKind.MEMBER, memberRoleId, savedMasks);
+		menuSnapshotCache.invalidateRole(RoleKind.MEMBER, memberRoleId);
+	}
+
+	/**
+	 * 원본 역할의 메뉴 권한을 대상 역할로 복사
+	 * 대상 역할의 기존 권한(siteId를 지정하면 해당 사이트 메뉴만)을 지운 뒤 INSERT ... SELECT 한 문장으로 복사하고,
+	 * 권한 행렬과 메뉴 캐시는 마지막에 한 번만 갱신합니다.
+	 * @return 복사된 권한 행 수
+	 */
+	public int clonePermissions(String targetRoleId, String sourceRoleId, String siteId) {
+		if (targetRoleId.equals(sourceRoleId)) {
+			throw new IllegalArgumentException("원본 역할과 대상 역할이 같습니다: " + sourceRoleId);
+		}
+		if (!memberRoleRepository.existsById(sourceRoleId)) {
+			throw new IllegalArgumentException("사용자 역할을 찾을 수 없습니다: " + sourceRoleId);
+		}
+		if (!memberRoleRepository.existsById(targetRoleId)) {
+			throw new IllegalArgumentException("사용자 역할을 찾을 수 없습니다: " + targetRoleId);
+		}
+		String siteFilter = siteId != null && !siteId.isEmpty() ? siteId : null;
+
+		memberRoleMenuRepository.deleteByMemberRoleIdAndSiteId(targetRoleId, siteFilter);
+		int copied = memberRoleMenuRepository.copyPermissions(sourceRoleId, targetRoleId, siteFilter);
+
+		Map<String, Integer> masks = new HashMap<>();
+		for (MemberRoleMenuEntity entity : memberRoleMenuRepository.findByMemberRoleIdAndEnabledTrue(targetRoleId)) {
+			masks.merge(entity.getMenuId(), MenuPermissionMatrix.maskOf(entity), (a, b) -> a | b);
+		}
+		menuPermissionMatrix.replaceRole(RoleKind.MEMBER, targetRoleId, masks);
+		menuSnapshotCache.invalidateRole(RoleKind.MEMBER, targetRoleId);
+		return copied;
 	}
 
 	/**
 	 * 특정 역할이 특정 메뉴에 접근 권한이 있는지 확인
 	 */
 	public boolean hasPermission(String memberRoleId, String menuId) {
-		return memberRoleMenuRepository.existsByMemberRoleIdAndMenuId(memberRoleId, menuId);
+		return menuPermissionMatrix.canAny(RoleKind.MEMBER, memberRoleId, menuId);
+	}
+
+	/**
+	 * 특정 역할이 특정 메뉴에 대해 해당 권한을 가지는지 확인 (메모리 권한 행렬 조회)
+	 */
+	public boolean hasPermission(String memberRoleId, String menuId, MenuPermissionType type) {
+		return menuPermissionMatrix.can(RoleKind.MEMBER, memberRoleId, menuId, type);
 	}
-}
 
+	private static void applyMask(MemberRoleMenuEntity entity, int mask) {
+		entity.setPermRead(MenuPermissionType.READ.flagOf(mask));
+		entity.setPermCreate(MenuPermissionType.CREATE.flagOf(mask));
+		entity.setPermUpdate(MenuPermissionType.UPDATE.flagOf(mask));
+		entity.setPermDelete(MenuPermissionType.DELETE.flagOf(mask));
+		entity.setPermDownload(MenuPermissionType.DOWNLOAD.flagOf(mask));
+		entity.setPermAll(MenuPermissionType.ALL.flagOf(mask));
+		entity.setEnabled("Y");
+	}
+}
@@ -0,0 +1,97 @@
+package com.backend.common.member.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 마지막 로그인 일시 쓰기 지연(write-behind) 버퍼
+ * - 로그인 시에는 메모리 버퍼에 사용자명별 최신 시각만 기록 (같은 사용자의 여러 로그인은 하나로 합쳐짐)
+ * - 주기적으로 버퍼를 비우며 MEMBERS.LAST_LOGIN_AT을 하나의 JDBC 배치 UPDATE로 반영
+ * - 애플리케이션 종료 시에도 남은 항목을 반영
+ * 따라서 로그인 응답 시간에 DB 쓰기 왕복이 포함되지 않습니다.
+ */
+@Component
+public class LastLoginWriteBuffer {
+	private static final Logger logger = LoggerFactory.getLogger(LastLoginWriteBuffer.class);
+	private static final String UPDATE_SQL =
+		"UPDATE \"MEMBERS\" SET \"LAST_LOGIN_AT\" = ? WHERE \"USER_NM\" = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+	// username -> 마지막 로그인 일시
+	private final Map<String, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+	public LastLoginWriteBuffer(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * 마지막 로그인 일시 기록 (이미 더 늦은 시각이 있으면 유지)
+	 */
+	public void record(String username, LocalDateTime loginAt) {
+		pending.merge(username, loginAt, (current, next) -> next.isAfter(current) ? next : current);
+	}
+
+	/**
+	 * 반영 대기 중인 사용자 수
+	 */
+	public int pendingCount() {
+		return pending.size();
+	}
+
+	/**
+	 * 버퍼에 쌓인 로그인 일시를 한 번의 배치 UPDATE로 반영
+	 */
+	@Scheduled(fixedDelayString = "${app.member.last-login-flush-interval-ms:5000}")
+	public synchronized void flush() {
+		if (pending.isEmpty()) {
+			return;
+		}
+		List<String> usernames = new ArrayList<>(pending.size());
+		List<LocalDateTime> loginTimes = new ArrayList<>(pending.size());
+		for (String username : pending.keySet()) {
+			// 꺼내는 시점의 최신 값을 원자적으로 가져옴 (이후 기록은 다음 주기에 반영)
+			LocalDateTime loginAt = pending.remove(username);
+			if (loginAt != null) {
+				usernames.add(username);
+				loginTimes.add(loginAt);
+			}
+		}
+		if (usernames.isEmpty()) {
+			return;
+		}
+
+		List<Object[]> batchArgs = new ArrayList<>(usernames.size());
+		for (int i = 0; i < usernames.size(); i++) {
+			batchArgs.add(new Object[]{Timestamp.valueOf(loginTimes.get(i)), usernames.get(i)});
+		}
+		try {
+			jdbcTemplate.batchUpdate(UPDATE_SQL, batchArgs);
+			logger.debug("마지막 로그인 일시 반영: count={}", usernames.size());
+		} catch (RuntimeException e) {
+			// 실패한 항목은 버퍼에 되돌려 다음 주기에 다시 시도
+			for (int i = 0; i < usernames.size(); i++) {
+				record(usernames.get(i), loginTimes.get(i));
+			}
+			logger.warn("마지막 로그인 일시 반영 실패 (다음 주기에 재시도): count={}", usernames.size(), e);
+		}
+	}
+
+	@PreDestroy
+	public void flushOnShutdown() {
+		flush();
+		if (!pending.isEmpty()) {
+			logger.warn("종료 시 마지막 로그인 일시 일부를 반영하지 못했습니다: count={}", pending.size());
+		}
+	}
+}
@@ -1,5 +1,6 @@
 package com.backend.common.member.service;
 
+import com.backend.common.auth.security.TokenVersionService;
 import com.backend.common.member.entity.MemberEntity;
 import com.backend.common.member.model.Member;
 import com.backend.common.member.repository.MemberRepository;
@@ -25,11 +26,16 @@ public class MemberService {
 	private final MemberRepository memberRepository;
 	private final UserRepository userRepository;
 	private final PasswordEncoder passwordEncoder;
+	private final TokenVersionService tokenVersionService;
+	private final LastLoginWriteBuffer lastLoginWriteBuffer;
 
-	public MemberService(MemberRepository memberRepository, UserRepository userRepository, PasswordEncoder passwordEncoder) {
+	public MemberService(MemberRepository memberRepository, UserRepository userRepository, PasswordEncoder passwordEncoder,
+	                     TokenVersionService tokenVersionService, LastLoginWriteBuffer lastLoginWriteBuffer) {
 		this.memberRepository = memberRepository;
 		this.userRepository = userRepository;
 		this.passwordEncoder = passwordEncoder;
+		this.tokenVersionService = tokenVersionService;
+		this.lastLoginWriteBuffer = lastLoginWriteBuffer;
 	}
 
 	/**
@@ -163,15 +169,10 @@ public class MemberService {
 
 	/**
 	 * 마지막 로그인 일시 업데이트
+	 * 쓰기 지연 버퍼에 기록하고, DB에는 주기적으로 배치 반영됩니다. (LastLoginWriteBuffer)
 	 */
-	@Transactional
 	public void updateLastLogin(String username) {
-		memberRepository.findByUsername(username)
-				.ifPresent(entity -> {
-					entity.setLastLoginAt(LocalDateTime.now());
-					memberRepository.save(entity);
-					logger.debug("마지막 로그인 일시 업데이트: username={}", username);
-				});
+		lastLoginWriteBuffer.record(username, LocalDateTime.now());
 	}
 
 	/**
@@ -205,6 +206,9 @@ public class MemberService {
 				memberEntity.setPassword(encoded);
 				memberRepository.save(memberEntity);
 			});
+
+		// 기존에 발급된 모든 토큰 무효화 (다른 기기 포함)
+		tokenVersionService.revokeAllTokens(username);
 		logger.info("비밀번호 변경 완료: username={}", username);
 	}
 
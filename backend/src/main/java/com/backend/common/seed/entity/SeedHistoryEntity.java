@@ -0,0 +1,42 @@
+package com.backend.common.seed.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "SEED_HISTORY")
+@org.hibernate.annotations.Comment("초기 데이터 매니페스트 적용 이력 (매니페스트별 1건, 체크섬이 같으면 적용 생략)")
+public class SeedHistoryEntity {
+	@Id
+	@Column(name = "SEED_NM", length = 100)
+	@org.hibernate.annotations.Comment("매니페스트 이름")
+	private String name;
+
+	@Column(name = "SEED_VER", nullable = false)
+	@org.hibernate.annotations.Comment("매니페스트 버전 (manifest.json의 version)")
+	private int version;
+
+	@Column(name = "CHECKSUM", nullable = false, length = 64)
+	@org.hibernate.annotations.Comment("적용한 매니페스트 내용의 SHA-256 (hex)")
+	private String checksum;
+
+	@Column(name = "APPLIED_AT", nullable = false)
+	@org.hibernate.annotations.Comment("적용 일시")
+	private LocalDateTime appliedAt;
+
+	public SeedHistoryEntity() {}
+
+	public SeedHistoryEntity(String name) {
+		this.name = name;
+	}
+
+	public String getName() { return name; }
+	public void setName(String name) { this.name = name; }
+	public int getVersion() { return version; }
+	public void setVersion(int version) { this.version = version; }
+	public String getChecksum() { return checksum; }
+	public void setChecksum(String checksum) { this.checksum = checksum; }
+	public LocalDateTime getAppliedAt() { return appliedAt; }
+	public void setAppliedAt(LocalDateTime appliedAt) { this.appliedAt = appliedAt; }
+}
@@ -0,0 +1,168 @@
+package com.backend.common.seed.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 초기 데이터 매니페스트 (resources/seed/manifest.json)
+ * 사이트, 공통코드, 역할, 메뉴, 메뉴 권한, 초기 계정을 한 파일로 선언합니다.
+ * 내용이 바뀌면 체크섬이 달라져 다음 기동 시 없는 항목만 추가됩니다. (SeedService)
+ */
+public class SeedManifest {
+	private int version;
+	private List<SiteSeed> sites = new ArrayList<>();
+	private List<CodeSeed> codes = new ArrayList<>();
+	private List<RoleSeed> userRoles = new ArrayList<>();
+	private List<RoleSeed> memberRoles = new ArrayList<>();
+	private List<SiteMenuSeed> menus = new ArrayList<>();
+	private List<PermissionSeed> permissions = new ArrayList<>();
+	private List<AccountSeed> accounts = new ArrayList<>();
+
+	public int getVersion() { return version; }
+	public void setVersion(int version) { this.version = version; }
+	public List<SiteSeed> getSites() { return sites; }
+	public void setSites(List<SiteSeed> sites) { this.sites = sites; }
+	public List<CodeSeed> getCodes() { return codes; }
+	public void setCodes(List<CodeSeed> codes) { this.codes = codes; }
+	public List<RoleSeed> getUserRoles() { return userRoles; }
+	public void setUserRoles(List<RoleSeed> userRoles) { this.userRoles = userRoles; }
+	public List<RoleSeed> getMemberRoles() { return memberRoles; }
+	public void setMemberRoles(List<RoleSeed> memberRoles) { this.memberRoles = memberRoles; }
+	public List<SiteMenuSeed> getMenus() { return menus; }
+	public void setMenus(List<SiteMenuSeed> menus) { this.menus = menus; }
+	public List<PermissionSeed> getPermissions() { return permissions; }
+	public void setPermissions(List<PermissionSeed> permissions) { this.permissions = permissions; }
+	public List<AccountSeed> getAccounts() { return accounts; }
+	public void setAccounts(List<AccountSeed> accounts) { this.accounts = accounts; }
+
+	/**
+	 * 사이트 (contextPath로 식별)
+	 */
+	public static class SiteSeed {
+		private String contextPath;
+		private String siteType;
+		private String name;
+		private String description;
+		private String version;
+
+		public String getContextPath() { return contextPath; }
+		public void setContextPath(String contextPath) { this.contextPath = contextPath; }
+		public String getSiteType() { return siteType; }
+		public void setSiteType(String siteType) { this.siteType = siteType; }
+		public String getName() { return name; }
+		public void setName(String name) { this.name = name; }
+		public String getDescription() { return description; }
+		public void setDescription(String description) { this.description = description; }
+		public String getVersion() { return version; }
+		public void setVersion(String version) { this.version = version; }
+	}
+
+	/**
+	 * 공통코드 (상위코드와 하위코드 목록, (상위코드, 코드)로 식별)
+	 */
+	public static class CodeSeed {
+		private String cd;
+		private String name;
+		private String description;
+		private List<CodeSeed> children = new ArrayList<>();
+
+		public String getCd() { return cd; }
+		public void setCd(String cd) { this.cd = cd; }
+		public String getName() { return name; }
+		public void setName(String name) { this.name = name; }
+		public String getDescription() { return description; }
+		public void setDescription(String description) { this.description = description; }
+		public List<CodeSeed> getChildren() { return children; }
+		public void setChildren(List<CodeSeed> children) { this.children = children; }
+	}
+
+	/**
+	 * 관리자/회원 역할 (역할 코드로 식별)
+	 */
+	public static class RoleSeed {
+		private String roleCd;
+		private String roleNm;
+		private String roleDesc;
+
+		public String getRoleCd() { return roleCd; }
+		public void setRoleCd(String roleCd) { this.roleCd = roleCd; }
+		public String getRoleNm() { return roleNm; }
+		public void setRoleNm(String roleNm) { this.roleNm = roleNm; }
+		public String getRoleDesc() { return roleDesc; }
+		public void setRoleDesc(String roleDesc) { this.roleDesc = roleDesc; }
+	}
+
+	/**
+	 * 사이트별 메뉴 (메뉴가 하나도 없는 사이트에만 생성)
+	 */
+	public static class SiteMenuSeed {
+		private String site;
+		private List<MenuSeed> items = new ArrayList<>();
+
+		public String getSite() { return site; }
+		public void setSite(String site) { this.site = site; }
+		public List<MenuSeed> getItems() { return items; }
+		public void setItems(List<MenuSeed> items) { this.items = items; }
+	}
+
+	public static class MenuSeed {
+		private String name;
+		private String url;
+		private String icon;
+		private Integer order;
+		private List<MenuSeed> children = new ArrayList<>();
+
+		public String getName() { return name; }
+		public void setName(String name) { this.name = name; }
+		public String getUrl() { return url; }
+		public void setUrl(String url) { this.url = url; }
+		public String getIcon() { return icon; }
+		public void setIcon(String icon) { this.icon = icon; }
+		public Integer getOrder() { return order; }
+		public void setOrder(Integer order) { this.order = order; }
+		public List<MenuSeed> getChildren() { return children; }
+		public void setChildren(List<MenuSeed> children) { this.children = children; }
+	}
+
+	/**
+	 * 관리자 역할 메뉴 권한 (site가 없으면 전체 사이트의 활성 메뉴)
+	 * 역할에 권한이 하나도 없으면 대상 메뉴 전체에, 있으면 이번에 새로 생성된 메뉴에만 부여합니다.
+	 */
+	public static class PermissionSeed {
+		private String userRole;
+		private String site;
+		private List<String> grants = new ArrayList<>();
+
+		public String getUserRole() { return userRole; }
+		public void setUserRole(String userRole) { this.userRole = userRole; }
+		public String getSite() { return site; }
+		public void setSite(String site) { this.site = site; }
+		public List<String> getGrants() { return grants; }
+		public void setGrants(List<String> grants) { this.grants = grants; }
+	}
+
+	/**
+	 * 초기 계정 (사용자명으로 식별, roleCd는 role에 따라 관리자/회원 역할 코드)
+	 */
+	public static class AccountSeed {
+		private String username;
+		private String password;
+		private String role;
+		private String roleCd;
+		private String name;
+		private String email;
+
+		public String getUsername() { return username; }
+		public void setUsername(String username) { this.username = username; }
+		public String getPassword() { return password; }
+		public void setPassword(String password) { this.password = password; }
+		public String getRole() { return role; }
+		public void setRole(String role) { this.role = role; }
+		public String getRoleCd() { return roleCd; }
+		public void setRoleCd(String roleCd) { this.roleCd = roleCd; }
+		public String getName() { return name; }
+		public void setName(String name) { this.name = name; }
+		public String getEmail() { return email; }
+		public void setEmail(String email) { this.email = email; }
+	}
+}
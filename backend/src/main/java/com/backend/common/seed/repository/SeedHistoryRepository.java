@@ -0,0 +1,9 @@
+package com.backend.common.seed.repository;
+
+import com.backend.common.seed.entity.SeedHistoryEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SeedHistoryRepository extends JpaRepository<SeedHistoryEntity, String> {
+}
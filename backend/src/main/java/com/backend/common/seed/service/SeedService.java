@@ -0,0 +1,565 @@
+package com.backend.common.seed.service;
+
+import com.backend.common.admin.cmnCd.entity.CmnCdEntity;
+import com.backend.common.admin.cmnCd.repository.CmnCdRepository;
+import com.backend.common.admin.menu.entity.MenuEntity;
+import com.backend.common.admin.menu.repository.MenuRepository;
+import com.backend.common.admin.menu.service.MenuService;
+import com.backend.common.admin.menu.service.MenuSnapshotCache;
+import com.backend.common.admin.site.entity.SiteEntity;
+import com.backend.common.admin.site.repository.SiteRepository;
+import com.backend.common.admin.userRole.entity.UserRoleEntity;
+import com.backend.common.admin.userRole.repository.UserRoleRepository;
+import com.backend.common.admin.userRoleMenu.entity.UserRoleMenuEntity;
+import com.backend.common.admin.userRoleMenu.repository.UserRoleMenuRepository;
+import com.backend.common.cluster.service.ClusterLockService;
+import com.backend.common.auth.permission.MenuPermissionType;
+import com.backend.common.member.memberRole.entity.MemberRoleEntity;
+import com.backend.common.member.memberRole.repository.MemberRoleRepository;
+import com.backend.common.seed.entity.SeedHistoryEntity;
+import com.backend.common.seed.model.SeedManifest;
+import com.backend.common.seed.repository.SeedHistoryRepository;
+import com.backend.common.user.entity.UserEntity;
+import com.backend.common.user.model.Role;
+import com.backend.common.user.repository.UserRepository;
+import com.backend.core.cache.ResourceVersions;
+import com.backend.core.constants.Constants;
+import com.backend.core.startup.StartupTask;
+import com.backend.core.startup.StartupTaskProvider;
+import com.backend.core.transaction.AfterCommit;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 초기 데이터 적재
+ * - 사이트, 공통코드, 역할, 메뉴, 메뉴 권한, 초기 계정을 매니페스트(app.seed.manifest) 한 파일에서 읽어 생성
+ * - 적용한 매니페스트의 체크섬을 SEED_HISTORY에 기록하고, 다음 기동 시 체크섬이 같으면 이력 조회 한 번으로 끝냄
+ * - 적용할 때는 종류별로 기존 키를 한 번에 조회한 뒤 없는 항목만 모아 saveAll (JDBC 배치)
+ *
+ * 이미 있는 항목은 수정하지 않습니다. (관리 화면에서 바꾼 값을 매니페스트가 덮어쓰지 않도록)
+ * 메뉴는 메뉴가 하나도 없는 사이트에만 생성합니다.
+ *
+ * 종류별 적재는 기동 작업(StartupTask)으로 나뉘어, 서로 관계없는 사이트/공통코드/역할은 동시에 실행됩니다.
+ * 각 작업은 별도 트랜잭션이며, 모두 성공한 뒤 마지막 작업(seed)에서 체크섬을 기록합니다.
+ * 중간에 실패하면 체크섬이 기록되지 않으므로 다음 기동 시 없는 항목만 다시 적재됩니다.
+ *
+ * 여러 노드가 동시에 기동하면 클러스터 잠금(seed)을 얻은 노드만 적재합니다.
+ * 나머지 노드는 적재 작업은 건너뛰지만, 적재가 끝나 SEED_HISTORY에 같은 체크섬이 기록될 때까지 기다린 뒤
+ * 다음 작업(권한 행렬 적재 등)으로 넘어갑니다. 잠금을 가진 노드가 실패해 잠금이 풀리면 기다리던 노드가 잠금을 얻어 적재하고,
+ * 제한 시간(app.seed.lock-wait-timeout-ms) 안에 끝나지 않으면 기동이 실패합니다.
+ * 잠금은 체크섬 확인부터 마지막 작업까지 유지하며, 적재 작업이 실패하면 바로 해제합니다.
+ */
+@Service
+public class SeedService implements StartupTaskProvider {
+	private static final Logger logger = LoggerFactory.getLogger(SeedService.class);
+	private static final String SEED_NAME = "default";
+
+	/**
+	 * 초기 데이터 적재 완료 작업 이름 (초기 데이터를 전제로 하는 기동 작업의 의존 대상)
+	 */
+	public static final String TASK_NAME = "seed";
+
+	private final SeedHistoryRepository seedHistoryRepository;
+	private final SiteRepository siteRepository;
+	private final CmnCdRepository cmnCdRepository;
+	private final UserRoleRepository userRoleRepository;
+	private final MemberRoleRepository memberRoleRepository;
+	private final MenuRepository menuRepository;
+	private final UserRoleMenuRepository userRoleMenuRepository;
+	private final UserRepository userRepository;
+	private final MenuService menuService;
+	private final PasswordEncoder passwordEncoder;
+	private final MenuSnapshotCache menuSnapshotCache;
+	private final ResourceVersions resourceVersions;
+	private final TransactionTemplate transactionTemplate;
+	private final ClusterLockService clusterLockService;
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	// 이번 기동의 적재 상태 (적용할 변경이 없으면 null), 작업 간 전달은 의존 작업 완료 이후에만 읽으므로 순서가 보장됨
+	private volatile SeedRun run;
+
+	@Value("${app.seed.enabled:true}")
+	private boolean enabled;
+
+	@Value("${app.seed.manifest:classpath:seed/manifest.json}")
+	private Resource manifestResource;
+
+	@Value("${app.seed.lock-wait-timeout-ms:300000}")
+	private long lockWaitTimeoutMillis;
+
+	@Value("${app.seed.lock-poll-interval-ms:1000}")
+	private long lockPollIntervalMillis;
+
+	public SeedService(
+		SeedHistoryRepository seedHistoryRepository,
+		SiteRepository siteRepository,
+		CmnCdRepository cmnCdRepository,
+		UserRoleRepository userRoleRepository,
+		MemberRoleRepository memberRoleRepository,
+		MenuRepository menuRepository,
+		UserRoleMenuRepository userRoleMenuRepository,
+		UserRepository userRepository,
+		MenuService menuService,
+		PasswordEncoder passwordEncoder,
+		MenuSnapshotCache menuSnapshotCache,
+		ResourceVersions resourceVersions,
+		PlatformTransactionManager transactionManager,
+		ClusterLockService clusterLockService
+	) {
+		this.seedHistoryRepository = seedHistoryRepository;
+		this.siteRepository = siteRepository;
+		this.cmnCdRepository = cmnCdRepository;
+		this.userRoleRepository = userRoleRepository;
+		this.memberRoleRepository = memberRoleRepository;
+		this.menuRepository = menuRepository;
+		this.userRoleMenuRepository = userRoleMenuRepository;
+		this.userRepository = userRepository;
+		this.menuService = menuService;
+		this.passwordEncoder = passwordEncoder;
+		this.menuSnapshotCache = menuSnapshotCache;
+		this.resourceVersions = resourceVersions;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.clusterLockService = clusterLockService;
+	}
+
+	@Override
+	public List<StartupTask> startupTasks() {
+		return List.of(
+			StartupTask.critical("seed.manifest", this::prepare, ResourceVersions.TASK_NAME),
+			StartupTask.critical("seed.sites", step(r -> r.siteIds = seedSites(r.manifest.getSites())), "seed.manifest"),
+			StartupTask.critical("seed.codes", step(r -> r.codes = seedCodes(r.manifest.getCodes())), "seed.manifest"),
+			StartupTask.critical("seed.user-roles", step(r -> r.userRoleIds = seedUserRoles(r.manifest.getUserRoles())),
+				"seed.manifest"),
+			StartupTask.critical("seed.member-roles", step(r -> seedMemberRoles(r.manifest.getMemberRoles())),
+				"seed.manifest"),
+			StartupTask.critical("seed.menus", step(r -> r.createdMenus = seedMenus(r.manifest.getMenus(), r.siteIds)),
+				"seed.sites"),
+			StartupTask.critical("seed.permissions",
+				step(r -> r.permissions = seedPermissions(r.manifest.getPermissions(), r.siteIds, r.userRoleIds, r.createdMenus)),
+				"seed.menus", "seed.user-roles"),
+			StartupTask.critical("seed.accounts", step(r -> r.accounts = seedAccounts(r.manifest.getAccounts(), r.userRoleIds)),
+				"seed.user-roles"),
+			StartupTask.critical(TASK_NAME, finalStep(this::complete),
+				"seed.codes", "seed.member-roles", "seed.permissions", "seed.accounts")
+		);
+	}
+
+	/**
+	 * 매니페스트 체크섬을 마지막 적용 이력과 비교 (같으면 이후 작업은 모두 건너뜀)
+	 */
+	private void prepare() {
+		run = null;
+		if (!enabled) {
+			logger.info("초기 데이터 적재 비활성화 (app.seed.enabled=false)");
+			return;
+		}
+		byte[] content = readManifest();
+		String checksum = sha256(content);
+		if (isApplied(checksum)) {
+			logger.debug("초기 데이터 변경 없음: checksum={}", checksum);
+			return;
+		}
+		Optional<ClusterLockService.Lease> lease = acquireOrAwait(checksum);
+		if (lease.isEmpty()) {
+			return;
+		}
+		// 잠금을 얻기 전에 다른 노드가 적재를 마쳤을 수 있음
+		if (isApplied(checksum)) {
+			lease.get().close();
+			return;
+		}
+		SeedManifest manifest = parse(content);
+		logger.info("초기 데이터 적용 시작: version={}, checksum={}", manifest.getVersion(), checksum);
+		run = new SeedRun(manifest, checksum, lease.get());
+	}
+
+	/**
+	 * 클러스터 잠금을 얻거나, 다른 노드가 같은 체크섬의 적재를 마칠 때까지 대기
+	 * @return 잠금을 얻었으면 잠금, 다른 노드가 적재를 마쳤으면 빈 값
+	 */
+	Optional<ClusterLockService.Lease> acquireOrAwait(String checksum) {
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lockWaitTimeoutMillis);
+		boolean waiting = false;
+		while (true) {
+			Optional<ClusterLockService.Lease> lease = clusterLockService.tryAcquire(TASK_NAME);
+			if (lease.isPresent()) {
+				return lease;
+			}
+			if (isApplied(checksum)) {
+				logger.info("다른 노드에서 초기 데이터 적재 완료: checksum={}", checksum);
+				return Optional.empty();
+			}
+			if (System.nanoTime() - deadline >= 0) {
+				throw new IllegalStateException("다른 노드의 초기 데이터 적재를 기다리다 제한 시간을 넘겼습니다: "
+					+ lockWaitTimeoutMillis + "ms");
+			}
+			if (!waiting) {
+				logger.info("다른 노드에서 초기 데이터를 적재 중이므로 완료될 때까지 기다립니다.");
+				waiting = true;
+			}
+			try {
+				Thread.sleep(lockPollIntervalMillis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("초기 데이터 적재 대기 중 중단되었습니다.", e);
+			}
+		}
+	}
+
+	private boolean isApplied(String checksum) {
+		return seedHistoryRepository.findById(SEED_NAME)
+			.map(history -> checksum.equals(history.getChecksum()))
+			.orElse(false);
+	}
+
+	/**
+	 * 적용할 변경이 있을 때만 별도 트랜잭션에서 실행
+	 */
+	private Runnable step(Consumer<SeedRun> action) {
+		return () -> {
+			SeedRun current = run;
+			if (current != null) {
+				try {
+					transactionTemplate.executeWithoutResult(status -> action.accept(current));
+				} catch (RuntimeException e) {
+					current.lease.close();
+					throw e;
+				}
+			}
+		};
+	}
+
+	/**
+	 * 마지막 작업 (성공/실패와 무관하게 클러스터 잠금 해제)
+	 */
+	private Runnable finalStep(Consumer<SeedRun> action) {
+		Runnable step = step(action);
+		return () -> {
+			SeedRun current = run;
+			try {
+				step.run();
+			} finally {
+				if (current != null) {
+					current.lease.close();
+				}
+			}
+		};
+	}
+
+	/**
+	 * 적용 이력 기록과 캐시 무효화 (모든 적재 작업이 성공한 뒤)
+	 */
+	private void complete(SeedRun current) {
+		SeedHistoryEntity entity = seedHistoryRepository.findById(SEED_NAME)
+			.orElseGet(() -> new SeedHistoryEntity(SEED_NAME));
+		entity.setVersion(current.manifest.getVersion());
+		entity.setChecksum(current.checksum);
+		entity.setAppliedAt(LocalDateTime.now());
+		seedHistoryRepository.save(entity);
+
+		resourceVersions.bump(ResourceVersions.SITE);
+		resourceVersions.bump(ResourceVersions.CMN_CD);
+		resourceVersions.bump(ResourceVersions.USER_ROLE);
+		resourceVersions.bump(ResourceVersions.MEMBER_ROLE);
+		menuSnapshotCache.invalidateAll();
+		logger.info("초기 데이터 적용 완료: codes={}, menus={}, permissions={}, accounts={}",
+			current.codes, current.createdMenus.size(), current.permissions, current.accounts);
+		AfterCommit.run(() -> run = null);
+	}
+
+	/**
+	 * 사이트 (contextPath 기준), 반환: contextPath -> 사이트 ID
+	 */
+	private Map<String, String> seedSites(List<SeedManifest.SiteSeed> seeds) {
+		Map<String, String> siteIds = new HashMap<>();
+		for (SiteEntity site : siteRepository.findAll()) {
+			siteIds.put(site.getContextPath(), site.getId());
+		}
+		List<SiteEntity> created = new ArrayList<>();
+		for (SeedManifest.SiteSeed seed : seeds) {
+			if (!siteIds.containsKey(seed.getContextPath())) {
+				SiteEntity site = new SiteEntity(
+					seed.getSiteType(),
+					seed.getName(),
+					seed.getDescription(),
+					seed.getContextPath(),
+					seed.getVersion() != null ? seed.getVersion() : Constants.DEFAULT_VERSION
+				);
+				created.add(site);
+				siteIds.put(seed.getContextPath(), null);
+			}
+		}
+		for (SiteEntity site : siteRepository.saveAll(created)) {
+			siteIds.put(site.getContextPath(), site.getId());
+		}
+		return siteIds;
+	}
+
+	/**
+	 * 공통코드 ((상위코드, 코드) 기준)
+	 */
+	private int seedCodes(List<SeedManifest.CodeSeed> seeds) {
+		Set<String> existing = new HashSet<>();
+		for (CmnCdEntity code : cmnCdRepository.findAll()) {
+			existing.add(codeKey(code.getParentCd(), code.getCd()));
+		}
+		List<CmnCdEntity> created = new ArrayList<>();
+		for (SeedManifest.CodeSeed parent : seeds) {
+			if (existing.add(codeKey(null, parent.getCd()))) {
+				created.add(new CmnCdEntity(parent.getCd(), parent.getName(), parent.getDescription(), null));
+			}
+			for (SeedManifest.CodeSeed child : parent.getChildren()) {
+				if (existing.add(codeKey(parent.getCd(), child.getCd()))) {
+					created.add(new CmnCdEntity(child.getCd(), child.getName(), child.getDescription(), parent.getCd()));
+				}
+			}
+		}
+		cmnCdRepository.saveAll(created);
+		return created.size();
+	}
+
+	private static String codeKey(String parentCd, String cd) {
+		return (parentCd != null ? parentCd : "") + ":" + cd;
+	}
+
+	/**
+	 * 관리자 역할 (역할 코드 기준), 반환: 역할 코드 -> 역할 ID
+	 */
+	private Map<String, String> seedUserRoles(List<SeedManifest.RoleSeed> seeds) {
+		Map<String, String> roleIds = new HashMap<>();
+		for (UserRoleEntity role : userRoleRepository.findAll()) {
+			roleIds.put(role.getRoleCd(), role.getId());
+		}
+		List<UserRoleEntity> created = new ArrayList<>();
+		for (SeedManifest.RoleSeed seed : seeds) {
+			if (!roleIds.containsKey(seed.getRoleCd())) {
+				created.add(new UserRoleEntity(seed.getRoleCd(), seed.getRoleNm(), seed.getRoleDesc()));
+				roleIds.put(seed.getRoleCd(), null);
+			}
+		}
+		for (UserRoleEntity role : userRoleRepository.saveAll(created)) {
+			roleIds.put(role.getRoleCd(), role.getId());
+		}
+		return roleIds;
+	}
+
+	/**
+	 * 회원 역할 (역할 코드 기준)
+	 */
+	private void seedMemberRoles(List<SeedManifest.RoleSeed> seeds) {
+		Set<String> existing = new HashSet<>();
+		for (MemberRoleEntity role : memberRoleRepository.findAll()) {
+			existing.add(role.getRoleCd());
+		}
+		List<MemberRoleEntity> created = new ArrayList<>();
+		for (SeedManifest.RoleSeed seed : seeds) {
+			if (existing.add(seed.getRoleCd())) {
+				created.add(new MemberRoleEntity(seed.getRoleCd(), seed.getRoleNm(), seed.getRoleDesc()));
+			}
+		}
+		memberRoleRepository.saveAll(created);
+		if (!created.isEmpty()) {
+			menuSnapshotCache.invalidateGuestRole();
+		}
+	}
+
+	/**
+	 * 메뉴가 없는 사이트의 메뉴 생성
+	 * 같은 깊이의 메뉴를 한 번에 저장하면 ID가 정해지므로, 깊이 순으로 저장하며 하위 메뉴의 상위 ID와 경로를 채웁니다.
+	 */
+	private List<MenuEntity> seedMenus(List<SeedManifest.SiteMenuSeed> seeds, Map<String, String> siteIds) {
+		Set<String> sitesWithMenus = new HashSet<>(menuRepository.findDistinctSiteIds());
+		List<MenuEntity> created = new ArrayList<>();
+		for (SeedManifest.SiteMenuSeed siteSeed : seeds) {
+			String siteId = siteIds.get(siteSeed.getSite());
+			if (siteId == null) {
+				logger.warn("초기 메뉴의 사이트가 없습니다: contextPath={}", siteSeed.getSite());
+				continue;
+			}
+			if (sitesWithMenus.contains(siteId)) {
+				continue;
+			}
+			List<SeedManifest.MenuSeed> level = siteSeed.getItems();
+			List<MenuEntity> parents = new ArrayList<>();
+			for (int i = 0; i < level.size(); i++) {
+				parents.add(null);
+			}
+			while (!level.isEmpty()) {
+				List<MenuEntity> entities = new ArrayList<>(level.size());
+				for (int i = 0; i < level.size(); i++) {
+					SeedManifest.MenuSeed seed = level.get(i);
+					MenuEntity parent = parents.get(i);
+					entities.add(new MenuEntity(siteId, seed.getName(), seed.getUrl(), seed.getIcon(), seed.getOrder(),
+						parent != null ? parent.getId() : null));
+				}
+				menuRepository.saveAll(entities);
+
+				List<SeedManifest.MenuSeed> nextLevel = new ArrayList<>();
+				List<MenuEntity> nextParents = new ArrayList<>();
+				for (int i = 0; i < level.size(); i++) {
+					MenuEntity entity = entities.get(i);
+					entity.setPath(MenuService.childPath(parents.get(i), entity.getId()));
+					for (SeedManifest.MenuSeed child : level.get(i).getChildren()) {
+						nextLevel.add(child);
+						nextParents.add(entity);
+					}
+				}
+				created.addAll(entities);
+				level = nextLevel;
+				parents = nextParents;
+			}
+		}
+		// 경로 컬럼 추가 이전에 만들어진 메뉴
+		menuService.backfillMenuPaths();
+		return created;
+	}
+
+	/**
+	 * 관리자 역할 메뉴 권한
+	 * 권한이 하나도 없는 역할은 대상 사이트의 활성 메뉴 전체에, 이미 권한이 있는 역할은 이번에 생성한 메뉴에만 부여합니다.
+	 * 권한 행렬은 초기 데이터 적재 이후의 기동 작업(menu-permission-matrix)에서 전체 적재됩니다.
+	 */
+	private int seedPermissions(List<SeedManifest.PermissionSeed> seeds, Map<String, String> siteIds,
+	                            Map<String, String> userRoleIds, List<MenuEntity> createdMenus) {
+		List<MenuEntity> allMenus = null;
+		List<UserRoleMenuEntity> created = new ArrayList<>();
+		for (SeedManifest.PermissionSeed seed : seeds) {
+			String roleId = userRoleIds.get(seed.getUserRole());
+			if (roleId == null) {
+				logger.warn("초기 권한의 역할이 없습니다: roleCd={}", seed.getUserRole());
+				continue;
+			}
+			String siteId = seed.getSite() != null ? siteIds.get(seed.getSite()) : null;
+			if (seed.getSite() != null && siteId == null) {
+				logger.warn("초기 권한의 사이트가 없습니다: contextPath={}", seed.getSite());
+				continue;
+			}
+			List<MenuEntity> targets;
+			if (userRoleMenuRepository.existsByUserRoleId(roleId)) {
+				targets = createdMenus;
+			} else {
+				if (allMenus == null) {
+					allMenus = menuRepository.findAll();
+				}
+				targets = allMenus;
+			}
+			int mask = 0;
+			for (String grant : seed.getGrants()) {
+				mask |= MenuPermissionType.valueOf(grant).bit();
+			}
+			for (MenuEntity menu : targets) {
+				if (!Boolean.TRUE.equals(menu.getEnabled()) || (siteId != null && !siteId.equals(menu.getSiteId()))) {
+					continue;
+				}
+				UserRoleMenuEntity permission = new UserRoleMenuEntity(roleId, menu.getId());
+				permission.setPermRead(MenuPermissionType.READ.flagOf(mask));
+				permission.setPermCreate(MenuPermissionType.CREATE.flagOf(mask));
+				permission.setPermUpdate(MenuPermissionType.UPDATE.flagOf(mask));
+				permission.setPermDelete(MenuPermissionType.DELETE.flagOf(mask));
+				permission.setPermDownload(MenuPermissionType.DOWNLOAD.flagOf(mask));
+				permission.setPermAll(MenuPermissionType.ALL.flagOf(mask));
+				permission.setEnabled(Constants.PERM_ENABLED);
+				created.add(permission);
+			}
+		}
+		userRoleMenuRepository.saveAll(created);
+		return created.size();
+	}
+
+	/**
+	 * 초기 계정 (사용자명 기준)
+	 */
+	private int seedAccounts(List<SeedManifest.AccountSeed> seeds, Map<String, String> userRoleIds) {
+		if (seeds.isEmpty()) {
+			return 0;
+		}
+		List<String> usernames = new ArrayList<>(seeds.size());
+		for (SeedManifest.AccountSeed seed : seeds) {
+			usernames.add(seed.getUsername());
+		}
+		Set<String> existing = new HashSet<>(userRepository.findExistingUsernames(usernames));
+		List<UserEntity> created = new ArrayList<>();
+		for (SeedManifest.AccountSeed seed : seeds) {
+			if (!existing.add(seed.getUsername())) {
+				continue;
+			}
+			Role role = Role.valueOf(seed.getRole());
+			UserEntity entity = new UserEntity(seed.getUsername(), passwordEncoder.encode(seed.getPassword()), role,
+				seed.getName(), seed.getEmail());
+			if (role == Role.USER && seed.getRoleCd() != null) {
+				entity.setUserRoleId(userRoleIds.get(seed.getRoleCd()));
+			}
+			created.add(entity);
+		}
+		userRepository.saveAll(created);
+		return created.size();
+	}
+
+	private byte[] readManifest() {
+		try (InputStream in = manifestResource.getInputStream()) {
+			return in.readAllBytes();
+		} catch (IOException e) {
+			throw new UncheckedIOException("초기 데이터 매니페스트를 읽을 수 없습니다: " + manifestResource, e);
+		}
+	}
+
+	private SeedManifest parse(byte[] content) {
+		try {
+			return objectMapper.readValue(content, SeedManifest.class);
+		} catch (IOException e) {
+			throw new IllegalStateException("초기 데이터 매니페스트 형식이 올바르지 않습니다: " + manifestResource, e);
+		}
+	}
+
+	private static String sha256(byte[] content) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * 이번 기동의 적재 상태 (작업 간 전달)
+	 */
+	private static final class SeedRun {
+		private final SeedManifest manifest;
+		private final String checksum;
+		private final ClusterLockService.Lease lease;
+		private Map<String, String> siteIds = Map.of();
+		private Map<String, String> userRoleIds = Map.of();
+		private List<MenuEntity> createdMenus = List.of();
+		private int codes;
+		private int permissions;
+		private int accounts;
+
+		private SeedRun(SeedManifest manifest, String checksum, ClusterLockService.Lease lease) {
+			this.manifest = manifest;
+			this.checksum = checksum;
+			this.lease = lease;
+		}
+	}
+}
@@ -6,6 +6,9 @@ import com.backend.common.user.dto.UserUpdateRequest;
 import com.backend.common.user.model.Role;
 import com.backend.common.user.model.User;
 import com.backend.common.user.service.UserService;
+import com.backend.common.auth.permission.MenuPermissionType;
+import com.backend.common.auth.permission.RequireMenuPermission;
+import com.backend.core.constants.Constants;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
@@ -152,7 +155,7 @@ public class UserController {
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 부족")
 	})
 	@SecurityRequirement(name = "bearerAuth")
-	@PreAuthorize("hasRole('USER')")
+	@RequireMenuPermission(menu = Constants.MENU_ADMIN_ADMINS, action = MenuPermissionType.CREATE)
 	@PostMapping
 	public ResponseEntity<ApiResponse<User>> create(@Valid @org.springframework.web.bind.annotation.RequestBody UserCreateRequest request) {
 		return ResponseEntity.ok(ApiResponse.ok(userService.createUser(
@@ -215,7 +218,7 @@ public class UserController {
 		)
 	})
 	@SecurityRequirement(name = "bearerAuth")
-	@PreAuthorize("hasRole('USER')")
+	@RequireMenuPermission(menu = Constants.MENU_ADMIN_ADMINS, action = MenuPermissionType.UPDATE)
 	@PutMapping("/{id}")
 	public ResponseEntity<ApiResponse<User>> update(
 		@Schema(description = "관리자 ID", example = "user-id-123", required = true) @PathVariable String id,
@@ -231,7 +234,7 @@ public class UserController {
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "관리자를 찾을 수 없음")
 	})
 	@SecurityRequirement(name = "bearerAuth")
-	@PreAuthorize("hasRole('USER')")
+	@RequireMenuPermission(menu = Constants.MENU_ADMIN_ADMINS, action = MenuPermissionType.DELETE)
 	@DeleteMapping("/{id}")
 	public ResponseEntity<ApiResponse<Void>> delete(@PathVariable String id) {
 		userService.deleteUser(id);
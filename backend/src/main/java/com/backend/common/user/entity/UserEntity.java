@@ -45,6 +45,11 @@ public class UserEntity {
 	@org.hibernate.annotations.Comment("사용자 역할 ID (USER_ROLE 테이블 참조)")
 	private String userRoleId;
 	
+	@Column(name = "TOKEN_VER", nullable = false)
+	@org.hibernate.annotations.ColumnDefault("0")
+	@org.hibernate.annotations.Comment("토큰 버전 (전체 로그아웃/비밀번호 변경 시 증가, 이전 버전 토큰은 무효)")
+	private int tokenVersion;
+	
 	public UserEntity() {}
 	
 	public UserEntity(String username, String password, Role role) {
@@ -77,5 +82,6 @@ public class UserEntity {
 	public void setAvatarUrl(String avatarUrl) { this.avatarUrl = avatarUrl; }
 	public String getUserRoleId() { return userRoleId; }
 	public void setUserRoleId(String userRoleId) { this.userRoleId = userRoleId; }
+	public int getTokenVersion() { return tokenVersion; }
+	public void setTokenVersion(int tokenVersion) { this.tokenVersion = tokenVersion; }
 }
-
@@ -2,13 +2,41 @@ package com.backend.common.user.repository;
 
 import com.backend.common.user.entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<UserEntity, String> {
 	Optional<UserEntity> findByUsername(String username);
 	boolean existsByUsername(String username);
+
+	/**
+	 * 주어진 사용자명 중 이미 있는 사용자명만 조회
+	 */
+	@Query("select u.username from UserEntity u where u.username in :usernames")
+	List<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+
+	@Query("select u.tokenVersion from UserEntity u where u.username = :username")
+	Optional<Integer> findTokenVersionByUsername(@Param("username") String username);
+
+	/**
+	 * 토큰 버전을 DB에서 원자적으로 1 증가 (동시 호출 시에도 증가분이 유실되지 않음)
+	 * 앞선 엔티티 변경을 먼저 반영하고, 실행 후 영속성 컨텍스트를 비워 이전 버전 값이 다시 기록되지 않도록 합니다.
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("update UserEntity u set u.tokenVersion = u.tokenVersion + 1 where u.username = :username")
+	int incrementTokenVersion(@Param("username") String username);
+
+	/**
+	 * 토큰 버전이 한 번 이상 변경된 사용자만 조회 (username, tokenVersion)
+	 */
+	@Query("select u.username, u.tokenVersion from UserEntity u where u.tokenVersion > 0")
+	List<Object[]> findChangedTokenVersions();
 }
 
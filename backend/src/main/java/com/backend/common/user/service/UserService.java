@@ -1,23 +1,15 @@
 package com.backend.common.user.service;
 
-import com.backend.common.admin.menu.entity.MenuEntity;
-import com.backend.common.admin.menu.repository.MenuRepository;
-import com.backend.common.admin.userRole.entity.UserRoleEntity;
-import com.backend.common.admin.userRole.repository.UserRoleRepository;
-import com.backend.common.admin.userRoleMenu.entity.UserRoleMenuEntity;
-import com.backend.common.admin.userRoleMenu.repository.UserRoleMenuRepository;
+import com.backend.common.auth.security.TokenVersionService;
 import com.backend.common.user.entity.UserEntity;
 import com.backend.common.user.model.Role;
 import com.backend.common.user.model.User;
 import com.backend.common.user.repository.UserRepository;
-import com.backend.core.constants.Constants;
+import com.backend.core.cache.ResourceVersions;
 import com.backend.core.exception.DuplicateResourceException;
 import com.backend.core.exception.ResourceNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.boot.context.event.ApplicationReadyEvent;
-import org.springframework.context.event.EventListener;
-import org.springframework.core.annotation.Order;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,90 +23,19 @@ public class UserService {
 	private static final Logger logger = LoggerFactory.getLogger(UserService.class);
 	private final UserRepository userRepository;
 	private final PasswordEncoder passwordEncoder;
-	private final UserRoleRepository userRoleRepository;
-	private final MenuRepository menuRepository;
-	private final UserRoleMenuRepository userRoleMenuRepository;
+	private final TokenVersionService tokenVersionService;
+	private final ResourceVersions resourceVersions;
 
 	public UserService(
 		UserRepository userRepository, 
 		PasswordEncoder passwordEncoder,
-		UserRoleRepository userRoleRepository,
-		MenuRepository menuRepository,
-		UserRoleMenuRepository userRoleMenuRepository
+		TokenVersionService tokenVersionService,
+		ResourceVersions resourceVersions
 	) {
 		this.userRepository = userRepository;
 		this.passwordEncoder = passwordEncoder;
-		this.userRoleRepository = userRoleRepository;
-		this.menuRepository = menuRepository;
-		this.userRoleMenuRepository = userRoleMenuRepository;
-	}
-
-	@EventListener(ApplicationReadyEvent.class)
-	@Order(200) // UserRoleService(기본값 0), MenuService(100)보다 나중에 실행되도록 설정
-	@Transactional
-	public void init() {
-		logger.info("초기 사용자 계정 생성 시작");
-		// 초기 계정 생성 (이미 존재하면 생성하지 않음)
-		// ApplicationReadyEvent를 사용하여 모든 빈이 준비된 후 실행
-		
-		// 관리자 계정 생성
-		if (!userRepository.existsByUsername("admin")) {
-			logger.info("관리자 계정 생성 중");
-			// 최고관리자 역할 찾기 (없으면 생성)
-			Optional<UserRoleEntity> adminRoleOpt = userRoleRepository.findByRoleCd(Constants.ROLE_ADMIN);
-			String adminRoleId;
-			if (adminRoleOpt.isPresent()) {
-				adminRoleId = adminRoleOpt.get().getId();
-			} else {
-				// 최고관리자 역할이 없으면 생성
-				UserRoleEntity adminRole = new UserRoleEntity(Constants.ROLE_ADMIN, "최고 관리자", "모든 권한을 가진 최고 관리자");
-				UserRoleEntity savedRole = userRoleRepository.save(adminRole);
-				adminRoleId = savedRole.getId();
-				logger.info("최고관리자 역할 생성 완료: {}", adminRoleId);
-			}
-			
-			// 최고관리자 역할 ID와 함께 사용자 생성
-			createUser("admin", "admin123", Role.USER, "관리자", "admin@example.com", adminRoleId);
-			
-			// 최고관리자 역할에 모든 메뉴에 대한 권한 부여
-			grantAllPermissionsToRole(adminRoleId);
-			logger.info("관리자 계정 생성 완료");
-		}
-		
-		// 사용자 계정 생성
-		if (!userRepository.existsByUsername("member")) {
-			logger.info("사용자 계정 생성 중");
-			createUser("member", "member123", Role.MEMBER); // 사용자
-			logger.info("사용자 계정 생성 완료");
-		}
-		logger.info("초기 사용자 계정 생성 완료");
-	}
-	
-	/**
-	 * 특정 역할에 모든 메뉴에 대한 전체 권한 부여
-	 */
-	@Transactional
-	private void grantAllPermissionsToRole(String userRoleId) {
-		// 모든 활성화된 메뉴 조회
-		List<MenuEntity> allMenus = menuRepository.findAll().stream()
-			.filter(menu -> menu.getEnabled() != null && menu.getEnabled())
-			.collect(Collectors.toList());
-		
-		logger.debug("역할 {}에 {}개의 메뉴 권한 부여 중", userRoleId, allMenus.size());
-		
-		// 각 메뉴에 대해 전체 권한 부여
-		for (MenuEntity menu : allMenus) {
-			UserRoleMenuEntity permission = new UserRoleMenuEntity(userRoleId, menu.getId());
-			permission.setPermRead(Constants.PERM_READ);
-			permission.setPermCreate(Constants.PERM_CREATE);
-			permission.setPermUpdate(Constants.PERM_UPDATE);
-			permission.setPermDelete(Constants.PERM_DELETE);
-			permission.setPermDownload(Constants.PERM_DOWNLOAD);
-			permission.setPermAll(Constants.PERM_ALL);
-			permission.setEnabled(Constants.PERM_ENABLED);
-			userRoleMenuRepository.save(permission);
-		}
-		logger.debug("역할 {}에 메뉴 권한 부여 완료", userRoleId);
+		this.tokenVersionService = tokenVersionService;
+		this.resourceVersions = resourceVersions;
 	}
 
 	@Transactional(readOnly = true)
@@ -185,8 +106,12 @@ public class UserService {
 				.orElseThrow(() -> new ResourceNotFoundException("관리자", id));
 		entity.setName(name);
 		entity.setEmail(email);
-		if (userRoleId != null) {
+		if (userRoleId != null && !userRoleId.equals(entity.getUserRoleId())) {
 			entity.setUserRoleId(userRoleId);
+			// 역할이 바뀌면 권한 기반 메뉴 응답이 달라짐
+			resourceVersions.bump(ResourceVersions.MENU);
+			// 역할 ID는 Access Token 클레임으로 검사하므로 기존 토큰을 무효화해 새 역할로 다시 발급받게 함
+			tokenVersionService.revokeAllTokens(entity.getUsername());
 		}
 		UserEntity saved = userRepository.save(entity);
 		logger.info("사용자 정보 수정 완료: id={}", id);
@@ -200,6 +125,8 @@ public class UserService {
 				.filter(u -> u.getRole() == Role.USER)
 				.orElseThrow(() -> new ResourceNotFoundException("관리자", id));
 		userRepository.delete(entity);
+		// 삭제된 사용자의 토큰은 비회원 메뉴로 조회되므로 메뉴 응답 버전 갱신
+		resourceVersions.bump(ResourceVersions.MENU);
 		logger.info("사용자 삭제 완료: id={}", id);
 	}
 
@@ -239,6 +166,9 @@ public class UserService {
 		String encoded = passwordEncoder.encode(newPassword);
 		entity.setPassword(encoded);
 		userRepository.save(entity);
+
+		// 기존에 발급된 모든 토큰 무효화 (다른 기기 포함)
+		tokenVersionService.revokeAllTokens(username);
 		logger.info("비밀번호 변경 완료: username={}", username);
 	}
 
@@ -4,8 +4,11 @@ import com.backend.core.dto.ApiResponse;
 import com.backend.core.exception.BusinessException;
 import com.backend.core.exception.DuplicateResourceException;
 import com.backend.core.exception.ResourceNotFoundException;
+import com.backend.core.exception.ServiceBusyException;
+import com.backend.core.exception.TooManyRequestsException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -35,6 +38,22 @@ public class GlobalExceptionHandler {
 		return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponse.error(ex.getMessage()));
 	}
 
+	@ExceptionHandler(ServiceBusyException.class)
+	public ResponseEntity<ApiResponse<Void>> handleServiceBusy(ServiceBusyException ex) {
+		logger.warn("Service busy: {}", ex.getMessage());
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+				.header(HttpHeaders.RETRY_AFTER, "1")
+				.body(ApiResponse.error(ex.getMessage()));
+	}
+
+	@ExceptionHandler(TooManyRequestsException.class)
+	public ResponseEntity<ApiResponse<Void>> handleTooManyRequests(TooManyRequestsException ex) {
+		logger.warn("Too many requests: {}", ex.getMessage());
+		return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+				.header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+				.body(ApiResponse.error(ex.getMessage()));
+	}
+
 	@ExceptionHandler(IllegalArgumentException.class)
 	public ResponseEntity<ApiResponse<Void>> handleIllegalArgument(IllegalArgumentException ex) {
 		logger.warn("IllegalArgumentException: {}", ex.getMessage());
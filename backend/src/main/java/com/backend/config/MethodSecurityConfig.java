@@ -1,11 +1,36 @@
 package com.backend.config;
 
+import com.backend.common.auth.permission.MenuPermissionEvaluator;
+import com.backend.common.auth.permission.MenuPermissionMatrix;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.access.expression.method.MethodSecurityExpressionHandler;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
+import org.springframework.security.core.annotation.AnnotationTemplateExpressionDefaults;
 
 @Configuration
 @EnableMethodSecurity
 public class MethodSecurityConfig {
-}
 
+	/**
+	 * hasPermission 식을 메뉴 권한(MenuPermissionEvaluator)으로 처리
+	 */
+	@Bean
+	static MethodSecurityExpressionHandler methodSecurityExpressionHandler(
+		ObjectProvider<MenuPermissionMatrix> menuPermissionMatrix
+	) {
+		DefaultMethodSecurityExpressionHandler handler = new DefaultMethodSecurityExpressionHandler();
+		handler.setPermissionEvaluator(new MenuPermissionEvaluator(menuPermissionMatrix));
+		return handler;
+	}
 
+	/**
+	 * @RequireMenuPermission의 {menu}, {action} 자리표시자를 속성 값으로 치환
+	 */
+	@Bean
+	static AnnotationTemplateExpressionDefaults annotationTemplateExpressionDefaults() {
+		return new AnnotationTemplateExpressionDefaults();
+	}
+}
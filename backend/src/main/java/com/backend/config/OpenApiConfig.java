@@ -1,5 +1,6 @@
 package com.backend.config;
 
+import com.backend.common.auth.security.CurrentUser;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Contact;
@@ -9,6 +10,7 @@ import io.swagger.v3.oas.models.security.SecurityRequirement;
 import io.swagger.v3.oas.models.security.SecurityScheme;
 import io.swagger.v3.oas.models.servers.Server;
 import io.swagger.v3.oas.models.tags.Tag;
+import org.springdoc.core.utils.SpringDocUtils;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -17,6 +19,11 @@ import java.util.List;
 @Configuration
 public class OpenApiConfig {
 
+	static {
+		// @CurrentUser 파라미터는 인증 정보에서 주입되므로 API 문서의 요청 파라미터에서 제외
+		SpringDocUtils.getConfig().addAnnotationsToIgnore(CurrentUser.class);
+	}
+
 	@Bean
 	public OpenAPI customOpenAPI() {
 		final String securitySchemeName = "bearerAuth";
@@ -0,0 +1,13 @@
+package com.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업(@Scheduled) 활성화 설정
+ * 토큰 블랙리스트, Refresh Token 만료 정리 등 백그라운드 정리 작업에 사용됩니다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
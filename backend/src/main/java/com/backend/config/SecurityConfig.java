@@ -4,6 +4,7 @@ import com.backend.common.auth.security.CustomUserDetailsService;
 import com.backend.common.auth.security.JwtAuthFilter;
 import com.backend.common.auth.security.JwtUtil;
 import com.backend.common.auth.security.TokenBlacklistService;
+import com.backend.common.auth.security.TokenVersionService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -27,9 +28,12 @@ public class SecurityConfig {
 	@Value("${app.jwt.secret:ZmFrZVNlY3JldEJhc2U2NEtleVNwcg==}")
 	private String jwtSecret;
 
+	@Value("${app.jwt.verified-cache-size:10000}")
+	private int jwtVerifiedCacheSize;
+
 	@Bean
 	public JwtUtil jwtUtil() {
-		return new JwtUtil(jwtSecret, 3600);
+		return new JwtUtil(jwtSecret, 3600, jwtVerifiedCacheSize);
 	}
 
 	@Bean
@@ -43,6 +47,7 @@ public class SecurityConfig {
 	                                               CustomUserDetailsService userDetailsService,
 	                                               PasswordEncoder passwordEncoder,
 	                                               TokenBlacklistService tokenBlacklistService,
+	                                               TokenVersionService tokenVersionService,
 	                                               CustomAuthenticationEntryPoint authenticationEntryPoint,
 	                                               CustomAccessDeniedHandler accessDeniedHandler) throws Exception {
 		AuthenticationManagerBuilder authManagerBuilder = http.getSharedObject(AuthenticationManagerBuilder.class);
@@ -74,6 +79,7 @@ public class SecurityConfig {
 					.requestMatchers(org.springframework.http.HttpMethod.GET, "/api/v1/site").permitAll()
 					.requestMatchers(org.springframework.http.HttpMethod.GET, "/api/v1/site/context-path/**").permitAll()
 					.requestMatchers(org.springframework.http.HttpMethod.GET, "/api/v1/menu/site/*/enabled/with-permissions").permitAll()
+					.requestMatchers(org.springframework.http.HttpMethod.GET, "/api/v1/menu/site/*/tree/with-permissions").permitAll()
 					.requestMatchers("/api/v1/site/**").hasRole("USER")
 					.requestMatchers("/api/v1/menu/**").hasRole("USER")
 					.requestMatchers("/api/v1/cmn-cd/**").hasRole("USER")
@@ -86,7 +92,7 @@ public class SecurityConfig {
 					.accessDeniedHandler(accessDeniedHandler)
 			);
 
-		http.addFilterBefore(new JwtAuthFilter(jwtUtil, tokenBlacklistService), UsernamePasswordAuthenticationFilter.class);
+		http.addFilterBefore(new JwtAuthFilter(jwtUtil, tokenBlacklistService, tokenVersionService), UsernamePasswordAuthenticationFilter.class);
 		return http.build();
 	}
 
@@ -1,9 +1,13 @@
 package com.backend.config;
 
+import com.backend.common.auth.security.CurrentUserArgumentResolver;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
@@ -17,5 +21,11 @@ public class WebConfig implements WebMvcConfigurer {
 				.exposedHeaders("Authorization", "Content-Type")
 				.maxAge(3600);
 	}
+
+	@Override
+	public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+		// @CurrentUser JwtPrincipal 주입
+		resolvers.add(new CurrentUserArgumentResolver());
+	}
 }
 
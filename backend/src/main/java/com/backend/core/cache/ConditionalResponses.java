@@ -0,0 +1,100 @@
+package com.backend.core.cache;
+
+import com.backend.core.dto.ApiResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * ETag 기반 조건부 GET 응답 생성
+ * If-None-Match가 현재 ETag와 일치하면 본문 조회(Supplier)와 JSON 직렬화 없이 304를 반환합니다.
+ *
+ * 조회 실패(예외) 시에는 캐시 헤더가 붙지 않도록, 헤더는 응답 객체를 만들 때만 설정합니다.
+ */
+@Component
+public class ConditionalResponses {
+	private final CacheControl sharedCacheControl;
+	private final CacheControl personalCacheControl;
+	private final CacheControl revalidateCacheControl;
+
+	public ConditionalResponses(
+			@Value("${app.http.reference-data.stale-while-revalidate-seconds:60}") long staleWhileRevalidateSeconds) {
+		Duration staleWhileRevalidate = Duration.ofSeconds(staleWhileRevalidateSeconds);
+		this.sharedCacheControl = CacheControl.maxAge(Duration.ZERO)
+			.cachePublic()
+			.staleWhileRevalidate(staleWhileRevalidate);
+		this.personalCacheControl = CacheControl.maxAge(Duration.ZERO)
+			.cachePrivate()
+			.staleWhileRevalidate(staleWhileRevalidate);
+		this.revalidateCacheControl = CacheControl.noCache().cachePrivate();
+	}
+
+	/**
+	 * 인증 없이 조회하는 공용 데이터 (공유 캐시 허용, 잠시 이전 응답 사용 허용)
+	 */
+	public CacheControl shared() {
+		return sharedCacheControl;
+	}
+
+	/**
+	 * 사용자별로 달라지는 공개 API 응답 (브라우저 캐시만 허용, 잠시 이전 응답 사용 허용)
+	 */
+	public CacheControl personal() {
+		return personalCacheControl;
+	}
+
+	/**
+	 * 관리 화면용 응답 (매번 재검증)
+	 */
+	public CacheControl revalidate() {
+		return revalidateCacheControl;
+	}
+
+	/**
+	 * @param etag 따옴표를 제외한 ETag 값 (ResourceVersions#etag)
+	 * @param body 변경된 경우에만 호출되는 본문 조회
+	 */
+	public <T> ResponseEntity<ApiResponse<T>> ok(WebRequest request, String etag, CacheControl cacheControl,
+	                                             Supplier<T> body) {
+		String quoted = "\"" + etag + "\"";
+		if (matches(request.getHeaderValues(HttpHeaders.IF_NONE_MATCH), quoted)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+				.eTag(quoted)
+				.cacheControl(cacheControl)
+				.build();
+		}
+		T data = body.get();
+		return ResponseEntity.ok()
+			.eTag(quoted)
+			.cacheControl(cacheControl)
+			.body(ApiResponse.ok(data));
+	}
+
+	/**
+	 * If-None-Match 비교 (약한 비교: W/ 접두어 무시, * 허용)
+	 */
+	private static boolean matches(String[] headerValues, String quotedEtag) {
+		if (headerValues == null) {
+			return false;
+		}
+		for (String headerValue : headerValues) {
+			for (String token : headerValue.split(",")) {
+				String candidate = token.trim();
+				if (candidate.startsWith("W/")) {
+					candidate = candidate.substring(2);
+				}
+				if (candidate.equals("*") || candidate.equals(quotedEtag)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+}
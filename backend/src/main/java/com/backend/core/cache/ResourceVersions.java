@@ -0,0 +1,184 @@
+package com.backend.core.cache;
+
+import com.backend.core.startup.StartupTask;
+import com.backend.core.startup.StartupTaskProvider;
+import com.backend.core.transaction.AfterCommit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 기준 데이터(사이트, 메뉴, 공통코드, 아이콘, 역할) 집합별 버전
+ * - 버전 원본은 RESOURCE_VERSION 테이블이며 모든 노드가 공유
+ * - 각 서비스의 쓰기 메서드는 데이터 변경과 같은 트랜잭션에서 버전 행을 1 증가시키고, 커밋 이후 로컬 값에 반영
+ * - 조회 API는 로컬 값으로 강한 ETag를 만들어, 변경이 없으면 조회/직렬화 없이 304를 응답 (ConditionalResponses)
+ *
+ * 다른 노드의 변경은 주기적으로(app.http.reference-data.version-poll-interval-ms) 테이블을 읽어 반영합니다.
+ * 새 버전을 발견하면 해당 집합의 노드 로컬 캐시(onRemoteChange로 등록)를 먼저 비운 뒤 로컬 값을 올리므로,
+ * 어떤 노드도 이전 데이터에 새 버전의 ETag를 붙이지 않습니다. 따라서 노드 간에 ETag를 그대로 비교할 수 있고,
+ * 잘못된 304는 발생하지 않습니다. 다른 노드의 변경이 304 대신 200으로 보이기까지는 최대 폴링 주기만큼 지연됩니다.
+ *
+ * 버전 행은 처음 만들 때 현재 시각(ms)에서 시작하므로 DB를 새로 만들어도 이전 ETag와 겹치지 않습니다.
+ * 같은 집합을 변경하는 트랜잭션은 버전 행 잠금으로 커밋 순서가 정해집니다. (기준 데이터는 변경 빈도가 낮음)
+ */
+@Component
+public class ResourceVersions implements StartupTaskProvider {
+	private static final Logger logger = LoggerFactory.getLogger(ResourceVersions.class);
+	public static final String TASK_NAME = "resource-versions";
+
+	public static final String SITE = "site";
+	public static final String MENU = "menu";
+	public static final String CMN_CD = "cmn-cd";
+	public static final String ICON = "icon";
+	public static final String USER_ROLE = "user-role";
+	public static final String MEMBER_ROLE = "member-role";
+
+	private static final List<String> AGGREGATES = List.of(SITE, MENU, CMN_CD, ICON, USER_ROLE, MEMBER_ROLE);
+	private static final String INSERT_SQL =
+		"INSERT INTO \"RESOURCE_VERSION\" (\"RSRC_NM\", \"VER\") " +
+		"SELECT ?, ? WHERE NOT EXISTS (SELECT 1 FROM \"RESOURCE_VERSION\" WHERE \"RSRC_NM\" = ?)";
+	private static final String INCREMENT_SQL =
+		"UPDATE \"RESOURCE_VERSION\" SET \"VER\" = \"VER\" + 1 WHERE \"RSRC_NM\" = ?";
+	private static final String SELECT_SQL =
+		"SELECT \"VER\" FROM \"RESOURCE_VERSION\" WHERE \"RSRC_NM\" = ?";
+	private static final String SELECT_ALL_SQL =
+		"SELECT \"RSRC_NM\", \"VER\" FROM \"RESOURCE_VERSION\"";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+	private final Map<String, List<Runnable>> remoteChangeListeners = new ConcurrentHashMap<>();
+
+	public ResourceVersions(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+	}
+
+	/**
+	 * 버전 행 생성 후 현재 버전 적재 (초기 데이터 적재 등 버전을 올리는 작업보다 먼저 실행)
+	 */
+	@Override
+	public List<StartupTask> startupTasks() {
+		return List.of(StartupTask.critical(TASK_NAME, this::initialize));
+	}
+
+	void initialize() {
+		long initial = System.currentTimeMillis();
+		for (String aggregate : AGGREGATES) {
+			try {
+				transactionTemplate.executeWithoutResult(status ->
+					jdbcTemplate.update(INSERT_SQL, aggregate, initial, aggregate));
+			} catch (DataIntegrityViolationException e) {
+				// 다른 노드가 동시에 만든 경우
+				logger.debug("버전 행이 이미 있습니다: {}", aggregate);
+			}
+		}
+		readAll().forEach(this::advance);
+	}
+
+	/**
+	 * 다른 노드에서 집합이 변경된 것을 발견했을 때 실행할 작업 등록 (해당 집합의 노드 로컬 캐시 비우기)
+	 * 작업이 끝난 뒤에 로컬 버전이 올라갑니다.
+	 */
+	public void onRemoteChange(String aggregate, Runnable listener) {
+		remoteChangeListeners.computeIfAbsent(aggregate, k -> new CopyOnWriteArrayList<>()).add(listener);
+	}
+
+	public long current(String aggregate) {
+		AtomicLong version = versions.get(aggregate);
+		return version != null ? version.get() : 0L;
+	}
+
+	/**
+	 * 집합 버전 증가
+	 * 진행 중인 트랜잭션에서 버전 행을 갱신하므로 데이터 변경과 함께 커밋되거나 롤백됩니다.
+	 * 로컬 값은 커밋 이후에 올립니다. (커밋 전에 올리면 새 ETag로 이전 데이터가 캐시될 수 있음)
+	 */
+	public void bump(String aggregate) {
+		if (jdbcTemplate.update(INCREMENT_SQL, aggregate) == 0) {
+			// 기동 작업 이전에 호출된 경우에만 해당
+			jdbcTemplate.update(INSERT_SQL, aggregate, System.currentTimeMillis(), aggregate);
+		}
+		Long version = jdbcTemplate.queryForObject(SELECT_SQL, Long.class, aggregate);
+		if (version != null) {
+			AfterCommit.run(() -> advance(aggregate, version));
+		}
+	}
+
+	/**
+	 * 다른 노드의 변경 반영 (로컬 캐시를 먼저 비운 뒤 로컬 버전을 올림)
+	 */
+	@Scheduled(fixedDelayString = "${app.http.reference-data.version-poll-interval-ms:1000}",
+	           initialDelayString = "${app.http.reference-data.version-poll-interval-ms:1000}")
+	public void poll() {
+		readAll().forEach((aggregate, version) -> {
+			if (version > current(aggregate) && notifyRemoteChange(aggregate)) {
+				advance(aggregate, version);
+			}
+		});
+	}
+
+	private Map<String, Long> readAll() {
+		Map<String, Long> result = new LinkedHashMap<>();
+		jdbcTemplate.query(SELECT_ALL_SQL, rs -> {
+			result.put(rs.getString(1), rs.getLong(2));
+		});
+		return result;
+	}
+
+	/**
+	 * @return 모든 작업이 성공했으면 true (실패하면 버전을 올리지 않고 다음 폴링에서 다시 시도)
+	 */
+	private boolean notifyRemoteChange(String aggregate) {
+		for (Runnable listener : remoteChangeListeners.getOrDefault(aggregate, List.of())) {
+			try {
+				listener.run();
+			} catch (RuntimeException e) {
+				logger.warn("다른 노드의 변경 반영 실패 (다음 주기에 재시도): aggregate={}", aggregate, e);
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void advance(String aggregate, long version) {
+		versions.computeIfAbsent(aggregate, k -> new AtomicLong()).accumulateAndGet(version, Math::max);
+	}
+
+	/**
+	 * 집합 버전으로 ETag 값 생성 (따옴표 제외)
+	 */
+	public String etag(String... aggregates) {
+		StringBuilder sb = new StringBuilder("v");
+		for (String aggregate : aggregates) {
+			sb.append('-').append(current(aggregate));
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * 사용자별로 응답이 달라지는 조회용 ETag 값 생성 (사용자명은 해시로만 포함)
+	 */
+	public String etagFor(String subject, String... aggregates) {
+		String subjectTag = subject != null
+			? UUID.nameUUIDFromBytes(subject.getBytes(StandardCharsets.UTF_8)).toString().replace("-", "")
+			: "guest";
+		return etag(aggregates) + "-" + subjectTag;
+	}
+}
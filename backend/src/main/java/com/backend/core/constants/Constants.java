@@ -18,6 +18,16 @@ public class Constants {
 	public static final String ROLE_GUEST = "GUEST";
 	public static final String ROLE_ADMIN = "ADMIN";
 	
+	// 관리자 메뉴 URL (API 메뉴 권한 검사 대상, @RequireMenuPermission)
+	public static final String MENU_ADMIN_SITES = "/admin/sites";
+	public static final String MENU_ADMIN_MENUS = "/admin/menus";
+	public static final String MENU_ADMIN_ADMINS = "/admin/admins";
+	public static final String MENU_ADMIN_USERS = "/admin/users";
+	public static final String MENU_ADMIN_CMN_CD = "/admin/cmn-cd";
+	public static final String MENU_ADMIN_USER_ROLES = "/admin/user-roles";
+	public static final String MENU_ADMIN_MEMBER_ROLES = "/admin/member-roles";
+	public static final String MENU_ADMIN_ICONS = "/admin/icons";
+	
 	// 사이트 타입 코드
 	public static final String SITE_TYPE_ADMIN = "C001";
 	public static final String SITE_TYPE_PORTAL = "C002";
@@ -0,0 +1,15 @@
+package com.backend.core.exception;
+
+/**
+ * 서버가 일시적으로 요청을 처리할 수 없을 때(작업 큐 포화 등) 발생하는 예외
+ * 클라이언트는 잠시 후 재시도할 수 있습니다.
+ */
+public class ServiceBusyException extends RuntimeException {
+	public ServiceBusyException(String message) {
+		super(message);
+	}
+
+	public ServiceBusyException(String message, Throwable cause) {
+		super(message, cause);
+	}
+}
@@ -0,0 +1,20 @@
+package com.backend.core.exception;
+
+/**
+ * 허용된 요청 횟수를 초과했을 때 발생하는 예외
+ */
+public class TooManyRequestsException extends RuntimeException {
+	private final long retryAfterSeconds;
+
+	public TooManyRequestsException(String message, long retryAfterSeconds) {
+		super(message);
+		this.retryAfterSeconds = retryAfterSeconds;
+	}
+
+	/**
+	 * 재시도까지 권장 대기 시간 (초)
+	 */
+	public long getRetryAfterSeconds() {
+		return retryAfterSeconds;
+	}
+}
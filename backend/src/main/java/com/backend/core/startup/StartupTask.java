@@ -0,0 +1,40 @@
+package com.backend.core.startup;
+
+import java.util.Set;
+
+/**
+ * 기동 작업 (StartupTaskRunner가 의존 관계 순서대로 병렬 실행)
+ * - critical: 완료되어야 트래픽 수신 준비(ReadinessState.ACCEPTING_TRAFFIC)를 알림. 실패하면 기동 실패
+ * - background: 준비 상태와 무관하게 뒤에서 실행되며, 실패해도 로그만 남김
+ *
+ * 의존 작업이 실패하면 이 작업은 실행하지 않습니다. critical 작업의 의존 작업은 background로 선언해도 먼저 끝나야 합니다.
+ */
+public final class StartupTask {
+	private final String name;
+	private final Set<String> dependsOn;
+	private final boolean critical;
+	private final Runnable action;
+
+	private StartupTask(String name, Set<String> dependsOn, boolean critical, Runnable action) {
+		this.name = name;
+		this.dependsOn = dependsOn;
+		this.critical = critical;
+		this.action = action;
+	}
+
+	public static StartupTask critical(String name, Runnable action, String... dependsOn) {
+		return new StartupTask(name, Set.of(dependsOn), true, action);
+	}
+
+	public static StartupTask background(String name, Runnable action, String... dependsOn) {
+		return new StartupTask(name, Set.of(dependsOn), false, action);
+	}
+
+	public String getName() { return name; }
+	public Set<String> getDependsOn() { return dependsOn; }
+	public boolean isCritical() { return critical; }
+
+	void run() {
+		action.run();
+	}
+}
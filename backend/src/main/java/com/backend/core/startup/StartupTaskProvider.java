@@ -0,0 +1,10 @@
+package com.backend.core.startup;
+
+import java.util.List;
+
+/**
+ * 기동 작업을 제공하는 빈 (StartupTaskRunner가 모든 구현체의 작업을 모아 실행)
+ */
+public interface StartupTaskProvider {
+	List<StartupTask> startupTasks();
+}
@@ -0,0 +1,257 @@
+package com.backend.core.startup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 기동 작업 실행기
+ * - 모든 StartupTaskProvider의 작업을 모아 의존 관계(DAG)를 검증한 뒤, 의존 작업이 끝난 작업부터 크기가 제한된 스레드 풀에서 병렬 실행
+ * - critical 작업이 모두 끝나야 ApplicationReadyEvent 리스너가 반환되며, 그 직후 Spring Boot가
+ *   ReadinessState.ACCEPTING_TRAFFIC을 알림 (background 작업은 계속 실행)
+ * - 작업별 시작 시점/소요 시간/실행 스레드와 전체 경과 시간(직렬 실행 시 합계 대비)을 로그로 남김
+ *
+ * ApplicationReadyEvent 리스너에서 critical 작업을 기다리므로, critical 작업이 실패하거나
+ * 제한 시간(app.startup.critical-timeout-ms)을 넘기면 예외로 기동이 실패합니다.
+ *
+ * 내장 웹 서버는 ApplicationReadyEvent 이전에 이미 요청을 받으므로, critical 작업이 끝나기 전 요청은
+ * 초기화되지 않은 상태를 볼 수 있습니다. (예: 메뉴 권한 행렬이 비어 있어 메뉴 권한 검사는 모두 거부)
+ * 트래픽은 readiness probe(/actuator/health/readiness)가 UP이 된 뒤에 보내도록 배포를 구성해야 합니다.
+ */
+@Component
+public class StartupTaskRunner {
+	private static final Logger logger = LoggerFactory.getLogger(StartupTaskRunner.class);
+	private static final int DEFAULT_MAX_THREADS = 4;
+
+	private final List<StartupTaskProvider> providers;
+	private final int parallelism;
+	private final long criticalTimeoutMillis;
+
+	public StartupTaskRunner(
+		List<StartupTaskProvider> providers,
+		@Value("${app.startup.parallelism:0}") int parallelism,
+		@Value("${app.startup.critical-timeout-ms:600000}") long criticalTimeoutMillis
+	) {
+		this.providers = providers;
+		this.parallelism = parallelism;
+		this.criticalTimeoutMillis = criticalTimeoutMillis;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Order(Ordered.HIGHEST_PRECEDENCE)
+	public void onApplicationReady() {
+		List<StartupTask> tasks = topologicalOrder(collectTasks());
+		if (tasks.isEmpty()) {
+			return;
+		}
+
+		int threads = Math.min(tasks.size(),
+			parallelism > 0 ? parallelism : Math.min(Runtime.getRuntime().availableProcessors(), DEFAULT_MAX_THREADS));
+		ThreadPoolExecutor executor = newExecutor(threads);
+		long startedAt = System.nanoTime();
+
+		Map<String, Timing> timings = new LinkedHashMap<>();
+		Map<String, CompletableFuture<Void>> futures = new HashMap<>();
+		List<CompletableFuture<Void>> critical = new ArrayList<>();
+		for (StartupTask task : tasks) {
+			Timing timing = new Timing(task);
+			CompletableFuture<?>[] dependencies = task.getDependsOn().stream()
+				.map(futures::get)
+				.toArray(CompletableFuture[]::new);
+			// 의존 작업 중 하나라도 실패하면 실행하지 않고 같은 예외로 완료
+			CompletableFuture<Void> future = CompletableFuture.allOf(dependencies)
+				.thenRunAsync(timing::run, executor);
+			timings.put(task.getName(), timing);
+			futures.put(task.getName(), future);
+			if (task.isCritical()) {
+				critical.add(future);
+			}
+		}
+		CompletableFuture<Void> all = CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0]));
+
+		try {
+			CompletableFuture.allOf(critical.toArray(new CompletableFuture[0]))
+				.get(criticalTimeoutMillis, TimeUnit.MILLISECONDS);
+		} catch (ExecutionException | TimeoutException e) {
+			executor.shutdownNow();
+			logReport(timings, startedAt, threads);
+			Throwable cause = e instanceof ExecutionException ? rootCause(e) : e;
+			throw new IllegalStateException("필수 기동 작업을 완료하지 못했습니다.", cause);
+		} catch (InterruptedException e) {
+			executor.shutdownNow();
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("기동 작업 대기 중 중단되었습니다.", e);
+		}
+
+		logger.info("필수 기동 작업 완료: tasks={}, elapsed={}ms", critical.size(), elapsedMillis(startedAt));
+		all.whenComplete((result, error) -> {
+			executor.shutdown();
+			logReport(timings, startedAt, threads);
+		});
+	}
+
+	private List<StartupTask> collectTasks() {
+		List<StartupTask> tasks = new ArrayList<>();
+		for (StartupTaskProvider provider : providers) {
+			tasks.addAll(provider.startupTasks());
+		}
+		return tasks;
+	}
+
+	/**
+	 * 의존 작업이 먼저 오도록 정렬 (이름 중복, 없는 작업 참조, 순환 의존은 기동 실패)
+	 */
+	static List<StartupTask> topologicalOrder(List<StartupTask> tasks) {
+		Map<String, StartupTask> byName = new LinkedHashMap<>();
+		for (StartupTask task : tasks) {
+			if (byName.putIfAbsent(task.getName(), task) != null) {
+				throw new IllegalStateException("기동 작업 이름이 중복되었습니다: " + task.getName());
+			}
+		}
+		Map<String, Integer> remaining = new HashMap<>();
+		Map<String, List<StartupTask>> dependents = new HashMap<>();
+		Deque<StartupTask> ready = new ArrayDeque<>();
+		for (StartupTask task : byName.values()) {
+			for (String dependency : task.getDependsOn()) {
+				if (!byName.containsKey(dependency)) {
+					throw new IllegalStateException("기동 작업 " + task.getName() + "의 의존 작업이 없습니다: " + dependency);
+				}
+				dependents.computeIfAbsent(dependency, k -> new ArrayList<>()).add(task);
+			}
+			remaining.put(task.getName(), task.getDependsOn().size());
+			if (task.getDependsOn().isEmpty()) {
+				ready.add(task);
+			}
+		}
+		List<StartupTask> ordered = new ArrayList<>(byName.size());
+		while (!ready.isEmpty()) {
+			StartupTask task = ready.poll();
+			ordered.add(task);
+			for (StartupTask dependent : dependents.getOrDefault(task.getName(), List.of())) {
+				if (remaining.merge(dependent.getName(), -1, Integer::sum) == 0) {
+					ready.add(dependent);
+				}
+			}
+		}
+		if (ordered.size() != byName.size()) {
+			List<String> cyclic = new ArrayList<>();
+			for (Map.Entry<String, Integer> entry : remaining.entrySet()) {
+				if (entry.getValue() > 0) {
+					cyclic.add(entry.getKey());
+				}
+			}
+			throw new IllegalStateException("기동 작업에 순환 의존이 있습니다: " + cyclic);
+		}
+		return ordered;
+	}
+
+	private static ThreadPoolExecutor newExecutor(int threads) {
+		AtomicInteger threadIndex = new AtomicInteger();
+		return new ThreadPoolExecutor(
+			threads, threads,
+			0L, TimeUnit.MILLISECONDS,
+			new LinkedBlockingQueue<>(),
+			runnable -> {
+				Thread thread = new Thread(runnable, "startup-" + threadIndex.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			}
+		);
+	}
+
+	/**
+	 * 작업별 소요 시간 보고 (실행 순서대로, 전체 경과 시간과 작업 시간 합계 비교)
+	 */
+	private static void logReport(Map<String, Timing> timings, long startedAt, int threads) {
+		long totalMillis = 0;
+		StringBuilder lines = new StringBuilder();
+		List<Timing> ordered = new ArrayList<>(timings.values());
+		ordered.sort((a, b) -> Long.compare(a.startOffsetNanos(startedAt), b.startOffsetNanos(startedAt)));
+		for (Timing timing : ordered) {
+			totalMillis += timing.durationMillis();
+			long offset = timing.startOffsetNanos(startedAt);
+			lines.append(String.format("%n  %-28s %-8s %-8s %9s %6dms  %s",
+				timing.task.getName(),
+				timing.task.isCritical() ? "critical" : "bg",
+				timing.status,
+				offset != Long.MAX_VALUE ? "+" + TimeUnit.NANOSECONDS.toMillis(offset) + "ms" : "-",
+				timing.durationMillis(),
+				timing.thread != null ? timing.thread : "-"));
+		}
+		logger.info("기동 작업 소요 시간: wall={}ms, sum={}ms, threads={}{}",
+			elapsedMillis(startedAt), totalMillis, threads, lines);
+	}
+
+	private static long elapsedMillis(long startedAt) {
+		return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+	}
+
+	private static Throwable rootCause(Throwable e) {
+		Throwable cause = e;
+		while (cause.getCause() != null && cause != cause.getCause()
+			&& (cause instanceof ExecutionException || cause instanceof CompletionException)) {
+			cause = cause.getCause();
+		}
+		return cause;
+	}
+
+	/**
+	 * 작업 실행 기록 (실행 스레드에서 쓰고, 완료 이후 보고 시점에 읽음)
+	 */
+	private static final class Timing {
+		private final StartupTask task;
+		private volatile String status = "SKIPPED";
+		private volatile String thread;
+		private volatile long started;
+		private volatile long finished;
+
+		private Timing(StartupTask task) {
+			this.task = task;
+		}
+
+		private void run() {
+			thread = Thread.currentThread().getName();
+			started = System.nanoTime();
+			status = "RUNNING";
+			try {
+				task.run();
+				status = "OK";
+			} catch (RuntimeException | Error e) {
+				status = "FAILED";
+				logger.error("기동 작업 실패: {}", task.getName(), e);
+				throw e;
+			} finally {
+				finished = System.nanoTime();
+			}
+		}
+
+		private long startOffsetNanos(long runStartedAt) {
+			return started != 0 ? started - runStartedAt : Long.MAX_VALUE;
+		}
+
+		private long durationMillis() {
+			return started != 0 && finished != 0 ? TimeUnit.NANOSECONDS.toMillis(finished - started) : 0;
+		}
+	}
+}
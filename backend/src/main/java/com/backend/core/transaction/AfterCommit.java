@@ -0,0 +1,30 @@
+package com.backend.core.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 이후 실행 유틸리티
+ * 진행 중인 트랜잭션이 있으면 커밋된 뒤에 실행하고(롤백 시 실행하지 않음), 없으면 즉시 실행합니다.
+ * 캐시 무효화, 다른 노드로의 변경 알림처럼 "커밋된 데이터"를 전제로 하는 작업에 사용합니다.
+ *
+ * 주의: 커밋 이후 단계에서 DB 작업이 필요하면 실행되는 쪽에서 별도 트랜잭션(REQUIRES_NEW)을 사용해야 합니다.
+ */
+public final class AfterCommit {
+
+	private AfterCommit() {
+	}
+
+	public static void run(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+}
@@ -0,0 +1,71 @@
+package com.backend.common.admin.cmnCd.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import com.backend.common.admin.cmnCd.service.CmnCdDictionary;
+import com.backend.common.admin.site.model.Site;
+
+class CmnCdLabelSerializerTests {
+
+	private final CmnCdDictionary dictionary = mock(CmnCdDictionary.class);
+	private final JsonMapper mapper = JsonMapper.builder()
+		.addModule(new CmnCdLabelModule(dictionary))
+		.build();
+
+	@Test
+	void writesLabelNextToCode() {
+		when(dictionary.label("P001", "C001")).thenReturn("관리자");
+
+		JsonNode json = mapper.valueToTree(site("C001"));
+
+		assertThat(json.get("siteType").asString()).isEqualTo("C001");
+		assertThat(json.get("siteTypeNm").asString()).isEqualTo("관리자");
+	}
+
+	@Test
+	void unknownCodeWritesNullLabel() {
+		JsonNode json = mapper.valueToTree(site("C999"));
+
+		assertThat(json.get("siteType").asString()).isEqualTo("C999");
+		assertThat(json.has("siteTypeNm")).isTrue();
+		assertThat(json.get("siteTypeNm").isNull()).isTrue();
+	}
+
+	@Test
+	void nullCodeWritesOnlyTheCodeField() {
+		JsonNode json = mapper.valueToTree(site(null));
+
+		assertThat(json.get("siteType").isNull()).isTrue();
+		assertThat(json.has("siteTypeNm")).isFalse();
+	}
+
+	@Test
+	void labelReflectsDictionaryChanges() {
+		when(dictionary.label("P001", "C001")).thenReturn("관리자", "최고 관리자");
+
+		List<String> labels = List.of(
+			mapper.valueToTree(site("C001")).get("siteTypeNm").asString(),
+			mapper.valueToTree(site("C001")).get("siteTypeNm").asString());
+
+		assertThat(labels).containsExactly("관리자", "최고 관리자");
+	}
+
+	@Test
+	void plainMapperIgnoresTheAnnotation() {
+		JsonNode json = JsonMapper.builder().build().valueToTree(site("C001"));
+
+		assertThat(json.has("siteTypeNm")).isFalse();
+	}
+
+	private static Site site(String siteType) {
+		return new Site("site-1", siteType, "통합관리시스템", null, "admin", "1.0.0", true);
+	}
+}
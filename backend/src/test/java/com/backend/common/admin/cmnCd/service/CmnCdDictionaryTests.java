@@ -0,0 +1,117 @@
+package com.backend.common.admin.cmnCd.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.backend.common.admin.cmnCd.entity.CmnCdEntity;
+import com.backend.common.admin.cmnCd.model.CmnCd;
+import com.backend.common.admin.cmnCd.repository.CmnCdRepository;
+import com.backend.core.cache.ResourceVersions;
+
+class CmnCdDictionaryTests {
+
+	private final CmnCdRepository cmnCdRepository = mock(CmnCdRepository.class);
+	private final ResourceVersions resourceVersions = mock(ResourceVersions.class);
+	private final List<CmnCdEntity> rows = new ArrayList<>();
+	private CmnCdDictionary dictionary;
+
+	@BeforeEach
+	void setUp() {
+		rows.add(entity("1", "P001", "사이트 유형", null));
+		rows.add(entity("2", "C001", "관리자", "P001"));
+		rows.add(entity("3", "C002", "사용자", "P001"));
+		rows.add(entity("4", "P002", "게시판 유형", null));
+		rows.add(entity("5", "C001", "공지", "P002"));
+		when(cmnCdRepository.findAll()).thenAnswer(invocation -> List.copyOf(rows));
+		dictionary = new CmnCdDictionary(cmnCdRepository, resourceVersions);
+	}
+
+	@Test
+	void buildsTreeAndFlatListInCodeOrder() {
+		List<CmnCd> tree = dictionary.tree();
+
+		assertThat(tree).extracting(CmnCd::getCd).containsExactly("P001", "P002");
+		assertThat(tree.get(0).getChildren()).extracting(CmnCd::getName).containsExactly("관리자", "사용자");
+		assertThat(tree.get(1).getChildren()).extracting(CmnCd::getName).containsExactly("공지");
+		assertThat(dictionary.flat()).hasSize(5);
+		assertThat(dictionary.flat()).allSatisfy(code -> assertThat(code.getChildren()).isNullOrEmpty());
+	}
+
+	@Test
+	void looksUpByParentAndCode() {
+		assertThat(dictionary.label("P001", "C001")).isEqualTo("관리자");
+		assertThat(dictionary.label("P002", "C001")).isEqualTo("공지");
+		assertThat(dictionary.label("P001", "C999")).isNull();
+		assertThat(dictionary.label("P001", null)).isNull();
+		assertThat(dictionary.contains(null, "P001")).isTrue();
+		assertThat(dictionary.contains("", "P002")).isTrue();
+		assertThat(dictionary.contains(null, "C001")).isFalse();
+		assertThat(dictionary.findById("3")).map(CmnCd::getCd).contains("C002");
+		assertThat(dictionary.findByCd("P002")).map(CmnCd::getName).contains("게시판 유형");
+		assertThat(dictionary.findByCd("C001")).map(CmnCd::getParentCd).contains("P001");
+	}
+
+	@Test
+	void reportsChildren() {
+		assertThat(dictionary.hasChildren("P001")).isTrue();
+		assertThat(dictionary.hasChildren("P003")).isFalse();
+		assertThat(dictionary.hasChildren(null)).isFalse();
+	}
+
+	@Test
+	void loadsOnceUntilReloaded() {
+		dictionary.tree();
+		dictionary.label("P001", "C001");
+
+		verify(cmnCdRepository, times(1)).findAll();
+	}
+
+	@Test
+	void savedAndRemovedApplyWithoutReload() {
+		dictionary.tree();
+
+		dictionary.saved(new CmnCd("2", "C001", "최고 관리자", null, true, "P001"));
+		dictionary.saved(new CmnCd("6", "C003", "게스트", null, true, "P001"));
+		dictionary.removed("5");
+
+		assertThat(dictionary.label("P001", "C001")).isEqualTo("최고 관리자");
+		assertThat(dictionary.label("P001", "C003")).isEqualTo("게스트");
+		assertThat(dictionary.hasChildren("P002")).isFalse();
+		assertThat(dictionary.tree().get(0).getChildren()).extracting(CmnCd::getCd)
+			.containsExactly("C001", "C002", "C003");
+		verify(cmnCdRepository, times(1)).findAll();
+	}
+
+	@Test
+	void remoteChangeReloadsFromDatabase() {
+		ArgumentCaptor<Runnable> listener = ArgumentCaptor.forClass(Runnable.class);
+		verify(resourceVersions).onRemoteChange(eq(ResourceVersions.CMN_CD), listener.capture());
+		assertThat(dictionary.label("P001", "C002")).isEqualTo("사용자");
+
+		rows.removeIf(row -> row.getId().equals("3"));
+		rows.add(entity("7", "C004", "외부 사용자", "P001"));
+		listener.getValue().run();
+
+		assertThat(dictionary.label("P001", "C002")).isNull();
+		assertThat(dictionary.label("P001", "C004")).isEqualTo("외부 사용자");
+		verify(resourceVersions, times(1)).onRemoteChange(any(), any());
+	}
+
+	private static CmnCdEntity entity(String id, String cd, String name, String parentCd) {
+		CmnCdEntity entity = new CmnCdEntity(cd, name, null, parentCd);
+		entity.setId(id);
+		return entity;
+	}
+}
@@ -0,0 +1,83 @@
+package com.backend.common.admin.cmnCd.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.backend.common.admin.cmnCd.dto.CmnCdCreateRequest;
+import com.backend.common.admin.cmnCd.entity.CmnCdEntity;
+import com.backend.common.admin.cmnCd.repository.CmnCdRepository;
+import com.backend.core.cache.ResourceVersions;
+
+/**
+ * 쓰기 검증이 사전 스냅샷이 아닌 DB를 기준으로 하는지 확인
+ * (다른 노드에서 만든 코드처럼 스냅샷에 아직 없는 행을 리포지토리로 직접 저장)
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({CmnCdService.class, CmnCdDictionary.class})
+class CmnCdServiceTests {
+
+	@Autowired
+	private CmnCdService cmnCdService;
+
+	@Autowired
+	private CmnCdDictionary cmnCdDictionary;
+
+	@Autowired
+	private CmnCdRepository cmnCdRepository;
+
+	@MockitoBean
+	private ResourceVersions resourceVersions;
+
+	@BeforeEach
+	void setUp() {
+		cmnCdRepository.saveAndFlush(new CmnCdEntity("P001", "사이트 유형", null, null));
+		cmnCdDictionary.reload();
+	}
+
+	@Test
+	void duplicateMissingFromSnapshotIsRejected() {
+		cmnCdRepository.saveAndFlush(new CmnCdEntity("C001", "관리자", null, "P001"));
+		assertThat(cmnCdDictionary.contains("P001", "C001")).isFalse();
+
+		assertThatThrownBy(() -> cmnCdService.createCmnCd(request("C001", "P001")))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("이미 존재하는 하위코드");
+	}
+
+	@Test
+	void parentMissingFromSnapshotIsAccepted() {
+		cmnCdRepository.saveAndFlush(new CmnCdEntity("P002", "게시판 유형", null, null));
+
+		assertThat(cmnCdService.createCmnCd(request("C001", "P002")).getParentCd()).isEqualTo("P002");
+	}
+
+	@Test
+	void parentWithChildMissingFromSnapshotCannotBeDeleted() {
+		String parentId = cmnCdRepository.findByCd("P001").orElseThrow().getId();
+		cmnCdRepository.saveAndFlush(new CmnCdEntity("C001", "관리자", null, "P001"));
+		assertThat(cmnCdDictionary.hasChildren("P001")).isFalse();
+
+		assertThatThrownBy(() -> cmnCdService.deleteCmnCd(parentId))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("하위 코드가 존재");
+	}
+
+	private static CmnCdCreateRequest request(String cd, String parentCd) {
+		CmnCdCreateRequest request = new CmnCdCreateRequest();
+		request.setCd(cd);
+		request.setName(cd + " 이름");
+		request.setParentCd(parentCd);
+		return request;
+	}
+}
@@ -0,0 +1,311 @@
+package com.backend.common.admin.menu.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.backend.common.admin.menu.dto.MenuCreateRequest;
+import com.backend.common.admin.menu.dto.MenuReorderRequest;
+import com.backend.common.admin.menu.entity.MenuEntity;
+import com.backend.common.admin.menu.model.Menu;
+import com.backend.common.admin.menu.model.MenuTreeNode;
+import com.backend.common.admin.menu.repository.MenuRepository;
+import com.backend.common.admin.site.repository.SiteRepository;
+import com.backend.common.admin.userRoleMenu.entity.UserRoleMenuEntity;
+import com.backend.common.admin.userRoleMenu.repository.UserRoleMenuRepository;
+import com.backend.common.auth.permission.MenuPermissionMatrix;
+import com.backend.common.member.memberRoleMenu.entity.MemberRoleMenuEntity;
+import com.backend.common.member.memberRoleMenu.repository.MemberRoleMenuRepository;
+import com.backend.common.user.service.UserService;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(MenuService.class)
+class MenuServiceTests {
+
+	private static final String SITE_ID = "SITE_A";
+
+	@Autowired
+	private MenuService menuService;
+
+	@Autowired
+	private MenuRepository menuRepository;
+
+	@Autowired
+	private UserRoleMenuRepository userRoleMenuRepository;
+
+	@Autowired
+	private MemberRoleMenuRepository memberRoleMenuRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@MockitoBean
+	private SiteRepository siteRepository;
+
+	@MockitoBean
+	private UserService userService;
+
+	@MockitoBean
+	private MenuSnapshotCache menuSnapshotCache;
+
+	@MockitoBean
+	private MenuPermissionMatrix menuPermissionMatrix;
+
+	@BeforeEach
+	void setUp() {
+		when(siteRepository.existsById(anyString())).thenReturn(true);
+	}
+
+	@Test
+	void createMenuStoresPathFromRoot() {
+		Menu root = menuService.createMenu(request("루트", null));
+		Menu child = menuService.createMenu(request("하위", root.getId()));
+		Menu grandChild = menuService.createMenu(request("손자", child.getId()));
+		entityManager.flush();
+		entityManager.clear();
+
+		assertThat(path(root)).isEqualTo("/" + root.getId() + "/");
+		assertThat(path(grandChild)).isEqualTo("/" + root.getId() + "/" + child.getId() + "/" + grandChild.getId() + "/");
+	}
+
+	@Test
+	void subtreeAndBreadcrumbFollowThePath() {
+		Menu root = menuService.createMenu(request("루트", null));
+		Menu child = menuService.createMenu(request("하위", root.getId()));
+		Menu grandChild = menuService.createMenu(request("손자", child.getId()));
+		menuService.createMenu(request("다른 루트", null));
+		entityManager.flush();
+		entityManager.clear();
+
+		List<MenuTreeNode> subtree = menuService.getSubtree(child.getId());
+		assertThat(subtree).singleElement().satisfies(node -> {
+			assertThat(node.getId()).isEqualTo(child.getId());
+			assertThat(node.getChildren()).extracting(MenuTreeNode::getId).containsExactly(grandChild.getId());
+		});
+		assertThat(menuService.getBreadcrumb(grandChild.getId())).extracting(Menu::getId)
+			.containsExactly(root.getId(), child.getId(), grandChild.getId());
+	}
+
+	@Test
+	void moveMenuRewritesDescendantPaths() {
+		Menu first = menuService.createMenu(request("첫 번째", null));
+		Menu second = menuService.createMenu(request("두 번째", null));
+		Menu child = menuService.createMenu(request("하위", first.getId()));
+		Menu grandChild = menuService.createMenu(request("손자", child.getId()));
+		entityManager.flush();
+		entityManager.clear();
+
+		menuService.moveMenu(child.getId(), second.getId());
+		entityManager.flush();
+		entityManager.clear();
+
+		assertThat(path(grandChild)).isEqualTo("/" + second.getId() + "/" + child.getId() + "/" + grandChild.getId() + "/");
+		assertThatThrownBy(() -> menuService.moveMenu(child.getId(), grandChild.getId()))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void deleteSubtreeRemovesPermissionRows() {
+		Menu root = menuService.createMenu(request("루트", null));
+		Menu child = menuService.createMenu(request("하위", root.getId()));
+		Menu sibling = menuService.createMenu(request("다른 루트", null));
+		entityManager.flush();
+		for (String menuId : List.of(root.getId(), child.getId(), sibling.getId())) {
+			entityManager.persist(new UserRoleMenuEntity("USER_ROLE", menuId));
+			entityManager.persist(new MemberRoleMenuEntity("MEMBER_ROLE", menuId));
+		}
+		entityManager.flush();
+		entityManager.clear();
+		clearInvocations(menuSnapshotCache, menuPermissionMatrix);
+
+		int deleted = menuService.deleteSubtree(root.getId());
+		entityManager.flush();
+		entityManager.clear();
+
+		assertThat(deleted).isEqualTo(2);
+		assertThat(menuRepository.findAll()).extracting(MenuEntity::getId).containsExactly(sibling.getId());
+		assertThat(userRoleMenuRepository.findByUserRoleId("USER_ROLE")).extracting(UserRoleMenuEntity::getMenuId)
+			.containsExactly(sibling.getId());
+		assertThat(memberRoleMenuRepository.findAll()).extracting(MemberRoleMenuEntity::getMenuId)
+			.containsExactly(sibling.getId());
+		verify(menuPermissionMatrix).menusRemoved(argThat(ids -> ids.size() == 2 && ids.contains(child.getId())));
+		verify(menuSnapshotCache).invalidateSite(SITE_ID);
+	}
+
+	@Test
+	void hierarchyQueriesDoNotGrowWithDepth() {
+		int depth = 20;
+		String parentId = null;
+		String rootId = null;
+		for (int i = 0; i < depth; i++) {
+			parentId = menuService.createMenu(request("메뉴 " + i, parentId)).getId();
+			rootId = rootId != null ? rootId : parentId;
+		}
+		String leafId = parentId;
+		entityManager.flush();
+		entityManager.clear();
+
+		Statistics statistics = statistics();
+		assertThat(menuService.getBreadcrumb(leafId)).hasSize(depth);
+		// 메뉴 조회 + 경로의 ID로 IN 조회
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+		entityManager.clear();
+
+		statistics.clear();
+		assertThat(menuService.getSubtree(rootId)).hasSize(1);
+		// 메뉴 조회 + 경로 접두어 조회
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+		entityManager.clear();
+
+		statistics.clear();
+		assertThat(menuService.deleteSubtree(rootId)).isEqualTo(depth);
+		// 메뉴 조회 + 삭제 대상 ID 조회 + 권한 행 삭제 2건 + 메뉴 삭제
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(5);
+	}
+
+	@Test
+	void reorderRejectsCycleWithoutChangingRows() {
+		Menu root = menuService.createMenu(request("루트", null));
+		Menu child = menuService.createMenu(request("하위", root.getId()));
+		entityManager.flush();
+		entityManager.clear();
+
+		// 앞의 항목(순서 변경)은 유효하지만 뒤의 항목이 순환을 만들면 아무것도 반영되지 않아야 함
+		assertThatThrownBy(() -> menuService.reorderMenus(SITE_ID, List.of(
+			item(child.getId(), root.getId(), 5),
+			item(root.getId(), child.getId(), 7))))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("순환");
+		assertUnchanged(root, child);
+	}
+
+	@Test
+	void reorderRejectsParentFromAnotherSiteWithoutChangingRows() {
+		Menu root = menuService.createMenu(request("루트", null));
+		Menu child = menuService.createMenu(request("하위", root.getId()));
+		MenuEntity otherSite = new MenuEntity("SITE_B", "다른 사이트 메뉴", "/other", null, 0, null);
+		entityManager.persist(otherSite);
+		entityManager.flush();
+		entityManager.clear();
+
+		assertThatThrownBy(() -> menuService.reorderMenus(SITE_ID, List.of(
+			item(root.getId(), null, 5),
+			item(child.getId(), otherSite.getId(), 7))))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining(otherSite.getId());
+		assertUnchanged(root, child);
+	}
+
+	@Test
+	void reorderRejectsDuplicateMenuWithoutChangingRows() {
+		Menu root = menuService.createMenu(request("루트", null));
+		Menu child = menuService.createMenu(request("하위", root.getId()));
+		entityManager.flush();
+		entityManager.clear();
+
+		assertThatThrownBy(() -> menuService.reorderMenus(SITE_ID, List.of(
+			item(root.getId(), null, 5),
+			item(child.getId(), null, 7),
+			item(child.getId(), root.getId(), 9))))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining(child.getId());
+		assertUnchanged(root, child);
+	}
+
+	@Test
+	void reorderRewritesDescendantPathsInOneBatch() {
+		Menu first = menuService.createMenu(request("첫 번째", null));
+		Menu second = menuService.createMenu(request("두 번째", null));
+		Menu child = menuService.createMenu(request("하위", first.getId()));
+		Menu grandChild = menuService.createMenu(request("손자", child.getId()));
+		Menu untouched = menuService.createMenu(request("그대로", first.getId()));
+		entityManager.flush();
+		entityManager.clear();
+		clearInvocations(menuSnapshotCache);
+
+		Statistics statistics = statistics();
+		List<MenuTreeNode> tree = menuService.reorderMenus(SITE_ID, List.of(
+			item(first.getId(), null, 0),
+			item(second.getId(), null, 0),
+			item(child.getId(), second.getId(), 0),
+			item(untouched.getId(), first.getId(), 0)));
+		entityManager.flush();
+
+		// 이동한 메뉴(부모, 경로)와 하위 메뉴(경로)만 UPDATE, 값이 같은 메뉴는 제외
+		assertThat(statistics.getEntityUpdateCount()).isEqualTo(2);
+		// 사이트 메뉴 조회 + UPDATE 배치 1건
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+		verify(menuSnapshotCache, times(1)).invalidateSite(SITE_ID);
+		assertThat(tree).extracting(MenuTreeNode::getId).containsExactlyInAnyOrder(first.getId(), second.getId());
+		entityManager.clear();
+
+		assertThat(path(child)).isEqualTo("/" + second.getId() + "/" + child.getId() + "/");
+		assertThat(path(grandChild)).isEqualTo("/" + second.getId() + "/" + child.getId() + "/" + grandChild.getId() + "/");
+		assertThat(path(untouched)).isEqualTo("/" + first.getId() + "/" + untouched.getId() + "/");
+	}
+
+	/**
+	 * 검증 실패 후 flush해도 저장된 부모/순서/경로가 그대로인지 확인
+	 */
+	private void assertUnchanged(Menu root, Menu child) {
+		entityManager.flush();
+		entityManager.clear();
+		MenuEntity savedRoot = menuRepository.findById(root.getId()).orElseThrow();
+		MenuEntity savedChild = menuRepository.findById(child.getId()).orElseThrow();
+		assertThat(savedRoot.getParentId()).isNull();
+		assertThat(savedRoot.getDisplayOrder()).isZero();
+		assertThat(savedChild.getParentId()).isEqualTo(root.getId());
+		assertThat(savedChild.getDisplayOrder()).isZero();
+		assertThat(savedChild.getPath()).isEqualTo("/" + root.getId() + "/" + child.getId() + "/");
+		entityManager.clear();
+	}
+
+	private Statistics statistics() {
+		Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		return statistics;
+	}
+
+	private String path(Menu menu) {
+		return menuRepository.findById(menu.getId()).orElseThrow().getPath();
+	}
+
+	private static MenuReorderRequest.Item item(String menuId, String parentId, int displayOrder) {
+		MenuReorderRequest.Item item = new MenuReorderRequest.Item();
+		item.setMenuId(menuId);
+		item.setParentId(parentId);
+		item.setDisplayOrder(displayOrder);
+		return item;
+	}
+
+	private static MenuCreateRequest request(String name, String parentId) {
+		MenuCreateRequest request = new MenuCreateRequest();
+		request.setSiteId(SITE_ID);
+		request.setName(name);
+		request.setUrl("/" + name);
+		request.setParentId(parentId);
+		return request;
+	}
+}
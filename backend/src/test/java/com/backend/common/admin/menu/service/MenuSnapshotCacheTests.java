@@ -0,0 +1,85 @@
+package com.backend.common.admin.menu.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.backend.common.admin.menu.service.MenuSnapshotCache.Snapshot;
+import com.backend.common.auth.permission.RoleKind;
+import com.backend.core.cache.ResourceVersions;
+
+class MenuSnapshotCacheTests {
+
+	private final AtomicInteger loads = new AtomicInteger();
+
+	private Snapshot load() {
+		loads.incrementAndGet();
+		return new Snapshot(List.of(), List.of());
+	}
+
+	@Test
+	void cachedSnapshotIsReusedUntilInvalidated() {
+		MenuSnapshotCache cache = new MenuSnapshotCache(mock(ResourceVersions.class), 60_000);
+
+		Snapshot first = cache.get("site-1", RoleKind.USER, "role-1", this::load);
+		Snapshot second = cache.get("site-1", RoleKind.USER, "role-1", this::load);
+		cache.get("site-1", RoleKind.MEMBER, "role-1", this::load);
+
+		assertThat(second).isSameAs(first);
+		assertThat(loads).hasValue(2);
+
+		cache.invalidateSite("site-1");
+		cache.get("site-1", RoleKind.USER, "role-1", this::load);
+		assertThat(loads).hasValue(3);
+	}
+
+	@Test
+	void roleInvalidationOnlyDropsThatRole() {
+		MenuSnapshotCache cache = new MenuSnapshotCache(mock(ResourceVersions.class), 60_000);
+		cache.get("site-1", RoleKind.USER, "role-1", this::load);
+		cache.get("site-1", RoleKind.USER, "role-2", this::load);
+
+		cache.invalidateRole(RoleKind.USER, "role-1");
+		cache.get("site-1", RoleKind.USER, "role-1", this::load);
+		cache.get("site-1", RoleKind.USER, "role-2", this::load);
+
+		assertThat(loads).hasValue(3);
+	}
+
+	@Test
+	void expiredSnapshotIsReloaded() {
+		MenuSnapshotCache cache = new MenuSnapshotCache(mock(ResourceVersions.class), 0);
+
+		cache.get("site-1", RoleKind.USER, "role-1", this::load);
+		cache.get("site-1", RoleKind.USER, "role-1", this::load);
+		cache.getGuestRoleId(() -> {
+			loads.incrementAndGet();
+			return Optional.empty();
+		});
+		cache.getGuestRoleId(() -> {
+			loads.incrementAndGet();
+			return Optional.empty();
+		});
+
+		assertThat(loads).hasValue(4);
+	}
+
+	@Test
+	void loadOverlappingInvalidationIsNotStored() {
+		MenuSnapshotCache cache = new MenuSnapshotCache(mock(ResourceVersions.class), 60_000);
+
+		cache.get("site-1", RoleKind.USER, "role-1", () -> {
+			// 조회 도중 다른 요청이 권한을 변경한 경우
+			cache.invalidateRole(RoleKind.USER, "role-1");
+			return load();
+		});
+		cache.get("site-1", RoleKind.USER, "role-1", this::load);
+
+		assertThat(loads).hasValue(2);
+	}
+}
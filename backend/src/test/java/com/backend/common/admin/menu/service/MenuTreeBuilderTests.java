@@ -0,0 +1,102 @@
+package com.backend.common.admin.menu.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.backend.common.admin.menu.model.Menu;
+import com.backend.common.admin.menu.model.MenuTreeNode;
+
+class MenuTreeBuilderTests {
+
+	private static Menu menu(String id, String parentId, Integer displayOrder) {
+		return new Menu(id, "site-1", id, "/" + id, null, displayOrder, parentId, true);
+	}
+
+	private static List<String> ids(List<MenuTreeNode> nodes) {
+		return nodes.stream().map(MenuTreeNode::getId).toList();
+	}
+
+	@Test
+	void buildsHierarchySortedByDisplayOrder() {
+		List<Menu> menus = List.of(
+			menu("b", null, 2),
+			menu("a", null, 1),
+			menu("a2", "a", 2),
+			menu("a1", "a", 1),
+			menu("a1x", "a1", null)
+		);
+
+		List<MenuTreeNode> tree = MenuTreeBuilder.build(menus);
+
+		assertThat(ids(tree)).containsExactly("a", "b");
+		assertThat(ids(tree.get(0).getChildren())).containsExactly("a1", "a2");
+		assertThat(ids(tree.get(0).getChildren().get(0).getChildren())).containsExactly("a1x");
+		assertThat(tree.get(0).isReadable()).isTrue();
+	}
+
+	@Test
+	void nullDisplayOrderSortsAsZero() {
+		List<MenuTreeNode> tree = MenuTreeBuilder.build(List.of(menu("one", null, 1), menu("none", null, null)));
+
+		assertThat(ids(tree)).containsExactly("none", "one");
+	}
+
+	@Test
+	void orphanBecomesRootAndCycleIsDropped() {
+		List<Menu> menus = List.of(
+			menu("orphan", "missing", 1),
+			menu("x", "y", 1),
+			menu("y", "x", 2)
+		);
+
+		assertThat(ids(MenuTreeBuilder.build(menus))).containsExactly("orphan");
+	}
+
+	@Test
+	void unreadableParentIsKeptOnlyForReadableDescendants() {
+		List<Menu> menus = List.of(
+			menu("admin", null, 1),
+			menu("users", "admin", 1),
+			menu("secret", null, 2),
+			menu("hidden", "secret", 1)
+		);
+		Set<String> readable = Set.of("users");
+
+		List<MenuTreeNode> tree = MenuTreeBuilder.build(menus, m -> readable.contains(m.getId()));
+
+		assertThat(ids(tree)).containsExactly("admin");
+		assertThat(tree.get(0).isReadable()).isFalse();
+		assertThat(ids(tree.get(0).getChildren())).containsExactly("users");
+		assertThat(tree.get(0).getChildren().get(0).isReadable()).isTrue();
+	}
+
+	@Test
+	void inputListIsNotReordered() {
+		List<Menu> menus = new ArrayList<>(List.of(menu("b", null, 2), menu("a", null, 1)));
+
+		MenuTreeBuilder.build(menus);
+
+		assertThat(menus).extracting(Menu::getId).containsExactly("b", "a");
+	}
+
+	@Test
+	void largeFlatListIsAssembled() {
+		List<Menu> menus = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			menus.add(menu("root" + i, null, i));
+			for (int j = 0; j < 20; j++) {
+				menus.add(menu("child" + i + "-" + j, "root" + i, j));
+			}
+		}
+
+		List<MenuTreeNode> tree = MenuTreeBuilder.build(menus);
+
+		assertThat(tree).hasSize(50);
+		assertThat(tree).allSatisfy(node -> assertThat(node.getChildren()).hasSize(20));
+	}
+}
@@ -0,0 +1,244 @@
+package com.backend.common.admin.userRoleMenu.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.backend.common.admin.menu.entity.MenuEntity;
+import com.backend.common.admin.menu.service.MenuSnapshotCache;
+import com.backend.common.admin.userRole.entity.UserRoleEntity;
+import com.backend.common.admin.userRoleMenu.dto.MenuPermissionResponse;
+import com.backend.common.admin.userRoleMenu.dto.UserRoleMenuRequest;
+import com.backend.common.admin.userRoleMenu.entity.UserRoleMenuEntity;
+import com.backend.common.admin.userRoleMenu.repository.UserRoleMenuRepository;
+import com.backend.common.auth.permission.MenuPermissionMatrix;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(UserRoleMenuService.class)
+class UserRoleMenuServiceTests {
+
+	private static final int MENU_COUNT = 500;
+
+	@Autowired
+	private UserRoleMenuService userRoleMenuService;
+
+	@Autowired
+	private UserRoleMenuRepository userRoleMenuRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@MockitoBean
+	private MenuSnapshotCache menuSnapshotCache;
+
+	@MockitoBean
+	private MenuPermissionMatrix menuPermissionMatrix;
+
+	private String roleId;
+	private final List<String> menuIds = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		UserRoleEntity role = new UserRoleEntity("ADMIN", "관리자", null);
+		entityManager.persist(role);
+		roleId = role.getId();
+		for (int i = 0; i < MENU_COUNT; i++) {
+			MenuEntity menu = new MenuEntity("SITE_A", "메뉴 " + i, "/menu/" + i, null, i, null);
+			entityManager.persist(menu);
+			menuIds.add(menu.getId());
+		}
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	@Test
+	void savingFiveHundredMenusUsesBatchedInserts() {
+		List<UserRoleMenuRequest.MenuPermission> permissions = new ArrayList<>();
+		for (String menuId : menuIds) {
+			permissions.add(permission(menuId, true, false));
+		}
+
+		Statistics statistics = statistics();
+		userRoleMenuService.saveMenuPermissions(new UserRoleMenuRequest(roleId, permissions));
+		entityManager.flush();
+
+		assertThat(statistics.getEntityInsertCount()).isEqualTo(MENU_COUNT);
+		// 역할 확인 + 메뉴 IN 조회 + 기존 권한 조회 3건, INSERT는 batch_size(100) 단위 5건
+		assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(10);
+		assertThat(userRoleMenuRepository.findByUserRoleId(roleId)).hasSize(MENU_COUNT);
+	}
+
+	@Test
+	void resavingAppliesOnlyTheDiff() {
+		List<UserRoleMenuRequest.MenuPermission> permissions = new ArrayList<>();
+		for (String menuId : menuIds) {
+			permissions.add(permission(menuId, true, false));
+		}
+		userRoleMenuService.saveMenuPermissions(new UserRoleMenuRequest(roleId, permissions));
+		entityManager.flush();
+		entityManager.clear();
+
+		// 10개 수정, 10개 제거, 나머지는 그대로
+		List<UserRoleMenuRequest.MenuPermission> changed = new ArrayList<>();
+		for (int i = 0; i < MENU_COUNT - 10; i++) {
+			changed.add(permission(menuIds.get(i), true, i < 10));
+		}
+
+		Statistics statistics = statistics();
+		userRoleMenuService.saveMenuPermissions(new UserRoleMenuRequest(roleId, changed));
+		entityManager.flush();
+		entityManager.clear();
+
+		assertThat(statistics.getEntityInsertCount()).isZero();
+		assertThat(statistics.getEntityUpdateCount()).isEqualTo(10);
+		// 조회 3건 + 삭제 1건 + UPDATE 배치 1건
+		assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(6);
+
+		List<UserRoleMenuEntity> saved = userRoleMenuRepository.findByUserRoleId(roleId);
+		assertThat(saved).hasSize(MENU_COUNT - 10);
+		assertThat(saved).filteredOn(UserRoleMenuEntity::isPermUpdate).hasSize(10);
+	}
+
+	@Test
+	void unknownMenuIsRejected() {
+		List<UserRoleMenuRequest.MenuPermission> permissions = List.of(permission("NO_SUCH_MENU", true, false));
+
+		assertThatThrownBy(() -> userRoleMenuService.saveMenuPermissions(new UserRoleMenuRequest(roleId, permissions)))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("NO_SUCH_MENU");
+	}
+
+	@Test
+	void menuPermissionsLoadWithOneProjectedQuery() {
+		MenuEntity disabled = new MenuEntity("SITE_A", "비활성 메뉴", "/disabled", null, 0, null);
+		disabled.setEnabled(false);
+		entityManager.persist(disabled);
+		entityManager.persist(new MenuEntity("SITE_B", "다른 사이트 메뉴", "/other", null, 0, null));
+		persistRow(roleId, menuIds.get(1), "Y", "Y", "Y");
+		persistRow(roleId, menuIds.get(2), "Y", "N", "N");
+		entityManager.flush();
+		entityManager.clear();
+
+		Statistics statistics = statistics();
+		MenuPermissionResponse response = userRoleMenuService.getMenuPermissions(roleId, "SITE_A");
+
+		// 역할 조회 1건 + LEFT JOIN 조회 1건, 메뉴/권한 엔티티는 만들지 않음
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+		assertThat(statistics.getEntityLoadCount()).isEqualTo(1);
+
+		List<MenuPermissionResponse.MenuPermissionItem> items = response.getMenus();
+		assertThat(items).hasSize(MENU_COUNT);
+		assertThat(items).extracting(MenuPermissionResponse.MenuPermissionItem::getMenuId)
+			.containsExactlyElementsOf(menuIds);
+		assertThat(items.get(0).getPermRead()).isFalse();
+		assertThat(items.get(1).getPermRead()).isTrue();
+		assertThat(items.get(1).getPermUpdate()).isTrue();
+		// 비활성 권한 행은 권한 없음으로 표시
+		assertThat(items.get(2).getPermRead()).isFalse();
+	}
+
+	@Test
+	void cloneCopiesEnabledRowsAndMergesDuplicates() {
+		String targetId = persistRole("EDITOR");
+		persistRow(roleId, menuIds.get(0), "Y", "N", "Y");
+		persistRow(roleId, menuIds.get(0), "N", "Y", "Y");
+		persistRow(roleId, menuIds.get(1), "Y", "N", "Y");
+		persistRow(roleId, menuIds.get(2), "Y", "Y", "N");
+		persistRow(targetId, menuIds.get(3), "Y", "N", "Y");
+		entityManager.flush();
+		entityManager.clear();
+
+		int copied = userRoleMenuService.clonePermissions(targetId, roleId, null);
+
+		assertThat(copied).isEqualTo(2);
+		List<UserRoleMenuEntity> rows = userRoleMenuRepository.findByUserRoleId(targetId);
+		assertThat(rows).extracting(UserRoleMenuEntity::getMenuId)
+			.containsExactlyInAnyOrder(menuIds.get(0), menuIds.get(1));
+		UserRoleMenuEntity merged = rows.stream()
+			.filter(row -> row.getMenuId().equals(menuIds.get(0)))
+			.findFirst().orElseThrow();
+		assertThat(merged.isPermRead()).isTrue();
+		assertThat(merged.isPermUpdate()).isTrue();
+	}
+
+	@Test
+	void cloneCanBeRepeatedAndChained() {
+		String editorId = persistRole("EDITOR");
+		String viewerId = persistRole("VIEWER");
+		for (int i = 0; i < 10; i++) {
+			persistRow(roleId, menuIds.get(i), "Y", "N", "Y");
+		}
+		entityManager.flush();
+		entityManager.clear();
+
+		assertThat(userRoleMenuService.clonePermissions(editorId, roleId, null)).isEqualTo(10);
+		assertThat(userRoleMenuService.clonePermissions(editorId, roleId, null)).isEqualTo(10);
+		assertThat(userRoleMenuService.clonePermissions(viewerId, editorId, null)).isEqualTo(10);
+
+		assertThat(userRoleMenuRepository.findByUserRoleId(editorId)).hasSize(10);
+		assertThat(userRoleMenuRepository.findByUserRoleId(viewerId)).hasSize(10);
+	}
+
+	@Test
+	void cloneWithSiteOnlyReplacesThatSite() {
+		String targetId = persistRole("EDITOR");
+		MenuEntity otherSiteMenu = new MenuEntity("SITE_B", "다른 사이트 메뉴", "/other", null, 0, null);
+		entityManager.persist(otherSiteMenu);
+		persistRow(roleId, menuIds.get(0), "Y", "N", "Y");
+		persistRow(roleId, otherSiteMenu.getId(), "Y", "N", "Y");
+		persistRow(targetId, menuIds.get(1), "Y", "N", "Y");
+		entityManager.flush();
+		entityManager.clear();
+
+		int copied = userRoleMenuService.clonePermissions(targetId, roleId, "SITE_B");
+
+		assertThat(copied).isEqualTo(1);
+		assertThat(userRoleMenuRepository.findByUserRoleId(targetId)).extracting(UserRoleMenuEntity::getMenuId)
+			.containsExactlyInAnyOrder(menuIds.get(1), otherSiteMenu.getId());
+	}
+
+	private String persistRole(String roleCd) {
+		UserRoleEntity role = new UserRoleEntity(roleCd, roleCd, null);
+		entityManager.persist(role);
+		return role.getId();
+	}
+
+	private void persistRow(String userRoleId, String menuId, String read, String update, String enabled) {
+		UserRoleMenuEntity row = new UserRoleMenuEntity(userRoleId, menuId);
+		row.setPermRead(read);
+		row.setPermUpdate(update);
+		row.setEnabled(enabled);
+		entityManager.persist(row);
+	}
+
+	private Statistics statistics() {
+		Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		return statistics;
+	}
+
+	private static UserRoleMenuRequest.MenuPermission permission(String menuId, boolean read, boolean update) {
+		UserRoleMenuRequest.MenuPermission permission = new UserRoleMenuRequest.MenuPermission();
+		permission.setMenuId(menuId);
+		permission.setPermRead(read);
+		permission.setPermUpdate(update);
+		return permission;
+	}
+}
@@ -0,0 +1,102 @@
+package com.backend.common.auth.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.backend.common.auth.security.CurrentUserArgumentResolver;
+import com.backend.common.auth.security.JwtAuthFilter;
+import com.backend.common.auth.security.JwtClaims;
+import com.backend.common.auth.security.JwtPrincipal;
+import com.backend.common.auth.security.JwtUtil;
+import com.backend.common.auth.security.LoginAttemptThrottler;
+import com.backend.common.auth.security.PasswordHashExecutor;
+import com.backend.common.auth.security.RefreshTokenService;
+import com.backend.common.auth.security.RevocationEventLog;
+import com.backend.common.auth.security.TokenBlacklistService;
+import com.backend.common.auth.security.TokenVersionService;
+import com.backend.common.member.service.MemberService;
+import com.backend.common.user.service.UserService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 로그아웃 요청 한 건에서 토큰 서명 검증(JwtUtil.parse)이 인증 필터의 한 번만 일어나는지 확인
+ * 컨트롤러는 필터가 설정한 JwtPrincipal의 클레임을 그대로 사용해야 합니다.
+ */
+class AuthControllerLogoutTests {
+
+	private static final String SECRET = "t/mTafIRctWrDSsBH8VTT64hMgxYgTT/5g4eQkk1Svo=";
+
+	private JwtUtil jwtUtil;
+	private TokenBlacklistService tokenBlacklistService;
+	private RefreshTokenService refreshTokenService;
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	void setUp() {
+		jwtUtil = spy(new JwtUtil(SECRET, 3600));
+		tokenBlacklistService = new TokenBlacklistService(jwtUtil, mock(RevocationEventLog.class),
+			new SimpleMeterRegistry(), 1 << 16);
+		refreshTokenService = mock(RefreshTokenService.class);
+		TokenVersionService tokenVersionService = mock(TokenVersionService.class);
+		when(tokenVersionService.isCurrent(any(JwtClaims.class))).thenReturn(true);
+
+		AuthController controller = new AuthController(mock(UserService.class), jwtUtil, tokenBlacklistService,
+			refreshTokenService, mock(PasswordHashExecutor.class), mock(LoginAttemptThrottler.class),
+			mock(MemberService.class), tokenVersionService);
+		mockMvc = MockMvcBuilders.standaloneSetup(controller)
+			.addFilters(new JwtAuthFilter(jwtUtil, tokenBlacklistService, tokenVersionService))
+			.setCustomArgumentResolvers(new CurrentUserArgumentResolver())
+			.build();
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void adminLogoutVerifiesTheTokenOnce() throws Exception {
+		String token = jwtUtil.generateToken("admin", Map.of("role", "USER", "sid", "session-1"));
+
+		mockMvc.perform(post("/api/v1/auth/logout/admin")
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+			.andExpect(status().isOk());
+
+		verify(jwtUtil, times(1)).parse(anyString());
+		verify(refreshTokenService).removeRefreshToken("admin", "session-1");
+		assertThat(tokenBlacklistService.size()).isEqualTo(1);
+		assertThat(tokenBlacklistService.isBlacklisted(token)).isTrue();
+	}
+
+	@Test
+	void memberLogoutVerifiesTheTokenOnce() throws Exception {
+		String token = jwtUtil.generateToken("member", Map.of("role", "MEMBER", "sid", "session-2",
+			JwtPrincipal.CLAIM_USER_ROLE_ID, "MEMBER_ROLE"));
+
+		mockMvc.perform(post("/api/v1/auth/logout/user")
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+			.andExpect(status().isOk());
+
+		verify(jwtUtil, times(1)).parse(anyString());
+		assertThat(tokenBlacklistService.isBlacklisted(token)).isTrue();
+	}
+}
@@ -0,0 +1,147 @@
+package com.backend.common.auth.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.backend.common.admin.site.controller.SiteController;
+import com.backend.common.admin.site.service.SiteService;
+import com.backend.common.auth.security.JwtUtil;
+import com.backend.common.auth.security.LoginAttemptThrottler;
+import com.backend.common.auth.security.PasswordHashExecutor;
+import com.backend.common.auth.security.RefreshTokenService;
+import com.backend.common.auth.security.TokenBlacklistService;
+import com.backend.common.auth.security.TokenVersionService;
+import com.backend.common.member.service.MemberService;
+import com.backend.common.user.model.Role;
+import com.backend.common.user.model.User;
+import com.backend.common.user.service.UserService;
+import com.backend.config.GlobalExceptionHandler;
+import com.backend.core.cache.ConditionalResponses;
+import com.backend.core.cache.ResourceVersions;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 로그인 폭주 시 비밀번호 검증 실행기(스레드 1개, 대기 큐 2개)가 넘치는 요청을 503으로 바로 거절하고,
+ * 그동안 사이트 목록 같은 가벼운 조회는 지연 없이 처리되는지 확인
+ */
+class LoginBurstTests {
+
+	private static final String SECRET = "t/mTafIRctWrDSsBH8VTT64hMgxYgTT/5g4eQkk1Svo=";
+	private static final int BURST = 20;
+	private static final int ACCEPTED = 1 + 2;
+	private static final String LOGIN_BODY = "{\"username\":\"admin\",\"password\":\"admin123\"}";
+
+	// BCrypt 대신 테스트가 풀어 줄 때까지 검증 스레드를 붙잡아 두는 인코더
+	private final CountDownLatch release = new CountDownLatch(1);
+	private PasswordHashExecutor passwordHashExecutor;
+	private ExecutorService clients;
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	void setUp() {
+		PasswordEncoder blockingEncoder = mock(PasswordEncoder.class);
+		when(blockingEncoder.matches(anyString(), anyString())).thenAnswer(invocation -> release.await(10, TimeUnit.SECONDS));
+		passwordHashExecutor = new PasswordHashExecutor(blockingEncoder, new SimpleMeterRegistry(), 1, 2, 10_000);
+
+		UserService userService = mock(UserService.class);
+		when(userService.findByUsername("admin"))
+			.thenReturn(Optional.of(new User("user-1", "admin", "encoded", Role.USER)));
+		RefreshTokenService refreshTokenService = mock(RefreshTokenService.class);
+		when(refreshTokenService.resolveSessionId(anyString(), any()))
+			.thenReturn("session-1");
+		JwtUtil jwtUtil = new JwtUtil(SECRET, 3600);
+		AuthController authController = new AuthController(userService, jwtUtil, mock(TokenBlacklistService.class),
+			refreshTokenService, passwordHashExecutor, mock(LoginAttemptThrottler.class), mock(MemberService.class),
+			mock(TokenVersionService.class));
+
+		SiteService siteService = mock(SiteService.class);
+		when(siteService.listSites()).thenReturn(List.of());
+		ResourceVersions resourceVersions = mock(ResourceVersions.class);
+		when(resourceVersions.etag(ResourceVersions.SITE, ResourceVersions.CMN_CD)).thenReturn("v-1-1");
+		SiteController siteController = new SiteController(siteService, resourceVersions, new ConditionalResponses(60));
+
+		mockMvc = MockMvcBuilders.standaloneSetup(authController, siteController)
+			.setControllerAdvice(new GlobalExceptionHandler())
+			.build();
+		clients = Executors.newFixedThreadPool(BURST);
+	}
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		clients.shutdownNow();
+		passwordHashExecutor.shutdown();
+	}
+
+	@Test
+	void burstIsShedWith503WhileReadsStayFast() throws Exception {
+		List<Future<MockHttpServletResponse>> logins = new ArrayList<>();
+		for (int i = 0; i < BURST; i++) {
+			logins.add(clients.submit(() -> mockMvc.perform(post("/api/v1/auth/login/admin")
+					.contentType(MediaType.APPLICATION_JSON)
+					.content(LOGIN_BODY))
+				.andReturn().getResponse()));
+		}
+
+		// 실행 중 1건 + 대기 2건을 제외한 요청은 검증을 기다리지 않고 바로 거절됨
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (logins.stream().filter(Future::isDone).count() < BURST - ACCEPTED && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		List<MockHttpServletResponse> rejected = new ArrayList<>();
+		for (Future<MockHttpServletResponse> login : logins) {
+			if (login.isDone()) {
+				rejected.add(login.get());
+			}
+		}
+		assertThat(rejected).hasSize(BURST - ACCEPTED).allSatisfy(response -> {
+			assertThat(response.getStatus()).isEqualTo(503);
+			assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+		});
+
+		// 검증 스레드와 큐가 포화된 상태에서도 조회 요청은 바로 처리됨
+		long slowest = 0;
+		for (int i = 0; i < 50; i++) {
+			long startedAt = System.nanoTime();
+			mockMvc.perform(get("/api/v1/site")).andExpect(status().isOk());
+			slowest = Math.max(slowest, System.nanoTime() - startedAt);
+		}
+		assertThat(TimeUnit.NANOSECONDS.toMillis(slowest)).isLessThan(500);
+
+		// 붙잡아 둔 검증을 풀면 수락된 요청은 정상 로그인
+		release.countDown();
+		int succeeded = 0;
+		for (Future<MockHttpServletResponse> login : logins) {
+			if (login.get(10, TimeUnit.SECONDS).getStatus() == 200) {
+				succeeded++;
+			}
+		}
+		assertThat(succeeded).isEqualTo(ACCEPTED);
+	}
+}
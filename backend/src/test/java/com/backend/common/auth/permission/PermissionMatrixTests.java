@@ -0,0 +1,147 @@
+package com.backend.common.auth.permission;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class PermissionMatrixTests {
+
+	private static final int READ = MenuPermissionType.READ.bit();
+	private static final int UPDATE = MenuPermissionType.UPDATE.bit();
+	private static final int ALL = MenuPermissionType.ALL.bit();
+
+	@Test
+	void grantsOnlyMaskedTypes() {
+		PermissionMatrix matrix = PermissionMatrix.build(Map.of(
+			"ADMIN", Map.of("MENU_A", READ | UPDATE),
+			"USER", Map.of("MENU_B", READ)));
+
+		assertThat(matrix.can("ADMIN", "MENU_A", MenuPermissionType.READ)).isTrue();
+		assertThat(matrix.can("ADMIN", "MENU_A", MenuPermissionType.UPDATE)).isTrue();
+		assertThat(matrix.can("ADMIN", "MENU_A", MenuPermissionType.DELETE)).isFalse();
+		assertThat(matrix.can("ADMIN", "MENU_B", MenuPermissionType.READ)).isFalse();
+		assertThat(matrix.can("USER", "MENU_B", MenuPermissionType.READ)).isTrue();
+		assertThat(matrix.can("USER", "MENU_A", MenuPermissionType.READ)).isFalse();
+	}
+
+	@Test
+	void allBitGrantsEveryType() {
+		PermissionMatrix matrix = PermissionMatrix.build(Map.of("ADMIN", Map.of("MENU_A", ALL)));
+
+		for (MenuPermissionType type : MenuPermissionType.values()) {
+			assertThat(matrix.can("ADMIN", "MENU_A", type)).as(type.name()).isTrue();
+		}
+	}
+
+	@Test
+	void unknownRoleOrMenuIsDenied() {
+		PermissionMatrix matrix = PermissionMatrix.build(Map.of("ADMIN", Map.of("MENU_A", READ)));
+
+		assertThat(matrix.can("GUEST", "MENU_A", MenuPermissionType.READ)).isFalse();
+		assertThat(matrix.can("ADMIN", "MENU_X", MenuPermissionType.READ)).isFalse();
+		assertThat(matrix.canAny("GUEST", "MENU_A")).isFalse();
+		assertThat(matrix.canAny("ADMIN", "MENU_X")).isFalse();
+		assertThat(PermissionMatrix.EMPTY.can("ADMIN", "MENU_A", MenuPermissionType.READ)).isFalse();
+	}
+
+	@Test
+	void canAnyRequiresAtLeastOneType() {
+		PermissionMatrix matrix = PermissionMatrix.build(Map.of("ADMIN", Map.of(
+			"MENU_A", UPDATE,
+			"MENU_B", 0)));
+
+		assertThat(matrix.canAny("ADMIN", "MENU_A")).isTrue();
+		assertThat(matrix.canAny("ADMIN", "MENU_B")).isFalse();
+	}
+
+	@Test
+	void menusBeyondOneWordAreAddressed() {
+		Map<String, Integer> menus = new HashMap<>();
+		for (int i = 0; i < 200; i++) {
+			menus.put("MENU_" + i, i % 2 == 0 ? READ : UPDATE);
+		}
+		PermissionMatrix matrix = PermissionMatrix.build(Map.of("ADMIN", menus));
+
+		assertThat(matrix.menuCount()).isEqualTo(200);
+		for (int i = 0; i < 200; i++) {
+			String menuId = "MENU_" + i;
+			assertThat(matrix.can("ADMIN", menuId, MenuPermissionType.READ)).as(menuId).isEqualTo(i % 2 == 0);
+			assertThat(matrix.can("ADMIN", menuId, MenuPermissionType.UPDATE)).as(menuId).isEqualTo(i % 2 != 0);
+		}
+	}
+
+	@Test
+	void withRoleLeavesOriginalUntouched() {
+		PermissionMatrix original = PermissionMatrix.build(Map.of(
+			"ADMIN", Map.of("MENU_A", READ),
+			"USER", Map.of("MENU_A", READ)));
+
+		PermissionMatrix updated = original.withRole("ADMIN", Map.of("MENU_A", UPDATE, "MENU_NEW", READ));
+
+		assertThat(original.can("ADMIN", "MENU_A", MenuPermissionType.READ)).isTrue();
+		assertThat(original.can("ADMIN", "MENU_NEW", MenuPermissionType.READ)).isFalse();
+		assertThat(original.menuCount()).isEqualTo(1);
+
+		assertThat(updated.can("ADMIN", "MENU_A", MenuPermissionType.READ)).isFalse();
+		assertThat(updated.can("ADMIN", "MENU_A", MenuPermissionType.UPDATE)).isTrue();
+		assertThat(updated.can("ADMIN", "MENU_NEW", MenuPermissionType.READ)).isTrue();
+		assertThat(updated.can("USER", "MENU_A", MenuPermissionType.READ)).isTrue();
+		assertThat(updated.can("USER", "MENU_NEW", MenuPermissionType.READ)).isFalse();
+		assertThat(updated.menuCount()).isEqualTo(2);
+	}
+
+	@Test
+	void menuAddedPastExistingWordsIsDeniedForOtherRoles() {
+		Map<String, Integer> menus = new HashMap<>();
+		for (int i = 0; i < 64; i++) {
+			menus.put("MENU_" + i, READ);
+		}
+		PermissionMatrix original = PermissionMatrix.build(Map.of("USER", menus));
+
+		// 65번째 메뉴는 USER 비트셋(1 word) 범위를 벗어남
+		PermissionMatrix updated = original.withRole("ADMIN", Map.of("MENU_64", ALL));
+
+		assertThat(updated.can("ADMIN", "MENU_64", MenuPermissionType.DELETE)).isTrue();
+		assertThat(updated.can("USER", "MENU_64", MenuPermissionType.READ)).isFalse();
+		assertThat(updated.canAny("USER", "MENU_64")).isFalse();
+		assertThat(updated.can("USER", "MENU_63", MenuPermissionType.READ)).isTrue();
+	}
+
+	@Test
+	void withoutMenusClearsEveryRole() {
+		Map<String, Integer> menus = new HashMap<>();
+		for (int i = 0; i < 100; i++) {
+			menus.put("MENU_" + i, ALL);
+		}
+		PermissionMatrix original = PermissionMatrix.build(Map.of(
+			"ADMIN", menus,
+			"USER", Map.of("MENU_70", READ, "MENU_1", READ)));
+
+		PermissionMatrix updated = original.withoutMenus(List.of("MENU_70", "MENU_UNKNOWN"));
+
+		assertThat(updated.canAny("ADMIN", "MENU_70")).isFalse();
+		assertThat(updated.canAny("USER", "MENU_70")).isFalse();
+		assertThat(updated.can("ADMIN", "MENU_69", MenuPermissionType.READ)).isTrue();
+		assertThat(updated.can("USER", "MENU_1", MenuPermissionType.READ)).isTrue();
+		assertThat(original.canAny("ADMIN", "MENU_70")).isTrue();
+		assertThat(original.withoutMenus(List.of("MENU_UNKNOWN"))).isSameAs(original);
+	}
+
+	@Test
+	void emptyMenusRemovesRole() {
+		PermissionMatrix original = PermissionMatrix.build(Map.of(
+			"ADMIN", Map.of("MENU_A", READ),
+			"USER", Map.of("MENU_A", READ)));
+
+		PermissionMatrix updated = original.withRole("ADMIN", Map.of());
+
+		assertThat(updated.roleCount()).isEqualTo(1);
+		assertThat(updated.can("ADMIN", "MENU_A", MenuPermissionType.READ)).isFalse();
+		assertThat(updated.can("USER", "MENU_A", MenuPermissionType.READ)).isTrue();
+		assertThat(original.roleCount()).isEqualTo(2);
+	}
+}
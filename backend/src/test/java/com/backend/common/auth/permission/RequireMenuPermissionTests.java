@@ -0,0 +1,145 @@
+package com.backend.common.auth.permission;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import com.backend.common.admin.menu.repository.MenuRepository;
+import com.backend.common.admin.userRoleMenu.repository.UserRoleMenuRepository;
+import com.backend.common.auth.security.JwtPrincipal;
+import com.backend.common.auth.security.JwtUtil;
+import com.backend.common.member.memberRoleMenu.repository.MemberRoleMenuRepository;
+import com.backend.config.MethodSecurityConfig;
+import com.backend.core.constants.Constants;
+
+/**
+ * @RequireMenuPermission이 hasPermission('{menu}', '{action}')으로 전개되어
+ * 토큰의 역할 정보(JwtPrincipal)와 권한 행렬로 판단되는지 확인
+ */
+@SpringJUnitConfig(RequireMenuPermissionTests.Config.class)
+class RequireMenuPermissionTests {
+
+	private static final String SECRET = "t/mTafIRctWrDSsBH8VTT64hMgxYgTT/5g4eQkk1Svo=";
+	private static final String SITES_MENU_ID = "MENU_SITES";
+
+	@Autowired
+	private SitesAdmin sitesAdmin;
+
+	@Autowired
+	private MenuPermissionMatrix matrix;
+
+	private final JwtUtil jwtUtil = new JwtUtil(SECRET, 3600);
+
+	@BeforeEach
+	void setUp() {
+		// 트랜잭션이 없으므로 즉시 반영됨
+		matrix.menuSaved(SITES_MENU_ID, Constants.MENU_ADMIN_SITES);
+		matrix.replaceRole(RoleKind.USER, "ADMIN", Map.of(SITES_MENU_ID, MenuPermissionType.UPDATE.bit()));
+		matrix.replaceRole(RoleKind.USER, "VIEWER", Map.of(SITES_MENU_ID, MenuPermissionType.READ.bit()));
+		matrix.replaceRole(RoleKind.MEMBER, "ADMIN", Map.of(SITES_MENU_ID, MenuPermissionType.ALL.bit()));
+		clearInvocations(matrix);
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void roleWithPermissionIsAllowed() {
+		authenticate("USER", "ADMIN");
+
+		assertThat(sitesAdmin.update()).isEqualTo("updated");
+		// 자리표시자가 hasPermission('/admin/sites', 'UPDATE')로 치환되어 평가됨
+		verify(matrix).canByUrl(RoleKind.USER, "ADMIN", Constants.MENU_ADMIN_SITES, MenuPermissionType.UPDATE);
+	}
+
+	@Test
+	void roleWithoutFlagIsDenied() {
+		authenticate("USER", "VIEWER");
+
+		assertThatThrownBy(sitesAdmin::update).isInstanceOf(AccessDeniedException.class);
+	}
+
+	@Test
+	void memberPrincipalIsDenied() {
+		// 같은 역할 ID에 회원 권한이 있어도 hasRole('USER')에서 거부
+		authenticate("MEMBER", "ADMIN");
+
+		assertThatThrownBy(sitesAdmin::update).isInstanceOf(AccessDeniedException.class);
+	}
+
+	@Test
+	void unknownUrlIsDenied() {
+		authenticate("USER", "ADMIN");
+
+		assertThatThrownBy(sitesAdmin::updateUnknown).isInstanceOf(AccessDeniedException.class);
+	}
+
+	@Test
+	void missingRoleIdIsDenied() {
+		authenticate("USER", null);
+
+		assertThatThrownBy(sitesAdmin::update).isInstanceOf(AccessDeniedException.class);
+	}
+
+	private void authenticate(String role, String roleId) {
+		Map<String, Object> claims = new HashMap<>();
+		claims.put("role", role);
+		if (roleId != null) {
+			claims.put(JwtPrincipal.CLAIM_USER_ROLE_ID, roleId);
+		}
+		JwtPrincipal principal = new JwtPrincipal(jwtUtil.parse(jwtUtil.generateToken("admin", claims)));
+		SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+			principal, null, List.of(new SimpleGrantedAuthority("ROLE_" + role))));
+	}
+
+	public static class SitesAdmin {
+
+		@RequireMenuPermission(menu = Constants.MENU_ADMIN_SITES, action = MenuPermissionType.UPDATE)
+		public String update() {
+			return "updated";
+		}
+
+		@RequireMenuPermission(menu = "/admin/unknown", action = MenuPermissionType.UPDATE)
+		public String updateUnknown() {
+			return "updated";
+		}
+	}
+
+	@Configuration
+	@Import(MethodSecurityConfig.class)
+	static class Config {
+
+		@Bean
+		MenuPermissionMatrix menuPermissionMatrix() {
+			return spy(new MenuPermissionMatrix(mock(UserRoleMenuRepository.class),
+				mock(MemberRoleMenuRepository.class), mock(MenuRepository.class)));
+		}
+
+		@Bean
+		SitesAdmin sitesAdmin() {
+			return new SitesAdmin();
+		}
+	}
+}
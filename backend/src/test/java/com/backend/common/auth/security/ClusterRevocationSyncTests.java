@@ -0,0 +1,139 @@
+package com.backend.common.auth.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.backend.common.auth.repository.RevocationEventRepository;
+import com.backend.common.cluster.service.ClusterLockService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 같은 DB를 공유하는 두 노드 사이의 무효화 이벤트 전파
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ClusterRevocationSyncTests {
+
+	private static final String SECRET = "t/mTafIRctWrDSsBH8VTT64hMgxYgTT/5g4eQkk1Svo=";
+	private static final String INSERT_EVENT_SQL =
+		"INSERT INTO \"REVOCATION_EVENTS\" (\"EVENT_ID\", \"EVENT_TYPE\", \"TOKEN_HASH\", \"ORIGIN_NODE_ID\", " +
+		"\"EXPIRES_AT\", \"CREATED_AT\") VALUES (?, 'TOKEN', ?, 'other-node', ?, ?)";
+
+	@Autowired
+	private RevocationEventRepository revocationEventRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final JwtUtil jwtUtil = new JwtUtil(SECRET, 3600);
+
+	@AfterEach
+	void cleanUp() {
+		revocationEventRepository.deleteAllInBatch();
+	}
+
+	@Test
+	void logoutOnOneNodeIsVisibleOnAnotherAfterPoll() {
+		Node nodeA = new Node(60_000);
+		Node nodeB = new Node(60_000);
+		JwtClaims claims = jwtUtil.parse(jwtUtil.generateToken("admin", Map.of()));
+
+		nodeA.blacklist.blacklist(claims);
+		assertThat(nodeB.blacklist.isBlacklisted(claims)).isFalse();
+
+		nodeB.sync.poll();
+
+		assertThat(nodeB.blacklist.isBlacklisted(claims)).isTrue();
+	}
+
+	@Test
+	void sessionAndUserEventsEvictRemoteCaches() {
+		Node nodeA = new Node(60_000);
+		Node nodeB = new Node(60_000);
+
+		nodeA.eventLog.sessionRevoked("admin", "s1");
+		nodeA.eventLog.userRevoked("user");
+		nodeB.sync.poll();
+		nodeA.sync.poll();
+
+		verify(nodeB.refreshTokenService).evictSession("admin", "s1");
+		verify(nodeB.refreshTokenService).evictUser("user");
+		verify(nodeB.tokenVersionService).reload("user");
+		// 자신이 남긴 이벤트는 다시 반영하지 않음
+		verify(nodeA.refreshTokenService, never()).evictSession("admin", "s1");
+	}
+
+	@Test
+	void lateCommittedEventBelowLastSeenIdIsApplied() {
+		Node node = new Node(60_000);
+		TokenDigest early = TokenDigest.of("early");
+		TokenDigest late = TokenDigest.of("late");
+
+		insertEvent(1_000_010, early);
+		node.sync.poll();
+		assertThat(node.blacklist.isBlacklisted(early)).isTrue();
+		assertThat(node.sync.pendingGapCount()).isPositive();
+
+		// 더 작은 순번이 나중에 커밋된 경우
+		insertEvent(1_000_005, late);
+		node.sync.poll();
+
+		assertThat(node.blacklist.isBlacklisted(late)).isTrue();
+	}
+
+	@Test
+	void gapsAreDroppedAfterTimeout() {
+		Node node = new Node(-1);
+
+		insertEvent(1_000_010, TokenDigest.of("token"));
+		node.sync.poll();
+		node.sync.poll();
+
+		assertThat(node.sync.pendingGapCount()).isZero();
+	}
+
+	private void insertEvent(long id, TokenDigest digest) {
+		LocalDateTime now = LocalDateTime.now();
+		jdbcTemplate.update(INSERT_EVENT_SQL, id, digest.toHex(),
+			Timestamp.valueOf(now.plusHours(1)), Timestamp.valueOf(now));
+	}
+
+	private final class Node {
+		private final RevocationEventLog eventLog;
+		private final TokenBlacklistService blacklist;
+		private final RefreshTokenService refreshTokenService = mock(RefreshTokenService.class);
+		private final TokenVersionService tokenVersionService = mock(TokenVersionService.class);
+		private final ClusterRevocationSync sync;
+
+		private Node(long gapTimeoutMillis) {
+			eventLog = new RevocationEventLog(revocationEventRepository, transactionManager);
+			blacklist = new TokenBlacklistService(jwtUtil, eventLog, new SimpleMeterRegistry(), 1 << 16);
+			sync = new ClusterRevocationSync(revocationEventRepository, eventLog, blacklist,
+				refreshTokenService, tokenVersionService, mock(ClusterLockService.class), gapTimeoutMillis);
+			sync.warmUp();
+		}
+	}
+}
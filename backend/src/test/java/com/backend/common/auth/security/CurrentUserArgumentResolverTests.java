@@ -0,0 +1,76 @@
+package com.backend.common.auth.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+class CurrentUserArgumentResolverTests {
+
+	private static final String SECRET = "t/mTafIRctWrDSsBH8VTT64hMgxYgTT/5g4eQkk1Svo=";
+
+	private final CurrentUserArgumentResolver resolver = new CurrentUserArgumentResolver();
+
+	@AfterEach
+	void clearContext() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void supportsOnlyAnnotatedPrincipalParameters() throws Exception {
+		assertThat(resolver.supportsParameter(parameter("required", 0))).isTrue();
+		assertThat(resolver.supportsParameter(parameter("optional", 0))).isTrue();
+		assertThat(resolver.supportsParameter(parameter("notAnnotated", 0))).isFalse();
+	}
+
+	@Test
+	void resolvesPrincipalFromSecurityContext() throws Exception {
+		JwtUtil jwtUtil = new JwtUtil(SECRET, 3600);
+		JwtClaims claims = jwtUtil.parse(jwtUtil.generateToken("admin",
+				Map.of("role", "USER", "sid", "s1", JwtPrincipal.CLAIM_USER_ROLE_ID, "role-1")));
+		JwtPrincipal principal = new JwtPrincipal(claims);
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+
+		Object resolved = resolver.resolveArgument(parameter("required", 0), null, null, null);
+
+		assertThat(resolved).isSameAs(principal);
+		assertThat(principal.getUsername()).isEqualTo("admin");
+		assertThat(principal.getRole()).isEqualTo("USER");
+		assertThat(principal.getSessionId()).isEqualTo("s1");
+		assertThat(principal.getUserRoleId()).isEqualTo("role-1");
+		assertThat(principal.getTokenId()).isEqualTo(claims.getDigest().toHex());
+	}
+
+	@Test
+	void missingAuthenticationFailsUnlessOptional() throws Exception {
+		assertThatThrownBy(() -> resolver.resolveArgument(parameter("required", 0), null, null, null))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThat(resolver.resolveArgument(parameter("optional", 0), null, null, null)).isNull();
+	}
+
+	private static MethodParameter parameter(String methodName, int index) throws NoSuchMethodException {
+		Method method = Handlers.class.getDeclaredMethod(methodName, JwtPrincipal.class);
+		return new MethodParameter(method, index);
+	}
+
+	@SuppressWarnings("unused")
+	private static final class Handlers {
+		void required(@CurrentUser JwtPrincipal principal) {
+		}
+
+		void optional(@CurrentUser(required = false) JwtPrincipal principal) {
+		}
+
+		void notAnnotated(JwtPrincipal principal) {
+		}
+	}
+}
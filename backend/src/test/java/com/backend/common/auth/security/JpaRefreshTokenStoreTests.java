@@ -0,0 +1,95 @@
+package com.backend.common.auth.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.backend.common.auth.repository.RefreshTokenRepository;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(JpaRefreshTokenStore.class)
+// 저장소가 별도 트랜잭션으로 커밋하므로 테스트 트랜잭션으로 감싸지 않음
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JpaRefreshTokenStoreTests {
+
+	@Autowired
+	private JpaRefreshTokenStore store;
+
+	@Autowired
+	private RefreshTokenRepository refreshTokenRepository;
+
+	@AfterEach
+	void cleanUp() {
+		refreshTokenRepository.deleteAllInBatch();
+	}
+
+	@Test
+	void saveReplacesTokenOfSameSession() {
+		store.save(record("admin", "s1", "a".repeat(64)));
+		store.save(record("admin", "s1", "b".repeat(64)));
+
+		assertThat(refreshTokenRepository.count()).isEqualTo(1);
+		assertThat(store.findByTokenHash("a".repeat(64))).isEmpty();
+		assertThat(store.findByTokenHash("b".repeat(64))).isPresent();
+	}
+
+	@Test
+	void concurrentFirstSavesOfSameSessionDoNotFail() throws Exception {
+		int threads = 8;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> futures = new ArrayList<>();
+		try {
+			for (int i = 0; i < threads; i++) {
+				String hash = String.format("%064d", i);
+				futures.add(executor.submit(() -> {
+					start.await();
+					store.save(record("admin", "s1", hash));
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get(30, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(refreshTokenRepository.count()).isEqualTo(1);
+	}
+
+	@Test
+	void purgeRemovesOnlyExpiredTokens() {
+		Instant now = Instant.now();
+		store.save(new RefreshTokenRecord("admin", "s1", "a".repeat(64), now.minus(1, ChronoUnit.MINUTES)));
+		store.save(new RefreshTokenRecord("admin", "s2", "b".repeat(64), now.plus(1, ChronoUnit.HOURS)));
+
+		assertThat(store.purgeExpired(now, 10)).isEqualTo(1);
+		assertThat(store.findByTokenHash("b".repeat(64))).isPresent();
+	}
+
+	private static RefreshTokenRecord record(String username, String sessionId, String tokenHash) {
+		return new RefreshTokenRecord(username, sessionId, tokenHash, Instant.now().plus(1, ChronoUnit.HOURS));
+	}
+}
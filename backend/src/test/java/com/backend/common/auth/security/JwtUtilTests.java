@@ -0,0 +1,59 @@
+package com.backend.common.auth.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.JwtException;
+
+class JwtUtilTests {
+
+	private static final String SECRET = "t/mTafIRctWrDSsBH8VTT64hMgxYgTT/5g4eQkk1Svo=";
+
+	@Test
+	void parseReturnsCachedClaimsForSameToken() {
+		JwtUtil jwtUtil = new JwtUtil(SECRET, 3600);
+		String token = jwtUtil.generateToken("admin", Map.of("role", "ADMIN"));
+
+		JwtClaims first = jwtUtil.parse(token);
+		// 다른 String 인스턴스여도 내용이 같으면 캐시 적중
+		JwtClaims second = jwtUtil.parse(new String(token));
+
+		assertThat(second).isSameAs(first);
+		assertThat(first.getSubject()).isEqualTo("admin");
+		assertThat(first.getRole()).isEqualTo("ADMIN");
+	}
+
+	@Test
+	void digestIsComputedLazilyAndMatchesTokenDigest() {
+		JwtUtil jwtUtil = new JwtUtil(SECRET, 3600);
+		String token = jwtUtil.generateToken("admin", Map.of());
+
+		JwtClaims claims = jwtUtil.parse(token);
+
+		assertThat(claims.getDigest()).isEqualTo(TokenDigest.of(token));
+		assertThat(claims.getDigest()).isSameAs(claims.getDigest());
+	}
+
+	@Test
+	void parseRejectsTamperedToken() {
+		JwtUtil jwtUtil = new JwtUtil(SECRET, 3600);
+		String token = jwtUtil.generateToken("admin", Map.of());
+		jwtUtil.parse(token);
+
+		String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+		assertThatThrownBy(() -> jwtUtil.parse(tampered)).isInstanceOf(JwtException.class);
+	}
+
+	@Test
+	void cacheDisabledStillVerifies() {
+		JwtUtil jwtUtil = new JwtUtil(SECRET, 3600, 0);
+		String token = jwtUtil.generateToken("admin", Map.of());
+
+		assertThat(jwtUtil.parse(token)).isNotSameAs(jwtUtil.parse(token));
+	}
+}
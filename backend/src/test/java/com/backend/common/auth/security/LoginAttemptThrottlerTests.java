@@ -0,0 +1,79 @@
+package com.backend.common.auth.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+import com.backend.core.exception.TooManyRequestsException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class LoginAttemptThrottlerTests {
+
+	private static LoginAttemptThrottler throttler(boolean perIpEnabled) {
+		return new LoginAttemptThrottler(new SimpleMeterRegistry(), 300, 3, 5, perIpEnabled, 1000);
+	}
+
+	@Test
+	void userIsThrottledAfterMaxFailures() {
+		LoginAttemptThrottler throttler = throttler(false);
+		for (int i = 0; i < 3; i++) {
+			throttler.checkAllowed("admin", "10.0.0.1");
+			throttler.recordFailure("admin", "10.0.0.1");
+		}
+
+		assertThatThrownBy(() -> throttler.checkAllowed("admin", "10.0.0.1"))
+				.isInstanceOf(TooManyRequestsException.class);
+		// 사용자명은 대소문자를 구분하지 않음
+		assertThatThrownBy(() -> throttler.checkAllowed("ADMIN", "10.0.0.2"))
+				.isInstanceOf(TooManyRequestsException.class);
+		assertThatCode(() -> throttler.checkAllowed("other", "10.0.0.1")).doesNotThrowAnyException();
+	}
+
+	@Test
+	void successResetsUserFailures() {
+		LoginAttemptThrottler throttler = throttler(false);
+		for (int i = 0; i < 3; i++) {
+			throttler.recordFailure("admin", null);
+		}
+
+		throttler.recordSuccess("admin");
+
+		assertThatCode(() -> throttler.checkAllowed("admin", null)).doesNotThrowAnyException();
+	}
+
+	@Test
+	void ipIsNotThrottledUnlessEnabled() {
+		LoginAttemptThrottler throttler = throttler(false);
+		for (int i = 0; i < 10; i++) {
+			throttler.recordFailure("user" + i, "10.0.0.1");
+		}
+
+		assertThatCode(() -> throttler.checkAllowed("fresh", "10.0.0.1")).doesNotThrowAnyException();
+	}
+
+	@Test
+	void ipIsThrottledWhenEnabled() {
+		LoginAttemptThrottler throttler = throttler(true);
+		for (int i = 0; i < 5; i++) {
+			throttler.recordFailure("user" + i, "10.0.0.1");
+		}
+
+		assertThatThrownBy(() -> throttler.checkAllowed("fresh", "10.0.0.1"))
+				.isInstanceOf(TooManyRequestsException.class);
+		assertThatCode(() -> throttler.checkAllowed("fresh", "10.0.0.2")).doesNotThrowAnyException();
+	}
+
+	@Test
+	void keyCountStaysBounded() {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		LoginAttemptThrottler throttler = new LoginAttemptThrottler(registry, 300, 3, 5, false, 100);
+		for (int i = 0; i < 1000; i++) {
+			throttler.recordFailure("user" + i, null);
+		}
+
+		assertThat(registry.get("auth.login.throttle.keys").gauge().value()).isLessThanOrEqualTo(100);
+	}
+}
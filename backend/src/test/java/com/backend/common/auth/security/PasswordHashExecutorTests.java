@@ -0,0 +1,97 @@
+package com.backend.common.auth.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.backend.core.exception.ServiceBusyException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PasswordHashExecutorTests {
+
+	private final CountDownLatch release = new CountDownLatch(1);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private PasswordHashExecutor executor;
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		if (executor != null) {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	void matchesDelegatesToEncoder() {
+		BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(4);
+		executor = new PasswordHashExecutor(encoder, new SimpleMeterRegistry(), 2, 4, 5000);
+		String encoded = encoder.encode("secret");
+
+		assertThat(executor.matches("secret", encoded)).isTrue();
+		assertThat(executor.matches("wrong", encoded)).isFalse();
+	}
+
+	@Test
+	void fullQueueIsRejectedImmediately() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		executor = new PasswordHashExecutor(blockingEncoder(started), meterRegistry, 1, 1, 10_000);
+
+		// 스레드 1개가 작업 중이고 큐 1칸이 차면 세 번째 요청은 거절
+		CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> executor.matches("a", "a"));
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> executor.matches("b", "b"));
+		awaitQueued();
+
+		assertThatThrownBy(() -> executor.matches("c", "c")).isInstanceOf(ServiceBusyException.class);
+
+		release.countDown();
+		assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	void slowVerificationTimesOut() {
+		executor = new PasswordHashExecutor(blockingEncoder(new CountDownLatch(1)), new SimpleMeterRegistry(), 1, 1, 50);
+
+		assertThatThrownBy(() -> executor.matches("a", "a")).isInstanceOf(ServiceBusyException.class);
+	}
+
+	private void awaitQueued() throws InterruptedException {
+		// 두 번째 요청이 대기 큐에 들어갈 때까지 큐 길이 게이지를 확인
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (meterRegistry.get("auth.password.hash.queue").gauge().value() < 1) {
+			assertThat(System.nanoTime()).isLessThan(deadline);
+			Thread.sleep(10);
+		}
+	}
+
+	private PasswordEncoder blockingEncoder(CountDownLatch started) {
+		return new PasswordEncoder() {
+			@Override
+			public String encode(CharSequence rawPassword) {
+				return rawPassword.toString();
+			}
+
+			@Override
+			public boolean matches(CharSequence rawPassword, String encodedPassword) {
+				started.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return false;
+				}
+				return rawPassword.toString().equals(encodedPassword);
+			}
+		};
+	}
+}
@@ -0,0 +1,70 @@
+package com.backend.common.auth.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.backend.common.cluster.service.ClusterLockService;
+
+class RefreshTokenServiceTests {
+
+	private static final String SECRET = "t/mTafIRctWrDSsBH8VTT64hMgxYgTT/5g4eQkk1Svo=";
+	private static final long VALIDITY_SECONDS = 3600;
+
+	private JwtUtil jwtUtil;
+	private RefreshTokenService refreshTokenService;
+
+	@BeforeEach
+	void setUp() {
+		jwtUtil = new JwtUtil(SECRET, VALIDITY_SECONDS);
+		refreshTokenService = new RefreshTokenService(new InMemoryRefreshTokenStore(),
+				mock(RevocationEventLog.class), mock(ClusterLockService.class), 30, 100);
+	}
+
+	@Test
+	void deviceSessionIdIsDerivedFromUserAndDevice() {
+		String sessionId = refreshTokenService.resolveSessionId("admin", "web-chrome-1");
+
+		assertThat(sessionId).isEqualTo(refreshTokenService.resolveSessionId("admin", " web-chrome-1 "));
+		assertThat(sessionId).isNotEqualTo("web-chrome-1");
+		assertThat(sessionId).isNotEqualTo(refreshTokenService.resolveSessionId("user", "web-chrome-1"));
+		assertThat(sessionId.length()).isLessThanOrEqualTo(64);
+	}
+
+	@Test
+	void missingOrInvalidDeviceIdGetsFreshSession() {
+		assertThat(refreshTokenService.resolveSessionId("admin", null))
+				.isNotEqualTo(refreshTokenService.resolveSessionId("admin", null));
+		assertThat(refreshTokenService.resolveSessionId("admin", " ")).isNotBlank();
+		assertThat(refreshTokenService.resolveSessionId("admin", "x".repeat(65))).isNotBlank();
+	}
+
+	@Test
+	void reloginOnSameDeviceReplacesPreviousToken() {
+		String sessionId = refreshTokenService.resolveSessionId("admin", "web-chrome-1");
+		JwtClaims first = issue("admin", sessionId);
+		refreshTokenService.saveRefreshToken(first, sessionId);
+		JwtClaims second = issue("admin", sessionId);
+		refreshTokenService.saveRefreshToken(second, sessionId);
+
+		assertThat(refreshTokenService.validateRefreshToken(second)).isTrue();
+		assertThat(refreshTokenService.validateRefreshToken(first)).isFalse();
+	}
+
+	@Test
+	void rotationSucceedsOnlyOnce() {
+		String sessionId = refreshTokenService.resolveSessionId("admin", null);
+		JwtClaims current = issue("admin", sessionId);
+		refreshTokenService.saveRefreshToken(current, sessionId);
+
+		assertThat(refreshTokenService.rotateRefreshToken(current, issue("admin", sessionId))).isTrue();
+		assertThat(refreshTokenService.rotateRefreshToken(current, issue("admin", sessionId))).isFalse();
+		assertThat(refreshTokenService.validateRefreshToken(current)).isFalse();
+	}
+
+	private JwtClaims issue(String username, String sessionId) {
+		return jwtUtil.parse(jwtUtil.generateRefreshToken(username, sessionId, 0, VALIDITY_SECONDS));
+	}
+}
@@ -0,0 +1,85 @@
+package com.backend.common.auth.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class RotatingBloomFilterTests {
+
+	private static final long GENERATION_SECONDS = 900;
+	private static final long MAX_LIFETIME_SECONDS = 7 * 24 * 3600;
+	private static final long NOW = 1_700_000_000L;
+
+	private final RotatingBloomFilter filter = new RotatingBloomFilter(GENERATION_SECONDS, MAX_LIFETIME_SECONDS, 1 << 16);
+
+	@Test
+	void addedDigestIsAlwaysReported() {
+		for (int i = 0; i < 1000; i++) {
+			TokenDigest digest = TokenDigest.of("token-" + i);
+			long expiresAt = NOW + 60 + i * 37L;
+			filter.add(digest, expiresAt, NOW);
+
+			assertThat(filter.mightContain(digest, expiresAt, NOW)).isTrue();
+		}
+	}
+
+	@Test
+	void falsePositiveRateStaysLow() {
+		long expiresAt = NOW + 600;
+		for (int i = 0; i < 1000; i++) {
+			filter.add(TokenDigest.of("added-" + i), expiresAt, NOW);
+		}
+
+		int falsePositives = 0;
+		for (int i = 0; i < 10_000; i++) {
+			if (filter.mightContain(TokenDigest.of("absent-" + i), expiresAt, NOW)) {
+				falsePositives++;
+			}
+		}
+		// 65,536비트, 1,000개, 해시 5개 기준 이론 오탐률은 0.1% 미만
+		assertThat(falsePositives).isLessThan(100);
+	}
+
+	@Test
+	void lookupOnlyChecksGenerationOfExpiry() {
+		TokenDigest digest = TokenDigest.of("token");
+		filter.add(digest, NOW + 60, NOW);
+
+		assertThat(filter.mightContain(digest, NOW + 60 + GENERATION_SECONDS * 3, NOW)).isFalse();
+	}
+
+	@Test
+	void outOfRangeExpiryIsNotRecordedAndFallsThrough() {
+		TokenDigest digest = TokenDigest.of("token");
+		long farFuture = NOW + MAX_LIFETIME_SECONDS + GENERATION_SECONDS * 4;
+
+		assertThat(filter.add(digest, farFuture, NOW)).isFalse();
+		assertThat(filter.mightContain(digest, farFuture, NOW)).isTrue();
+		assertThat(filter.add(digest, NOW - GENERATION_SECONDS, NOW)).isFalse();
+	}
+
+	@Test
+	void expireDropsPastGenerations() {
+		filter.add(TokenDigest.of("a"), NOW + 60, NOW);
+		filter.add(TokenDigest.of("b"), NOW + GENERATION_SECONDS * 5, NOW);
+		assertThat(filter.activeGenerations()).isEqualTo(2);
+
+		filter.expire(NOW + GENERATION_SECONDS * 2);
+
+		assertThat(filter.activeGenerations()).isEqualTo(1);
+	}
+
+	@Test
+	void reusedSlotDoesNotLeakPreviousGeneration() {
+		TokenDigest digest = TokenDigest.of("token");
+		long expiresAt = NOW + 60;
+		filter.add(digest, expiresAt, NOW);
+
+		// 슬롯 수만큼 세대가 지난 뒤 같은 슬롯에 새 세대가 들어와도 이전 비트는 보이지 않아야 함
+		long laterNow = NOW + MAX_LIFETIME_SECONDS + GENERATION_SECONDS * 2;
+		long laterExpiry = expiresAt + (MAX_LIFETIME_SECONDS / GENERATION_SECONDS + 2) * GENERATION_SECONDS;
+		filter.add(TokenDigest.of("other"), laterExpiry, laterNow);
+
+		assertThat(filter.mightContain(digest, laterExpiry, laterNow)).isFalse();
+	}
+}
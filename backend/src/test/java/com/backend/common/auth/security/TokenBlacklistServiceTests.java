@@ -0,0 +1,176 @@
+package com.backend.common.auth.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TokenBlacklistServiceTests {
+
+	private static final String SECRET = "t/mTafIRctWrDSsBH8VTT64hMgxYgTT/5g4eQkk1Svo=";
+
+	private static final int BLOOM_BITS = 1 << 16;
+
+	private JwtUtil jwtUtil;
+	private RevocationEventLog revocationEventLog;
+	private MeterRegistry meterRegistry;
+	private TokenBlacklistService blacklistService;
+
+	@BeforeEach
+	void setUp() {
+		jwtUtil = new JwtUtil(SECRET, 3600);
+		revocationEventLog = mock(RevocationEventLog.class);
+		meterRegistry = new SimpleMeterRegistry();
+		blacklistService = new TokenBlacklistService(jwtUtil, revocationEventLog, meterRegistry, BLOOM_BITS);
+	}
+
+	@Test
+	void blacklistedTokenIsRejectedAndRecorded() {
+		String token = jwtUtil.generateToken("admin", Map.of());
+		JwtClaims claims = jwtUtil.parse(token);
+
+		blacklistService.blacklistToken(token);
+
+		assertThat(blacklistService.isBlacklisted(claims)).isTrue();
+		assertThat(blacklistService.isBlacklisted(token)).isTrue();
+		assertThat(blacklistService.size()).isEqualTo(1);
+		verify(revocationEventLog).tokenRevoked(claims.getDigest(), claims.getExpiresAt().getEpochSecond());
+	}
+
+	@Test
+	void otherTokensAreNotBlacklisted() {
+		blacklistService.blacklistToken(jwtUtil.generateToken("admin", Map.of()));
+
+		String other = jwtUtil.generateToken("user", Map.of());
+
+		assertThat(blacklistService.isBlacklisted(jwtUtil.parse(other))).isFalse();
+	}
+
+	@Test
+	void invalidTokenIsIgnored() {
+		blacklistService.blacklistToken("not-a-jwt");
+
+		assertThat(blacklistService.size()).isZero();
+		verify(revocationEventLog, never()).tokenRevoked(any(), anyLong());
+	}
+
+	@Test
+	void remoteEventIsAppliedWithoutRecordingAgain() {
+		TokenDigest digest = TokenDigest.of("remote-token");
+
+		blacklistService.applyRevokedToken(digest, Instant.now().plusSeconds(600).getEpochSecond());
+
+		assertThat(blacklistService.isBlacklisted(digest)).isTrue();
+		verify(revocationEventLog, never()).tokenRevoked(any(), anyLong());
+	}
+
+	@Test
+	void alreadyExpiredEventIsNotStored() {
+		TokenDigest digest = TokenDigest.of("expired-token");
+
+		blacklistService.applyRevokedToken(digest, Instant.now().minusSeconds(1).getEpochSecond());
+
+		assertThat(blacklistService.isBlacklisted(digest)).isFalse();
+		assertThat(blacklistService.size()).isZero();
+	}
+
+	@Test
+	void repeatedBlacklistAndExpireCyclesReturnToEmpty() {
+		MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+		blacklistService.setClock(clock);
+		Random random = new Random(42);
+		List<Long> expiries = new ArrayList<>();
+		// 세대(15분)는 최대 잔여 수명(1시간) 구간 + 경계 세대만 동시에 살아 있음
+		long maxBloomBytes = (3600 / (15 * 60) + 2) * (BLOOM_BITS / 8L);
+		long maxEntries = 0;
+
+		for (int cycle = 0; cycle < 200; cycle++) {
+			long now = clock.instant().getEpochSecond();
+			for (int i = 0; i < 500; i++) {
+				long expiresAt = now + 60 + random.nextInt(3540);
+				blacklistService.applyRevokedToken(TokenDigest.of("token-" + cycle + "-" + i), expiresAt);
+				expiries.add(expiresAt);
+			}
+			clock.advanceSeconds(5 * 60);
+			blacklistService.removeExpiredTokens();
+
+			// 만료 시각이 지난 분 단위 버킷은 모두 제거됨
+			long currentBucket = clock.instant().getEpochSecond() / 60;
+			expiries.removeIf(expiresAt -> expiresAt / 60 < currentBucket);
+			assertThat(blacklistService.size()).isEqualTo(expiries.size());
+			maxEntries = Math.max(maxEntries, expiries.size());
+			assertThat(bytesGauge()).isLessThanOrEqualTo(maxEntries * 160 + maxBloomBytes);
+		}
+		// 유지되는 항목은 최대 잔여 수명 구간에 추가된 토큰뿐
+		assertThat(maxEntries).isLessThanOrEqualTo(500L * (3600 / (5 * 60) + 1));
+
+		clock.advanceSeconds(2 * 3600);
+		blacklistService.removeExpiredTokens();
+
+		assertThat(blacklistService.size()).isZero();
+		assertThat(blacklistService.bucketCount()).isZero();
+		assertThat(meterRegistry.get("auth.token.blacklist.entries").gauge().value()).isZero();
+		assertThat(bytesGauge()).isZero();
+	}
+
+	@Test
+	void sweepKeepsUnexpiredEntries() {
+		TokenDigest digest = TokenDigest.of("live-token");
+		blacklistService.applyRevokedToken(digest, Instant.now().plusSeconds(600).getEpochSecond());
+
+		blacklistService.removeExpiredTokens();
+
+		assertThat(blacklistService.isBlacklisted(digest)).isTrue();
+	}
+
+	private double bytesGauge() {
+		return meterRegistry.get("auth.token.blacklist.bytes").gauge().value();
+	}
+
+	/**
+	 * 테스트에서 직접 진행시키는 시계
+	 */
+	private static final class MutableClock extends Clock {
+		private Instant now;
+
+		private MutableClock(Instant now) {
+			this.now = now;
+		}
+
+		void advanceSeconds(long seconds) {
+			now = now.plusSeconds(seconds);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+	}
+}
@@ -0,0 +1,105 @@
+package com.backend.common.auth.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.backend.common.user.entity.UserEntity;
+import com.backend.common.user.model.Role;
+import com.backend.common.user.repository.UserRepository;
+import com.backend.core.exception.ResourceNotFoundException;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(TokenVersionService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TokenVersionServiceTests {
+
+	private static final String SECRET = "t/mTafIRctWrDSsBH8VTT64hMgxYgTT/5g4eQkk1Svo=";
+
+	@Autowired
+	private TokenVersionService tokenVersionService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@MockitoBean
+	private RefreshTokenService refreshTokenService;
+
+	@BeforeEach
+	void setUp() {
+		userRepository.save(new UserEntity("admin", "{noop}password", Role.USER));
+	}
+
+	@AfterEach
+	void cleanUp() {
+		userRepository.deleteAllInBatch();
+	}
+
+	@Test
+	void revokeAllTokensInvalidatesOlderTokens() {
+		JwtUtil jwtUtil = new JwtUtil(SECRET, 3600);
+		JwtClaims before = jwtUtil.parse(jwtUtil.generateToken("admin",
+				Map.of(TokenVersionService.CLAIM_NAME, tokenVersionService.currentVersion("admin"))));
+
+		tokenVersionService.revokeAllTokens("admin");
+
+		assertThat(tokenVersionService.isCurrent(before)).isFalse();
+		JwtClaims after = jwtUtil.parse(jwtUtil.generateToken("admin",
+				Map.of(TokenVersionService.CLAIM_NAME, tokenVersionService.currentVersion("admin"))));
+		assertThat(tokenVersionService.isCurrent(after)).isTrue();
+	}
+
+	@Test
+	void concurrentRevocationsDoNotLoseIncrements() throws Exception {
+		int threads = 8;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> futures = new ArrayList<>();
+		try {
+			for (int i = 0; i < threads; i++) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					tokenVersionService.revokeAllTokens("admin");
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get(30, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(userRepository.findTokenVersionByUsername("admin")).contains(threads);
+		assertThat(tokenVersionService.currentVersion("admin")).isEqualTo(threads);
+	}
+
+	@Test
+	void unknownUserIsRejected() {
+		assertThatThrownBy(() -> tokenVersionService.revokeAllTokens("nobody"))
+				.isInstanceOf(ResourceNotFoundException.class);
+	}
+}
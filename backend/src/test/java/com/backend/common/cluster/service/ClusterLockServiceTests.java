@@ -0,0 +1,90 @@
+package com.backend.common.cluster.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class ClusterLockServiceTests {
+
+	private static final String LOCK_SQL = "SELECT pg_try_advisory_lock(?)";
+	private static final String UNLOCK_SQL = "SELECT pg_advisory_unlock(?)";
+
+	private final DataSource dataSource = mock(DataSource.class);
+	private final Connection connection = mock(Connection.class);
+	private ClusterLockService clusterLockService;
+
+	@BeforeEach
+	void setUp() throws SQLException {
+		when(dataSource.getConnection()).thenReturn(connection);
+		PreparedStatement lock = statementReturning(true);
+		when(connection.prepareStatement(LOCK_SQL)).thenReturn(lock);
+		clusterLockService = new ClusterLockService(dataSource, null, mock(PlatformTransactionManager.class),
+			"advisory", 600_000);
+	}
+
+	@Test
+	void unlockedConnectionIsReturnedToPool() throws SQLException {
+		PreparedStatement unlock = statementReturning(true);
+		when(connection.prepareStatement(UNLOCK_SQL)).thenReturn(unlock);
+
+		Optional<ClusterLockService.Lease> lease = clusterLockService.tryAcquire("seed");
+		assertThat(lease).isPresent();
+		lease.get().close();
+
+		verify(connection).close();
+		verify(connection, never()).abort(any());
+	}
+
+	@Test
+	void failedUnlockDiscardsConnection() throws SQLException {
+		when(connection.prepareStatement(UNLOCK_SQL)).thenThrow(new SQLException("connection reset"));
+
+		clusterLockService.tryAcquire("seed").orElseThrow().close();
+
+		verify(connection).abort(any());
+	}
+
+	@Test
+	void unlockNotHeldDiscardsConnection() throws SQLException {
+		PreparedStatement unlock = statementReturning(false);
+		when(connection.prepareStatement(UNLOCK_SQL)).thenReturn(unlock);
+
+		clusterLockService.tryAcquire("seed").orElseThrow().close();
+
+		verify(connection).abort(any());
+	}
+
+	@Test
+	void lockHeldElsewhereReturnsEmpty() throws SQLException {
+		PreparedStatement lock = statementReturning(false);
+		when(connection.prepareStatement(LOCK_SQL)).thenReturn(lock);
+
+		assertThat(clusterLockService.tryAcquire("seed")).isEmpty();
+		verify(connection).close();
+	}
+
+	private static PreparedStatement statementReturning(boolean value) throws SQLException {
+		PreparedStatement statement = mock(PreparedStatement.class);
+		ResultSet resultSet = mock(ResultSet.class);
+		when(statement.executeQuery()).thenReturn(resultSet);
+		when(resultSet.next()).thenReturn(true);
+		when(resultSet.getBoolean(anyInt())).thenReturn(value);
+		return statement;
+	}
+}
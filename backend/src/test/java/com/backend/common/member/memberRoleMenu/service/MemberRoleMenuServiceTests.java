@@ -0,0 +1,172 @@
+package com.backend.common.member.memberRoleMenu.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.backend.common.admin.menu.entity.MenuEntity;
+import com.backend.common.admin.menu.service.MenuSnapshotCache;
+import com.backend.common.auth.permission.MenuPermissionMatrix;
+import com.backend.common.member.memberRole.entity.MemberRoleEntity;
+import com.backend.common.member.memberRoleMenu.dto.MemberRoleMenuRequest;
+import com.backend.common.member.memberRoleMenu.entity.MemberRoleMenuEntity;
+import com.backend.common.member.memberRoleMenu.repository.MemberRoleMenuRepository;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(MemberRoleMenuService.class)
+class MemberRoleMenuServiceTests {
+
+	private static final int MENU_COUNT = 500;
+
+	@Autowired
+	private MemberRoleMenuService memberRoleMenuService;
+
+	@Autowired
+	private MemberRoleMenuRepository memberRoleMenuRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@MockitoBean
+	private MenuSnapshotCache menuSnapshotCache;
+
+	@MockitoBean
+	private MenuPermissionMatrix menuPermissionMatrix;
+
+	private String roleId;
+	private final List<String> menuIds = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		MemberRoleEntity role = new MemberRoleEntity("MEMBER", "회원", null);
+		entityManager.persist(role);
+		roleId = role.getId();
+		for (int i = 0; i < MENU_COUNT; i++) {
+			MenuEntity menu = new MenuEntity("SITE_A", "메뉴 " + i, "/menu/" + i, null, i, null);
+			entityManager.persist(menu);
+			menuIds.add(menu.getId());
+		}
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	@Test
+	void savingFiveHundredMenusUsesBatchedInserts() {
+		List<MemberRoleMenuRequest.MenuPermission> permissions = new ArrayList<>();
+		for (String menuId : menuIds) {
+			permissions.add(permission(menuId, true, false));
+		}
+
+		Statistics statistics = statistics();
+		memberRoleMenuService.saveMenuPermissions(new MemberRoleMenuRequest(roleId, permissions));
+		entityManager.flush();
+
+		assertThat(statistics.getEntityInsertCount()).isEqualTo(MENU_COUNT);
+		// 역할 확인 + 메뉴 IN 조회 + 기존 권한 조회 3건, INSERT는 batch_size(100) 단위 5건
+		assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(10);
+		assertThat(memberRoleMenuRepository.findByMemberRoleId(roleId)).hasSize(MENU_COUNT);
+	}
+
+	@Test
+	void resavingAppliesOnlyTheDiff() {
+		List<MemberRoleMenuRequest.MenuPermission> permissions = new ArrayList<>();
+		for (String menuId : menuIds) {
+			permissions.add(permission(menuId, true, false));
+		}
+		memberRoleMenuService.saveMenuPermissions(new MemberRoleMenuRequest(roleId, permissions));
+		entityManager.flush();
+		entityManager.clear();
+
+		// 10개 수정, 10개 제거, 나머지는 그대로
+		List<MemberRoleMenuRequest.MenuPermission> changed = new ArrayList<>();
+		for (int i = 0; i < MENU_COUNT - 10; i++) {
+			changed.add(permission(menuIds.get(i), true, i < 10));
+		}
+
+		Statistics statistics = statistics();
+		memberRoleMenuService.saveMenuPermissions(new MemberRoleMenuRequest(roleId, changed));
+		entityManager.flush();
+		entityManager.clear();
+
+		assertThat(statistics.getEntityInsertCount()).isZero();
+		assertThat(statistics.getEntityUpdateCount()).isEqualTo(10);
+		// 조회 3건 + 삭제 1건 + UPDATE 배치 1건
+		assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(6);
+
+		List<MemberRoleMenuEntity> saved = memberRoleMenuRepository.findByMemberRoleId(roleId);
+		assertThat(saved).hasSize(MENU_COUNT - 10);
+		assertThat(saved).filteredOn(MemberRoleMenuEntity::isPermUpdate).hasSize(10);
+	}
+
+	@Test
+	void unknownMenuIsRejected() {
+		List<MemberRoleMenuRequest.MenuPermission> permissions = List.of(permission("NO_SUCH_MENU", true, false));
+
+		assertThatThrownBy(() -> memberRoleMenuService.saveMenuPermissions(new MemberRoleMenuRequest(roleId, permissions)))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("NO_SUCH_MENU");
+	}
+
+	@Test
+	void cloneCopiesEnabledRowsAndMergesDuplicates() {
+		MemberRoleEntity target = new MemberRoleEntity("VIP", "우수 회원", null);
+		entityManager.persist(target);
+		persistRow(roleId, menuIds.get(0), "Y", "N", "Y");
+		persistRow(roleId, menuIds.get(0), "N", "Y", "Y");
+		persistRow(roleId, menuIds.get(1), "Y", "N", "Y");
+		persistRow(roleId, menuIds.get(2), "Y", "Y", "N");
+		entityManager.flush();
+		entityManager.clear();
+
+		int copied = memberRoleMenuService.clonePermissions(target.getId(), roleId, null);
+
+		assertThat(copied).isEqualTo(2);
+		List<MemberRoleMenuEntity> rows = memberRoleMenuRepository.findByMemberRoleId(target.getId());
+		assertThat(rows).extracting(MemberRoleMenuEntity::getMenuId)
+			.containsExactlyInAnyOrder(menuIds.get(0), menuIds.get(1));
+		MemberRoleMenuEntity merged = rows.stream()
+			.filter(row -> row.getMenuId().equals(menuIds.get(0)))
+			.findFirst().orElseThrow();
+		assertThat(merged.isPermRead()).isTrue();
+		assertThat(merged.isPermUpdate()).isTrue();
+	}
+
+	private void persistRow(String memberRoleId, String menuId, String read, String update, String enabled) {
+		MemberRoleMenuEntity row = new MemberRoleMenuEntity(memberRoleId, menuId);
+		row.setPermRead(read);
+		row.setPermUpdate(update);
+		row.setEnabled(enabled);
+		entityManager.persist(row);
+	}
+
+	private Statistics statistics() {
+		Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		return statistics;
+	}
+
+	private static MemberRoleMenuRequest.MenuPermission permission(String menuId, boolean read, boolean update) {
+		MemberRoleMenuRequest.MenuPermission permission = new MemberRoleMenuRequest.MenuPermission();
+		permission.setMenuId(menuId);
+		permission.setPermRead(read);
+		permission.setPermUpdate(update);
+		return permission;
+	}
+}
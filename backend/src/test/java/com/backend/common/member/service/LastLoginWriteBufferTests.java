@@ -0,0 +1,92 @@
+package com.backend.common.member.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class LastLoginWriteBufferTests {
+
+	private static final LocalDateTime T1 = LocalDateTime.of(2026, 1, 1, 9, 0);
+	private static final LocalDateTime T2 = T1.plusMinutes(5);
+
+	private JdbcTemplate jdbcTemplate;
+	private LastLoginWriteBuffer buffer;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate = mock(JdbcTemplate.class);
+		buffer = new LastLoginWriteBuffer(jdbcTemplate);
+	}
+
+	@Test
+	void repeatedLoginsCollapseToLatestTime() {
+		buffer.record("alice", T1);
+		buffer.record("alice", T2);
+		buffer.record("alice", T1);
+		buffer.record("bob", T1);
+
+		assertThat(buffer.pendingCount()).isEqualTo(2);
+		buffer.flush();
+
+		Map<String, Timestamp> written = captureSingleBatch();
+		assertThat(written).containsEntry("alice", Timestamp.valueOf(T2))
+				.containsEntry("bob", Timestamp.valueOf(T1))
+				.hasSize(2);
+		assertThat(buffer.pendingCount()).isZero();
+	}
+
+	@Test
+	void emptyBufferDoesNotTouchDatabase() {
+		buffer.flush();
+
+		verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+	}
+
+	@Test
+	void failedBatchIsRetriedOnNextFlush() {
+		when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+				.thenThrow(new QueryTimeoutException("timeout"))
+				.thenReturn(new int[]{1});
+		buffer.record("alice", T1);
+
+		buffer.flush();
+		assertThat(buffer.pendingCount()).isEqualTo(1);
+
+		// 재시도 전에 더 늦은 로그인이 들어오면 최신 값이 반영됨
+		buffer.record("alice", T2);
+		buffer.flush();
+
+		assertThat(buffer.pendingCount()).isZero();
+		verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyList());
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<String, Timestamp> captureSingleBatch() {
+		ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+		verify(jdbcTemplate).batchUpdate(eq("UPDATE \"MEMBERS\" SET \"LAST_LOGIN_AT\" = ? WHERE \"USER_NM\" = ?"),
+				captor.capture());
+		Map<String, Timestamp> written = new HashMap<>();
+		for (Object[] args : captor.getValue()) {
+			written.put((String) args[1], (Timestamp) args[0]);
+		}
+		return written;
+	}
+}
@@ -0,0 +1,289 @@
+package com.backend.common.seed.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.backend.common.admin.cmnCd.repository.CmnCdRepository;
+import com.backend.common.admin.menu.entity.MenuEntity;
+import com.backend.common.admin.menu.repository.MenuRepository;
+import com.backend.common.admin.menu.service.MenuService;
+import com.backend.common.admin.menu.service.MenuSnapshotCache;
+import com.backend.common.admin.site.entity.SiteEntity;
+import com.backend.common.admin.site.repository.SiteRepository;
+import com.backend.common.admin.userRole.repository.UserRoleRepository;
+import com.backend.common.admin.userRoleMenu.entity.UserRoleMenuEntity;
+import com.backend.common.admin.userRoleMenu.repository.UserRoleMenuRepository;
+import com.backend.common.auth.permission.MenuPermissionMatrix;
+import com.backend.common.cluster.service.ClusterLockService;
+import com.backend.common.member.memberRole.repository.MemberRoleRepository;
+import com.backend.common.seed.repository.SeedHistoryRepository;
+import com.backend.common.user.repository.UserRepository;
+import com.backend.common.user.service.UserService;
+import com.backend.core.cache.ResourceVersions;
+import com.backend.core.startup.StartupTask;
+import com.backend.core.startup.StartupTaskProvider;
+import com.backend.core.startup.StartupTaskRunner;
+
+/**
+ * seed/manifest.json을 실제 DB(H2)에 적용하여 적재 규칙과 쿼리 수 확인
+ * 적재 작업은 각자 트랜잭션을 커밋하므로 테스트 트랜잭션 없이 실행하고 매번 테이블을 비웁니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({SeedService.class, MenuService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SeedManifestTests {
+
+	// manifest.json 기준 항목 수
+	private static final int SITES = 2;
+	private static final int CODES = 7;
+	private static final int USER_ROLES = 4;
+	private static final int MEMBER_ROLES = 4;
+	private static final int MENUS = 20;
+	private static final int HOME_MENUS = 9;
+	private static final int ACCOUNTS = 2;
+
+	@Autowired
+	private SeedService seedService;
+
+	@Autowired
+	private SeedHistoryRepository seedHistoryRepository;
+
+	@Autowired
+	private SiteRepository siteRepository;
+
+	@Autowired
+	private CmnCdRepository cmnCdRepository;
+
+	@Autowired
+	private UserRoleRepository userRoleRepository;
+
+	@Autowired
+	private MemberRoleRepository memberRoleRepository;
+
+	@Autowired
+	private MenuRepository menuRepository;
+
+	@Autowired
+	private UserRoleMenuRepository userRoleMenuRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@MockitoBean
+	private ClusterLockService clusterLockService;
+
+	@MockitoBean
+	private PasswordEncoder passwordEncoder;
+
+	@MockitoBean
+	private MenuSnapshotCache menuSnapshotCache;
+
+	@MockitoBean
+	private ResourceVersions resourceVersions;
+
+	@MockitoBean
+	private UserService userService;
+
+	@MockitoBean
+	private MenuPermissionMatrix menuPermissionMatrix;
+
+	@BeforeEach
+	void setUp() {
+		when(clusterLockService.tryAcquire(SeedService.TASK_NAME)).thenAnswer(invocation -> Optional.of(noopLease()));
+		when(passwordEncoder.encode(anyString())).thenReturn("encoded");
+	}
+
+	@AfterEach
+	void tearDown() {
+		userRoleMenuRepository.deleteAllInBatch();
+		userRepository.deleteAllInBatch();
+		menuRepository.deleteAllInBatch();
+		siteRepository.deleteAllInBatch();
+		cmnCdRepository.deleteAllInBatch();
+		userRoleRepository.deleteAllInBatch();
+		memberRoleRepository.deleteAllInBatch();
+		seedHistoryRepository.deleteAllInBatch();
+	}
+
+	@Test
+	void firstApplyInsertsEverythingInBatches() {
+		Statistics statistics = statistics();
+		applySeed();
+
+		assertThat(siteRepository.count()).isEqualTo(SITES);
+		assertThat(cmnCdRepository.count()).isEqualTo(CODES);
+		assertThat(userRoleRepository.count()).isEqualTo(USER_ROLES);
+		assertThat(memberRoleRepository.count()).isEqualTo(MEMBER_ROLES);
+		assertThat(menuRepository.count()).isEqualTo(MENUS);
+		assertThat(userRepository.count()).isEqualTo(ACCOUNTS);
+		assertThat(seedHistoryRepository.count()).isEqualTo(1);
+
+		// ADMIN 역할 권한 + 이력 1건 포함
+		long rows = SITES + CODES + USER_ROLES + MEMBER_ROLES + MENUS + MENUS + ACCOUNTS + 1;
+		assertThat(statistics.getEntityInsertCount()).isEqualTo(rows);
+		// 종류별 기존 키 조회와 INSERT 배치만 실행되므로 행 수보다 훨씬 적음
+		assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(30);
+	}
+
+	@Test
+	void sameChecksumIsSkippedWithOneQuery() {
+		applySeed();
+
+		Statistics statistics = statistics();
+		applySeed();
+
+		// SEED_HISTORY 조회 1건으로 끝남
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(statistics.getEntityInsertCount()).isZero();
+		assertThat(menuRepository.count()).isEqualTo(MENUS);
+	}
+
+	@Test
+	void menuPathsAreFilledLevelByLevel() {
+		applySeed();
+
+		Map<String, MenuEntity> menusById = menuRepository.findAll().stream()
+			.collect(Collectors.toMap(MenuEntity::getId, menu -> menu));
+		assertThat(menusById.values()).filteredOn(menu -> menu.getParentId() != null).hasSize(4);
+		for (MenuEntity menu : menusById.values()) {
+			MenuEntity parent = menu.getParentId() != null ? menusById.get(menu.getParentId()) : null;
+			String parentPath = parent != null ? parent.getPath() : "/";
+			assertThat(menu.getPath()).isEqualTo(parentPath + menu.getId() + "/");
+		}
+	}
+
+	@Test
+	void reapplyInsertsOnlyMissingRows() {
+		applySeed();
+		SiteEntity admin = site("admin");
+		admin.setSiteName("이름을 바꾼 관리 사이트");
+		siteRepository.save(admin);
+		cmnCdRepository.deleteAllInBatch(cmnCdRepository.findAll().stream()
+			.filter(code -> "P002".equals(code.getParentCd()) && "C003".equals(code.getCd()))
+			.toList());
+		Set<String> homeMenuIds = deleteMenusOf(site(""));
+		seedHistoryRepository.deleteAllInBatch();
+
+		Statistics statistics = statistics();
+		applySeed();
+
+		// 코드 1건 + 메뉴가 없어진 사이트의 메뉴와 그 메뉴에 대한 ADMIN 권한 + 이력
+		assertThat(statistics.getEntityInsertCount()).isEqualTo(1 + HOME_MENUS + HOME_MENUS + 1);
+		assertThat(statistics.getEntityUpdateCount()).isZero();
+		assertThat(site("admin").getSiteName()).isEqualTo("이름을 바꾼 관리 사이트");
+		assertThat(cmnCdRepository.count()).isEqualTo(CODES);
+		assertThat(menuRepository.count()).isEqualTo(MENUS);
+		assertThat(menuRepository.findAllById(homeMenuIds)).isEmpty();
+		assertThat(userRoleMenuRepository.findByUserRoleId(roleId("ADMIN"))).hasSize(MENUS);
+	}
+
+	@Test
+	void permissionsFollowTheGrantRules() {
+		applySeed();
+
+		// 권한이 없던 ADMIN 역할은 모든 사이트의 메뉴에 매니페스트 권한 전체, 나머지 역할은 권한 없음
+		List<UserRoleMenuEntity> adminRows = userRoleMenuRepository.findByUserRoleId(roleId("ADMIN"));
+		assertThat(adminRows).hasSize(MENUS);
+		assertThat(adminRows).allSatisfy(row -> {
+			assertThat(row.isPermRead()).isTrue();
+			assertThat(row.isPermDownload()).isTrue();
+			assertThat(row.isPermAll()).isTrue();
+		});
+		assertThat(userRoleMenuRepository.findByUserRoleId(roleId("MANAGER"))).isEmpty();
+
+		// 권한이 모두 사라진 역할은 다시 적용할 때 비활성 메뉴를 제외한 활성 메뉴 전체에 부여
+		MenuEntity disabled = menuRepository.findBySiteId(site("admin").getId()).get(0);
+		disabled.setEnabled(false);
+		menuRepository.save(disabled);
+		userRoleMenuRepository.deleteAllInBatch();
+		seedHistoryRepository.deleteAllInBatch();
+
+		applySeed();
+
+		assertThat(userRoleMenuRepository.findByUserRoleId(roleId("ADMIN")))
+			.hasSize(MENUS - 1)
+			.noneMatch(row -> row.getMenuId().equals(disabled.getId()));
+	}
+
+	/**
+	 * 기동 시와 같이 StartupTaskRunner로 적재 작업 실행 (선행 작업인 resource-versions는 빈 작업으로 대체)
+	 */
+	private void applySeed() {
+		StartupTaskProvider resourceVersionsTask =
+			() -> List.of(StartupTask.critical(ResourceVersions.TASK_NAME, () -> { }));
+		new StartupTaskRunner(List.of(resourceVersionsTask, seedService), 1, 30_000).onApplicationReady();
+	}
+
+	private SiteEntity site(String contextPath) {
+		return siteRepository.findAll().stream()
+			.filter(site -> contextPath.equals(site.getContextPath()))
+			.findFirst().orElseThrow();
+	}
+
+	private String roleId(String roleCd) {
+		return userRoleRepository.findAll().stream()
+			.filter(role -> roleCd.equals(role.getRoleCd()))
+			.findFirst().orElseThrow()
+			.getId();
+	}
+
+	/**
+	 * 사이트의 메뉴와 그 메뉴의 권한 행 삭제
+	 * @return 삭제한 메뉴 ID
+	 */
+	private Set<String> deleteMenusOf(SiteEntity site) {
+		List<MenuEntity> menus = menuRepository.findBySiteId(site.getId());
+		Set<String> menuIds = menus.stream().map(MenuEntity::getId).collect(Collectors.toSet());
+		userRoleMenuRepository.deleteAllInBatch(userRoleMenuRepository.findAll().stream()
+			.filter(row -> menuIds.contains(row.getMenuId()))
+			.toList());
+		menuRepository.deleteAllInBatch(menus);
+		return menuIds;
+	}
+
+	private Statistics statistics() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		return statistics;
+	}
+
+	/**
+	 * 잠금 방식 none의 잠금 (해제 시 아무것도 하지 않음)
+	 */
+	private static ClusterLockService.Lease noopLease() {
+		return new ClusterLockService(null, null, mock(PlatformTransactionManager.class), "none", 0)
+			.tryAcquire(SeedService.TASK_NAME)
+			.orElseThrow();
+	}
+}
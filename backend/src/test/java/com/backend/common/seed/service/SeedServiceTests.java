@@ -0,0 +1,106 @@
+package com.backend.common.seed.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.backend.common.admin.cmnCd.repository.CmnCdRepository;
+import com.backend.common.admin.menu.repository.MenuRepository;
+import com.backend.common.admin.menu.service.MenuService;
+import com.backend.common.admin.menu.service.MenuSnapshotCache;
+import com.backend.common.admin.site.repository.SiteRepository;
+import com.backend.common.admin.userRole.repository.UserRoleRepository;
+import com.backend.common.admin.userRoleMenu.repository.UserRoleMenuRepository;
+import com.backend.common.cluster.service.ClusterLockService;
+import com.backend.common.member.memberRole.repository.MemberRoleRepository;
+import com.backend.common.seed.entity.SeedHistoryEntity;
+import com.backend.common.seed.repository.SeedHistoryRepository;
+import com.backend.common.user.repository.UserRepository;
+import com.backend.core.cache.ResourceVersions;
+
+class SeedServiceTests {
+
+	private static final String CHECKSUM = "checksum-1";
+
+	private final SeedHistoryRepository seedHistoryRepository = mock(SeedHistoryRepository.class);
+	private final ClusterLockService clusterLockService = mock(ClusterLockService.class);
+	private SeedService seedService;
+
+	@BeforeEach
+	void setUp() {
+		seedService = new SeedService(seedHistoryRepository, mock(SiteRepository.class), mock(CmnCdRepository.class),
+			mock(UserRoleRepository.class), mock(MemberRoleRepository.class), mock(MenuRepository.class),
+			mock(UserRoleMenuRepository.class), mock(UserRepository.class), mock(MenuService.class),
+			mock(PasswordEncoder.class), mock(MenuSnapshotCache.class), mock(ResourceVersions.class),
+			mock(PlatformTransactionManager.class), clusterLockService);
+		ReflectionTestUtils.setField(seedService, "lockWaitTimeoutMillis", 2_000L);
+		ReflectionTestUtils.setField(seedService, "lockPollIntervalMillis", 10L);
+	}
+
+	@Test
+	void acquiredLockIsReturnedImmediately() {
+		ClusterLockService.Lease lease = noopLease();
+		when(clusterLockService.tryAcquire(SeedService.TASK_NAME)).thenReturn(Optional.of(lease));
+
+		assertThat(seedService.acquireOrAwait(CHECKSUM)).containsSame(lease);
+	}
+
+	@Test
+	void waitsUntilAnotherNodeRecordsTheChecksum() {
+		when(clusterLockService.tryAcquire(SeedService.TASK_NAME)).thenReturn(Optional.empty());
+		when(seedHistoryRepository.findById("default")).thenReturn(
+			Optional.empty(),
+			Optional.of(history("old-checksum")),
+			Optional.of(history(CHECKSUM)));
+
+		assertThat(seedService.acquireOrAwait(CHECKSUM)).isEmpty();
+		verify(clusterLockService, times(3)).tryAcquire(SeedService.TASK_NAME);
+	}
+
+	@Test
+	void takesOverWhenTheHolderReleasesWithoutFinishing() {
+		ClusterLockService.Lease lease = noopLease();
+		when(clusterLockService.tryAcquire(SeedService.TASK_NAME))
+			.thenReturn(Optional.empty(), Optional.empty(), Optional.of(lease));
+		when(seedHistoryRepository.findById("default")).thenReturn(Optional.empty());
+
+		assertThat(seedService.acquireOrAwait(CHECKSUM)).containsSame(lease);
+	}
+
+	@Test
+	void failsAfterTheWaitTimeout() {
+		ReflectionTestUtils.setField(seedService, "lockWaitTimeoutMillis", 50L);
+		when(clusterLockService.tryAcquire(SeedService.TASK_NAME)).thenReturn(Optional.empty());
+		when(seedHistoryRepository.findById("default")).thenReturn(Optional.empty());
+
+		assertThatThrownBy(() -> seedService.acquireOrAwait(CHECKSUM))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessageContaining("50ms");
+	}
+
+	private static SeedHistoryEntity history(String checksum) {
+		SeedHistoryEntity entity = new SeedHistoryEntity("default");
+		entity.setChecksum(checksum);
+		return entity;
+	}
+
+	/**
+	 * 잠금 방식 none의 잠금 (해제 시 아무것도 하지 않음)
+	 */
+	private static ClusterLockService.Lease noopLease() {
+		return new ClusterLockService(null, null, mock(PlatformTransactionManager.class), "none", 0)
+			.tryAcquire(SeedService.TASK_NAME)
+			.orElseThrow();
+	}
+}
@@ -0,0 +1,121 @@
+package com.backend.core.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 같은 DB를 공유하는 두 노드의 ETag 버전
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ResourceVersionsTests {
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private ResourceVersions nodeA;
+	private ResourceVersions nodeB;
+
+	@BeforeEach
+	void setUp() {
+		nodeA = new ResourceVersions(jdbcTemplate, transactionManager);
+		nodeB = new ResourceVersions(jdbcTemplate, transactionManager);
+		nodeA.initialize();
+		nodeB.initialize();
+	}
+
+	@AfterEach
+	void cleanUp() {
+		jdbcTemplate.update("DELETE FROM \"RESOURCE_VERSION\"");
+	}
+
+	@Test
+	void nodesShareEtagsAfterInitialization() {
+		assertThat(nodeA.etag(ResourceVersions.SITE, ResourceVersions.CMN_CD))
+				.isEqualTo(nodeB.etag(ResourceVersions.SITE, ResourceVersions.CMN_CD));
+		assertThat(nodeA.current(ResourceVersions.MENU)).isPositive();
+	}
+
+	@Test
+	void bumpOnOneNodeReachesOtherNodeAfterPoll() {
+		String before = nodeB.etag(ResourceVersions.MENU);
+
+		nodeA.bump(ResourceVersions.MENU);
+
+		assertThat(nodeA.etag(ResourceVersions.MENU)).isNotEqualTo(before);
+		assertThat(nodeB.etag(ResourceVersions.MENU)).isEqualTo(before);
+
+		nodeB.poll();
+
+		assertThat(nodeB.etag(ResourceVersions.MENU)).isEqualTo(nodeA.etag(ResourceVersions.MENU));
+	}
+
+	@Test
+	void remoteListenerRunsBeforeVersionAdvances() {
+		long before = nodeB.current(ResourceVersions.CMN_CD);
+		List<Long> observed = new ArrayList<>();
+		nodeB.onRemoteChange(ResourceVersions.CMN_CD, () -> observed.add(nodeB.current(ResourceVersions.CMN_CD)));
+
+		nodeA.bump(ResourceVersions.CMN_CD);
+		nodeB.poll();
+		nodeB.poll();
+
+		// 캐시를 비우는 시점에는 아직 이전 버전이어야 함 (이전 데이터에 새 ETag가 붙지 않음)
+		assertThat(observed).containsExactly(before);
+		assertThat(nodeB.current(ResourceVersions.CMN_CD)).isEqualTo(before + 1);
+	}
+
+	@Test
+	void failedListenerKeepsOldVersionUntilRetrySucceeds() {
+		AtomicInteger calls = new AtomicInteger();
+		nodeB.onRemoteChange(ResourceVersions.SITE, () -> {
+			if (calls.incrementAndGet() == 1) {
+				throw new IllegalStateException("reload failed");
+			}
+		});
+		long before = nodeB.current(ResourceVersions.SITE);
+
+		nodeA.bump(ResourceVersions.SITE);
+		nodeB.poll();
+		assertThat(nodeB.current(ResourceVersions.SITE)).isEqualTo(before);
+
+		nodeB.poll();
+		assertThat(nodeB.current(ResourceVersions.SITE)).isEqualTo(before + 1);
+	}
+
+	@Test
+	void rolledBackBumpChangesNothing() {
+		long before = nodeA.current(ResourceVersions.ICON);
+		TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+		tx.executeWithoutResult(status -> {
+			nodeA.bump(ResourceVersions.ICON);
+			status.setRollbackOnly();
+		});
+		nodeB.poll();
+
+		assertThat(nodeA.current(ResourceVersions.ICON)).isEqualTo(before);
+		assertThat(nodeB.current(ResourceVersions.ICON)).isEqualTo(before);
+	}
+}
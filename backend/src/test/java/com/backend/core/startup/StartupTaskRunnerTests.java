@@ -0,0 +1,90 @@
+package com.backend.core.startup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.junit.jupiter.api.Test;
+
+class StartupTaskRunnerTests {
+
+	private static final Runnable NOOP = () -> {};
+
+	@Test
+	void dependenciesComeFirst() {
+		List<StartupTask> ordered = StartupTaskRunner.topologicalOrder(List.of(
+			StartupTask.critical("matrix", NOOP, "seed"),
+			StartupTask.critical("seed", NOOP, "seed.sites", "seed.roles"),
+			StartupTask.critical("seed.sites", NOOP),
+			StartupTask.critical("seed.roles", NOOP, "versions"),
+			StartupTask.background("versions", NOOP)));
+
+		List<String> names = ordered.stream().map(StartupTask::getName).toList();
+		assertThat(names).hasSize(5);
+		for (StartupTask task : ordered) {
+			for (String dependency : task.getDependsOn()) {
+				assertThat(names.indexOf(dependency)).as(task.getName() + " -> " + dependency)
+					.isLessThan(names.indexOf(task.getName()));
+			}
+		}
+	}
+
+	@Test
+	void duplicateNameFails() {
+		assertThatThrownBy(() -> StartupTaskRunner.topologicalOrder(List.of(
+			StartupTask.critical("seed", NOOP),
+			StartupTask.background("seed", NOOP))))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessageContaining("seed");
+	}
+
+	@Test
+	void unknownDependencyFails() {
+		assertThatThrownBy(() -> StartupTaskRunner.topologicalOrder(List.of(
+			StartupTask.critical("matrix", NOOP, "seed"))))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessageContaining("seed");
+	}
+
+	@Test
+	void cycleFails() {
+		assertThatThrownBy(() -> StartupTaskRunner.topologicalOrder(List.of(
+			StartupTask.critical("a", NOOP, "c"),
+			StartupTask.critical("b", NOOP, "a"),
+			StartupTask.critical("c", NOOP, "b"),
+			StartupTask.critical("d", NOOP))))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessageContaining("순환")
+			.hasMessageNotContaining("d");
+	}
+
+	@Test
+	void criticalTasksFinishBeforeReadyReturns() {
+		Queue<String> finished = new ConcurrentLinkedQueue<>();
+		StartupTaskProvider provider = () -> List.of(
+			StartupTask.critical("first", () -> finished.add("first")),
+			StartupTask.critical("second", () -> finished.add("second"), "first"));
+
+		new StartupTaskRunner(List.of(provider), 2, 10_000).onApplicationReady();
+
+		assertThat(finished).containsExactly("first", "second");
+	}
+
+	@Test
+	void failedCriticalTaskFailsStartupAndSkipsDependents() {
+		Queue<String> finished = new ConcurrentLinkedQueue<>();
+		StartupTaskProvider provider = () -> List.of(
+			StartupTask.critical("broken", () -> {
+				throw new IllegalArgumentException("boom");
+			}),
+			StartupTask.critical("dependent", () -> finished.add("dependent"), "broken"));
+
+		assertThatThrownBy(() -> new StartupTaskRunner(List.of(provider), 2, 10_000).onApplicationReady())
+			.isInstanceOf(IllegalStateException.class)
+			.hasRootCauseMessage("boom");
+		assertThat(finished).isEmpty();
+	}
+}